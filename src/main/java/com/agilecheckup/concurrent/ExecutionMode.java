@@ -0,0 +1,33 @@
+package com.agilecheckup.concurrent;
+
+import java.util.Locale;
+
+/**
+ * How the service layer runs the internal fan-out of its operations.
+ */
+public enum ExecutionMode {
+
+  /**
+   * Fan-out subtasks run one after the other on the calling thread, as before.
+   */
+  PLATFORM,
+
+  /**
+   * Fan-out subtasks each run on their own virtual thread, so waiting on DynamoDB releases the carrier thread. Requires
+   * a Java 21 runtime.
+   */
+  VIRTUAL;
+
+  /**
+   * Parses a mode name, case-insensitively.
+   *
+   * @return The mode, PLATFORM when the value is null or blank
+   * @throws IllegalArgumentException if the value names no mode
+   */
+  public static ExecutionMode parse(String value) {
+    if (value == null || value.isBlank()) {
+      return PLATFORM;
+    }
+    return valueOf(value.trim().toUpperCase(Locale.ROOT));
+  }
+}
@@ -0,0 +1,203 @@
+package com.agilecheckup.concurrent;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Structured fan-out of independent subtasks, following the shutdown-on-failure policy of Java's StructuredTaskScope,
+ * which is still a preview API:
+ * <pre>
+ * try (FanOutScope scope = serviceExecutor.fanOut()) {
+ *   FanOutScope.Subtask&lt;Set&lt;String&gt;&gt; answered = scope.fork(() -&gt; ...);
+ *   FanOutScope.Subtask&lt;List&lt;Question&gt;&gt; questions = scope.fork(() -&gt; ...);
+ *   scope.join();
+ *   ... answered.get(), questions.get()
+ * }
+ * </pre>
+ * The first subtask that fails cancels the others, and {@link #join()} rethrows its exception once every subtask has
+ * finished. No subtask outlives the scope: closing it cancels unfinished subtasks and waits for them to finish.
+ * <p>
+ * Without an executor, each subtask runs on the calling thread when it is forked, and subtasks forked after a failure do
+ * not run. Subtasks run on other threads: they do not see thread-bound state such as the current
+ * {@link com.agilecheckup.service.unitofwork.UnitOfWork}, so only reads that do not depend on it should be forked.
+ * <p>
+ * A scope is owned by the thread that opened it. Only that thread may fork, join and close it.
+ */
+public final class FanOutScope implements AutoCloseable {
+
+  /**
+   * The result of a forked subtask, available after {@link FanOutScope#join()}.
+   */
+  public interface Subtask<T> {
+
+    /**
+     * @throws IllegalStateException if the scope was not joined, or the subtask failed or was cancelled
+     */
+    T get();
+  }
+
+  private final Executor executor;
+  private final List<Forked<?>> forked = new CopyOnWriteArrayList<>();
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+  private boolean joined;
+
+  /**
+   * @param executor Runs each subtask on its own thread, or null to run subtasks on the calling thread
+   */
+  FanOutScope(Executor executor) {
+    this.executor = executor;
+  }
+
+  public <T> Subtask<T> fork(Callable<T> task) {
+    Forked<T> subtask = new Forked<>(task);
+    forked.add(subtask);
+    joined = false;
+    if (failure.get() != null) {
+      subtask.cancelUnstarted();
+    }
+    else if (executor == null) {
+      subtask.run();
+    }
+    else {
+      try {
+        executor.execute(subtask);
+      }
+      catch (RuntimeException e) {
+        subtask.cancelUnstarted();
+        throw e;
+      }
+    }
+    return subtask;
+  }
+
+  /**
+   * Waits for every forked subtask to finish.
+   *
+   * @throws RuntimeException the exception of the first failed subtask, as thrown when unchecked and wrapped otherwise
+   */
+  public void join() {
+    try {
+      for (Forked<?> subtask : forked) {
+        subtask.finished.await();
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      cancelAll();
+      throw new RuntimeException("Interrupted while joining forked subtasks", e);
+    }
+    joined = true;
+
+    Throwable firstFailure = failure.get();
+    if (firstFailure instanceof RuntimeException) {
+      throw (RuntimeException) firstFailure;
+    }
+    if (firstFailure instanceof Error) {
+      throw (Error) firstFailure;
+    }
+    if (firstFailure != null) {
+      throw new RuntimeException("Forked subtask failed: " + firstFailure.getMessage(), firstFailure);
+    }
+  }
+
+  /**
+   * Cancels the subtasks still running and waits for them to finish.
+   */
+  @Override
+  public void close() {
+    cancelAll();
+    boolean interrupted = false;
+    for (Forked<?> subtask : forked) {
+      while (true) {
+        try {
+          subtask.finished.await();
+          break;
+        }
+        catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void onFailure(Throwable error) {
+    if (failure.compareAndSet(null, error)) {
+      cancelAll();
+    }
+  }
+
+  private void cancelAll() {
+    forked.forEach(subtask -> subtask.task.cancel(true));
+  }
+
+  private final class Forked<T> implements Subtask<T>, Runnable {
+
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private final FutureTask<T> task;
+
+    private Forked(Callable<T> callable) {
+      this.task = new FutureTask<>(callable) {
+        @Override
+        protected void done() {
+          if (isCancelled()) {
+            return;
+          }
+          try {
+            get();
+          }
+          catch (ExecutionException e) {
+            onFailure(e.getCause());
+          }
+          catch (InterruptedException | CancellationException e) {
+            // Done already, neither can happen
+          }
+        }
+      };
+    }
+
+    @Override
+    public void run() {
+      try {
+        task.run();
+      }
+      finally {
+        finished.countDown();
+      }
+    }
+
+    private void cancelUnstarted() {
+      task.cancel(false);
+      finished.countDown();
+    }
+
+    @Override
+    public T get() {
+      if (!joined) {
+        throw new IllegalStateException("Subtask result read before the scope was joined");
+      }
+      if (task.isCancelled()) {
+        throw new IllegalStateException("Subtask was cancelled");
+      }
+      try {
+        return task.get();
+      }
+      catch (ExecutionException e) {
+        throw new IllegalStateException("Subtask failed", e.getCause());
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while reading a finished subtask", e);
+      }
+    }
+  }
+}
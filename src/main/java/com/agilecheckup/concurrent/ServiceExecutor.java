@@ -0,0 +1,59 @@
+package com.agilecheckup.concurrent;
+
+import java.util.concurrent.ExecutorService;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the internal fan-out of service-layer operations in the configured {@link ExecutionMode}.
+ * <p>
+ * In VIRTUAL mode, {@link #fanOut()} opens scopes whose subtasks get a virtual thread each, so the concurrent reads of
+ * an operation wait on DynamoDB without holding platform threads. In PLATFORM mode, the default, subtasks run one after
+ * the other on the calling thread, so behavior is unchanged. The operations themselves always run on the caller's
+ * thread: which thread serves an inbound request is up to the host that invokes the services.
+ * <p>
+ * The mode is read from the {@value #MODE_ENV} environment variable. VIRTUAL falls back to PLATFORM, with a warning,
+ * on JVMs without virtual threads.
+ */
+@Slf4j
+public class ServiceExecutor {
+
+  public static final String MODE_ENV = "SERVICE_EXECUTION_MODE";
+
+  @Getter
+  private final ExecutionMode mode;
+  private final ExecutorService executor;
+
+  public ServiceExecutor() {
+    this(ExecutionMode.parse(System.getenv(MODE_ENV)));
+  }
+
+  public ServiceExecutor(ExecutionMode requestedMode) {
+    ExecutorService virtual = requestedMode == ExecutionMode.VIRTUAL ? VirtualThreads.newPerTaskExecutor("service-").orElse(null) : null;
+    if (requestedMode == ExecutionMode.VIRTUAL && virtual == null) {
+      log.warn("{}={} requested but virtual threads are not available on Java {}, using {}", MODE_ENV, requestedMode, System.getProperty("java.version"), ExecutionMode.PLATFORM);
+    }
+    this.mode = virtual != null ? ExecutionMode.VIRTUAL : ExecutionMode.PLATFORM;
+    this.executor = virtual;
+  }
+
+  /**
+   * @param executor Runs each subtask on its own thread, standing in for virtual threads
+   */
+  @VisibleForTesting
+  ServiceExecutor(ExecutorService executor) {
+    this.mode = ExecutionMode.VIRTUAL;
+    this.executor = executor;
+  }
+
+  /**
+   * Opens a scope for the internal fan-out of an operation. Subtasks run concurrently in VIRTUAL mode and one after
+   * the other otherwise.
+   */
+  public FanOutScope fanOut() {
+    return new FanOutScope(executor);
+  }
+}
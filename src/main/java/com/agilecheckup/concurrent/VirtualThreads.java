@@ -0,0 +1,55 @@
+package com.agilecheckup.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads from code compiled for Java 11.
+ * <p>
+ * The Java 21 API is looked up reflectively: on older JVMs, or on Java 19 and 20 without preview features, nothing is
+ * returned and callers fall back to platform threads.
+ */
+public final class VirtualThreads {
+
+  private VirtualThreads() {
+  }
+
+  public static boolean isAvailable() {
+    return factory("virtual-probe-").isPresent();
+  }
+
+  /**
+   * A factory of virtual threads named with the prefix and a sequence number.
+   */
+  public static Optional<ThreadFactory> factory(String namePrefix) {
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+      builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+      return Optional.of((ThreadFactory) builderType.getMethod("factory").invoke(builder));
+    }
+    catch (ReflectiveOperationException | RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * An executor starting a new virtual thread per task, named with the prefix.
+   */
+  public static Optional<ExecutorService> newPerTaskExecutor(String namePrefix) {
+    Optional<ThreadFactory> factory = factory(namePrefix);
+    if (factory.isEmpty()) {
+      return Optional.empty();
+    }
+    try {
+      Method perTask = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+      return Optional.of((ExecutorService) perTask.invoke(null, factory.get()));
+    }
+    catch (ReflectiveOperationException | RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.agilecheckup.dagger.component;
 
 import javax.inject.Singleton;
 
+import com.agilecheckup.concurrent.ServiceExecutor;
 import com.agilecheckup.dagger.module.AwsConfigModule;
 import com.agilecheckup.dagger.module.RepositoryModule;
 import com.agilecheckup.dagger.module.ServiceModule;
@@ -15,6 +16,9 @@ import com.agilecheckup.service.EmployeeAssessmentService;
 import com.agilecheckup.service.PerformanceCycleService;
 import com.agilecheckup.service.QuestionService;
 import com.agilecheckup.service.TeamService;
+import com.agilecheckup.service.cache.AssessmentDefinitionCache;
+import com.agilecheckup.service.cache.QuestionPlanCache;
+import com.agilecheckup.service.cache.QuestionSnapshotCache;
 
 import dagger.Component;
 
@@ -40,4 +44,12 @@ public interface ServiceComponent {
   AssessmentNavigationService buildAssessmentNavigationService();
 
   DashboardAnalyticsService buildDashboardAnalyticsService();
+
+  AssessmentDefinitionCache buildAssessmentDefinitionCache();
+
+  QuestionPlanCache buildQuestionPlanCache();
+
+  QuestionSnapshotCache buildQuestionSnapshotCache();
+
+  ServiceExecutor buildServiceExecutor();
 }
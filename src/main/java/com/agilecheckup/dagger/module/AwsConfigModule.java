@@ -4,9 +4,9 @@ import javax.inject.Singleton;
 
 import dagger.Module;
 import dagger.Provides;
-import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
-import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 @Module
@@ -14,11 +14,16 @@ public class AwsConfigModule {
 
   @Provides
   @Singleton
-  public DynamoDbClient provideDynamoDbClient() {
-    return DynamoDbClient.builder()
-                         .region(Region.US_EAST_1)
-                         .credentialsProvider(DefaultCredentialsProvider.create())
-                         .build();
+  public DynamoDbClientSettings provideDynamoDbClientSettings() {
+    return DynamoDbClientSettings.fromEnvironment();
+  }
+
+  @Provides
+  @Singleton
+  public DynamoDbClient provideDynamoDbClient(DynamoDbClientSettings settings) {
+    return settings.configure(DynamoDbClient.builder())
+                   .httpClientBuilder(settings.httpClientBuilder())
+                   .build();
   }
 
   @Provides
@@ -26,4 +31,18 @@ public class AwsConfigModule {
   public DynamoDbEnhancedClient provideDynamoDbEnhancedClient(DynamoDbClient dynamoDbClient) {
     return DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDbClient).build();
   }
-}
\ No newline at end of file
+
+  @Provides
+  @Singleton
+  public DynamoDbAsyncClient provideDynamoDbAsyncClient(DynamoDbClientSettings settings) {
+    return settings.configure(DynamoDbAsyncClient.builder())
+                   .httpClientBuilder(settings.asyncHttpClientBuilder())
+                   .build();
+  }
+
+  @Provides
+  @Singleton
+  public DynamoDbEnhancedAsyncClient provideDynamoDbEnhancedAsyncClient(DynamoDbAsyncClient dynamoDbAsyncClient) {
+    return DynamoDbEnhancedAsyncClient.builder().dynamoDbClient(dynamoDbAsyncClient).build();
+  }
+}
@@ -0,0 +1,237 @@
+package com.agilecheckup.dagger.module;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.metrics.LoggingMetricPublisher;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Connection, timeout and retry settings of the DynamoDB clients built by {@link AwsConfigModule}.
+ * <p>
+ * The defaults are sized for the answer fan-out: the sync connection pool matches the {@code IoExecutor} default
+ * concurrency, so fanned-out reads do not queue for a connection, and the API call timeout matches its per-call
+ * timeout. Every setting can be overridden through the {@code DYNAMODB_*} environment variables below; an invalid value
+ * is logged and replaced by its default.
+ */
+@Slf4j
+@Value
+@Builder
+public class DynamoDbClientSettings {
+
+  public static final String REGION_ENV = "DYNAMODB_REGION";
+  public static final String ENDPOINT_ENV = "DYNAMODB_ENDPOINT";
+  public static final String HTTP_CLIENT_ENV = "DYNAMODB_HTTP_CLIENT";
+  public static final String MAX_CONNECTIONS_ENV = "DYNAMODB_MAX_CONNECTIONS";
+  public static final String ASYNC_MAX_CONCURRENCY_ENV = "DYNAMODB_ASYNC_MAX_CONCURRENCY";
+  public static final String CONNECTION_TIMEOUT_MS_ENV = "DYNAMODB_CONNECTION_TIMEOUT_MS";
+  public static final String CONNECTION_TTL_MS_ENV = "DYNAMODB_CONNECTION_TTL_MS";
+  public static final String CONNECTION_MAX_IDLE_MS_ENV = "DYNAMODB_CONNECTION_MAX_IDLE_MS";
+  public static final String TCP_KEEP_ALIVE_ENV = "DYNAMODB_TCP_KEEP_ALIVE";
+  public static final String API_CALL_TIMEOUT_MS_ENV = "DYNAMODB_API_CALL_TIMEOUT_MS";
+  public static final String API_CALL_ATTEMPT_TIMEOUT_MS_ENV = "DYNAMODB_API_CALL_ATTEMPT_TIMEOUT_MS";
+  public static final String RETRY_MODE_ENV = "DYNAMODB_RETRY_MODE";
+  public static final String MAX_RETRIES_ENV = "DYNAMODB_MAX_RETRIES";
+  public static final String METRICS_LOGGING_ENV = "DYNAMODB_METRICS_LOGGING";
+
+  /**
+   * HTTP implementation of the sync client. The async client always uses Netty.
+   */
+  public enum HttpClientType {
+    /**
+     * Pooled connections with keep-alive, TTL and idle reaping. Suited to long-running hosts and fan-out.
+     */
+    APACHE,
+
+    /**
+     * The JDK HttpURLConnection: no pool settings, but the fastest startup. Suited to short-lived functions.
+     */
+    URL_CONNECTION
+  }
+
+  @Builder.Default
+  Region region = Region.US_EAST_1;
+
+  /**
+   * Endpoint of a local stand-in such as DynamoDB Local, or null for the regional endpoint.
+   */
+  URI endpointOverride;
+
+  @Builder.Default
+  HttpClientType httpClientType = HttpClientType.APACHE;
+
+  @Builder.Default
+  int maxConnections = 64;
+
+  @Builder.Default
+  int asyncMaxConcurrency = 100;
+
+  @Builder.Default
+  Duration connectionTimeout = Duration.ofSeconds(2);
+
+  @Builder.Default
+  Duration connectionAcquisitionTimeout = Duration.ofSeconds(30);
+
+  @Builder.Default
+  Duration connectionTimeToLive = Duration.ofMinutes(1);
+
+  @Builder.Default
+  Duration connectionMaxIdleTime = Duration.ofSeconds(30);
+
+  @Builder.Default
+  boolean tcpKeepAlive = true;
+
+  @Builder.Default
+  Duration apiCallTimeout = Duration.ofSeconds(10);
+
+  @Builder.Default
+  Duration apiCallAttemptTimeout = Duration.ofSeconds(3);
+
+  /**
+   * STANDARD retries throttling and transient errors with jittered backoff; ADAPTIVE also rate limits the client after
+   * throttling, which suits batch jobs sharing a table's capacity.
+   */
+  @Builder.Default
+  RetryMode retryMode = RetryMode.STANDARD;
+
+  /**
+   * Retries per call, or null for the default of the retry mode.
+   */
+  Integer maxRetries;
+
+  @Builder.Default
+  List<MetricPublisher> metricPublishers = List.of();
+
+  public static DynamoDbClientSettings fromEnvironment() {
+    return fromEnvironment(System::getenv);
+  }
+
+  @VisibleForTesting
+  static DynamoDbClientSettings fromEnvironment(Function<String, String> env) {
+    DynamoDbClientSettings defaults = DynamoDbClientSettings.builder().build();
+    DynamoDbClientSettingsBuilder builder = DynamoDbClientSettings.builder()
+                                                                  .region(parse(env, REGION_ENV, Region::of, defaults.region))
+                                                                  .endpointOverride(parse(env, ENDPOINT_ENV, URI::create, null))
+                                                                  .httpClientType(parse(env, HTTP_CLIENT_ENV, DynamoDbClientSettings::httpClientType, defaults.httpClientType))
+                                                                  .maxConnections(parse(env, MAX_CONNECTIONS_ENV, DynamoDbClientSettings::positive, defaults.maxConnections))
+                                                                  .asyncMaxConcurrency(parse(env, ASYNC_MAX_CONCURRENCY_ENV, DynamoDbClientSettings::positive, defaults.asyncMaxConcurrency))
+                                                                  .connectionTimeout(parse(env, CONNECTION_TIMEOUT_MS_ENV, DynamoDbClientSettings::millis, defaults.connectionTimeout))
+                                                                  .connectionTimeToLive(parse(env, CONNECTION_TTL_MS_ENV, DynamoDbClientSettings::millis, defaults.connectionTimeToLive))
+                                                                  .connectionMaxIdleTime(parse(env, CONNECTION_MAX_IDLE_MS_ENV, DynamoDbClientSettings::millis, defaults.connectionMaxIdleTime))
+                                                                  .tcpKeepAlive(parse(env, TCP_KEEP_ALIVE_ENV, Boolean::parseBoolean, defaults.tcpKeepAlive))
+                                                                  .apiCallTimeout(parse(env, API_CALL_TIMEOUT_MS_ENV, DynamoDbClientSettings::millis, defaults.apiCallTimeout))
+                                                                  .apiCallAttemptTimeout(parse(env, API_CALL_ATTEMPT_TIMEOUT_MS_ENV, DynamoDbClientSettings::millis, defaults.apiCallAttemptTimeout))
+                                                                  .retryMode(parse(env, RETRY_MODE_ENV, DynamoDbClientSettings::retryMode, defaults.retryMode))
+                                                                  .maxRetries(parse(env, MAX_RETRIES_ENV, Integer::parseInt, null));
+    if (parse(env, METRICS_LOGGING_ENV, Boolean::parseBoolean, false)) {
+      builder.metricPublishers(List.of(LoggingMetricPublisher.create()));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Sets the region, credentials, endpoint override and {@link #overrideConfiguration()} on a sync or async client
+   * builder.
+   */
+  public <B extends AwsClientBuilder<B, ?>> B configure(B clientBuilder) {
+    clientBuilder.region(region)
+                 .credentialsProvider(DefaultCredentialsProvider.create())
+                 .overrideConfiguration(overrideConfiguration());
+    if (endpointOverride != null) {
+      clientBuilder.endpointOverride(endpointOverride);
+    }
+    return clientBuilder;
+  }
+
+  public ClientOverrideConfiguration overrideConfiguration() {
+    RetryPolicy.Builder retryPolicy = RetryPolicy.builder(retryMode);
+    if (maxRetries != null) {
+      retryPolicy.numRetries(maxRetries);
+    }
+    return ClientOverrideConfiguration.builder()
+                                      .apiCallTimeout(apiCallTimeout)
+                                      .apiCallAttemptTimeout(apiCallAttemptTimeout)
+                                      .retryPolicy(retryPolicy.build())
+                                      .metricPublishers(metricPublishers)
+                                      .build();
+  }
+
+  public SdkHttpClient.Builder<?> httpClientBuilder() {
+    if (httpClientType == HttpClientType.URL_CONNECTION) {
+      return UrlConnectionHttpClient.builder()
+                                    .connectionTimeout(connectionTimeout)
+                                    .socketTimeout(apiCallAttemptTimeout);
+    }
+    return ApacheHttpClient.builder()
+                           .maxConnections(maxConnections)
+                           .connectionTimeout(connectionTimeout)
+                           .socketTimeout(apiCallAttemptTimeout)
+                           .connectionAcquisitionTimeout(connectionAcquisitionTimeout)
+                           .connectionTimeToLive(connectionTimeToLive)
+                           .connectionMaxIdleTime(connectionMaxIdleTime)
+                           .tcpKeepAlive(tcpKeepAlive);
+  }
+
+  public SdkAsyncHttpClient.Builder<?> asyncHttpClientBuilder() {
+    return NettyNioAsyncHttpClient.builder()
+                                  .maxConcurrency(asyncMaxConcurrency)
+                                  .connectionTimeout(connectionTimeout)
+                                  .connectionAcquisitionTimeout(connectionAcquisitionTimeout)
+                                  .connectionTimeToLive(connectionTimeToLive)
+                                  .connectionMaxIdleTime(connectionMaxIdleTime)
+                                  .tcpKeepAlive(tcpKeepAlive);
+  }
+
+  private static <T> T parse(Function<String, String> env, String name, Function<String, T> parser, T defaultValue) {
+    String value = env.apply(name);
+    if (value == null || value.isBlank()) {
+      return defaultValue;
+    }
+    try {
+      return parser.apply(value.trim());
+    }
+    catch (IllegalArgumentException e) {
+      log.warn("Ignoring invalid {}={}, using {}", name, value, defaultValue);
+      return defaultValue;
+    }
+  }
+
+  private static HttpClientType httpClientType(String value) {
+    return HttpClientType.valueOf(value.toUpperCase(Locale.ROOT));
+  }
+
+  private static RetryMode retryMode(String value) {
+    return RetryMode.valueOf(value.toUpperCase(Locale.ROOT));
+  }
+
+  private static int positive(String value) {
+    int parsed = Integer.parseInt(value);
+    if (parsed < 1) {
+      throw new IllegalArgumentException("Expected a positive number: " + value);
+    }
+    return parsed;
+  }
+
+  private static Duration millis(String value) {
+    return Duration.ofMillis(positive(value));
+  }
+}
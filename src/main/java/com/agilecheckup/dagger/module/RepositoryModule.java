@@ -4,21 +4,34 @@ import javax.inject.Singleton;
 
 import com.agilecheckup.persistency.repository.AnswerRepository;
 import com.agilecheckup.persistency.repository.AssessmentMatrixRepository;
+import com.agilecheckup.persistency.repository.AssessmentStatusHistogramRepository;
+import com.agilecheckup.persistency.repository.AsyncAnswerRepository;
+import com.agilecheckup.persistency.repository.AsyncEmployeeAssessmentRepository;
 import com.agilecheckup.persistency.repository.CompanyRepository;
 import com.agilecheckup.persistency.repository.DashboardAnalyticsRepository;
 import com.agilecheckup.persistency.repository.DepartmentRepository;
 import com.agilecheckup.persistency.repository.EmployeeAssessmentRepository;
+import com.agilecheckup.persistency.repository.IoExecutor;
 import com.agilecheckup.persistency.repository.PerformanceCycleRepository;
 import com.agilecheckup.persistency.repository.QuestionRepository;
+import com.agilecheckup.persistency.repository.QuestionSnapshotRepository;
 import com.agilecheckup.persistency.repository.TeamRepository;
 
 import dagger.Module;
 import dagger.Provides;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 @Module
 public class RepositoryModule {
 
+  @Provides
+  @Singleton
+  public IoExecutor provideIoExecutor() {
+    return new IoExecutor();
+  }
+
   @Provides
   @Singleton
   public DepartmentRepository provideDepartmentRepository(DynamoDbEnhancedClient enhancedClient) {
@@ -45,14 +58,20 @@ public class RepositoryModule {
 
   @Provides
   @Singleton
-  public AssessmentMatrixRepository provideAssessmentMatrixRepository(DynamoDbEnhancedClient enhancedClient) {
-    return new AssessmentMatrixRepository(enhancedClient);
+  public AssessmentMatrixRepository provideAssessmentMatrixRepository(DynamoDbEnhancedClient enhancedClient, DynamoDbClient dynamoDbClient) {
+    return new AssessmentMatrixRepository(enhancedClient, dynamoDbClient);
+  }
+
+  @Provides
+  @Singleton
+  public EmployeeAssessmentRepository provideEmployeeAssessmentRepository(DynamoDbEnhancedClient enhancedClient, DynamoDbClient dynamoDbClient) {
+    return new EmployeeAssessmentRepository(enhancedClient, dynamoDbClient);
   }
 
   @Provides
   @Singleton
-  public EmployeeAssessmentRepository provideEmployeeAssessmentRepository(DynamoDbEnhancedClient enhancedClient) {
-    return new EmployeeAssessmentRepository(enhancedClient);
+  public AssessmentStatusHistogramRepository provideAssessmentStatusHistogramRepository(DynamoDbEnhancedClient enhancedClient, DynamoDbClient dynamoDbClient) {
+    return new AssessmentStatusHistogramRepository(enhancedClient, dynamoDbClient);
   }
 
   @Provides
@@ -63,8 +82,14 @@ public class RepositoryModule {
 
   @Provides
   @Singleton
-  public AnswerRepository provideAnswerRepository(DynamoDbEnhancedClient enhancedClient) {
-    return new AnswerRepository(enhancedClient);
+  public AnswerRepository provideAnswerRepository(DynamoDbEnhancedClient enhancedClient, IoExecutor ioExecutor) {
+    return new AnswerRepository(enhancedClient, ioExecutor);
+  }
+
+  @Provides
+  @Singleton
+  public QuestionSnapshotRepository provideQuestionSnapshotRepository(DynamoDbEnhancedClient enhancedClient) {
+    return new QuestionSnapshotRepository(enhancedClient);
   }
 
   @Provides
@@ -72,4 +97,16 @@ public class RepositoryModule {
   public DashboardAnalyticsRepository provideDashboardAnalyticsRepository(DynamoDbEnhancedClient enhancedClient) {
     return new DashboardAnalyticsRepository(enhancedClient);
   }
-}
\ No newline at end of file
+
+  @Provides
+  @Singleton
+  public AsyncAnswerRepository provideAsyncAnswerRepository(DynamoDbEnhancedAsyncClient enhancedAsyncClient) {
+    return new AsyncAnswerRepository(enhancedAsyncClient);
+  }
+
+  @Provides
+  @Singleton
+  public AsyncEmployeeAssessmentRepository provideAsyncEmployeeAssessmentRepository(DynamoDbEnhancedAsyncClient enhancedAsyncClient) {
+    return new AsyncEmployeeAssessmentRepository(enhancedAsyncClient);
+  }
+}
@@ -2,14 +2,19 @@ package com.agilecheckup.dagger.module;
 
 import javax.inject.Singleton;
 
+import com.agilecheckup.concurrent.ServiceExecutor;
 import com.agilecheckup.persistency.repository.AnswerRepository;
 import com.agilecheckup.persistency.repository.AssessmentMatrixRepository;
+import com.agilecheckup.persistency.repository.AssessmentStatusHistogramRepository;
+import com.agilecheckup.persistency.repository.AsyncAnswerRepository;
+import com.agilecheckup.persistency.repository.AsyncEmployeeAssessmentRepository;
 import com.agilecheckup.persistency.repository.CompanyRepository;
 import com.agilecheckup.persistency.repository.DashboardAnalyticsRepository;
 import com.agilecheckup.persistency.repository.DepartmentRepository;
 import com.agilecheckup.persistency.repository.EmployeeAssessmentRepository;
 import com.agilecheckup.persistency.repository.PerformanceCycleRepository;
 import com.agilecheckup.persistency.repository.QuestionRepository;
+import com.agilecheckup.persistency.repository.QuestionSnapshotRepository;
 import com.agilecheckup.persistency.repository.TeamRepository;
 import com.agilecheckup.service.AnswerService;
 import com.agilecheckup.service.AssessmentMatrixService;
@@ -21,6 +26,9 @@ import com.agilecheckup.service.EmployeeAssessmentService;
 import com.agilecheckup.service.PerformanceCycleService;
 import com.agilecheckup.service.QuestionService;
 import com.agilecheckup.service.TeamService;
+import com.agilecheckup.service.cache.AssessmentDefinitionCache;
+import com.agilecheckup.service.cache.QuestionPlanCache;
+import com.agilecheckup.service.cache.QuestionSnapshotCache;
 
 import dagger.Lazy;
 import dagger.Module;
@@ -53,8 +61,8 @@ public abstract class ServiceModule {
   @Provides
   @Singleton
   static DashboardAnalyticsService provideDashboardAnalyticsService(
-                                                                    DashboardAnalyticsRepository dashboardAnalyticsRepository, AssessmentMatrixService assessmentMatrixService, EmployeeAssessmentService employeeAssessmentService, CompanyService companyService, PerformanceCycleService performanceCycleService, TeamRepository teamRepository, AnswerRepository answerRepository) {
-    return new DashboardAnalyticsService(dashboardAnalyticsRepository, assessmentMatrixService, employeeAssessmentService, companyService, performanceCycleService, teamRepository, answerRepository);
+                                                                    DashboardAnalyticsRepository dashboardAnalyticsRepository, AssessmentMatrixService assessmentMatrixService, EmployeeAssessmentService employeeAssessmentService, CompanyService companyService, PerformanceCycleService performanceCycleService, TeamRepository teamRepository) {
+    return new DashboardAnalyticsService(dashboardAnalyticsRepository, assessmentMatrixService, employeeAssessmentService, companyService, performanceCycleService, teamRepository);
   }
 
 
@@ -64,39 +72,63 @@ public abstract class ServiceModule {
     return new CompanyService(companyRepository);
   }
 
+  @Provides
+  @Singleton
+  static AssessmentDefinitionCache provideAssessmentDefinitionCache() {
+    return new AssessmentDefinitionCache();
+  }
+
+  @Provides
+  @Singleton
+  static QuestionPlanCache provideQuestionPlanCache() {
+    return new QuestionPlanCache();
+  }
+
+  @Provides
+  @Singleton
+  static QuestionSnapshotCache provideQuestionSnapshotCache(QuestionSnapshotRepository questionSnapshotRepository) {
+    return new QuestionSnapshotCache(questionSnapshotRepository);
+  }
+
   @Provides
   @Singleton
   static AssessmentMatrixService provideAssessmentMatrixService(
-                                                                AssessmentMatrixRepository assessmentMatrixRepository, PerformanceCycleService performanceCycleService, Lazy<QuestionService> questionService, Lazy<EmployeeAssessmentService> employeeAssessmentService, Lazy<TeamService> teamService) {
-    return new AssessmentMatrixService(assessmentMatrixRepository, performanceCycleService, questionService, employeeAssessmentService, teamService);
+                                                                AssessmentMatrixRepository assessmentMatrixRepository, PerformanceCycleService performanceCycleService, Lazy<QuestionService> questionService, Lazy<EmployeeAssessmentService> employeeAssessmentService, Lazy<TeamService> teamService, AssessmentDefinitionCache definitionCache, AssessmentStatusHistogramRepository statusHistogramRepository) {
+    return new AssessmentMatrixService(assessmentMatrixRepository, performanceCycleService, questionService, employeeAssessmentService, teamService, definitionCache, statusHistogramRepository);
   }
 
   @Provides
   @Singleton
   static EmployeeAssessmentService provideEmployeeAssessmentService(
-                                                                    EmployeeAssessmentRepository employeeAssessmentRepository, AssessmentMatrixService assessmentMatrixService, TeamService teamService, AnswerRepository answerRepository) {
-    return new EmployeeAssessmentService(employeeAssessmentRepository, assessmentMatrixService, teamService, answerRepository);
+                                                                    EmployeeAssessmentRepository employeeAssessmentRepository, AssessmentMatrixService assessmentMatrixService, TeamService teamService, AnswerRepository answerRepository, QuestionSnapshotCache questionSnapshotCache, AssessmentStatusHistogramRepository statusHistogramRepository, AsyncEmployeeAssessmentRepository asyncEmployeeAssessmentRepository, AsyncAnswerRepository asyncAnswerRepository) {
+    return new EmployeeAssessmentService(employeeAssessmentRepository, assessmentMatrixService, teamService, answerRepository, questionSnapshotCache, statusHistogramRepository, asyncEmployeeAssessmentRepository, asyncAnswerRepository);
   }
 
   @Provides
   @Singleton
   static QuestionService provideQuestionService(
-                                                QuestionRepository questionRepository, AssessmentMatrixService assessmentMatrixService) {
-    return new QuestionService(questionRepository, assessmentMatrixService);
+                                                QuestionRepository questionRepository, AssessmentMatrixService assessmentMatrixService, AssessmentDefinitionCache definitionCache) {
+    return new QuestionService(questionRepository, assessmentMatrixService, definitionCache);
   }
 
   @Provides
   @Singleton
   static AnswerService provideAnswerService(
-                                            AnswerRepository answerRepository, EmployeeAssessmentService employeeAssessmentService, QuestionService questionService, AssessmentMatrixService assessmentMatrixService) {
-    return new AnswerService(answerRepository, employeeAssessmentService, questionService, assessmentMatrixService);
+                                            AnswerRepository answerRepository, EmployeeAssessmentService employeeAssessmentService, QuestionService questionService, AssessmentMatrixService assessmentMatrixService, QuestionPlanCache questionPlanCache, QuestionSnapshotCache questionSnapshotCache) {
+    return new AnswerService(answerRepository, employeeAssessmentService, questionService, assessmentMatrixService, questionPlanCache, questionSnapshotCache);
+  }
+
+  @Provides
+  @Singleton
+  static ServiceExecutor provideServiceExecutor() {
+    return new ServiceExecutor();
   }
 
   @Provides
   @Singleton
   static AssessmentNavigationService provideAssessmentNavigationService(
-                                                                        QuestionService questionService, AnswerService answerService, EmployeeAssessmentService employeeAssessmentService, AssessmentMatrixService assessmentMatrixService) {
-    return new AssessmentNavigationService(questionService, answerService, employeeAssessmentService, assessmentMatrixService);
+                                                                        QuestionService questionService, AnswerService answerService, EmployeeAssessmentService employeeAssessmentService, AssessmentMatrixService assessmentMatrixService, ServiceExecutor serviceExecutor) {
+    return new AssessmentNavigationService(questionService, answerService, employeeAssessmentService, assessmentMatrixService, serviceExecutor);
   }
 
 }
@@ -0,0 +1,80 @@
+package com.agilecheckup.main.migration;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClientBuilder;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * One-time migration that adds the employeeAssessmentId-questionId GSI to the Answer table, so that the duplicate check
+ * of AnswerService.create reads a single item instead of every answer of the assessment.
+ * <p>
+ * DynamoDB backfills the index from the existing items. Answers missing one of the key attributes are reported, since
+ * the duplicate check will not find them.
+ */
+@Log4j2
+public class AnswerQuestionIndexMigration {
+
+  private static final String ANSWER_TABLE_NAME = "Answer";
+  static final String ASSESSMENT_QUESTION_INDEX = "employeeAssessmentId-questionId-index";
+
+  private final GlobalSecondaryIndexMigrationSupport indexSupport;
+
+  public AnswerQuestionIndexMigration() {
+    this(AmazonDynamoDBClientBuilder.standard().build());
+  }
+
+  public AnswerQuestionIndexMigration(AmazonDynamoDB dynamoDBClient) {
+    this.indexSupport = new GlobalSecondaryIndexMigrationSupport(dynamoDBClient);
+  }
+
+  public void migrate(boolean dryRun) {
+    log.info("Starting Answer employeeAssessmentId-questionId index migration...");
+
+    try {
+      long missingKeys = indexSupport.countItemsMissingAttributes(ANSWER_TABLE_NAME, "employeeAssessmentId", "questionId");
+
+      if (dryRun) {
+        log.info("Index {} exists: {}", ASSESSMENT_QUESTION_INDEX, indexSupport.indexExists(ANSWER_TABLE_NAME, ASSESSMENT_QUESTION_INDEX));
+      }
+      else {
+        indexSupport.createIndexIfMissing(ANSWER_TABLE_NAME, ASSESSMENT_QUESTION_INDEX, "employeeAssessmentId", "questionId");
+      }
+
+      log.info("Migration completed!");
+      log.info("Answers not indexed in {} (missing employeeAssessmentId or questionId): {}", ASSESSMENT_QUESTION_INDEX, missingKeys);
+      if (missingKeys > 0) {
+        log.warn("Some answers lack index key attributes and will not be found by the duplicate check. Fix them before switching traffic.");
+      }
+    }
+    catch (Exception e) {
+      log.error("Fatal error during migration: {}", e.getMessage(), e);
+      throw new RuntimeException("Migration failed", e);
+    }
+  }
+
+  public static void main(String[] args) {
+    log.info("=== Answer employeeAssessmentId-questionId Index Migration Tool ===");
+
+    boolean dryRun = args.length > 0 && "--dry-run".equals(args[0]);
+    if (dryRun) {
+      log.info("DRY RUN MODE - No changes will be made");
+    }
+    else {
+      log.warn("This will add the {} GSI to the {} table.", ASSESSMENT_QUESTION_INDEX, ANSWER_TABLE_NAME);
+      log.warn("Index creation consumes write capacity while DynamoDB backfills the existing answers.");
+      log.info("Starting in 5 seconds... Press Ctrl+C to cancel");
+
+      try {
+        Thread.sleep(5000);
+      }
+      catch (InterruptedException e) {
+        log.info("Migration cancelled");
+        return;
+      }
+    }
+
+    AnswerQuestionIndexMigration migration = new AnswerQuestionIndexMigration();
+    migration.migrate(dryRun);
+  }
+}
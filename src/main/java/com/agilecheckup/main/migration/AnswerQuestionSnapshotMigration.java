@@ -0,0 +1,198 @@
+package com.agilecheckup.main.migration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.agilecheckup.persistency.converter.InstantAttributeConverter;
+import com.agilecheckup.persistency.converter.codec.JsonCodec;
+import com.agilecheckup.persistency.converter.codec.JsonCodecs;
+import com.agilecheckup.persistency.entity.question.Question;
+import com.agilecheckup.persistency.entity.question.QuestionSnapshot;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClientBuilder;
+import com.amazonaws.services.dynamodbv2.model.*;
+import com.amazonaws.services.dynamodbv2.util.TableUtils;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * One-time migration that moves the question copy embedded in every {@code Answer} item into the
+ * {@code QuestionSnapshot} table:
+ * <ol>
+ * <li>creates the {@code QuestionSnapshot} table (on-demand, hash key {@code id}) when it does not exist;</li>
+ * <li>stores each distinct question version found in the answers once, keyed by {@link QuestionSnapshot#idOf};</li>
+ * <li>sets {@code questionSnapshotId} on the answer and removes its embedded {@code question} attribute.</li>
+ * </ol>
+ * Answers are only updated if their embedded question is unchanged since the scan, and answers without an embedded
+ * question are skipped, which makes the migration safe to re-run. Deploy the application version that resolves question
+ * snapshots before running it.
+ */
+@Log4j2
+public class AnswerQuestionSnapshotMigration {
+
+  private static final String ANSWER_TABLE_NAME = "Answer";
+  private static final String SNAPSHOT_TABLE_NAME = "QuestionSnapshot";
+  private static final JsonCodec<Question> QUESTION_CODEC = JsonCodecs.forType(Question.class);
+
+  private final AmazonDynamoDB dynamoDBClient;
+  private final Set<String> storedSnapshotIds = new HashSet<>();
+
+  public AnswerQuestionSnapshotMigration() {
+    this(AmazonDynamoDBClientBuilder.standard().build());
+  }
+
+  public AnswerQuestionSnapshotMigration(AmazonDynamoDB dynamoDBClient) {
+    this.dynamoDBClient = dynamoDBClient;
+  }
+
+  public void migrate(boolean dryRun) {
+    log.info("Starting answer question snapshot migration...");
+
+    try {
+      if (!dryRun) {
+        createSnapshotTableIfMissing();
+      }
+      migrateAnswers(dryRun);
+      log.info("Migration completed!");
+    }
+    catch (Exception e) {
+      log.error("Fatal error during migration: {}", e.getMessage(), e);
+      throw new RuntimeException("Migration failed", e);
+    }
+  }
+
+  private void createSnapshotTableIfMissing() throws InterruptedException {
+    CreateTableRequest createRequest = new CreateTableRequest().withTableName(SNAPSHOT_TABLE_NAME)
+                                                               .withKeySchema(new KeySchemaElement("id", KeyType.HASH))
+                                                               .withAttributeDefinitions(new AttributeDefinition("id", ScalarAttributeType.S))
+                                                               .withBillingMode(BillingMode.PAY_PER_REQUEST);
+    if (TableUtils.createTableIfNotExists(dynamoDBClient, createRequest)) {
+      log.info("Created table {}", SNAPSHOT_TABLE_NAME);
+    }
+    TableUtils.waitUntilActive(dynamoDBClient, SNAPSHOT_TABLE_NAME);
+  }
+
+  private void migrateAnswers(boolean dryRun) {
+    ScanRequest scanRequest = new ScanRequest().withTableName(ANSWER_TABLE_NAME)
+                                               .withProjectionExpression("id, #q")
+                                               .withFilterExpression("attribute_exists(#q)")
+                                               .withExpressionAttributeNames(Map.of("#q", "question"));
+
+    long total = 0;
+    long migrated = 0;
+    long conflicts = 0;
+    long errors = 0;
+    long bytesRemoved = 0;
+
+    ScanResult result;
+    do {
+      result = dynamoDBClient.scan(scanRequest);
+      for (Map<String, AttributeValue> item : result.getItems()) {
+        total++;
+        String answerId = item.get("id").getS();
+        AttributeValue embedded = item.get("question");
+
+        try {
+          Question question = QUESTION_CODEC.decode(embedded.getS());
+          String snapshotId = QuestionSnapshot.idOf(question);
+          bytesRemoved += embedded.getS().getBytes(StandardCharsets.UTF_8).length;
+          if (dryRun) {
+            storedSnapshotIds.add(snapshotId);
+            migrated++;
+            continue;
+          }
+
+          storeSnapshotOnce(snapshotId, question, embedded);
+          if (updateAnswer(answerId, snapshotId, embedded)) {
+            migrated++;
+          }
+          else {
+            conflicts++;
+          }
+        }
+        catch (Exception e) {
+          errors++;
+          log.error("Error migrating answer {}: {}", answerId, e.getMessage(), e);
+        }
+      }
+      scanRequest.setExclusiveStartKey(result.getLastEvaluatedKey());
+    } while (result.getLastEvaluatedKey() != null);
+
+    log.info("{} answers with an embedded question, {} {}, {} changed concurrently, {} errors", total, migrated, dryRun ? "would be migrated" : "migrated", conflicts, errors);
+    log.info("{} distinct question versions, {} bytes of embedded questions {}", storedSnapshotIds.size(), bytesRemoved, dryRun ? "would be removed" : "removed");
+  }
+
+  private void storeSnapshotOnce(String snapshotId, Question question, AttributeValue embedded) {
+    if (storedSnapshotIds.contains(snapshotId)) {
+      return;
+    }
+
+    AttributeValue now = new AttributeValue(new InstantAttributeConverter().transformFrom(Instant.now()).s());
+    Map<String, AttributeValue> snapshot = new HashMap<>();
+    snapshot.put("id", new AttributeValue(snapshotId));
+    snapshot.put("tenantId", new AttributeValue(question.getTenantId()));
+    snapshot.put("questionId", new AttributeValue(question.getId()));
+    snapshot.put("questionVersion", new AttributeValue().withN(Long.toString(QuestionSnapshot.versionOf(question))));
+    snapshot.put("question", embedded);
+    snapshot.put("createdDate", now);
+    snapshot.put("lastUpdatedDate", now);
+
+    PutItemRequest putRequest = new PutItemRequest().withTableName(SNAPSHOT_TABLE_NAME)
+                                                    .withItem(snapshot)
+                                                    .withConditionExpression("attribute_not_exists(id)");
+    try {
+      dynamoDBClient.putItem(putRequest);
+      log.debug("Stored question snapshot {}", snapshotId);
+    }
+    catch (ConditionalCheckFailedException e) {
+      log.debug("Question snapshot {} already exists", snapshotId);
+    }
+    storedSnapshotIds.add(snapshotId);
+  }
+
+  private boolean updateAnswer(String answerId, String snapshotId, AttributeValue embedded) {
+    UpdateItemRequest updateRequest = new UpdateItemRequest().withTableName(ANSWER_TABLE_NAME)
+                                                             .withKey(Map.of("id", new AttributeValue(answerId)))
+                                                             .withUpdateExpression("SET questionSnapshotId = :sid REMOVE #q")
+                                                             .withConditionExpression("#q = :original")
+                                                             .withExpressionAttributeNames(Map.of("#q", "question"))
+                                                             .withExpressionAttributeValues(Map.of(":sid", new AttributeValue(snapshotId), ":original", embedded));
+    try {
+      dynamoDBClient.updateItem(updateRequest);
+      return true;
+    }
+    catch (ConditionalCheckFailedException e) {
+      log.debug("Answer {} changed since it was scanned, skipping", answerId);
+      return false;
+    }
+  }
+
+  public static void main(String[] args) {
+    log.info("=== Answer Question Snapshot Migration Tool ===");
+
+    boolean dryRun = args.length > 0 && "--dry-run".equals(args[0]);
+    if (dryRun) {
+      log.info("DRY RUN MODE - No changes will be made");
+    }
+    else {
+      log.warn("This will create the QuestionSnapshot table and remove the embedded question from every Answer item.");
+      log.warn("Deploy the application version that resolves question snapshots first. Make sure to backup your data before proceeding!");
+      log.info("Starting in 5 seconds... Press Ctrl+C to cancel");
+
+      try {
+        Thread.sleep(5000);
+      }
+      catch (InterruptedException e) {
+        log.info("Migration cancelled");
+        return;
+      }
+    }
+
+    AnswerQuestionSnapshotMigration migration = new AnswerQuestionSnapshotMigration();
+    migration.migrate(dryRun);
+  }
+}
@@ -0,0 +1,185 @@
+package com.agilecheckup.main.migration;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.agilecheckup.persistency.converter.InstantAttributeConverter;
+import com.agilecheckup.persistency.entity.AssessmentStatus;
+import com.agilecheckup.persistency.entity.AssessmentStatusHistogram;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClientBuilder;
+import com.amazonaws.services.dynamodbv2.model.*;
+import com.amazonaws.services.dynamodbv2.util.TableUtils;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Builds the {@code AssessmentStatusHistogram} of every assessment matrix from its employee assessments:
+ * <ol>
+ * <li>creates the {@code AssessmentStatusHistogram} table (on-demand, hash key {@code id}) when it does not exist;</li>
+ * <li>scans the {@code AssessmentMatrix} table for the id and tenant of every matrix;</li>
+ * <li>scans the {@code EmployeeAssessment} table for the matrix, tenant and status of every assessment and counts them
+ * by matrix and status;</li>
+ * <li>writes one histogram per matrix, replacing the existing one.</li>
+ * </ol>
+ * Assessments without a status count as INVITED and assessments whose tenant differs from their matrix are ignored, as
+ * in the application. Re-running the migration rebuilds the histograms, which also repairs counters that drifted.
+ */
+@Log4j2
+public class AssessmentStatusHistogramMigration {
+
+  private static final String MATRIX_TABLE_NAME = "AssessmentMatrix";
+  private static final String EMPLOYEE_ASSESSMENT_TABLE_NAME = "EmployeeAssessment";
+  private static final String HISTOGRAM_TABLE_NAME = "AssessmentStatusHistogram";
+
+  private final AmazonDynamoDB dynamoDBClient;
+
+  public AssessmentStatusHistogramMigration() {
+    this(AmazonDynamoDBClientBuilder.standard().build());
+  }
+
+  public AssessmentStatusHistogramMigration(AmazonDynamoDB dynamoDBClient) {
+    this.dynamoDBClient = dynamoDBClient;
+  }
+
+  public void migrate(boolean dryRun) {
+    log.info("Starting assessment status histogram migration...");
+
+    try {
+      if (!dryRun) {
+        createHistogramTableIfMissing();
+      }
+      Map<String, String> tenantByMatrix = scanMatrices();
+      Map<String, Map<AssessmentStatus, Long>> countsByMatrix = countAssessments(tenantByMatrix);
+      writeHistograms(tenantByMatrix, countsByMatrix, dryRun);
+      log.info("Migration completed!");
+    }
+    catch (Exception e) {
+      log.error("Fatal error during migration: {}", e.getMessage(), e);
+      throw new RuntimeException("Migration failed", e);
+    }
+  }
+
+  private void createHistogramTableIfMissing() throws InterruptedException {
+    CreateTableRequest createRequest = new CreateTableRequest().withTableName(HISTOGRAM_TABLE_NAME)
+                                                               .withKeySchema(new KeySchemaElement("id", KeyType.HASH))
+                                                               .withAttributeDefinitions(new AttributeDefinition("id", ScalarAttributeType.S))
+                                                               .withBillingMode(BillingMode.PAY_PER_REQUEST);
+    if (TableUtils.createTableIfNotExists(dynamoDBClient, createRequest)) {
+      log.info("Created table {}", HISTOGRAM_TABLE_NAME);
+    }
+    TableUtils.waitUntilActive(dynamoDBClient, HISTOGRAM_TABLE_NAME);
+  }
+
+  private Map<String, String> scanMatrices() {
+    ScanRequest scanRequest = new ScanRequest().withTableName(MATRIX_TABLE_NAME).withProjectionExpression("id, tenantId");
+
+    Map<String, String> tenantByMatrix = new HashMap<>();
+    ScanResult result;
+    do {
+      result = dynamoDBClient.scan(scanRequest);
+      for (Map<String, AttributeValue> item : result.getItems()) {
+        tenantByMatrix.put(item.get("id").getS(), item.containsKey("tenantId") ? item.get("tenantId").getS() : null);
+      }
+      scanRequest.setExclusiveStartKey(result.getLastEvaluatedKey());
+    } while (result.getLastEvaluatedKey() != null);
+
+    log.info("Found {} assessment matrices", tenantByMatrix.size());
+    return tenantByMatrix;
+  }
+
+  private Map<String, Map<AssessmentStatus, Long>> countAssessments(Map<String, String> tenantByMatrix) {
+    ScanRequest scanRequest = new ScanRequest().withTableName(EMPLOYEE_ASSESSMENT_TABLE_NAME)
+                                               .withProjectionExpression("assessmentMatrixId, tenantId, #s")
+                                               .withExpressionAttributeNames(Map.of("#s", "assessmentStatus"));
+
+    Map<String, Map<AssessmentStatus, Long>> countsByMatrix = new HashMap<>();
+    long total = 0;
+    long ignored = 0;
+
+    ScanResult result;
+    do {
+      result = dynamoDBClient.scan(scanRequest);
+      for (Map<String, AttributeValue> item : result.getItems()) {
+        total++;
+        String matrixId = item.containsKey("assessmentMatrixId") ? item.get("assessmentMatrixId").getS() : null;
+        String tenantId = item.containsKey("tenantId") ? item.get("tenantId").getS() : null;
+        if (matrixId == null || !tenantByMatrix.containsKey(matrixId) || tenantId == null || !tenantId.equals(tenantByMatrix.get(matrixId))) {
+          ignored++;
+          continue;
+        }
+
+        AssessmentStatus status = item.containsKey("assessmentStatus") ? AssessmentStatus.valueOf(item.get("assessmentStatus").getS()) : AssessmentStatus.INVITED;
+        countsByMatrix.computeIfAbsent(matrixId, id -> new EnumMap<>(AssessmentStatus.class)).merge(status, 1L, Long::sum);
+      }
+      scanRequest.setExclusiveStartKey(result.getLastEvaluatedKey());
+    } while (result.getLastEvaluatedKey() != null);
+
+    log.info("Counted {} employee assessments, {} ignored for a missing matrix or a tenant mismatch", total, ignored);
+    return countsByMatrix;
+  }
+
+  private void writeHistograms(Map<String, String> tenantByMatrix, Map<String, Map<AssessmentStatus, Long>> countsByMatrix, boolean dryRun) {
+    AttributeValue now = new AttributeValue(new InstantAttributeConverter().transformFrom(Instant.now()).s());
+    long written = 0;
+    long errors = 0;
+
+    for (Map.Entry<String, String> matrix : tenantByMatrix.entrySet()) {
+      Map<AssessmentStatus, Long> counts = countsByMatrix.getOrDefault(matrix.getKey(), Map.of());
+      if (dryRun) {
+        log.info("Matrix {}: {}", matrix.getKey(), counts);
+        written++;
+        continue;
+      }
+
+      Map<String, AttributeValue> histogram = new HashMap<>();
+      histogram.put("id", new AttributeValue(matrix.getKey()));
+      if (matrix.getValue() != null) {
+        histogram.put("tenantId", new AttributeValue(matrix.getValue()));
+      }
+      for (AssessmentStatus status : AssessmentStatus.values()) {
+        histogram.put(AssessmentStatusHistogram.countAttribute(status), new AttributeValue().withN(Long.toString(counts.getOrDefault(status, 0L))));
+      }
+      histogram.put("createdDate", now);
+      histogram.put("lastUpdatedDate", now);
+
+      try {
+        dynamoDBClient.putItem(new PutItemRequest().withTableName(HISTOGRAM_TABLE_NAME).withItem(histogram));
+        written++;
+      }
+      catch (Exception e) {
+        errors++;
+        log.error("Error writing the status histogram of matrix {}: {}", matrix.getKey(), e.getMessage(), e);
+      }
+    }
+
+    log.info("{} status histograms {}, {} errors", written, dryRun ? "would be written" : "written", errors);
+  }
+
+  public static void main(String[] args) {
+    log.info("=== Assessment Status Histogram Migration Tool ===");
+
+    boolean dryRun = args.length > 0 && "--dry-run".equals(args[0]);
+    if (dryRun) {
+      log.info("DRY RUN MODE - No changes will be made");
+    }
+    else {
+      log.warn("This will create the AssessmentStatusHistogram table and rebuild the histogram of every assessment matrix.");
+      log.warn("Status changes made while the migration runs may be miscounted: run it when assessments are idle, or re-run it afterwards.");
+      log.info("Starting in 5 seconds... Press Ctrl+C to cancel");
+
+      try {
+        Thread.sleep(5000);
+      }
+      catch (InterruptedException e) {
+        log.info("Migration cancelled");
+        return;
+      }
+    }
+
+    AssessmentStatusHistogramMigration migration = new AssessmentStatusHistogramMigration();
+    migration.migrate(dryRun);
+  }
+}
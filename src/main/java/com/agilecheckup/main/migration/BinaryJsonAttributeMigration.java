@@ -0,0 +1,204 @@
+package com.agilecheckup.main.migration;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.agilecheckup.persistency.converter.codec.BinaryJsonFormat;
+import com.agilecheckup.persistency.converter.codec.JsonCodecs;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClientBuilder;
+import com.amazonaws.services.dynamodbv2.model.*;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * One-time migration that rewrites the large JSON string attributes into the compact binary format of
+ * {@link BinaryJsonFormat}:
+ * <ul>
+ * <li>{@code EmployeeAssessment.employeeAssessmentScore}, {@code AssessmentMatrix.pillarMap} and
+ * {@code AssessmentMatrix.potentialScore} become Smile, compressed when large;</li>
+ * <li>{@code DashboardAnalytics.analyticsDataJson} becomes compressed UTF-8 JSON text.</li>
+ * </ul>
+ * Each item is updated only if the attribute still holds the scanned string, so concurrent application writes win.
+ * Items already in binary form are skipped, which makes the migration safe to re-run. Deploy the application version
+ * that reads binary attributes before running it.
+ */
+@Log4j2
+public class BinaryJsonAttributeMigration {
+
+  private static final List<Target> TARGETS = List.of(new Target("EmployeeAssessment", "employeeAssessmentScore", true), new Target("AssessmentMatrix", "pillarMap", true), new Target("AssessmentMatrix", "potentialScore", true), new Target("DashboardAnalytics", "analyticsDataJson", false));
+
+  private final AmazonDynamoDB dynamoDBClient;
+
+  public BinaryJsonAttributeMigration() {
+    this(AmazonDynamoDBClientBuilder.standard().build());
+  }
+
+  public BinaryJsonAttributeMigration(AmazonDynamoDB dynamoDBClient) {
+    this.dynamoDBClient = dynamoDBClient;
+  }
+
+  public void migrate(boolean dryRun) {
+    log.info("Starting binary JSON attribute migration...");
+
+    try {
+      for (Target target : TARGETS) {
+        migrate(target, dryRun);
+      }
+      log.info("Migration completed!");
+    }
+    catch (Exception e) {
+      log.error("Fatal error during migration: {}", e.getMessage(), e);
+      throw new RuntimeException("Migration failed", e);
+    }
+  }
+
+  private void migrate(Target target, boolean dryRun) {
+    List<String> keyNames = keyAttributeNames(target.tableName);
+    Map<String, String> names = new HashMap<>();
+    List<String> projection = new ArrayList<>();
+    for (String name : keyNames) {
+      names.put("#k" + projection.size(), name);
+      projection.add("#k" + projection.size());
+    }
+    names.put("#attr", target.attributeName);
+    projection.add("#attr");
+
+    ScanRequest scanRequest = new ScanRequest().withTableName(target.tableName)
+                                               .withProjectionExpression(String.join(", ", projection))
+                                               .withExpressionAttributeNames(names);
+
+    long total = 0;
+    long migrated = 0;
+    long skipped = 0;
+    long conflicts = 0;
+    long errors = 0;
+    long bytesBefore = 0;
+    long bytesAfter = 0;
+
+    ScanResult result;
+    do {
+      result = dynamoDBClient.scan(scanRequest);
+      for (Map<String, AttributeValue> item : result.getItems()) {
+        total++;
+        AttributeValue value = item.get(target.attributeName);
+        if (value == null || value.getS() == null || value.getS().isBlank()) {
+          skipped++;
+          continue;
+        }
+
+        try {
+          byte[] framed = encode(target, value.getS());
+          bytesBefore += value.getS().getBytes(StandardCharsets.UTF_8).length;
+          bytesAfter += framed.length;
+          if (dryRun) {
+            migrated++;
+          }
+          else if (update(target, keyNames, item, value, framed)) {
+            migrated++;
+          }
+          else {
+            conflicts++;
+          }
+        }
+        catch (Exception e) {
+          errors++;
+          log.error("Error migrating {}.{} for item {}: {}", target.tableName, target.attributeName, key(keyNames, item), e.getMessage(), e);
+        }
+      }
+      scanRequest.setExclusiveStartKey(result.getLastEvaluatedKey());
+    } while (result.getLastEvaluatedKey() != null);
+
+    log.info("{}.{}: {} items scanned, {} {}, {} skipped (missing or already binary), {} changed concurrently, {} errors", target.tableName, target.attributeName, total, migrated, dryRun ? "would be migrated" : "migrated", skipped, conflicts, errors);
+    log.info("{}.{}: {} bytes as JSON strings, {} bytes as binary", target.tableName, target.attributeName, bytesBefore, bytesAfter);
+  }
+
+  private byte[] encode(Target target, String json) throws Exception {
+    if (!target.smile) {
+      return BinaryJsonFormat.frame(json.getBytes(StandardCharsets.UTF_8), false);
+    }
+    JsonNode tree = JsonCodecs.mapper().readTree(json);
+    return BinaryJsonFormat.frame(JsonCodecs.smileMapper().writeValueAsBytes(tree), true);
+  }
+
+  private boolean update(Target target, List<String> keyNames, Map<String, AttributeValue> item, AttributeValue original, byte[] framed) {
+    Map<String, String> names = new HashMap<>();
+    names.put("#attr", target.attributeName);
+    Map<String, AttributeValue> values = new HashMap<>();
+    values.put(":original", original);
+    values.put(":binary", new AttributeValue().withB(ByteBuffer.wrap(framed)));
+
+    UpdateItemRequest updateRequest = new UpdateItemRequest().withTableName(target.tableName)
+                                                             .withKey(key(keyNames, item))
+                                                             .withUpdateExpression("SET #attr = :binary")
+                                                             .withConditionExpression("#attr = :original")
+                                                             .withExpressionAttributeNames(names)
+                                                             .withExpressionAttributeValues(values);
+    try {
+      dynamoDBClient.updateItem(updateRequest);
+      return true;
+    }
+    catch (ConditionalCheckFailedException e) {
+      log.debug("{}.{} changed since it was scanned, skipping item {}", target.tableName, target.attributeName, key(keyNames, item));
+      return false;
+    }
+  }
+
+  private List<String> keyAttributeNames(String tableName) {
+    List<String> keyNames = new ArrayList<>();
+    for (KeySchemaElement element : dynamoDBClient.describeTable(tableName).getTable().getKeySchema()) {
+      keyNames.add(element.getAttributeName());
+    }
+    return keyNames;
+  }
+
+  private static Map<String, AttributeValue> key(List<String> keyNames, Map<String, AttributeValue> item) {
+    Map<String, AttributeValue> key = new HashMap<>();
+    for (String name : keyNames) {
+      key.put(name, item.get(name));
+    }
+    return key;
+  }
+
+  public static void main(String[] args) {
+    log.info("=== Binary JSON Attribute Migration Tool ===");
+
+    boolean dryRun = args.length > 0 && "--dry-run".equals(args[0]);
+    if (dryRun) {
+      log.info("DRY RUN MODE - No changes will be made");
+    }
+    else {
+      log.warn("This will rewrite the large JSON string attributes of EmployeeAssessment, AssessmentMatrix and DashboardAnalytics as binary.");
+      log.warn("Deploy the application version that reads binary attributes first. Make sure to backup your data before proceeding!");
+      log.info("Starting in 5 seconds... Press Ctrl+C to cancel");
+
+      try {
+        Thread.sleep(5000);
+      }
+      catch (InterruptedException e) {
+        log.info("Migration cancelled");
+        return;
+      }
+    }
+
+    BinaryJsonAttributeMigration migration = new BinaryJsonAttributeMigration();
+    migration.migrate(dryRun);
+  }
+
+  private static final class Target {
+    private final String tableName;
+    private final String attributeName;
+    private final boolean smile;
+
+    private Target(String tableName, String attributeName, boolean smile) {
+      this.tableName = tableName;
+      this.attributeName = attributeName;
+      this.smile = smile;
+    }
+  }
+}
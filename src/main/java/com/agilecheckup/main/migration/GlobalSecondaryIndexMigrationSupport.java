@@ -0,0 +1,146 @@
+package com.agilecheckup.main.migration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.*;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Reusable helper for migrations that add a Global Secondary Index to an existing table.
+ * <p>
+ * DynamoDB backfills a new GSI from the base table on its own, so the migration only has to issue the UpdateTable call,
+ * wait until the index becomes ACTIVE and report the items that will not be indexed because they lack one of the key
+ * attributes (sparse items).
+ */
+@Log4j2
+public class GlobalSecondaryIndexMigrationSupport {
+
+  private static final long POLL_INTERVAL_MS = 10_000;
+  private static final long MAX_WAIT_MS = 60 * 60 * 1000;
+
+  private final AmazonDynamoDB dynamoDBClient;
+
+  public GlobalSecondaryIndexMigrationSupport(AmazonDynamoDB dynamoDBClient) {
+    this.dynamoDBClient = dynamoDBClient;
+  }
+
+  public boolean indexExists(String tableName, String indexName) {
+    return findIndex(describe(tableName), indexName) != null;
+  }
+
+  /**
+   * Creates the index with an ALL projection when it does not exist yet and waits until it is ACTIVE.
+   *
+   * @param tableName    The base table
+   * @param indexName    The GSI name, matching the name used in the entity annotations
+   * @param hashKey      The GSI partition key attribute (string)
+   * @param rangeKey     The GSI sort key attribute (string), or null for a hash-only index
+   * @return true if the index was created, false if it already existed
+   */
+  public boolean createIndexIfMissing(String tableName, String indexName, String hashKey, String rangeKey) {
+    TableDescription table = describe(tableName);
+    if (findIndex(table, indexName) != null) {
+      log.info("Index {} already exists on table {}", indexName, tableName);
+      waitUntilActive(tableName, indexName);
+      return false;
+    }
+
+    List<KeySchemaElement> keySchema = new ArrayList<>();
+    keySchema.add(new KeySchemaElement(hashKey, KeyType.HASH));
+    List<AttributeDefinition> attributeDefinitions = new ArrayList<>();
+    attributeDefinitions.add(new AttributeDefinition(hashKey, ScalarAttributeType.S));
+    if (rangeKey != null) {
+      keySchema.add(new KeySchemaElement(rangeKey, KeyType.RANGE));
+      attributeDefinitions.add(new AttributeDefinition(rangeKey, ScalarAttributeType.S));
+    }
+
+    CreateGlobalSecondaryIndexAction createAction = new CreateGlobalSecondaryIndexAction().withIndexName(indexName)
+                                                                                          .withKeySchema(keySchema)
+                                                                                          .withProjection(new Projection().withProjectionType(ProjectionType.ALL));
+
+    if (!isOnDemand(table)) {
+      ProvisionedThroughputDescription throughput = table.getProvisionedThroughput();
+      createAction.setProvisionedThroughput(new ProvisionedThroughput(throughput.getReadCapacityUnits(), throughput.getWriteCapacityUnits()));
+    }
+
+    UpdateTableRequest updateRequest = new UpdateTableRequest().withTableName(tableName)
+                                                               .withAttributeDefinitions(attributeDefinitions)
+                                                               .withGlobalSecondaryIndexUpdates(new GlobalSecondaryIndexUpdate().withCreate(createAction));
+
+    log.info("Creating index {} on table {} ({}{})", indexName, tableName, hashKey, rangeKey != null ? ", " + rangeKey : "");
+    dynamoDBClient.updateTable(updateRequest);
+    waitUntilActive(tableName, indexName);
+    return true;
+  }
+
+  /**
+   * Counts the base-table items missing at least one of the given attributes. Those items are silently left out of a GSI
+   * keyed on them.
+   */
+  public long countItemsMissingAttributes(String tableName, String... attributeNames) {
+    Map<String, String> expressionAttributeNames = new HashMap<>();
+    List<String> conditions = new ArrayList<>();
+    for (int i = 0; i < attributeNames.length; i++) {
+      expressionAttributeNames.put("#a" + i, attributeNames[i]);
+      conditions.add("attribute_not_exists(#a" + i + ")");
+    }
+
+    ScanRequest scanRequest = new ScanRequest().withTableName(tableName)
+                                               .withSelect(Select.COUNT)
+                                               .withFilterExpression(String.join(" OR ", conditions))
+                                               .withExpressionAttributeNames(expressionAttributeNames);
+
+    long count = 0;
+    ScanResult result;
+    do {
+      result = dynamoDBClient.scan(scanRequest);
+      count += result.getCount();
+      scanRequest.setExclusiveStartKey(result.getLastEvaluatedKey());
+    } while (result.getLastEvaluatedKey() != null);
+    return count;
+  }
+
+  private void waitUntilActive(String tableName, String indexName) {
+    long deadline = System.currentTimeMillis() + MAX_WAIT_MS;
+    while (System.currentTimeMillis() < deadline) {
+      GlobalSecondaryIndexDescription index = findIndex(describe(tableName), indexName);
+      if (index != null && IndexStatus.ACTIVE.toString().equals(index.getIndexStatus()) && !Boolean.TRUE.equals(index.getBackfilling())) {
+        log.info("Index {} on table {} is ACTIVE ({} items indexed)", indexName, tableName, index.getItemCount());
+        return;
+      }
+      log.info("Waiting for index {} on table {} (status: {}, backfilling: {})", indexName, tableName, index != null ? index.getIndexStatus() : "UNKNOWN", index != null ? index.getBackfilling() : null);
+      try {
+        Thread.sleep(POLL_INTERVAL_MS);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while waiting for index " + indexName, e);
+      }
+    }
+    throw new RuntimeException("Timed out waiting for index " + indexName + " on table " + tableName);
+  }
+
+  private TableDescription describe(String tableName) {
+    return dynamoDBClient.describeTable(new DescribeTableRequest().withTableName(tableName)).getTable();
+  }
+
+  private static GlobalSecondaryIndexDescription findIndex(TableDescription table, String indexName) {
+    if (table.getGlobalSecondaryIndexes() == null) {
+      return null;
+    }
+    return table.getGlobalSecondaryIndexes()
+                .stream()
+                .filter(index -> indexName.equals(index.getIndexName()))
+                .findFirst()
+                .orElse(null);
+  }
+
+  private static boolean isOnDemand(TableDescription table) {
+    return table.getBillingModeSummary() != null && BillingMode.PAY_PER_REQUEST.toString().equals(table.getBillingModeSummary().getBillingMode());
+  }
+}
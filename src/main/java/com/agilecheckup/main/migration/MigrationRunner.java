@@ -31,6 +31,26 @@ public class MigrationRunner {
           AssessmentMatrixPillarV2Migration.main(migrationArgs);
           break;
 
+        case "QuestionMatrixIndexMigration":
+          QuestionMatrixIndexMigration.main(migrationArgs);
+          break;
+
+        case "AnswerQuestionIndexMigration":
+          AnswerQuestionIndexMigration.main(migrationArgs);
+          break;
+
+        case "BinaryJsonAttributeMigration":
+          BinaryJsonAttributeMigration.main(migrationArgs);
+          break;
+
+        case "AnswerQuestionSnapshotMigration":
+          AnswerQuestionSnapshotMigration.main(migrationArgs);
+          break;
+
+        case "AssessmentStatusHistogramMigration":
+          AssessmentStatusHistogramMigration.main(migrationArgs);
+          break;
+
         // Migration classes removed during V1 cleanup
         case "EmployeeAssessmentDataMigration":
         case "TeamDataMigration":
@@ -58,6 +78,11 @@ public class MigrationRunner {
     log.info("");
     log.info("Available migrations:");
     log.info("  AssessmentMatrixPillarV2Migration  - Migrate AssessmentMatrix pillarMap from V1 Map to V2 JSON format");
+    log.info("  QuestionMatrixIndexMigration       - Add assessmentMatrixId GSIs to the Question table");
+    log.info("  AnswerQuestionIndexMigration       - Add the employeeAssessmentId-questionId GSI to the Answer table");
+    log.info("  BinaryJsonAttributeMigration       - Rewrite large JSON string attributes as compressed binary");
+    log.info("  AnswerQuestionSnapshotMigration    - Replace the question embedded in answers with QuestionSnapshot references");
+    log.info("  AssessmentStatusHistogramMigration - Build the per-matrix assessment status histograms");
     log.info("  EmployeeAssessmentDataMigration    - Migrate EmployeeAssessment from embedded team to teamId");
     log.info("  TeamDataMigration                  - Migrate Team data structure");
     log.info("  EmployeeAssessmentStatusMigration  - Migrate EmployeeAssessment status fields");
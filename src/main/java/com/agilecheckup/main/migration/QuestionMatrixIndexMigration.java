@@ -0,0 +1,91 @@
+package com.agilecheckup.main.migration;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClientBuilder;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * One-time migration that adds the assessmentMatrixId GSIs to the Question table, so that QuestionRepository can query
+ * one matrix instead of scanning every question of every tenant.
+ * <p>
+ * Indexes created:
+ * <ul>
+ * <li>assessmentMatrixId-tenantId-index (assessmentMatrixId, tenantId) - used by findByAssessmentMatrixId</li>
+ * <li>assessmentMatrixId-categoryId-index (assessmentMatrixId, categoryId) - used by existsByCategoryId</li>
+ * </ul>
+ * DynamoDB backfills both indexes from the existing items. Questions missing one of the key attributes are reported,
+ * since they will not be returned by the new queries.
+ */
+@Log4j2
+public class QuestionMatrixIndexMigration {
+
+  private static final String QUESTION_TABLE_NAME = "Question";
+  static final String MATRIX_TENANT_INDEX = "assessmentMatrixId-tenantId-index";
+  static final String MATRIX_CATEGORY_INDEX = "assessmentMatrixId-categoryId-index";
+
+  private final GlobalSecondaryIndexMigrationSupport indexSupport;
+
+  public QuestionMatrixIndexMigration() {
+    this(AmazonDynamoDBClientBuilder.standard().build());
+  }
+
+  public QuestionMatrixIndexMigration(AmazonDynamoDB dynamoDBClient) {
+    this.indexSupport = new GlobalSecondaryIndexMigrationSupport(dynamoDBClient);
+  }
+
+  public void migrate(boolean dryRun) {
+    log.info("Starting Question assessmentMatrixId index migration...");
+
+    try {
+      long missingTenantKeys = indexSupport.countItemsMissingAttributes(QUESTION_TABLE_NAME, "assessmentMatrixId", "tenantId");
+      long missingCategoryKeys = indexSupport.countItemsMissingAttributes(QUESTION_TABLE_NAME, "assessmentMatrixId", "categoryId");
+
+      if (dryRun) {
+        log.info("Index {} exists: {}", MATRIX_TENANT_INDEX, indexSupport.indexExists(QUESTION_TABLE_NAME, MATRIX_TENANT_INDEX));
+        log.info("Index {} exists: {}", MATRIX_CATEGORY_INDEX, indexSupport.indexExists(QUESTION_TABLE_NAME, MATRIX_CATEGORY_INDEX));
+      }
+      else {
+        // DynamoDB accepts a single GSI creation per UpdateTable call, so the indexes are created one after the other
+        indexSupport.createIndexIfMissing(QUESTION_TABLE_NAME, MATRIX_TENANT_INDEX, "assessmentMatrixId", "tenantId");
+        indexSupport.createIndexIfMissing(QUESTION_TABLE_NAME, MATRIX_CATEGORY_INDEX, "assessmentMatrixId", "categoryId");
+      }
+
+      log.info("Migration completed!");
+      log.info("Questions not indexed in {} (missing assessmentMatrixId or tenantId): {}", MATRIX_TENANT_INDEX, missingTenantKeys);
+      log.info("Questions not indexed in {} (missing assessmentMatrixId or categoryId): {}", MATRIX_CATEGORY_INDEX, missingCategoryKeys);
+      if (missingTenantKeys > 0 || missingCategoryKeys > 0) {
+        log.warn("Some questions lack index key attributes and will not be returned by matrix queries. Fix them before switching traffic.");
+      }
+    }
+    catch (Exception e) {
+      log.error("Fatal error during migration: {}", e.getMessage(), e);
+      throw new RuntimeException("Migration failed", e);
+    }
+  }
+
+  public static void main(String[] args) {
+    log.info("=== Question assessmentMatrixId Index Migration Tool ===");
+
+    boolean dryRun = args.length > 0 && "--dry-run".equals(args[0]);
+    if (dryRun) {
+      log.info("DRY RUN MODE - No changes will be made");
+    }
+    else {
+      log.warn("This will add the {} and {} GSIs to the {} table.", MATRIX_TENANT_INDEX, MATRIX_CATEGORY_INDEX, QUESTION_TABLE_NAME);
+      log.warn("Index creation consumes write capacity while DynamoDB backfills the existing questions.");
+      log.info("Starting in 5 seconds... Press Ctrl+C to cancel");
+
+      try {
+        Thread.sleep(5000);
+      }
+      catch (InterruptedException e) {
+        log.info("Migration cancelled");
+        return;
+      }
+    }
+
+    QuestionMatrixIndexMigration migration = new QuestionMatrixIndexMigration();
+    migration.migrate(dryRun);
+  }
+}
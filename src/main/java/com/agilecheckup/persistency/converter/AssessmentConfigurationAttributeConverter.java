@@ -1,10 +1,9 @@
 package com.agilecheckup.persistency.converter;
 
+import com.agilecheckup.persistency.converter.codec.JsonCodec;
+import com.agilecheckup.persistency.converter.codec.JsonCodecs;
 import com.agilecheckup.persistency.entity.AssessmentConfiguration;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.util.StdDateFormat;
 
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
@@ -13,8 +12,7 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 public class AssessmentConfigurationAttributeConverter implements AttributeConverter<AssessmentConfiguration> {
 
-  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-                                                                      .setDateFormat(new StdDateFormat());
+  private static final JsonCodec<AssessmentConfiguration> CODEC = JsonCodecs.forType(AssessmentConfiguration.class);
 
   @Override
   public AttributeValue transformFrom(AssessmentConfiguration input) {
@@ -22,7 +20,7 @@ public class AssessmentConfigurationAttributeConverter implements AttributeConve
       return AttributeValue.builder().nul(true).build();
     }
     try {
-      String jsonString = OBJECT_MAPPER.writeValueAsString(input);
+      String jsonString = CODEC.encode(input);
       return AttributeValue.builder().s(jsonString).build();
     }
     catch (JsonProcessingException e) {
@@ -36,7 +34,7 @@ public class AssessmentConfigurationAttributeConverter implements AttributeConve
       return null;
     }
     try {
-      return OBJECT_MAPPER.readValue(input.s(), AssessmentConfiguration.class);
+      return CODEC.decode(input.s());
     }
     catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize AssessmentConfiguration", e);
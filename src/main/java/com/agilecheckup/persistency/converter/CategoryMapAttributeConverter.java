@@ -2,12 +2,11 @@ package com.agilecheckup.persistency.converter;
 
 import java.util.Map;
 
+import com.agilecheckup.persistency.converter.codec.JsonCodec;
+import com.agilecheckup.persistency.converter.codec.JsonCodecs;
 import com.agilecheckup.persistency.entity.Category;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.util.StdDateFormat;
 
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
@@ -16,10 +15,8 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 public class CategoryMapAttributeConverter implements AttributeConverter<Map<String, Category>> {
 
-  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-                                                                      .setDateFormat(new StdDateFormat());
-  private static final TypeReference<Map<String, Category>> TYPE_REFERENCE = new TypeReference<Map<String, Category>>() {
-  };
+  private static final JsonCodec<Map<String, Category>> CODEC = JsonCodecs.forType(new TypeReference<Map<String, Category>>() {
+  });
 
   @Override
   public AttributeValue transformFrom(Map<String, Category> input) {
@@ -27,7 +24,7 @@ public class CategoryMapAttributeConverter implements AttributeConverter<Map<Str
       return AttributeValue.builder().nul(true).build();
     }
     try {
-      String jsonString = OBJECT_MAPPER.writeValueAsString(input);
+      String jsonString = CODEC.encode(input);
       return AttributeValue.builder().s(jsonString).build();
     }
     catch (JsonProcessingException e) {
@@ -41,7 +38,7 @@ public class CategoryMapAttributeConverter implements AttributeConverter<Map<Str
       return null;
     }
     try {
-      return OBJECT_MAPPER.readValue(input.s(), TYPE_REFERENCE);
+      return CODEC.decode(input.s());
     }
     catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize Category map", e);
@@ -1,6 +1,11 @@
 package com.agilecheckup.persistency.converter;
 
+import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Date;
 
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
@@ -8,9 +13,19 @@ import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
 import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
+/**
+ * Stores a {@link Date} as {@code yyyy-MM-dd'T'HH:mm:ss.SSS'Z'}.
+ * <p>
+ * The format is kept byte-compatible with the values written by the previous {@link SimpleDateFormat} based
+ * implementation: the local time of the JVM default zone (UTC on Lambda) followed by a literal {@code Z}. The
+ * formatter is immutable and shared without locking. Values that do not match the exact pattern fall back to a
+ * lenient {@link SimpleDateFormat} created per call, as before.
+ */
 public class DateAttributeConverter implements AttributeConverter<Date> {
 
-  private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+  private static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+  private static final ZoneId ZONE = ZoneId.systemDefault();
+  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZONE);
 
   @Override
   public AttributeValue transformFrom(Date date) {
@@ -18,9 +33,7 @@ public class DateAttributeConverter implements AttributeConverter<Date> {
       return AttributeValue.builder().nul(true).build();
     }
 
-    synchronized (DATE_FORMAT) {
-      return AttributeValue.builder().s(DATE_FORMAT.format(date)).build();
-    }
+    return AttributeValue.builder().s(DATE_FORMATTER.format(date.toInstant())).build();
   }
 
   @Override
@@ -35,12 +48,10 @@ public class DateAttributeConverter implements AttributeConverter<Date> {
     }
 
     try {
-      synchronized (DATE_FORMAT) {
-        return DATE_FORMAT.parse(dateString);
-      }
+      return Date.from(LocalDateTime.parse(dateString, DATE_FORMATTER).atZone(ZONE).toInstant());
     }
-    catch (Exception e) {
-      throw new RuntimeException("Unable to parse date string: " + dateString, e);
+    catch (DateTimeParseException e) {
+      return parseLenient(dateString);
     }
   }
 
@@ -53,4 +64,13 @@ public class DateAttributeConverter implements AttributeConverter<Date> {
   public AttributeValueType attributeValueType() {
     return AttributeValueType.S;
   }
-}
\ No newline at end of file
+
+  private static Date parseLenient(String dateString) {
+    try {
+      return new SimpleDateFormat(PATTERN).parse(dateString);
+    }
+    catch (ParseException e) {
+      throw new RuntimeException("Unable to parse date string: " + dateString, e);
+    }
+  }
+}
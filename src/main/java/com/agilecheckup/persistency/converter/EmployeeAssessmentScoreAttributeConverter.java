@@ -1,10 +1,15 @@
 package com.agilecheckup.persistency.converter;
 
+import java.io.IOException;
+
+import com.agilecheckup.persistency.converter.codec.BinaryJsonFormat;
+import com.agilecheckup.persistency.converter.codec.JsonCodec;
+import com.agilecheckup.persistency.converter.codec.JsonCodecs;
 import com.agilecheckup.persistency.entity.EmployeeAssessmentScore;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
 import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
@@ -13,7 +18,17 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 @Slf4j
 public class EmployeeAssessmentScoreAttributeConverter implements AttributeConverter<EmployeeAssessmentScore> {
 
-  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final JsonCodec<EmployeeAssessmentScore> CODEC = JsonCodecs.forType(EmployeeAssessmentScore.class);
+
+  private final boolean binary;
+
+  public EmployeeAssessmentScoreAttributeConverter() {
+    this(BinaryJsonFormat.isEnabled());
+  }
+
+  EmployeeAssessmentScoreAttributeConverter(boolean binary) {
+    this.binary = binary;
+  }
 
   @Override
   public AttributeValue transformFrom(EmployeeAssessmentScore input) {
@@ -21,7 +36,10 @@ public class EmployeeAssessmentScoreAttributeConverter implements AttributeConve
       return AttributeValue.builder().nul(true).build();
     }
     try {
-      String json = OBJECT_MAPPER.writeValueAsString(input);
+      if (binary) {
+        return AttributeValue.builder().b(SdkBytes.fromByteArrayUnsafe(CODEC.encodeBinary(input))).build();
+      }
+      String json = CODEC.encode(input);
       return AttributeValue.builder().s(json).build();
     }
     catch (JsonProcessingException e) {
@@ -36,9 +54,12 @@ public class EmployeeAssessmentScoreAttributeConverter implements AttributeConve
       return null;
     }
     try {
-      return OBJECT_MAPPER.readValue(input.s(), EmployeeAssessmentScore.class);
+      if (input.b() != null) {
+        return CODEC.decodeBinary(input.b().asByteArrayUnsafe());
+      }
+      return CODEC.decode(input.s());
     }
-    catch (JsonProcessingException e) {
+    catch (IOException e) {
       log.error("Error converting JSON to EmployeeAssessmentScore", e);
       throw new RuntimeException("Error converting JSON to EmployeeAssessmentScore", e);
     }
@@ -51,6 +72,6 @@ public class EmployeeAssessmentScoreAttributeConverter implements AttributeConve
 
   @Override
   public AttributeValueType attributeValueType() {
-    return AttributeValueType.S;
+    return binary ? AttributeValueType.B : AttributeValueType.S;
   }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.agilecheckup.persistency.converter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.agilecheckup.persistency.converter.codec.BinaryJsonFormat;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Converter for attributes that hold a pre-serialized JSON document as a String.
+ * <p>
+ * When binary attributes are enabled the text is stored as compressed UTF-8 framed by {@link BinaryJsonFormat};
+ * otherwise it is stored as a plain string. Both representations are read.
+ */
+public class JsonTextAttributeConverter implements AttributeConverter<String> {
+
+  private final boolean binary;
+
+  public JsonTextAttributeConverter() {
+    this(BinaryJsonFormat.isEnabled());
+  }
+
+  JsonTextAttributeConverter(boolean binary) {
+    this.binary = binary;
+  }
+
+  @Override
+  public AttributeValue transformFrom(String input) {
+    if (input == null) {
+      return AttributeValue.builder().nul(true).build();
+    }
+    if (binary) {
+      byte[] framed = BinaryJsonFormat.frame(input.getBytes(StandardCharsets.UTF_8), false);
+      return AttributeValue.builder().b(SdkBytes.fromByteArrayUnsafe(framed)).build();
+    }
+    return AttributeValue.builder().s(input).build();
+  }
+
+  @Override
+  public String transformTo(AttributeValue input) {
+    if (input.nul() != null && input.nul()) {
+      return null;
+    }
+    if (input.b() == null) {
+      return input.s();
+    }
+
+    try {
+      return new String(BinaryJsonFormat.readBody(input.b().asByteArrayUnsafe()), StandardCharsets.UTF_8);
+    }
+    catch (IOException e) {
+      throw new RuntimeException("Failed to decode JSON text attribute", e);
+    }
+  }
+
+  @Override
+  public EnhancedType<String> type() {
+    return EnhancedType.of(String.class);
+  }
+
+  @Override
+  public AttributeValueType attributeValueType() {
+    return binary ? AttributeValueType.B : AttributeValueType.S;
+  }
+}
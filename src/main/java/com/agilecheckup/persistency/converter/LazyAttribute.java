@@ -0,0 +1,97 @@
+package com.agilecheckup.persistency.converter;
+
+import java.util.Objects;
+
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Holder for an entity attribute that is stored as an embedded JSON document and decoded on first access.
+ * <p>
+ * A holder read from DynamoDB keeps the raw {@link AttributeValue} and only runs the delegate converter when
+ * {@link #get()} is called. Until then, writing the entity back reuses the raw value as-is, so items that are loaded and
+ * saved without touching the attribute never pay the Jackson cost. Once the value has been materialized it is
+ * considered dirty, because the decoded objects are mutable and callers update them in place, and it is encoded again on
+ * write.
+ * <p>
+ * Like the entities that own them, holders are not thread-safe.
+ */
+public final class LazyAttribute<T> {
+
+  private final AttributeConverter<T> converter;
+  private AttributeValue raw;
+  private T value;
+
+  private LazyAttribute(AttributeConverter<T> converter, AttributeValue raw, T value) {
+    this.converter = converter;
+    this.raw = raw;
+    this.value = value;
+  }
+
+  /**
+   * Wraps a value set by application code. It is encoded on write.
+   */
+  public static <T> LazyAttribute<T> of(T value) {
+    return value == null ? null : new LazyAttribute<>(null, null, value);
+  }
+
+  static <T> LazyAttribute<T> ofRaw(AttributeValue raw, AttributeConverter<T> converter) {
+    return new LazyAttribute<>(converter, raw, null);
+  }
+
+  /**
+   * Returns the value of the holder, or null for a null holder.
+   */
+  public static <T> T valueOf(LazyAttribute<T> attribute) {
+    return attribute == null ? null : attribute.get();
+  }
+
+  public T get() {
+    if (raw != null) {
+      value = converter.transformTo(raw);
+      raw = null;
+    }
+    return value;
+  }
+
+  public boolean isMaterialized() {
+    return raw == null;
+  }
+
+  AttributeValue toAttributeValue(AttributeConverter<T> writeConverter) {
+    if (raw != null) {
+      return raw;
+    }
+    return writeConverter.transformFrom(value);
+  }
+
+  /**
+   * Two holders that are both still raw compare their raw values, without decoding. Otherwise the values are compared,
+   * decoding a raw side without materializing it, so comparing never marks a holder dirty.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof LazyAttribute)) return false;
+    LazyAttribute<?> other = (LazyAttribute<?>) o;
+    if (raw != null && other.raw != null && raw.equals(other.raw)) return true;
+    return Objects.equals(peek(), other.peek());
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(peek());
+  }
+
+  /**
+   * The value, decoded without being kept if the holder is still raw.
+   */
+  private T peek() {
+    return raw != null ? converter.transformTo(raw) : value;
+  }
+
+  @Override
+  public String toString() {
+    return isMaterialized() ? String.valueOf(value) : "LazyAttribute(not decoded)";
+  }
+}
@@ -0,0 +1,47 @@
+package com.agilecheckup.persistency.converter;
+
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Base converter for {@link LazyAttribute} properties. Reading wraps the raw value without decoding it; writing returns
+ * the raw value of untouched holders and delegates to the wrapped converter otherwise.
+ */
+public abstract class LazyAttributeConverter<T> implements AttributeConverter<LazyAttribute<T>> {
+
+  private final AttributeConverter<T> delegate;
+  private final EnhancedType<LazyAttribute<T>> type;
+
+  protected LazyAttributeConverter(AttributeConverter<T> delegate, EnhancedType<LazyAttribute<T>> type) {
+    this.delegate = delegate;
+    this.type = type;
+  }
+
+  @Override
+  public AttributeValue transformFrom(LazyAttribute<T> input) {
+    if (input == null) {
+      return AttributeValue.builder().nul(true).build();
+    }
+    return input.toAttributeValue(delegate);
+  }
+
+  @Override
+  public LazyAttribute<T> transformTo(AttributeValue input) {
+    if (input.nul() != null && input.nul()) {
+      return null;
+    }
+    return LazyAttribute.ofRaw(input, delegate);
+  }
+
+  @Override
+  public EnhancedType<LazyAttribute<T>> type() {
+    return type;
+  }
+
+  @Override
+  public AttributeValueType attributeValueType() {
+    return delegate.attributeValueType();
+  }
+}
@@ -0,0 +1,13 @@
+package com.agilecheckup.persistency.converter;
+
+import com.agilecheckup.persistency.entity.EmployeeAssessmentScore;
+
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+
+public class LazyEmployeeAssessmentScoreAttributeConverter extends LazyAttributeConverter<EmployeeAssessmentScore> {
+
+  public LazyEmployeeAssessmentScoreAttributeConverter() {
+    super(new EmployeeAssessmentScoreAttributeConverter(), new EnhancedType<LazyAttribute<EmployeeAssessmentScore>>() {
+    });
+  }
+}
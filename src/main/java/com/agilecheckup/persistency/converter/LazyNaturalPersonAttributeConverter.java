@@ -0,0 +1,13 @@
+package com.agilecheckup.persistency.converter;
+
+import com.agilecheckup.persistency.entity.person.NaturalPerson;
+
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+
+public class LazyNaturalPersonAttributeConverter extends LazyAttributeConverter<NaturalPerson> {
+
+  public LazyNaturalPersonAttributeConverter() {
+    super(new NaturalPersonAttributeConverter(), new EnhancedType<LazyAttribute<NaturalPerson>>() {
+    });
+  }
+}
@@ -0,0 +1,13 @@
+package com.agilecheckup.persistency.converter;
+
+import com.agilecheckup.persistency.entity.question.Question;
+
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+
+public class LazyQuestionAttributeConverter extends LazyAttributeConverter<Question> {
+
+  public LazyQuestionAttributeConverter() {
+    super(new QuestionAttributeConverter(), new EnhancedType<LazyAttribute<Question>>() {
+    });
+  }
+}
@@ -1,8 +1,9 @@
 package com.agilecheckup.persistency.converter;
 
+import com.agilecheckup.persistency.converter.codec.JsonCodec;
+import com.agilecheckup.persistency.converter.codec.JsonCodecs;
 import com.agilecheckup.persistency.entity.person.NaturalPerson;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
@@ -11,7 +12,7 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 public class NaturalPersonAttributeConverter implements AttributeConverter<NaturalPerson> {
 
-  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final JsonCodec<NaturalPerson> CODEC = JsonCodecs.forType(NaturalPerson.class);
 
   @Override
   public AttributeValue transformFrom(NaturalPerson input) {
@@ -20,7 +21,7 @@ public class NaturalPersonAttributeConverter implements AttributeConverter<Natur
     }
 
     try {
-      String json = OBJECT_MAPPER.writeValueAsString(input);
+      String json = CODEC.encode(input);
       return AttributeValue.builder().s(json).build();
     }
     catch (JsonProcessingException e) {
@@ -40,7 +41,7 @@ public class NaturalPersonAttributeConverter implements AttributeConverter<Natur
     }
 
     try {
-      return OBJECT_MAPPER.readValue(content, NaturalPerson.class);
+      return CODEC.decode(content);
     }
     catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize NaturalPerson", e);
@@ -1,8 +1,9 @@
 package com.agilecheckup.persistency.converter;
 
+import com.agilecheckup.persistency.converter.codec.JsonCodec;
+import com.agilecheckup.persistency.converter.codec.JsonCodecs;
 import com.agilecheckup.persistency.entity.question.OptionGroup;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
@@ -15,7 +16,7 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
  */
 public class OptionGroupAttributeConverter implements AttributeConverter<OptionGroup> {
 
-  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final JsonCodec<OptionGroup> CODEC = JsonCodecs.forType(OptionGroup.class);
 
   @Override
   public AttributeValue transformFrom(OptionGroup input) {
@@ -24,7 +25,7 @@ public class OptionGroupAttributeConverter implements AttributeConverter<OptionG
     }
 
     try {
-      String json = OBJECT_MAPPER.writeValueAsString(input);
+      String json = CODEC.encode(input);
       return AttributeValue.builder().s(json).build();
     }
     catch (JsonProcessingException e) {
@@ -44,7 +45,7 @@ public class OptionGroupAttributeConverter implements AttributeConverter<OptionG
     }
 
     try {
-      return OBJECT_MAPPER.readValue(content, OptionGroup.class);
+      return CODEC.decode(content);
     }
     catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize OptionGroup", e);
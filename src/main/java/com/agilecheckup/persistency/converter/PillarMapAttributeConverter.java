@@ -1,14 +1,16 @@
 package com.agilecheckup.persistency.converter;
 
+import java.io.IOException;
 import java.util.Map;
 
+import com.agilecheckup.persistency.converter.codec.BinaryJsonFormat;
+import com.agilecheckup.persistency.converter.codec.JsonCodec;
+import com.agilecheckup.persistency.converter.codec.JsonCodecs;
 import com.agilecheckup.persistency.entity.Pillar;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.util.StdDateFormat;
 
+import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
 import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
@@ -16,10 +18,18 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 public class PillarMapAttributeConverter implements AttributeConverter<Map<String, Pillar>> {
 
-  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-                                                                      .setDateFormat(new StdDateFormat());
-  private static final TypeReference<Map<String, Pillar>> TYPE_REFERENCE = new TypeReference<Map<String, Pillar>>() {
-  };
+  private static final JsonCodec<Map<String, Pillar>> CODEC = JsonCodecs.forType(new TypeReference<Map<String, Pillar>>() {
+  });
+
+  private final boolean binary;
+
+  public PillarMapAttributeConverter() {
+    this(BinaryJsonFormat.isEnabled());
+  }
+
+  PillarMapAttributeConverter(boolean binary) {
+    this.binary = binary;
+  }
 
   @Override
   public AttributeValue transformFrom(Map<String, Pillar> input) {
@@ -27,7 +37,10 @@ public class PillarMapAttributeConverter implements AttributeConverter<Map<Strin
       return AttributeValue.builder().nul(true).build();
     }
     try {
-      String jsonString = OBJECT_MAPPER.writeValueAsString(input);
+      if (binary) {
+        return AttributeValue.builder().b(SdkBytes.fromByteArrayUnsafe(CODEC.encodeBinary(input))).build();
+      }
+      String jsonString = CODEC.encode(input);
       return AttributeValue.builder().s(jsonString).build();
     }
     catch (JsonProcessingException e) {
@@ -41,9 +54,12 @@ public class PillarMapAttributeConverter implements AttributeConverter<Map<Strin
       return null;
     }
     try {
-      return OBJECT_MAPPER.readValue(input.s(), TYPE_REFERENCE);
+      if (input.b() != null) {
+        return CODEC.decodeBinary(input.b().asByteArrayUnsafe());
+      }
+      return CODEC.decode(input.s());
     }
-    catch (JsonProcessingException e) {
+    catch (IOException e) {
       throw new RuntimeException("Failed to deserialize Pillar map", e);
     }
   }
@@ -55,6 +71,6 @@ public class PillarMapAttributeConverter implements AttributeConverter<Map<Strin
 
   @Override
   public AttributeValueType attributeValueType() {
-    return AttributeValueType.S;
+    return binary ? AttributeValueType.B : AttributeValueType.S;
   }
 }
\ No newline at end of file
@@ -1,11 +1,14 @@
 package com.agilecheckup.persistency.converter;
 
+import java.io.IOException;
+
+import com.agilecheckup.persistency.converter.codec.BinaryJsonFormat;
+import com.agilecheckup.persistency.converter.codec.JsonCodec;
+import com.agilecheckup.persistency.converter.codec.JsonCodecs;
 import com.agilecheckup.persistency.entity.score.PotentialScore;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.util.StdDateFormat;
 
+import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
 import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
@@ -13,8 +16,17 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 public class PotentialScoreAttributeConverter implements AttributeConverter<PotentialScore> {
 
-  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-                                                                      .setDateFormat(new StdDateFormat());
+  private static final JsonCodec<PotentialScore> CODEC = JsonCodecs.forType(PotentialScore.class);
+
+  private final boolean binary;
+
+  public PotentialScoreAttributeConverter() {
+    this(BinaryJsonFormat.isEnabled());
+  }
+
+  PotentialScoreAttributeConverter(boolean binary) {
+    this.binary = binary;
+  }
 
   @Override
   public AttributeValue transformFrom(PotentialScore input) {
@@ -22,7 +34,10 @@ public class PotentialScoreAttributeConverter implements AttributeConverter<Pote
       return AttributeValue.builder().nul(true).build();
     }
     try {
-      String jsonString = OBJECT_MAPPER.writeValueAsString(input);
+      if (binary) {
+        return AttributeValue.builder().b(SdkBytes.fromByteArrayUnsafe(CODEC.encodeBinary(input))).build();
+      }
+      String jsonString = CODEC.encode(input);
       return AttributeValue.builder().s(jsonString).build();
     }
     catch (JsonProcessingException e) {
@@ -36,15 +51,18 @@ public class PotentialScoreAttributeConverter implements AttributeConverter<Pote
       return null;
     }
 
-    String content = input.s();
-    if (content == null || content.trim().isEmpty()) {
-      return null;
-    }
-
     try {
-      return OBJECT_MAPPER.readValue(content, PotentialScore.class);
+      if (input.b() != null) {
+        return CODEC.decodeBinary(input.b().asByteArrayUnsafe());
+      }
+
+      String content = input.s();
+      if (content == null || content.trim().isEmpty()) {
+        return null;
+      }
+      return CODEC.decode(content);
     }
-    catch (JsonProcessingException e) {
+    catch (IOException e) {
       throw new RuntimeException("Failed to deserialize PotentialScore", e);
     }
   }
@@ -56,6 +74,6 @@ public class PotentialScoreAttributeConverter implements AttributeConverter<Pote
 
   @Override
   public AttributeValueType attributeValueType() {
-    return AttributeValueType.S;
+    return binary ? AttributeValueType.B : AttributeValueType.S;
   }
 }
\ No newline at end of file
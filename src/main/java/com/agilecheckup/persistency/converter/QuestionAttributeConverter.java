@@ -1,10 +1,9 @@
 package com.agilecheckup.persistency.converter;
 
+import com.agilecheckup.persistency.converter.codec.JsonCodec;
+import com.agilecheckup.persistency.converter.codec.JsonCodecs;
 import com.agilecheckup.persistency.entity.question.Question;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
@@ -17,14 +16,7 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
  */
 public class QuestionAttributeConverter implements AttributeConverter<Question> {
 
-  private static final ObjectMapper OBJECT_MAPPER = createObjectMapper();
-
-  private static ObjectMapper createObjectMapper() {
-    ObjectMapper mapper = new ObjectMapper();
-    mapper.registerModule(new JavaTimeModule());
-    mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-    return mapper;
-  }
+  private static final JsonCodec<Question> CODEC = JsonCodecs.forType(Question.class);
 
   @Override
   public AttributeValue transformFrom(Question input) {
@@ -33,7 +25,7 @@ public class QuestionAttributeConverter implements AttributeConverter<Question>
     }
 
     try {
-      String json = OBJECT_MAPPER.writeValueAsString(input);
+      String json = CODEC.encode(input);
       return AttributeValue.builder().s(json).build();
     }
     catch (JsonProcessingException e) {
@@ -53,7 +45,7 @@ public class QuestionAttributeConverter implements AttributeConverter<Question>
     }
 
     try {
-      return OBJECT_MAPPER.readValue(content, Question.class);
+      return CODEC.decode(content);
     }
     catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize Question", e);
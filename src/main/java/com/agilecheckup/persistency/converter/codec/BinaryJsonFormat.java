@@ -0,0 +1,103 @@
+package com.agilecheckup.persistency.converter.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+/**
+ * Framing of JSON documents stored as binary ({@code B}) attributes.
+ * <p>
+ * A framed value starts with a three byte header: the magic byte {@code 0xAC}, the format version and a flags byte
+ * telling whether the body is Smile or UTF-8 JSON text and whether it is gzip compressed. Bodies below
+ * {@value #COMPRESSION_THRESHOLD} bytes, or that do not shrink, are stored uncompressed.
+ * <p>
+ * Writing binary attributes is opt-in through the {@value #ENABLED_ENV} environment variable; converters read both the
+ * binary and the legacy JSON string representation regardless of the setting.
+ */
+public final class BinaryJsonFormat {
+
+  public static final String ENABLED_ENV = "BINARY_JSON_ATTRIBUTES";
+
+  static final byte MAGIC = (byte) 0xAC;
+  static final byte VERSION = 1;
+  static final int FLAG_SMILE = 1;
+  static final int FLAG_GZIP = 1 << 1;
+  static final int HEADER_LENGTH = 3;
+  static final int COMPRESSION_THRESHOLD = 512;
+
+  private static final boolean ENABLED = Boolean.parseBoolean(System.getenv(ENABLED_ENV));
+
+  private BinaryJsonFormat() {
+  }
+
+  public static boolean isEnabled() {
+    return ENABLED;
+  }
+
+  /**
+   * Adds the header to the body, compressing it when worthwhile.
+   */
+  public static byte[] frame(byte[] body, boolean smile) {
+    int flags = smile ? FLAG_SMILE : 0;
+    byte[] payload = body;
+    if (body.length >= COMPRESSION_THRESHOLD) {
+      byte[] compressed = gzip(body);
+      if (compressed.length < body.length) {
+        payload = compressed;
+        flags |= FLAG_GZIP;
+      }
+    }
+
+    byte[] framed = new byte[HEADER_LENGTH + payload.length];
+    framed[0] = MAGIC;
+    framed[1] = VERSION;
+    framed[2] = (byte) flags;
+    System.arraycopy(payload, 0, framed, HEADER_LENGTH, payload.length);
+    return framed;
+  }
+
+  public static boolean isSmile(byte[] framed) throws IOException {
+    return (flags(framed) & FLAG_SMILE) != 0;
+  }
+
+  /**
+   * Returns the body of a framed value, decompressing it if needed.
+   */
+  public static InputStream openBody(byte[] framed) throws IOException {
+    int flags = flags(framed);
+    InputStream body = new ByteArrayInputStream(framed, HEADER_LENGTH, framed.length - HEADER_LENGTH);
+    return (flags & FLAG_GZIP) != 0 ? new GZIPInputStream(body) : body;
+  }
+
+  public static byte[] readBody(byte[] framed) throws IOException {
+    try (InputStream body = openBody(framed)) {
+      return body.readAllBytes();
+    }
+  }
+
+  private static int flags(byte[] framed) throws IOException {
+    if (framed.length < HEADER_LENGTH || framed[0] != MAGIC) {
+      throw new JsonParseException(null, "Binary attribute does not start with the expected header");
+    }
+    if (framed[1] != VERSION) {
+      throw new JsonParseException(null, "Unsupported binary attribute version " + framed[1]);
+    }
+    return framed[2];
+  }
+
+  private static byte[] gzip(byte[] body) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 32);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(body);
+    }
+    catch (IOException e) {
+      throw new IllegalStateException("Failed to compress binary attribute", e);
+    }
+    return out.toByteArray();
+  }
+}
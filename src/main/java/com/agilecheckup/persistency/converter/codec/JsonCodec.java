@@ -0,0 +1,122 @@
+package com.agilecheckup.persistency.converter.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * JSON encoder/decoder for one type, obtained from {@link JsonCodecs}.
+ * <p>
+ * The reader is bound to the type once, so decoding skips the per-call type resolution of
+ * {@code ObjectMapper.readValue}. The writer serializes by runtime type, exactly like {@code writeValueAsString}, so
+ * subclass properties are kept. {@link #encodeBinary(Object)} writes the same document as Smile framed by
+ * {@link BinaryJsonFormat}; {@link #decodeBinary(byte[])} also accepts framed JSON text. Every call records its
+ * duration and the size of the encoded form (characters for JSON, bytes for binary).
+ */
+public final class JsonCodec<T> {
+
+  private final String name;
+  private final ObjectReader reader;
+  private final ObjectWriter writer;
+  private final ObjectReader smileReader;
+  private final ObjectWriter smileWriter;
+
+  private final LongAdder encodeCount = new LongAdder();
+  private final LongAdder encodeNanos = new LongAdder();
+  private final LongAdder encodedSize = new LongAdder();
+  private final LongAdder decodeCount = new LongAdder();
+  private final LongAdder decodeNanos = new LongAdder();
+  private final LongAdder decodedSize = new LongAdder();
+
+  JsonCodec(String name, ObjectReader reader, ObjectWriter writer, ObjectReader smileReader, ObjectWriter smileWriter) {
+    this.name = name;
+    this.reader = reader;
+    this.writer = writer;
+    this.smileReader = smileReader;
+    this.smileWriter = smileWriter;
+  }
+
+  public String encode(T value) throws JsonProcessingException {
+    long start = System.nanoTime();
+    String json = writer.writeValueAsString(value);
+    recordEncode(start, json.length());
+    return json;
+  }
+
+  public byte[] encodeBinary(T value) throws JsonProcessingException {
+    long start = System.nanoTime();
+    byte[] framed = BinaryJsonFormat.frame(smileWriter.writeValueAsBytes(value), true);
+    recordEncode(start, framed.length);
+    return framed;
+  }
+
+  public T decode(String json) throws JsonProcessingException {
+    long start = System.nanoTime();
+    T value = reader.readValue(json);
+    recordDecode(start, json.length());
+    return value;
+  }
+
+  public T decodeBinary(byte[] framed) throws IOException {
+    long start = System.nanoTime();
+    T value;
+    try (InputStream body = BinaryJsonFormat.openBody(framed)) {
+      value = (BinaryJsonFormat.isSmile(framed) ? smileReader : reader).readValue(body);
+    }
+    recordDecode(start, framed.length);
+    return value;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long getEncodeCount() {
+    return encodeCount.sum();
+  }
+
+  public long getEncodeNanos() {
+    return encodeNanos.sum();
+  }
+
+  public long getEncodedSize() {
+    return encodedSize.sum();
+  }
+
+  public long getDecodeCount() {
+    return decodeCount.sum();
+  }
+
+  public long getDecodeNanos() {
+    return decodeNanos.sum();
+  }
+
+  public long getDecodedSize() {
+    return decodedSize.sum();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: encode count=%d avgMicros=%.1f avgSize=%d, decode count=%d avgMicros=%.1f avgSize=%d", name, getEncodeCount(), average(getEncodeNanos(), getEncodeCount()) / 1_000.0, (long) average(getEncodedSize(), getEncodeCount()), getDecodeCount(), average(getDecodeNanos(), getDecodeCount()) / 1_000.0, (long) average(getDecodedSize(), getDecodeCount()));
+  }
+
+  private void recordEncode(long start, long size) {
+    encodeNanos.add(System.nanoTime() - start);
+    encodeCount.increment();
+    encodedSize.add(size);
+  }
+
+  private void recordDecode(long start, long size) {
+    decodeNanos.add(System.nanoTime() - start);
+    decodeCount.increment();
+    decodedSize.add(size);
+  }
+
+  private static double average(long total, long count) {
+    return count == 0 ? 0.0 : (double) total / count;
+  }
+}
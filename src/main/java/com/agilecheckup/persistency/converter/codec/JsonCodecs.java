@@ -0,0 +1,112 @@
+package com.agilecheckup.persistency.converter.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Process-wide registry of {@link JsonCodec}s sharing one configured {@link ObjectMapper} and its Smile counterpart.
+ * <p>
+ * Attribute converters are instantiated by the enhanced client, outside of the Dagger graph, so the registry is static.
+ * The mapper writes dates as ISO-8601 strings and supports {@code java.time} types; none of the stored types has a
+ * {@link java.util.Date} property, so the JSON is the same as the per-converter mappers produced before. Setting the
+ * {@value #BLACKBIRD_ENV} environment variable to {@code true} registers the Blackbird module, which replaces
+ * reflective property access with generated lambdas.
+ */
+@Slf4j
+public final class JsonCodecs {
+
+  public static final String BLACKBIRD_ENV = "JSON_CODEC_BLACKBIRD";
+
+  private static final boolean BLACKBIRD = Boolean.parseBoolean(System.getenv(BLACKBIRD_ENV));
+  private static final ObjectMapper MAPPER = createMapper(BLACKBIRD);
+  private static final ObjectMapper SMILE_MAPPER = createSmileMapper(BLACKBIRD);
+  private static final ConcurrentMap<JavaType, JsonCodec<?>> CODECS = new ConcurrentHashMap<>();
+
+  private JsonCodecs() {
+  }
+
+  public static <T> JsonCodec<T> forType(Class<T> type) {
+    return forType(MAPPER.constructType(type));
+  }
+
+  public static <T> JsonCodec<T> forType(TypeReference<T> type) {
+    return forType(MAPPER.constructType(type));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> JsonCodec<T> forType(JavaType type) {
+    return (JsonCodec<T>) CODECS.computeIfAbsent(type, key -> createCodec(MAPPER, SMILE_MAPPER, key));
+  }
+
+  public static List<JsonCodec<?>> codecs() {
+    return new ArrayList<>(CODECS.values());
+  }
+
+  public static void logStats() {
+    CODECS.values().forEach(codec -> log.info("JSON codec {}", codec));
+  }
+
+  /**
+   * Returns the shared mapper, for callers that need tree access rather than a typed codec.
+   */
+  public static ObjectMapper mapper() {
+    return MAPPER;
+  }
+
+  public static ObjectMapper smileMapper() {
+    return SMILE_MAPPER;
+  }
+
+  @VisibleForTesting
+  static ObjectMapper createMapper(boolean blackbird) {
+    return configure(new ObjectMapper(), blackbird);
+  }
+
+  @VisibleForTesting
+  static ObjectMapper createSmileMapper(boolean blackbird) {
+    return configure(SmileMapper.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build(), blackbird);
+  }
+
+  private static ObjectMapper configure(ObjectMapper mapper, boolean blackbird) {
+    mapper.registerModule(new JavaTimeModule());
+    if (blackbird) {
+      mapper.registerModule(new BlackbirdModule());
+    }
+    mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    mapper.setDateFormat(new StdDateFormat());
+    return mapper;
+  }
+
+  @VisibleForTesting
+  static <T> JsonCodec<T> createCodec(ObjectMapper mapper, ObjectMapper smileMapper, JavaType type) {
+    return new JsonCodec<>(displayName(type), mapper.readerFor(type), mapper.writer(), smileMapper.readerFor(type), smileMapper.writer());
+  }
+
+  private static String displayName(JavaType type) {
+    String name = type.getRawClass().getSimpleName();
+    if (type.containedTypeCount() == 0) {
+      return name;
+    }
+    List<String> parameters = new ArrayList<>();
+    for (int i = 0; i < type.containedTypeCount(); i++) {
+      parameters.add(displayName(type.containedType(i)));
+    }
+    return parameters.stream().collect(Collectors.joining(", ", name + "<", ">"));
+  }
+}
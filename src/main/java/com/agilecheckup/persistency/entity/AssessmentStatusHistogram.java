@@ -0,0 +1,127 @@
+package com.agilecheckup.persistency.entity;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.agilecheckup.persistency.entity.base.TenantableEntity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+
+/**
+ * Number of employee assessments of an {@link AssessmentMatrix} in each {@link AssessmentStatus}, stored under the id
+ * of the matrix and maintained with atomic counter updates on every status transition, so completion checks and
+ * progress bars read one item instead of the matrix partition of the EmployeeAssessment index.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@DynamoDbBean
+public class AssessmentStatusHistogram extends TenantableEntity {
+
+  @Builder.Default
+  @Getter(onMethod_ = @__({@DynamoDbAttribute("invitedCount")}))
+  private Long invitedCount = 0L;
+
+  @Builder.Default
+  @Getter(onMethod_ = @__({@DynamoDbAttribute("confirmedCount")}))
+  private Long confirmedCount = 0L;
+
+  @Builder.Default
+  @Getter(onMethod_ = @__({@DynamoDbAttribute("inProgressCount")}))
+  private Long inProgressCount = 0L;
+
+  @Builder.Default
+  @Getter(onMethod_ = @__({@DynamoDbAttribute("completedCount")}))
+  private Long completedCount = 0L;
+
+  public static AssessmentStatusHistogram of(String assessmentMatrixId, String tenantId, Map<AssessmentStatus, Long> counts) {
+    return AssessmentStatusHistogram.builder()
+                                    .id(assessmentMatrixId)
+                                    .tenantId(tenantId)
+                                    .invitedCount(counts.getOrDefault(AssessmentStatus.INVITED, 0L))
+                                    .confirmedCount(counts.getOrDefault(AssessmentStatus.CONFIRMED, 0L))
+                                    .inProgressCount(counts.getOrDefault(AssessmentStatus.IN_PROGRESS, 0L))
+                                    .completedCount(counts.getOrDefault(AssessmentStatus.COMPLETED, 0L))
+                                    .build();
+  }
+
+  /**
+   * The attribute holding the count of the given status.
+   */
+  public static String countAttribute(AssessmentStatus status) {
+    switch (status) {
+      case INVITED:
+        return "invitedCount";
+      case CONFIRMED:
+        return "confirmedCount";
+      case IN_PROGRESS:
+        return "inProgressCount";
+      case COMPLETED:
+        return "completedCount";
+      default:
+        throw new IllegalArgumentException("Unknown assessment status " + status);
+    }
+  }
+
+  public long count(AssessmentStatus status) {
+    Long count;
+    switch (status) {
+      case INVITED:
+        count = invitedCount;
+        break;
+      case CONFIRMED:
+        count = confirmedCount;
+        break;
+      case IN_PROGRESS:
+        count = inProgressCount;
+        break;
+      case COMPLETED:
+        count = completedCount;
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown assessment status " + status);
+    }
+    return count == null ? 0L : count;
+  }
+
+  /**
+   * True if no count went below zero. A negative count means transitions were lost or applied twice, so the histogram
+   * no longer matches the assessments and must not be trusted until it is rebuilt.
+   */
+  public boolean isConsistent() {
+    return counts().values().stream().allMatch(count -> count >= 0);
+  }
+
+  public Map<AssessmentStatus, Long> counts() {
+    Map<AssessmentStatus, Long> counts = new EnumMap<>(AssessmentStatus.class);
+    for (AssessmentStatus status : AssessmentStatus.values()) {
+      counts.put(status, count(status));
+    }
+    return counts;
+  }
+
+  public long total() {
+    return counts().values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  public long nonCompleted() {
+    return total() - count(AssessmentStatus.COMPLETED);
+  }
+
+  /**
+   * True if the matrix has assessments and all of them are completed.
+   */
+  public boolean allCompleted() {
+    return count(AssessmentStatus.COMPLETED) > 0 && nonCompleted() == 0;
+  }
+}
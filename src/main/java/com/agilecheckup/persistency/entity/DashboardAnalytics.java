@@ -4,6 +4,7 @@ import java.io.Serializable;
 import java.time.Instant;
 
 import com.agilecheckup.persistency.converter.InstantAttributeConverter;
+import com.agilecheckup.persistency.converter.JsonTextAttributeConverter;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -73,6 +74,6 @@ public class DashboardAnalytics implements Serializable {
   @Getter(onMethod_ = @__({@DynamoDbAttribute("lastUpdated"), @DynamoDbConvertedBy(InstantAttributeConverter.class)}))
   private Instant lastUpdated;
 
-  @Getter(onMethod_ = @__(@DynamoDbAttribute("analyticsDataJson")))
+  @Getter(onMethod_ = @__({@DynamoDbAttribute("analyticsDataJson"), @DynamoDbConvertedBy(JsonTextAttributeConverter.class)}))
   private String analyticsDataJson;
 }
\ No newline at end of file
@@ -6,11 +6,14 @@ import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
 
 import com.agilecheckup.persistency.converter.DateAttributeConverter;
-import com.agilecheckup.persistency.converter.EmployeeAssessmentScoreAttributeConverter;
-import com.agilecheckup.persistency.converter.NaturalPersonAttributeConverter;
+import com.agilecheckup.persistency.converter.LazyAttribute;
+import com.agilecheckup.persistency.converter.LazyEmployeeAssessmentScoreAttributeConverter;
+import com.agilecheckup.persistency.converter.LazyNaturalPersonAttributeConverter;
 import com.agilecheckup.persistency.entity.base.TenantableEntity;
 import com.agilecheckup.persistency.entity.person.NaturalPerson;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,11 +21,13 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbConvertedBy;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbIgnore;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
 
@@ -39,14 +44,22 @@ public class EmployeeAssessment extends TenantableEntity {
   @Getter(onMethod_ = @__({@DynamoDbAttribute("assessmentMatrixId"), @DynamoDbSecondaryPartitionKey(indexNames = {"assessmentMatrixId-employeeEmail-index"})}))
   private String assessmentMatrixId;
 
-  @Getter(onMethod_ = @__({@DynamoDbAttribute("employee"), @DynamoDbConvertedBy(NaturalPersonAttributeConverter.class)}))
-  private NaturalPerson employee;
+  /**
+   * Decoded on first access through {@link #getEmployee()}; see {@link LazyAttribute}.
+   */
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private LazyAttribute<NaturalPerson> employee;
 
   @Getter(onMethod_ = @__({@DynamoDbAttribute("teamId")}))
   private String teamId;
 
-  @Getter(onMethod_ = @__({@DynamoDbAttribute("employeeAssessmentScore"), @DynamoDbConvertedBy(EmployeeAssessmentScoreAttributeConverter.class)}))
-  private EmployeeAssessmentScore employeeAssessmentScore;
+  /**
+   * Decoded on first access through {@link #getEmployeeAssessmentScore()}; see {@link LazyAttribute}.
+   */
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private LazyAttribute<EmployeeAssessmentScore> employeeAssessmentScore;
 
   @Builder.Default
   @Getter(onMethod_ = @__({@DynamoDbAttribute("assessmentStatus")}))
@@ -62,12 +75,24 @@ public class EmployeeAssessment extends TenantableEntity {
   @Getter(onMethod_ = @__({@DynamoDbAttribute("lastActivityDate"), @DynamoDbConvertedBy(DateAttributeConverter.class)}))
   private Date lastActivityDate;
 
+  /**
+   * Incremented by every score write, which is only applied if the stored version is still the one the score was
+   * computed from, so concurrent answers never overwrite each other's score.
+   */
+  @Getter(onMethod_ = @__({@DynamoDbAttribute("scoreVersion")}))
+  private Long scoreVersion;
+
+
+  @DynamoDbIgnore
+  public NaturalPerson getEmployee() {
+    return LazyAttribute.valueOf(employee);
+  }
 
   /**
    * Sets the employee and automatically updates the normalized email for GSI
    */
   public void setEmployee(NaturalPerson employee) {
-    this.employee = employee;
+    this.employee = LazyAttribute.of(employee);
     this.employeeEmailNormalized = Optional.ofNullable(employee)
                                            .map(NaturalPerson::getEmail)
                                            .filter(StringUtils::isNotBlank)
@@ -75,6 +100,37 @@ public class EmployeeAssessment extends TenantableEntity {
                                            .orElse(null);
   }
 
+  @JsonIgnore
+  @DynamoDbAttribute("employee")
+  @DynamoDbConvertedBy(LazyNaturalPersonAttributeConverter.class)
+  public LazyAttribute<NaturalPerson> getEmployeeAttribute() {
+    return employee;
+  }
+
+  public void setEmployeeAttribute(LazyAttribute<NaturalPerson> employee) {
+    this.employee = employee;
+  }
+
+  @DynamoDbIgnore
+  public EmployeeAssessmentScore getEmployeeAssessmentScore() {
+    return LazyAttribute.valueOf(employeeAssessmentScore);
+  }
+
+  public void setEmployeeAssessmentScore(EmployeeAssessmentScore employeeAssessmentScore) {
+    this.employeeAssessmentScore = LazyAttribute.of(employeeAssessmentScore);
+  }
+
+  @JsonIgnore
+  @DynamoDbAttribute("employeeAssessmentScore")
+  @DynamoDbConvertedBy(LazyEmployeeAssessmentScoreAttributeConverter.class)
+  public LazyAttribute<EmployeeAssessmentScore> getEmployeeAssessmentScoreAttribute() {
+    return employeeAssessmentScore;
+  }
+
+  public void setEmployeeAssessmentScoreAttribute(LazyAttribute<EmployeeAssessmentScore> employeeAssessmentScore) {
+    this.employeeAssessmentScore = employeeAssessmentScore;
+  }
+
   public boolean isCompleted() {
     return assessmentStatus == AssessmentStatus.COMPLETED;
   }
@@ -86,4 +142,17 @@ public class EmployeeAssessment extends TenantableEntity {
   public void incrementAnswersCount() {
     this.answeredQuestionCount = (this.answeredQuestionCount != null ? this.answeredQuestionCount : 0) + 1;
   }
+
+  public abstract static class EmployeeAssessmentBuilder<C extends EmployeeAssessment, B extends EmployeeAssessmentBuilder<C, B>> extends TenantableEntityBuilder<C, B> {
+
+    public B employee(NaturalPerson employee) {
+      this.employee = LazyAttribute.of(employee);
+      return self();
+    }
+
+    public B employeeAssessmentScore(EmployeeAssessmentScore employeeAssessmentScore) {
+      this.employeeAssessmentScore = LazyAttribute.of(employeeAssessmentScore);
+      return self();
+    }
+  }
 }
\ No newline at end of file
@@ -2,19 +2,22 @@ package com.agilecheckup.persistency.entity.question;
 
 import java.time.LocalDateTime;
 
+import com.agilecheckup.persistency.converter.LazyAttribute;
+import com.agilecheckup.persistency.converter.LazyQuestionAttributeConverter;
 import com.agilecheckup.persistency.converter.LocalDateTimeAttributeConverter;
 import com.agilecheckup.persistency.converter.NaturalPersonAttributeConverter;
-import com.agilecheckup.persistency.converter.QuestionAttributeConverter;
 import com.agilecheckup.persistency.converter.QuestionTypeAttributeConverter;
 import com.agilecheckup.persistency.entity.QuestionType;
 import com.agilecheckup.persistency.entity.base.TenantableEntity;
 import com.agilecheckup.persistency.entity.person.NaturalPerson;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbConvertedBy;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbIgnore;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
 
@@ -27,7 +30,7 @@ import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecon
 public class Answer extends TenantableEntity {
 
   @NonNull
-  @Getter(onMethod_ = @__({@DynamoDbAttribute("employeeAssessmentId"), @DynamoDbSecondaryPartitionKey(indexNames = "employeeAssessmentId-tenantId-index")}))
+  @Getter(onMethod_ = @__({@DynamoDbAttribute("employeeAssessmentId"), @DynamoDbSecondaryPartitionKey(indexNames = {"employeeAssessmentId-tenantId-index", "employeeAssessmentId-questionId-index"})}))
   private String employeeAssessmentId;
 
   @NonNull
@@ -43,7 +46,7 @@ public class Answer extends TenantableEntity {
   private String categoryId;
 
   @NonNull
-  @Getter(onMethod_ = @__({@DynamoDbAttribute("questionId")}))
+  @Getter(onMethod_ = @__({@DynamoDbAttribute("questionId"), @DynamoDbSecondarySortKey(indexNames = "employeeAssessmentId-questionId-index")}))
   private String questionId;
 
   @Getter(onMethod_ = @__({@DynamoDbAttribute("reviewer"), @DynamoDbConvertedBy(NaturalPersonAttributeConverter.class)}))
@@ -53,8 +56,17 @@ public class Answer extends TenantableEntity {
   @Getter(onMethod_ = @__({@DynamoDbAttribute("questionType"), @DynamoDbConvertedBy(QuestionTypeAttributeConverter.class)}))
   private QuestionType questionType;
 
-  @Getter(onMethod_ = @__({@DynamoDbAttribute("question"), @DynamoDbConvertedBy(QuestionAttributeConverter.class)}))
-  private Question question;
+  @Getter(onMethod_ = @__({@DynamoDbAttribute("questionSnapshotId")}))
+  private String questionSnapshotId;
+
+  /**
+   * Embedded copy of the question, only present on answers written before {@link #questionSnapshotId} existed and not
+   * yet migrated. Use {@code QuestionSnapshotCache.resolve(Answer)} to get the question of any answer. Decoded on first
+   * access through {@link #getQuestion()}; see {@link LazyAttribute}.
+   */
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private LazyAttribute<Question> question;
 
   @Builder.Default
   @Getter(onMethod_ = @__({@DynamoDbAttribute("pendingReview")}))
@@ -70,6 +82,26 @@ public class Answer extends TenantableEntity {
   @Getter(onMethod_ = @__({@DynamoDbAttribute("notes")}))
   private String notes;
 
+  @DynamoDbIgnore
+  public Question getQuestion() {
+    return LazyAttribute.valueOf(question);
+  }
+
+  public void setQuestion(Question question) {
+    this.question = LazyAttribute.of(question);
+  }
+
+  @JsonIgnore
+  @DynamoDbAttribute("question")
+  @DynamoDbConvertedBy(LazyQuestionAttributeConverter.class)
+  public LazyAttribute<Question> getQuestionAttribute() {
+    return question;
+  }
+
+  public void setQuestionAttribute(LazyAttribute<Question> question) {
+    this.question = question;
+  }
+
   /**
    * Override tenantId to add it as range key for employeeAssessmentId-tenantId-index GSI.
    * This enables efficient querying by both employeeAssessmentId and tenantId.
@@ -79,4 +111,12 @@ public class Answer extends TenantableEntity {
   public String getTenantId() {
     return super.getTenantId();
   }
+
+  public abstract static class AnswerBuilder<C extends Answer, B extends AnswerBuilder<C, B>> extends TenantableEntityBuilder<C, B> {
+
+    public B question(Question question) {
+      this.question = LazyAttribute.of(question);
+      return self();
+    }
+  }
 }
\ No newline at end of file
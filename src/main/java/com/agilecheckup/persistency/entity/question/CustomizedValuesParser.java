@@ -0,0 +1,96 @@
+package com.agilecheckup.persistency.entity.question;
+
+import java.util.Map;
+
+/**
+ * Single-pass parser for CUSTOMIZED answer values.
+ * <p>
+ * A selection is stored as a {@code long} bitmask where bit {@code n - 1} stands for option {@code n}, which covers the
+ * 64 options a question may have. Values are one option number or, for multiple choice, comma-separated distinct option
+ * numbers. Multiple choice numbers cannot have leading zeros; a single choice may (e.g. "01"). Parsing runs in linear
+ * time, stops at the first invalid character, and neither splits the value nor boxes the numbers.
+ */
+public final class CustomizedValuesParser {
+
+  public static final int MAX_OPTIONS = Long.SIZE;
+
+  private static final char VALUE_SEPARATOR = ',';
+
+  private CustomizedValuesParser() {
+  }
+
+  /**
+   * Returns the mask of options that can be selected: the keys of the option map from 1 to the number of options.
+   */
+  public static long optionMask(Map<Integer, ?> optionMap) {
+    int limit = Math.min(optionMap.size(), MAX_OPTIONS);
+    long mask = 0L;
+    for (Integer option : optionMap.keySet()) {
+      if (option != null && option >= 1 && option <= limit) {
+        mask |= bit(option);
+      }
+    }
+    return mask;
+  }
+
+  /**
+   * Parses the value into a selection mask.
+   *
+   * @param value          The answer value
+   * @param allowedOptions Mask of the options that exist, see {@link #optionMask(Map)}
+   * @param multipleChoice Whether several options may be selected
+   * @return The selected options, or 0 if the value is malformed, repeats an option or selects a missing option
+   */
+  public static long parseSelection(String value, long allowedOptions, boolean multipleChoice) {
+    if (value == null || value.isEmpty()) {
+      return 0L;
+    }
+
+    int length = value.length();
+    int index = 0;
+    long selection = 0L;
+    while (true) {
+      int start = index;
+      int option = 0;
+      while (index < length) {
+        int digit = value.charAt(index) - '0';
+        if (digit < 0 || digit > 9) {
+          break;
+        }
+        option = option * 10 + digit;
+        if (option > MAX_OPTIONS) {
+          return 0L;
+        }
+        index++;
+      }
+
+      if (index == start || option == 0 || (multipleChoice && value.charAt(start) == '0')) {
+        return 0L;
+      }
+      long optionBit = bit(option);
+      if ((allowedOptions & optionBit) == 0 || (selection & optionBit) != 0) {
+        return 0L;
+      }
+      selection |= optionBit;
+
+      if (index == length) {
+        return selection;
+      }
+      if (!multipleChoice || value.charAt(index) != VALUE_SEPARATOR || ++index == length) {
+        return 0L;
+      }
+    }
+  }
+
+  /**
+   * Returns the lowest option number in a non-empty selection. Iterate over a selection by clearing that option with
+   * {@code selection &= selection - 1}.
+   */
+  public static int lowestOption(long selection) {
+    return Long.numberOfTrailingZeros(selection) + 1;
+  }
+
+  private static long bit(int option) {
+    return 1L << (option - 1);
+  }
+}
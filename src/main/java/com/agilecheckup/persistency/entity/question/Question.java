@@ -10,6 +10,8 @@ import lombok.experimental.SuperBuilder;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbConvertedBy;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
 
 @EqualsAndHashCode(callSuper = true)
 @Data
@@ -20,7 +22,7 @@ import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbConve
 public class Question extends TenantableEntity {
 
   @NonNull
-  @Getter(onMethod_ = @__({@DynamoDbAttribute("assessmentMatrixId")}))
+  @Getter(onMethod_ = @__({@DynamoDbAttribute("assessmentMatrixId"), @DynamoDbSecondaryPartitionKey(indexNames = {"assessmentMatrixId-tenantId-index", "assessmentMatrixId-categoryId-index"})}))
   private String assessmentMatrixId;
 
   @NonNull
@@ -32,7 +34,7 @@ public class Question extends TenantableEntity {
   private String pillarName;
 
   @NonNull
-  @Getter(onMethod_ = @__({@DynamoDbAttribute("categoryId")}))
+  @Getter(onMethod_ = @__({@DynamoDbAttribute("categoryId"), @DynamoDbSecondarySortKey(indexNames = "assessmentMatrixId-categoryId-index")}))
   private String categoryId;
 
   @NonNull
@@ -55,4 +57,15 @@ public class Question extends TenantableEntity {
 
   @Getter(onMethod_ = @__({@DynamoDbAttribute("optionGroup"), @DynamoDbConvertedBy(OptionGroupAttributeConverter.class)}))
   private OptionGroup optionGroup;
+
+  /**
+   * Override tenantId to add it as range key for assessmentMatrixId-tenantId-index GSI, keeping it as the partition key
+   * of tenantId-index. This enables querying the questions of one matrix without a table scan.
+   */
+  @Override
+  @DynamoDbSecondaryPartitionKey(indexNames = "tenantId-index")
+  @DynamoDbSecondarySortKey(indexNames = "assessmentMatrixId-tenantId-index")
+  public String getTenantId() {
+    return super.getTenantId();
+  }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.agilecheckup.persistency.entity.question;
+
+import com.agilecheckup.persistency.converter.QuestionAttributeConverter;
+import com.agilecheckup.persistency.entity.base.TenantableEntity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbConvertedBy;
+
+/**
+ * Immutable copy of one version of a {@link Question}, stored once and referenced by every {@link Answer} given to that
+ * version. The id is derived from the question id and version, so the same version always maps to the same item.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@DynamoDbBean
+public class QuestionSnapshot extends TenantableEntity {
+
+  private static final String ID_SEPARATOR = "#";
+
+  @Getter(onMethod_ = @__({@DynamoDbAttribute("questionId")}))
+  private String questionId;
+
+  @Getter(onMethod_ = @__({@DynamoDbAttribute("questionVersion")}))
+  private Long questionVersion;
+
+  @Getter(onMethod_ = @__({@DynamoDbAttribute("question"), @DynamoDbConvertedBy(QuestionAttributeConverter.class)}))
+  private Question question;
+
+  public static QuestionSnapshot of(Question question) {
+    long version = versionOf(question);
+    return QuestionSnapshot.builder()
+                           .id(idOf(question.getId(), version))
+                           .tenantId(question.getTenantId())
+                           .questionId(question.getId())
+                           .questionVersion(version)
+                           .question(question)
+                           .build();
+  }
+
+  public static String idOf(Question question) {
+    return idOf(question.getId(), versionOf(question));
+  }
+
+  public static String idOf(String questionId, long version) {
+    return questionId + ID_SEPARATOR + version;
+  }
+
+  /**
+   * The version of a question is its last update time in epoch milliseconds, or 0 for questions never updated.
+   */
+  public static long versionOf(Question question) {
+    return question.getLastUpdatedDate() == null ? 0L : question.getLastUpdatedDate().toEpochMilli();
+  }
+}
@@ -0,0 +1,236 @@
+package com.agilecheckup.persistency.entity.question.plan;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import com.agilecheckup.persistency.entity.QuestionType;
+import com.agilecheckup.persistency.entity.question.CustomizedValuesParser;
+import com.agilecheckup.persistency.entity.question.OptionGroup;
+import com.agilecheckup.persistency.entity.question.Question;
+
+import lombok.Getter;
+
+/**
+ * Compiled answer validation and scoring for one version of a {@link Question}.
+ * <p>
+ * Plans are immutable and thread-safe. Everything derived from the question (type, interval bounds, points per
+ * interval, option points) is resolved once when the plan is compiled, so validating and scoring a value allocates no
+ * builder or strategy objects. The results match {@code AnswerStrategyFactory} and
+ * {@code ScoreCalculationStrategyFactory}, including their error messages.
+ *
+ * @see com.agilecheckup.service.cache.QuestionPlanCache
+ */
+@Getter
+public abstract class QuestionPlan {
+
+  private static final String INVALID_VALUE_MESSAGE_FORMAT = "Invalid Answer value: %s";
+  private static final String UNPARSEABLE_VALUE_MESSAGE_FORMAT = "Invalid Answer value. Not parseable: %s";
+
+  private final String questionId;
+  private final Instant questionVersion;
+  private final QuestionType questionType;
+
+  QuestionPlan(Question question) {
+    this.questionId = question.getId();
+    this.questionVersion = question.getLastUpdatedDate();
+    this.questionType = question.getQuestionType();
+  }
+
+  public static QuestionPlan compile(Question question) {
+    switch (question.getQuestionType()) {
+      case STAR_THREE:
+        return new IntervalPlan(question, 3);
+      case STAR_FIVE:
+        return new IntervalPlan(question, 5);
+      case ONE_TO_TEN:
+        return new IntervalPlan(question, 10);
+      case YES_NO:
+      case GOOD_BAD:
+        return new BooleanPlan(question);
+      case OPEN_ANSWER:
+        return new OpenAnswerPlan(question);
+      case CUSTOMIZED:
+        return new CustomizedPlan(question);
+      default:
+        throw new IllegalArgumentException("Invalid QuestionType. Please check if there is missing a Strategy");
+    }
+  }
+
+  /**
+   * @return true if the plan was compiled from this version of the question
+   */
+  public boolean isCompiledFrom(Question question) {
+    return Objects.equals(questionId, question.getId()) && Objects.equals(questionVersion, question.getLastUpdatedDate())
+        && questionType == question.getQuestionType();
+  }
+
+  /**
+   * Validates the answer value and returns it in its stored form.
+   *
+   * @throws IllegalArgumentException if the value is null, cannot be parsed or is out of range
+   */
+  public abstract String validate(String value);
+
+  /**
+   * Scores a value previously accepted by {@link #validate(String)}.
+   */
+  public abstract Double score(String value);
+
+  static IllegalArgumentException invalidValue(String value) {
+    return new IllegalArgumentException(String.format(INVALID_VALUE_MESSAGE_FORMAT, value));
+  }
+
+  static IllegalArgumentException unparseableValue(String value) {
+    return new IllegalArgumentException(String.format(UNPARSEABLE_VALUE_MESSAGE_FORMAT, value));
+  }
+
+  static String requireValue(String value) {
+    if (value == null) {
+      throw invalidValue(null);
+    }
+    return value;
+  }
+
+  /**
+   * STAR_THREE, STAR_FIVE and ONE_TO_TEN: an integer from 1 to the number of options, worth points / options each.
+   */
+  static final class IntervalPlan extends QuestionPlan {
+
+    private static final String[] CANONICAL_VALUES = {"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10"};
+
+    private final int maxValue;
+    private final Double pointsPerInterval;
+
+    private IntervalPlan(Question question, int numberOfOptions) {
+      super(question);
+      this.maxValue = numberOfOptions;
+      this.pointsPerInterval = question.getPoints() == null ? null : question.getPoints() / (double) numberOfOptions;
+    }
+
+    @Override
+    public String validate(String value) {
+      int option = parse(requireValue(value));
+      if (option < 1 || option > maxValue) {
+        throw invalidValue(value);
+      }
+      return CANONICAL_VALUES[option];
+    }
+
+    @Override
+    public Double score(String value) {
+      if (pointsPerInterval == null) {
+        throw new IllegalStateException("question points are null");
+      }
+      return pointsPerInterval * Integer.parseInt(value);
+    }
+
+    private static int parse(String value) {
+      try {
+        return Integer.parseInt(value);
+      }
+      catch (NumberFormatException e) {
+        throw unparseableValue(value);
+      }
+    }
+  }
+
+  /**
+   * YES_NO and GOOD_BAD: "true" (any case) earns the question points, anything else is false.
+   */
+  static final class BooleanPlan extends QuestionPlan {
+
+    private final Double points;
+
+    private BooleanPlan(Question question) {
+      super(question);
+      this.points = question.getPoints();
+    }
+
+    @Override
+    public String validate(String value) {
+      return Boolean.toString(Boolean.parseBoolean(requireValue(value)));
+    }
+
+    @Override
+    public Double score(String value) {
+      return "true".equalsIgnoreCase(value) ? points : 0d;
+    }
+  }
+
+  /**
+   * OPEN_ANSWER: free text of 1 to 500 characters, never scored.
+   */
+  static final class OpenAnswerPlan extends QuestionPlan {
+
+    private static final int MAX_CHARACTERS = 500;
+
+    private OpenAnswerPlan(Question question) {
+      super(question);
+    }
+
+    @Override
+    public String validate(String value) {
+      requireValue(value);
+      if (value.isEmpty() || value.length() > MAX_CHARACTERS) {
+        throw invalidValue(value);
+      }
+      return value;
+    }
+
+    @Override
+    public Double score(String value) {
+      return 0d;
+    }
+  }
+
+  /**
+   * CUSTOMIZED: one option number, or distinct comma-separated option numbers for multiple choice, each one of the
+   * question's options. The selection is parsed into a bitmask and scored from a primitive array of option points.
+   */
+  static final class CustomizedPlan extends QuestionPlan {
+
+    private final boolean multipleChoice;
+    private final long allowedOptions;
+    private final double[] pointsByOption;
+
+    private CustomizedPlan(Question question) {
+      super(question);
+      OptionGroup optionGroup = question.getOptionGroup();
+      if (optionGroup == null || optionGroup.getOptionMap() == null) {
+        throw new IllegalArgumentException("Customized question " + question.getId() + " has no options");
+      }
+      this.multipleChoice = optionGroup.isMultipleChoice();
+      this.allowedOptions = CustomizedValuesParser.optionMask(optionGroup.getOptionMap());
+      this.pointsByOption = new double[CustomizedValuesParser.MAX_OPTIONS + 1];
+      for (long options = allowedOptions; options != 0L; options &= options - 1) {
+        int option = CustomizedValuesParser.lowestOption(options);
+        pointsByOption[option] = optionGroup.getOptionMap().get(option).getPoints();
+      }
+    }
+
+    @Override
+    public String validate(String value) {
+      if (parse(requireValue(value)) == 0L) {
+        throw invalidValue(value);
+      }
+      return value;
+    }
+
+    @Override
+    public Double score(String value) {
+      long selection = parse(value);
+      if (selection == 0L) {
+        throw invalidValue(value);
+      }
+      double score = 0d;
+      for (; selection != 0L; selection &= selection - 1) {
+        score += pointsByOption[CustomizedValuesParser.lowestOption(selection)];
+      }
+      return score;
+    }
+
+    private long parse(String value) {
+      return CustomizedValuesParser.parseSelection(value, allowedOptions, multipleChoice);
+    }
+  }
+}
@@ -1,8 +1,7 @@
 package com.agilecheckup.persistency.entity.question.strategy;
 
-import static com.agilecheckup.persistency.entity.question.CustomizedValuesSplitter.getSplitValues;
-
-import java.util.regex.Pattern;
+import com.agilecheckup.persistency.entity.question.CustomizedValuesParser;
+import com.agilecheckup.persistency.entity.question.OptionGroup;
 
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -14,21 +13,11 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 public class CustomizedAnswerStrategy extends AnswerStrategy<String> {
 
-  private static final Integer MIN_VALUE = 1;
-
-  private static final Pattern MULTIPLE_CHOICE_PATTERN = Pattern.compile("^(?!.*?(\\b\\d+\\b).*?\\1)[1-9]\\d*(?:,[1-9]\\d*)*$");
-  private static final Pattern SINGLEs_CHOICE_PATTERN = Pattern.compile("^[0-9]+$");
-
   @Override
   boolean isValidValue(String value) {
-    if (!isStringValid(value)) return false;
-    for (String stringValue : getSplitValues(value)) {
-      int intValue = Integer.parseInt(stringValue);
-      if (intValue < MIN_VALUE || intValue > getQuestion().getOptionGroup().getOptionMap().size()) {
-        return false;
-      }
-    }
-    return true;
+    OptionGroup optionGroup = getQuestion().getOptionGroup();
+    long allowedOptions = CustomizedValuesParser.optionMask(optionGroup.getOptionMap());
+    return CustomizedValuesParser.parseSelection(value, allowedOptions, optionGroup.isMultipleChoice()) != 0L;
   }
 
   @Override
@@ -40,13 +29,4 @@ public class CustomizedAnswerStrategy extends AnswerStrategy<String> {
   public String stringToValue(@NonNull String valueString) {
     return valueString;
   }
-
-  private boolean isStringValid(String value) {
-    return getPattern().matcher(value).matches();
-  }
-
-  private Pattern getPattern() {
-    if (getQuestion().getOptionGroup().isMultipleChoice()) return MULTIPLE_CHOICE_PATTERN;
-    return SINGLEs_CHOICE_PATTERN;
-  }
 }
@@ -1,9 +1,10 @@
 package com.agilecheckup.persistency.entity.score.strategy;
 
-import static com.agilecheckup.persistency.entity.question.CustomizedValuesSplitter.getSplitValues;
-
-import java.util.Arrays;
+import java.util.Map;
 
+import com.agilecheckup.persistency.entity.question.CustomizedValuesParser;
+import com.agilecheckup.persistency.entity.question.OptionGroup;
+import com.agilecheckup.persistency.entity.question.QuestionOption;
 import com.agilecheckup.persistency.entity.score.AbstractScoreCalculator;
 
 import lombok.Data;
@@ -18,10 +19,17 @@ public class CustomizedScoreCalculationStrategy extends AbstractScoreCalculator
 
   @Override
   public Double getCalculatedScore() {
-    String[] stringValues = getSplitValues(value);
-    return Arrays.stream(stringValues)
-                 .map(Integer::valueOf)
-                 .mapToDouble(value -> question.getOptionGroup().getOptionMap().get(value).getPoints())
-                 .sum();
+    OptionGroup optionGroup = question.getOptionGroup();
+    Map<Integer, QuestionOption> optionMap = optionGroup.getOptionMap();
+    long selection = CustomizedValuesParser.parseSelection(value, CustomizedValuesParser.optionMask(optionMap), optionGroup.isMultipleChoice());
+    if (selection == 0L) {
+      throw new IllegalArgumentException("Invalid Answer value: " + value);
+    }
+
+    double score = 0d;
+    for (; selection != 0L; selection &= selection - 1) {
+      score += optionMap.get(CustomizedValuesParser.lowestOption(selection)).getPoints();
+    }
+    return score;
   }
 }
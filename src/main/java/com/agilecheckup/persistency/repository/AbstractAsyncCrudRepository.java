@@ -0,0 +1,143 @@
+package com.agilecheckup.persistency.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import com.agilecheckup.persistency.entity.base.AuditableEntity;
+import com.agilecheckup.persistency.entity.base.BaseEntity;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+
+/**
+ * Non-blocking counterpart of {@link AbstractCrudRepository}, backed by the {@link DynamoDbEnhancedAsyncClient}.
+ * <p>
+ * Calls return as soon as the request is sent and complete on the SDK event loop, so independent reads can be started
+ * together and composed, costing about one round-trip of latency instead of the sum of them. Callbacks attached to the
+ * returned futures run on the event loop unless an executor is given: they must not block.
+ * <p>
+ * Entities are mapped with the same schemas as the synchronous repositories, so both families read and write the same
+ * items.
+ */
+@Slf4j
+public abstract class AbstractAsyncCrudRepository<T extends BaseEntity> {
+
+  protected final DynamoDbEnhancedAsyncClient enhancedAsyncClient;
+  protected final Class<T> entityClass;
+  protected final String tableName;
+  protected final TableSchema<T> tableSchema;
+
+  private volatile DynamoDbAsyncTable<T> table;
+
+  protected AbstractAsyncCrudRepository(DynamoDbEnhancedAsyncClient enhancedAsyncClient, Class<T> entityClass, String tableName) {
+    this.enhancedAsyncClient = enhancedAsyncClient;
+    this.entityClass = entityClass;
+    this.tableName = tableName;
+    this.tableSchema = TableSchemaRegistry.schemaFor(entityClass);
+  }
+
+  /**
+   * Returns the table handle, created on first use and reused afterwards, as in
+   * {@link AbstractCrudRepository#getTable()}.
+   */
+  protected DynamoDbAsyncTable<T> getTable() {
+    DynamoDbAsyncTable<T> cached = table;
+    if (cached == null) {
+      cached = enhancedAsyncClient.table(tableName, tableSchema);
+      table = cached;
+    }
+    return cached;
+  }
+
+  /**
+   * @return The entity, or empty if it does not exist or could not be read
+   */
+  public CompletableFuture<Optional<T>> findById(String id) {
+    Key key = Key.builder().partitionValue(id).build();
+    return getTable().getItem(key).handle((item, error) -> {
+      if (error != null) {
+        log.error("Error finding entity by id {}: {}", id, error.getMessage(), error);
+        return Optional.empty();
+      }
+      return Optional.ofNullable(item);
+    });
+  }
+
+  /**
+   * Saves the entity, assigning its id and timestamps as in {@link AbstractCrudRepository#save(BaseEntity)}.
+   *
+   * @return The saved entity, or empty if it could not be written
+   */
+  public CompletableFuture<Optional<T>> save(T entity) {
+    if (entity.getId() == null) {
+      entity.generateId();
+    }
+    if (entity instanceof AuditableEntity) {
+      ((AuditableEntity) entity).updateTimestamps();
+    }
+
+    return getTable().putItem(entity).handle((ignored, error) -> {
+      if (error != null) {
+        log.error("Error saving entity of type {}: {}", entityClass.getSimpleName(), error.getMessage(), error);
+        return Optional.empty();
+      }
+      log.debug("Successfully saved entity with id: {}", entity.getId());
+      return Optional.of(entity);
+    });
+  }
+
+  /**
+   * @return true if the delete succeeded
+   */
+  public CompletableFuture<Boolean> deleteById(String id) {
+    Key key = Key.builder().partitionValue(id).build();
+    return getTable().deleteItem(key).handle((ignored, error) -> {
+      if (error != null) {
+        log.error("Error deleting entity with id {}: {}", id, error.getMessage(), error);
+        return false;
+      }
+      log.debug("Successfully deleted entity with id: {}", id);
+      return true;
+    });
+  }
+
+  /**
+   * Queries a secondary index by its full key and publishes the matching items. Pages are requested as the subscriber
+   * signals demand, so a slow subscriber never holds more than the current page.
+   *
+   * @param indexName        The GSI name
+   * @param key              The index key to match
+   * @param filterExpression Optional filter applied after the key condition, may be null
+   * @return Publisher of the matching items
+   */
+  protected SdkPublisher<T> queryIndex(String indexName, Key key, Expression filterExpression) {
+    QueryEnhancedRequest.Builder queryRequest = QueryEnhancedRequest.builder()
+                                                                    .queryConditional(QueryConditional.keyEqualTo(key))
+                                                                    .consistentRead(false);  // GSI queries cannot use consistent reads
+    if (filterExpression != null) {
+      queryRequest.filterExpression(filterExpression);
+    }
+    return getTable().index(indexName).query(queryRequest.build()).flatMapIterable(Page::items);
+  }
+
+  /**
+   * Collects every item of the publisher.
+   *
+   * @return The items in publication order, completed exceptionally if the publisher fails
+   */
+  protected static <E> CompletableFuture<List<E>> collect(SdkPublisher<E> publisher) {
+    List<E> items = Collections.synchronizedList(new ArrayList<>());
+    return publisher.subscribe(items::add).thenApply(ignored -> List.copyOf(items));
+  }
+}
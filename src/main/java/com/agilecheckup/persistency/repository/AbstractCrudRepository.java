@@ -1,45 +1,92 @@
 package com.agilecheckup.persistency.repository;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.agilecheckup.persistency.entity.base.AuditableEntity;
 import com.agilecheckup.persistency.entity.base.BaseEntity;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
 
 @Slf4j
-@RequiredArgsConstructor
 public abstract class AbstractCrudRepository<T extends BaseEntity> {
 
+  private static final String LAST_UPDATED_DATE = "lastUpdatedDate";
+
   protected final DynamoDbEnhancedClient enhancedClient;
   protected final Class<T> entityClass;
   protected final String tableName;
+  protected final TableSchema<T> tableSchema;
+  protected final BatchOperationExecutor batchExecutor;
+  protected final DynamoDbClient dynamoDbClient;
+
+  private volatile DynamoDbTable<T> table;
+
+  protected AbstractCrudRepository(DynamoDbEnhancedClient enhancedClient, Class<T> entityClass, String tableName) {
+    this(enhancedClient, null, entityClass, tableName);
+  }
+
+  /**
+   * @param dynamoDbClient Low-level client used for partial and atomic updates, which the enhanced client cannot express
+   */
+  protected AbstractCrudRepository(DynamoDbEnhancedClient enhancedClient, DynamoDbClient dynamoDbClient, Class<T> entityClass, String tableName) {
+    this.enhancedClient = enhancedClient;
+    this.dynamoDbClient = dynamoDbClient;
+    this.entityClass = entityClass;
+    this.tableName = tableName;
+    // Resolved once per entity class so that repositories built at startup pay the bean introspection cost up front
+    this.tableSchema = TableSchemaRegistry.schemaFor(entityClass);
+    this.batchExecutor = new BatchOperationExecutor(enhancedClient);
+  }
 
+  /**
+   * Returns the table handle, created on first use and reused afterwards. The handle is immutable and thread-safe; a
+   * racing first call at worst builds an equivalent handle twice.
+   */
   protected DynamoDbTable<T> getTable() {
-    return enhancedClient.table(tableName, TableSchema.fromBean(entityClass));
+    DynamoDbTable<T> cached = table;
+    if (cached == null) {
+      cached = enhancedClient.table(tableName, tableSchema);
+      table = cached;
+    }
+    return cached;
   }
 
   public Optional<T> save(T entity) {
     try {
-
-      if (entity.getId() == null) {
-        entity.generateId();
-      }
-
-      if (entity instanceof AuditableEntity) {
-        ((AuditableEntity) entity).updateTimestamps();
-      }
+      prepareForSave(entity);
 
       getTable().putItem(entity);
       log.debug("Successfully saved entity with id: {}", entity.getId());
@@ -51,6 +98,46 @@ public abstract class AbstractCrudRepository<T extends BaseEntity> {
     }
   }
 
+  /**
+   * Saves all entities with BatchWriteItem, 25 items per round-trip, retrying unprocessed items with backoff.
+   * Ids and timestamps are assigned as in {@link #save(BaseEntity)}.
+   *
+   * @param entities The entities to save, with distinct ids
+   * @return The saved entities
+   * @throws RuntimeException if some items could not be written
+   */
+  public List<T> saveAll(Collection<T> entities) {
+    if (entities == null || entities.isEmpty()) {
+      return List.of();
+    }
+
+    List<T> prepared = new ArrayList<>(entities);
+    prepared.forEach(this::prepareForSave);
+    try {
+      batchExecutor.putAll(getTable(), entityClass, prepared);
+    }
+    catch (RuntimeException e) {
+      log.error("Error batch saving {} entities of type {}: {}", prepared.size(), entityClass.getSimpleName(), e.getMessage(), e);
+      throw e;
+    }
+    log.debug("Successfully batch saved {} entities of type {}", prepared.size(), entityClass.getSimpleName());
+    return prepared;
+  }
+
+  public BatchOperationMetrics getBatchMetrics() {
+    return batchExecutor.getMetrics();
+  }
+
+  private void prepareForSave(T entity) {
+    if (entity.getId() == null) {
+      entity.generateId();
+    }
+
+    if (entity instanceof AuditableEntity) {
+      ((AuditableEntity) entity).updateTimestamps();
+    }
+  }
+
   public Optional<T> findById(String id) {
     try {
       Key key = Key.builder().partitionValue(id).build();
@@ -64,10 +151,48 @@ public abstract class AbstractCrudRepository<T extends BaseEntity> {
     }
   }
 
+  /**
+   * Retrieves multiple entities by id with BatchGetItem, 100 keys per round-trip, retrying unprocessed keys with
+   * backoff. Ids that do not exist are skipped and the result order is not guaranteed. A failed round-trip fails the
+   * whole lookup rather than returning a partial result that callers could not tell from missing ids.
+   *
+   * @param ids The entity ids, duplicates and nulls are ignored
+   * @return The entities found
+   * @throws RuntimeException if some keys could not be read
+   */
+  public List<T> findAllByIds(Collection<String> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return List.of();
+    }
+
+    List<Key> keys = ids.stream()
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .map(id -> Key.builder().partitionValue(id).build())
+                        .collect(Collectors.toList());
+    try {
+      return batchExecutor.getAll(getTable(), entityClass, keys);
+    }
+    catch (RuntimeException e) {
+      log.error("Error batch finding {} entities of type {}: {}", keys.size(), entityClass.getSimpleName(), e.getMessage(), e);
+      throw e;
+    }
+  }
+
+  /**
+   * Same as {@link #findAllByIds(Collection)}, indexed by entity id.
+   *
+   * @param ids The entity ids
+   * @return Map of id to entity for the entities found
+   * @throws RuntimeException if some keys could not be read
+   */
+  public Map<String, T> findByIds(Collection<String> ids) {
+    return findAllByIds(ids).stream().collect(Collectors.toMap(BaseEntity::getId, Function.identity(), (first, second) -> first));
+  }
+
   public List<T> findAll() {
     try {
-      SdkIterable<Page<T>> pages = getTable().scan();
-      return pages.stream().flatMap(page -> page.items().stream()).collect(Collectors.toList());
+      return streamAll().collect(Collectors.toList());
     }
     catch (Exception e) {
       log.error("Error finding all entities: {}", e.getMessage(), e);
@@ -75,6 +200,39 @@ public abstract class AbstractCrudRepository<T extends BaseEntity> {
     }
   }
 
+  /**
+   * Streams every item of the table with a paginated Scan. Pages are fetched lazily, one round-trip at a time as the
+   * stream is consumed, so at most one page is held in memory and short-circuiting operations stop reading early.
+   * Errors surface while the stream is consumed.
+   */
+  public Stream<T> streamAll() {
+    return items(getTable().scan());
+  }
+
+  /**
+   * Same as {@link #streamAll()}, reading at most {@code pageSize} items per round-trip to bound the memory held by the
+   * current page.
+   */
+  public Stream<T> streamAll(int pageSize) {
+    return items(getTable().scan(ScanEnhancedRequest.builder().limit(validPageSize(pageSize)).build()));
+  }
+
+  /**
+   * Reads one page of a Scan of the table.
+   *
+   * @param pageSize  Maximum number of items in the page
+   * @param pageToken Token of a previous page, or null for the first page
+   * @return The page, with the token of the next one
+   * @throws IllegalArgumentException if the page size is not positive or the token is invalid
+   */
+  public PageResult<T> findPage(int pageSize, String pageToken) {
+    ScanEnhancedRequest request = ScanEnhancedRequest.builder()
+                                                     .limit(validPageSize(pageSize))
+                                                     .exclusiveStartKey(PageTokens.decode(pageToken))
+                                                     .build();
+    return firstPage(getTable().scan(request));
+  }
+
   public boolean deleteById(String id) {
     try {
       Key key = Key.builder().partitionValue(id).build();
@@ -89,6 +247,322 @@ public abstract class AbstractCrudRepository<T extends BaseEntity> {
     }
   }
 
+  /**
+   * Deletes the item and returns it as it was before the delete, in the same round-trip.
+   *
+   * @param id The item id
+   * @return The deleted entity, or empty if no item had that id
+   */
+  public Optional<T> deleteAndGet(String id) {
+    try {
+      T deleted = getTable().deleteItem(Key.builder().partitionValue(id).build());
+      log.debug("Successfully deleted entity with id: {}", id);
+      return Optional.ofNullable(deleted);
+    }
+    catch (Exception e) {
+      log.error("Error deleting entity with id {}: {}", id, e.getMessage(), e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Atomically adds {@code delta} to a numeric attribute of an existing item with a single UpdateItem, without reading
+   * or rewriting the rest of the item. The given attributes are set in the same request, converted with the entity
+   * schema (null values remove the attribute), and lastUpdatedDate is refreshed for auditable entities. A missing
+   * counter attribute counts as zero.
+   * <p>
+   * Negative deltas never take the counter below zero: when the counter is too low it is left unchanged and its current
+   * value is returned.
+   *
+   * @param id               The item id
+   * @param counterAttribute The numeric attribute to add to
+   * @param delta            The amount to add, may be negative
+   * @param setAttributes    Attributes to set in the same update, by attribute name
+   * @return The new counter value, or empty if the item does not exist
+   * @throws IllegalStateException if the repository was built without a DynamoDbClient
+   * @throws DynamoDbException     if the update fails for any other reason than the item missing
+   */
+  public OptionalLong incrementAttribute(String id, String counterAttribute, long delta, Map<String, ?> setAttributes) {
+    Optional<Map<String, AttributeValue>> updated = addToCounter(id, counterAttribute, delta, setAttributes, ReturnValue.UPDATED_NEW);
+    if (updated.isPresent()) {
+      return OptionalLong.of(Long.parseLong(updated.get().get(counterAttribute).n()));
+    }
+    if (delta >= 0) {
+      return OptionalLong.empty();
+    }
+    // The decrement was rejected: either the item is gone or the counter is already at its floor
+    return findById(id).map(entity -> OptionalLong.of(currentCounterValue(entity, counterAttribute))).orElse(OptionalLong.empty());
+  }
+
+  /**
+   * Same as {@link #incrementAttribute(String, String, long, Map)}, returning the whole item as written by the update
+   * (in the same round-trip) instead of the counter alone.
+   *
+   * @return The updated entity, the unchanged entity if a decrement hit the floor, or empty if the item does not exist
+   * @throws IllegalStateException if the repository was built without a DynamoDbClient
+   * @throws DynamoDbException     if the update fails for any other reason than the item missing
+   */
+  public Optional<T> incrementAttributeAndGet(String id, String counterAttribute, long delta, Map<String, ?> setAttributes) {
+    Optional<Map<String, AttributeValue>> updated = addToCounter(id, counterAttribute, delta, setAttributes, ReturnValue.ALL_NEW);
+    if (updated.isPresent()) {
+      return Optional.of(tableSchema.mapToItem(updated.get()));
+    }
+    return delta >= 0 ? Optional.empty() : findById(id);
+  }
+
+  private Optional<Map<String, AttributeValue>> addToCounter(String id, String counterAttribute, long delta, Map<String, ?> setAttributes, ReturnValue returnValue) {
+    Map<String, String> names = new HashMap<>();
+    Map<String, AttributeValue> values = new HashMap<>();
+    names.put("#id", "id");
+    names.put("#counter", counterAttribute);
+    values.put(":delta", AttributeValue.builder().n(Long.toString(delta)).build());
+
+    StringBuilder condition = new StringBuilder("attribute_exists(#id)");
+    if (delta < 0) {
+      values.put(":floor", AttributeValue.builder().n(Long.toString(-delta)).build());
+      condition.append(" AND #counter >= :floor");
+    }
+
+    String clauses = buildUpdateClauses(toAttributeValues(setAttributes), names, values);
+    String updateExpression = "ADD #counter :delta" + (clauses.isEmpty() ? "" : " " + clauses);
+    return updateItem(id, updateExpression, condition.toString(), names, values, returnValue);
+  }
+
+  /**
+   * Atomically adds each delta to its numeric attribute of an existing item with a single UpdateItem, so moving a unit
+   * from one counter to another is never observed half done. Missing counters count as zero and lastUpdatedDate is
+   * refreshed as in {@link #incrementAttribute}. Unlike there, negative deltas are applied as given.
+   *
+   * @param id     The item id
+   * @param deltas The amount to add, by attribute name
+   * @return true if the item exists and was updated
+   * @throws IllegalStateException if the repository was built without a DynamoDbClient
+   * @throws DynamoDbException     if the update fails for any other reason than the item missing
+   */
+  public boolean addToAttributes(String id, Map<String, Long> deltas) {
+    if (deltas.isEmpty()) {
+      throw new IllegalArgumentException("No attribute to add to");
+    }
+
+    Map<String, String> names = new HashMap<>();
+    Map<String, AttributeValue> values = new HashMap<>();
+    names.put("#id", "id");
+
+    StringBuilder addClause = new StringBuilder();
+    int index = 0;
+    for (Map.Entry<String, Long> delta : deltas.entrySet()) {
+      names.put("#c" + index, delta.getKey());
+      values.put(":c" + index, AttributeValue.builder().n(Long.toString(delta.getValue())).build());
+      addClause.append(index == 0 ? "" : ", ").append("#c").append(index).append(" :c").append(index);
+      index++;
+    }
+
+    String clauses = buildUpdateClauses(toAttributeValues(null), names, values);
+    String updateExpression = "ADD " + addClause + (clauses.isEmpty() ? "" : " " + clauses);
+    return updateItem(id, updateExpression, "attribute_exists(#id)", names, values, ReturnValue.UPDATED_NEW).isPresent();
+  }
+
+  /**
+   * Writes only the given attributes of the entity, taken from its current state, with a single UpdateItem. Unlike
+   * {@link #save(BaseEntity)} the other attributes are neither read nor rewritten, so concurrent updates of different
+   * attributes do not overwrite each other. Attributes that are null in the entity are removed from the item, as
+   * {@link #save(BaseEntity)} would leave them out. lastUpdatedDate is refreshed for auditable entities.
+   *
+   * @param entity         The entity, which must exist in the table
+   * @param attributeNames The attribute names to write
+   * @return true if the item exists and was updated
+   * @throws IllegalStateException if the repository was built without a DynamoDbClient
+   * @throws DynamoDbException     if the update fails for any other reason than the item missing
+   */
+  public boolean updateAttributes(T entity, String... attributeNames) {
+    Map<String, String> names = new HashMap<>();
+    Map<String, AttributeValue> values = new HashMap<>();
+    names.put("#id", "id");
+    String updateExpression = buildUpdateClauses(attributesToWrite(entity, attributeNames), names, values);
+    return updateItem(entity.getId(), updateExpression, "attribute_exists(#id)", names, values, ReturnValue.UPDATED_NEW).isPresent();
+  }
+
+  /**
+   * Conditional variant of {@link #updateAttributes(BaseEntity, String...)}: the attributes are only written if the
+   * condition attribute still holds the expected value (or is missing, for a null expected value). Used to apply a
+   * state transition at most once when concurrent requests race for it.
+   *
+   * @param entity             The entity holding the new attribute values
+   * @param conditionAttribute The attribute checked before writing
+   * @param expectedValue      The value the condition attribute must hold, or null if it must be missing
+   * @param attributeNames     The attribute names to write
+   * @return true if the item exists, held the expected value and was updated
+   * @throws IllegalStateException if the repository was built without a DynamoDbClient
+   * @throws DynamoDbException     if the update fails for any other reason than its condition
+   */
+  public boolean updateAttributesIf(T entity, String conditionAttribute, Object expectedValue, String... attributeNames) {
+    Map<String, String> names = new HashMap<>();
+    Map<String, AttributeValue> values = new HashMap<>();
+    names.put("#id", "id");
+    names.put("#expected", conditionAttribute);
+    String condition = "attribute_exists(#id) AND ";
+    if (expectedValue == null) {
+      condition += "attribute_not_exists(#expected)";
+    }
+    else {
+      values.put(":expected", convertAttribute(conditionAttribute, expectedValue));
+      condition += "#expected = :expected";
+    }
+
+    String updateExpression = buildUpdateClauses(attributesToWrite(entity, attributeNames), names, values);
+    return updateItem(entity.getId(), updateExpression, condition, names, values, ReturnValue.UPDATED_NEW).isPresent();
+  }
+
+  /**
+   * Optimistic variant of {@link #updateAttributes(BaseEntity, String...)}: the attributes are only written if the
+   * numeric version attribute still holds the value the entity was read with (or is missing in both), and the version is
+   * incremented in the same UpdateItem. The entity itself is not changed.
+   *
+   * @param entity           The entity, as read together with its version
+   * @param versionAttribute The numeric version attribute
+   * @param attributeNames   The attribute names to write
+   * @return The new version, or empty if the item does not exist or its version changed since it was read
+   * @throws IllegalStateException if the repository was built without a DynamoDbClient
+   * @throws DynamoDbException     if the update fails for any other reason than its condition
+   */
+  public OptionalLong updateVersionedAttributes(T entity, String versionAttribute, String... attributeNames) {
+    AttributeValue readVersion = tableSchema.attributeValue(entity, versionAttribute);
+    boolean hasVersion = readVersion != null && readVersion.n() != null;
+    long nextVersion = hasVersion ? Long.parseLong(readVersion.n()) + 1 : 1;
+
+    Map<String, String> names = new HashMap<>();
+    Map<String, AttributeValue> values = new HashMap<>();
+    names.put("#id", "id");
+    names.put("#version", versionAttribute);
+    values.put(":nextVersion", AttributeValue.builder().n(Long.toString(nextVersion)).build());
+    String condition = "attribute_exists(#id) AND ";
+    if (hasVersion) {
+      values.put(":readVersion", readVersion);
+      condition += "#version = :readVersion";
+    }
+    else {
+      condition += "attribute_not_exists(#version)";
+    }
+
+    String updateExpression = buildUpdateClauses(attributesToWrite(entity, attributeNames), names, values, "#version = :nextVersion");
+    return updateItem(entity.getId(), updateExpression, condition, names, values, ReturnValue.UPDATED_NEW).isPresent() ? OptionalLong.of(nextVersion) : OptionalLong.empty();
+  }
+
+  private Map<String, AttributeValue> attributesToWrite(T entity, String... attributeNames) {
+    if (entity instanceof AuditableEntity) {
+      ((AuditableEntity) entity).setLastUpdatedDate(Instant.now());
+    }
+
+    Map<String, AttributeValue> attributes = new LinkedHashMap<>();
+    for (String attributeName : attributeNames) {
+      attributes.put(attributeName, tableSchema.attributeValue(entity, attributeName));
+    }
+    if (entity instanceof AuditableEntity) {
+      attributes.put(LAST_UPDATED_DATE, tableSchema.attributeValue(entity, LAST_UPDATED_DATE));
+    }
+    return attributes;
+  }
+
+  private Map<String, AttributeValue> toAttributeValues(Map<String, ?> attributes) {
+    Map<String, AttributeValue> converted = new LinkedHashMap<>();
+    if (attributes != null) {
+      attributes.forEach((name, value) -> converted.put(name, convertAttribute(name, value)));
+    }
+    if (tableSchema.attributeNames().contains(LAST_UPDATED_DATE) && !converted.containsKey(LAST_UPDATED_DATE)) {
+      converted.put(LAST_UPDATED_DATE, convertAttribute(LAST_UPDATED_DATE, Instant.now()));
+    }
+    return converted;
+  }
+
+  @SuppressWarnings("unchecked")
+  private AttributeValue convertAttribute(String attributeName, Object value) {
+    if (value == null) {
+      return null;
+    }
+    AttributeConverter<Object> converter = (AttributeConverter<Object>) (AttributeConverter<?>) tableSchema.converterForAttribute(attributeName);
+    if (converter == null) {
+      throw new IllegalArgumentException("Unknown attribute " + attributeName + " for " + entityClass.getSimpleName());
+    }
+    return converter.transformFrom(value);
+  }
+
+  /**
+   * Builds the SET and REMOVE clauses writing the given attributes. Null attribute values are removed rather than
+   * stored as NULL, matching the items written by {@link #save(BaseEntity)}, so that attribute_not_exists conditions keep
+   * holding for them.
+   *
+   * @param setActions Extra actions placed first in the SET clause
+   */
+  private static String buildUpdateClauses(Map<String, AttributeValue> attributes, Map<String, String> names, Map<String, AttributeValue> values, String... setActions) {
+    List<String> set = new ArrayList<>(List.of(setActions));
+    List<String> remove = new ArrayList<>();
+    int index = 0;
+    for (Map.Entry<String, AttributeValue> attribute : attributes.entrySet()) {
+      String name = "#a" + index;
+      names.put(name, attribute.getKey());
+      if (attribute.getValue() == null || Boolean.TRUE.equals(attribute.getValue().nul())) {
+        remove.add(name);
+      }
+      else {
+        String value = ":a" + index;
+        values.put(value, attribute.getValue());
+        set.add(name + " = " + value);
+      }
+      index++;
+    }
+
+    StringBuilder clauses = new StringBuilder();
+    if (!set.isEmpty()) {
+      clauses.append("SET ").append(String.join(", ", set));
+    }
+    if (!remove.isEmpty()) {
+      clauses.append(clauses.length() == 0 ? "" : " ").append("REMOVE ").append(String.join(", ", remove));
+    }
+    return clauses.toString();
+  }
+
+  /**
+   * Runs an UpdateItem through the low-level client. Partial updates report a failed condition as an empty result and
+   * every other failure as an exception, so that callers never mistake a lost write for a rejected one.
+   *
+   * @throws IllegalStateException if the repository was built without a DynamoDbClient
+   * @throws DynamoDbException     if the update fails for any other reason than its condition
+   */
+  private Optional<Map<String, AttributeValue>> updateItem(String id, String updateExpression, String conditionExpression, Map<String, String> names, Map<String, AttributeValue> values, ReturnValue returnValue) {
+    if (dynamoDbClient == null) {
+      throw new IllegalStateException(getClass().getSimpleName() + " was built without a DynamoDbClient, partial updates are not available");
+    }
+
+    UpdateItemRequest request = UpdateItemRequest.builder()
+                                                 .tableName(tableName)
+                                                 .key(Map.of("id", AttributeValue.builder().s(id).build()))
+                                                 .updateExpression(updateExpression)
+                                                 .conditionExpression(conditionExpression)
+                                                 .expressionAttributeNames(names)
+                                                 // DynamoDB rejects an empty map, which a REMOVE-only update of a non auditable entity would send
+                                                 .expressionAttributeValues(values.isEmpty() ? null : values)
+                                                 .returnValues(returnValue)
+                                                 .build();
+    try {
+      UpdateItemResponse response = dynamoDbClient.updateItem(request);
+      log.debug("Successfully updated entity with id: {} ({})", id, updateExpression);
+      return Optional.of(response.attributes());
+    }
+    catch (ConditionalCheckFailedException e) {
+      log.debug("Conditional update of entity with id {} rejected: {}", id, conditionExpression);
+      return Optional.empty();
+    }
+    catch (DynamoDbException e) {
+      log.error("Error updating entity of type {} with id {}: {}", entityClass.getSimpleName(), id, e.getMessage(), e);
+      throw e;
+    }
+  }
+
+  private long currentCounterValue(T entity, String counterAttribute) {
+    AttributeValue value = tableSchema.attributeValue(entity, counterAttribute);
+    return value == null || value.n() == null ? 0L : Long.parseLong(value.n());
+  }
+
   public boolean existsById(String id) {
     return findById(id).isPresent();
   }
@@ -96,21 +570,139 @@ public abstract class AbstractCrudRepository<T extends BaseEntity> {
   protected List<T> queryBySecondaryIndex(String indexName, String partitionKeyAttributeName, String partitionKeyValue) {
     log.info("Querying index {} for tenantId: {}", indexName, partitionKeyValue);
 
-    QueryConditional queryConditional = QueryConditional.keyEqualTo(
-                                                                    Key.builder()
-                                                                       .partitionValue(partitionKeyValue)
-                                                                       .build()
-    );
-
-    QueryEnhancedRequest queryRequest = QueryEnhancedRequest.builder()
-                                                            .queryConditional(queryConditional)
-                                                            .consistentRead(false)  // GSI queries cannot use consistent reads
-                                                            .build();
-
-    SdkIterable<Page<T>> pages = getTable().index(indexName).query(queryRequest);
-    List<T> results = pages.stream().flatMap(page -> page.items().stream()).collect(Collectors.toList());
+    List<T> results = queryIndex(indexName, Key.builder().partitionValue(partitionKeyValue).build(), null).collect(Collectors.toList());
 
     log.info("Query returned {} results", results.size());
     return results;
   }
-}
\ No newline at end of file
+
+  /**
+   * Reads one page of a secondary index query by its full key.
+   *
+   * @param indexName        The GSI name
+   * @param key              The index key to match
+   * @param filterExpression Optional filter applied after the key condition, may be null
+   * @param pageSize         Maximum number of items evaluated for the page
+   * @param pageToken        Token of a previous page of the same query, or null for the first page
+   * @return The page, with the token of the next one
+   * @throws IllegalArgumentException if the page size is not positive or the token is invalid
+   */
+  protected PageResult<T> queryIndexPage(String indexName, Key key, Expression filterExpression, int pageSize, String pageToken) {
+    QueryEnhancedRequest.Builder queryRequest = QueryEnhancedRequest.builder()
+                                                                    .queryConditional(QueryConditional.keyEqualTo(key))
+                                                                    .consistentRead(false)  // GSI queries cannot use consistent reads
+                                                                    .limit(validPageSize(pageSize))
+                                                                    .exclusiveStartKey(PageTokens.decode(pageToken));
+    if (filterExpression != null) {
+      queryRequest.filterExpression(filterExpression);
+    }
+
+    return firstPage(getTable().index(indexName).query(queryRequest.build()));
+  }
+
+  /**
+   * Counts the items of a secondary index matching the key and filter with {@code Select.COUNT} queries, so no item is
+   * transferred. Every matching key is still read, one round-trip per 1 MB evaluated. Repositories built without a
+   * DynamoDbClient fall back to streaming the ids of the matching items.
+   *
+   * @param indexName        The GSI name
+   * @param key              The index key to match
+   * @param filterExpression Optional filter applied after the key condition, may be null
+   * @return Number of matching items
+   */
+  protected long countIndex(String indexName, Key key, Expression filterExpression) {
+    if (dynamoDbClient == null) {
+      return queryIndex(indexName, key, filterExpression, "id").count();
+    }
+
+    Map<String, String> names = new HashMap<>();
+    Map<String, AttributeValue> values = new HashMap<>();
+    StringBuilder keyCondition = new StringBuilder();
+    int index = 0;
+    for (Map.Entry<String, AttributeValue> keyAttribute : key.keyMap(tableSchema, indexName).entrySet()) {
+      names.put("#k" + index, keyAttribute.getKey());
+      values.put(":k" + index, keyAttribute.getValue());
+      keyCondition.append(index == 0 ? "" : " AND ").append("#k").append(index).append(" = :k").append(index);
+      index++;
+    }
+
+    QueryRequest.Builder queryRequest = QueryRequest.builder()
+                                                    .tableName(tableName)
+                                                    .indexName(indexName)
+                                                    .select(Select.COUNT)
+                                                    .keyConditionExpression(keyCondition.toString());
+    if (filterExpression != null) {
+      queryRequest.filterExpression(filterExpression.expression());
+      Optional.ofNullable(filterExpression.expressionNames()).ifPresent(names::putAll);
+      Optional.ofNullable(filterExpression.expressionValues()).ifPresent(values::putAll);
+    }
+    queryRequest.expressionAttributeNames(names).expressionAttributeValues(values);
+
+    long count = 0;
+    Map<String, AttributeValue> exclusiveStartKey = null;
+    do {
+      QueryResponse response = dynamoDbClient.query(queryRequest.exclusiveStartKey(exclusiveStartKey).build());
+      count += response.count();
+      exclusiveStartKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty() ? response.lastEvaluatedKey() : null;
+    } while (exclusiveStartKey != null);
+    return count;
+  }
+
+  private static <T> Stream<T> items(SdkIterable<Page<T>> pages) {
+    return pages.stream().flatMap(page -> page.items().stream());
+  }
+
+  private static <T> PageResult<T> firstPage(SdkIterable<Page<T>> pages) {
+    return pages.stream()
+                .findFirst()
+                .map(page -> PageResult.of(page.items(), PageTokens.encode(page.lastEvaluatedKey())))
+                .orElseGet(PageResult::empty);
+  }
+
+  private static int validPageSize(int pageSize) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+    }
+    return pageSize;
+  }
+
+  /**
+   * Queries a secondary index by its full key (partition value, plus sort value when set) and streams the matching
+   * items. Pages are fetched lazily, so short-circuiting operations stop reading as soon as they are satisfied.
+   *
+   * @param indexName           The GSI name
+   * @param key                 The index key to match
+   * @param filterExpression    Optional filter applied after the key condition, may be null
+   * @param attributesToProject Attributes to fetch; when given, the other attributes are neither transferred nor
+   *                            converted and stay null in the returned items
+   * @return Stream of matching items
+   */
+  protected Stream<T> queryIndex(String indexName, Key key, Expression filterExpression, String... attributesToProject) {
+    return queryIndex(indexName, key, filterExpression, null, attributesToProject);
+  }
+
+  /**
+   * Same as {@link #queryIndex(String, Key, Expression, String...)}, reading at most {@code pageSize} items per
+   * round-trip.
+   * <p>
+   * Items read with a projection are partial: they must not be saved or handed to callers expecting full entities.
+   *
+   * @param pageSize Maximum number of items evaluated per page, or null for the DynamoDB default
+   */
+  protected Stream<T> queryIndex(String indexName, Key key, Expression filterExpression, Integer pageSize, String... attributesToProject) {
+    QueryEnhancedRequest.Builder queryRequest = QueryEnhancedRequest.builder()
+                                                                    .queryConditional(QueryConditional.keyEqualTo(key))
+                                                                    .consistentRead(false);  // GSI queries cannot use consistent reads
+    if (filterExpression != null) {
+      queryRequest.filterExpression(filterExpression);
+    }
+    if (pageSize != null) {
+      queryRequest.limit(pageSize);
+    }
+    if (attributesToProject.length > 0) {
+      queryRequest.attributesToProject(attributesToProject);
+    }
+
+    return items(getTable().index(indexName).query(queryRequest.build()));
+  }
+}
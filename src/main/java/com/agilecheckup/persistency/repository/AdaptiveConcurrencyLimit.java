@@ -0,0 +1,108 @@
+package com.agilecheckup.persistency.repository;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit adjusted with additive increase, multiplicative decrease (AIMD) from the observed latency of the
+ * calls it admits.
+ * <p>
+ * A call completing within the target latency while the limit is in use raises the limit by about one per limit's worth
+ * of calls; a call that is slower than the target, fails with throttling or times out cuts it by
+ * {@value #DECREASE_FACTOR}. The limit never leaves {@code [minLimit, maxLimit]}. Callers take a permit with
+ * {@link #acquire(long)} before starting a call and return it with {@link #release(long, boolean)} when it ends.
+ * <p>
+ * Waiting uses a {@link ReentrantLock} rather than a monitor, so virtual threads waiting for a permit do not pin their
+ * carrier thread.
+ */
+final class AdaptiveConcurrencyLimit {
+
+  static final double DECREASE_FACTOR = 0.75;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long targetLatencyNanos;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition permitReleased = lock.newCondition();
+
+  private double limit;
+  private int inFlight;
+
+  AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long targetLatencyNanos) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException("Invalid concurrency bounds [" + minLimit + ", " + maxLimit + "]");
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.targetLatencyNanos = targetLatencyNanos;
+    this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+  }
+
+  /**
+   * Waits until fewer calls than the limit are in flight and takes a permit.
+   *
+   * @return true if a permit was taken, false if none was available within the timeout
+   */
+  boolean acquire(long timeoutNanos) throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      long remaining = timeoutNanos;
+      while (inFlight >= (int) limit) {
+        if (remaining <= 0) {
+          return false;
+        }
+        remaining = permitReleased.awaitNanos(remaining);
+      }
+      inFlight++;
+      return true;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns a permit and adjusts the limit from the outcome of the call.
+   *
+   * @param latencyNanos How long the call held the permit
+   * @param dropped      True if the call timed out or was throttled
+   */
+  void release(long latencyNanos, boolean dropped) {
+    lock.lock();
+    try {
+      boolean saturated = inFlight >= (int) limit;
+      inFlight--;
+      if (dropped || latencyNanos > targetLatencyNanos) {
+        limit = Math.max(minLimit, limit * DECREASE_FACTOR);
+      }
+      else if (saturated) {
+        limit = Math.min(maxLimit, limit + 1.0 / limit);
+      }
+      permitReleased.signalAll();
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  int getLimit() {
+    lock.lock();
+    try {
+      return (int) limit;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  int getInFlight() {
+    lock.lock();
+    try {
+      return inFlight;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+}
@@ -1,6 +1,5 @@
 package com.agilecheckup.persistency.repository;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,24 +14,37 @@ import com.google.common.annotations.VisibleForTesting;
 
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 public class AnswerRepository extends AbstractCrudRepository<Answer> {
 
-  @Inject
+  static final String ASSESSMENT_TENANT_INDEX = "employeeAssessmentId-tenantId-index";
+  static final String ASSESSMENT_QUESTION_INDEX = "employeeAssessmentId-questionId-index";
+
+  private final IoExecutor ioExecutor;
+
   public AnswerRepository(DynamoDbEnhancedClient dynamoDbEnhancedClient) {
+    this(dynamoDbEnhancedClient, IoExecutor.shared());
+  }
+
+  @Inject
+  public AnswerRepository(DynamoDbEnhancedClient dynamoDbEnhancedClient, IoExecutor ioExecutor) {
     super(dynamoDbEnhancedClient, Answer.class, "Answer");
+    this.ioExecutor = ioExecutor;
   }
 
   @VisibleForTesting
   public AnswerRepository(DynamoDbEnhancedClient dynamoDbEnhancedClient, String tableName) {
     super(dynamoDbEnhancedClient, Answer.class, tableName);
+    this.ioExecutor = IoExecutor.shared();
   }
 
   public List<Answer> findByEmployeeAssessmentId(String employeeAssessmentId, String tenantId) {
-    DynamoDbIndex<Answer> gsi = getTable().index("employeeAssessmentId-tenantId-index");
+    DynamoDbIndex<Answer> gsi = getTable().index(ASSESSMENT_TENANT_INDEX);
 
     Key key = Key.builder().partitionValue(employeeAssessmentId).sortValue(tenantId).build();
 
@@ -49,37 +61,23 @@ public class AnswerRepository extends AbstractCrudRepository<Answer> {
   /**
    * Efficiently retrieves only the question IDs that have been answered.
    * Performance optimized: Uses QUERY operation on employeeAssessmentId-tenantId-index GSI
-   * with projection to retrieve only questionId field, reducing data transfer by ~90%.
+   * projecting only the questionId attribute, so the embedded question JSON is neither transferred nor deserialized.
    *
    * @param employeeAssessmentId The employee assessment ID
    * @param tenantId             The tenant ID for data isolation
    * @return Set of question IDs that have been answered
    */
   public Set<String> findAnsweredQuestionIds(String employeeAssessmentId, String tenantId) {
-    DynamoDbIndex<Answer> gsi = getTable().index("employeeAssessmentId-tenantId-index");
-
     Key key = Key.builder().partitionValue(employeeAssessmentId).sortValue(tenantId).build();
 
-    QueryConditional queryConditional = QueryConditional.keyEqualTo(key);
-
-    QueryEnhancedRequest queryRequest = QueryEnhancedRequest.builder()
-                                                            .queryConditional(queryConditional)
-                                                            .consistentRead(false) // GSI queries are eventually consistent
-                                                            // Note: DynamoDB Enhanced Client doesn't support projection expressions directly
-                                                            // but we can still benefit from GSI query performance
-                                                            .build();
-
-    return gsi.query(queryRequest)
-              .stream()
-              .flatMap(page -> page.items().stream())
-              .map(Answer::getQuestionId)
-              .collect(Collectors.toSet());
+    return queryIndex(ASSESSMENT_TENANT_INDEX, key, null, "questionId").map(Answer::getQuestionId).collect(Collectors.toSet());
   }
 
   /**
    * Finds an existing answer for a specific question within an employee assessment.
    * Used for duplicate prevention: ensures only one answer per question per employee assessment.
-   * Performance optimized: Uses GSI query followed by stream filtering for precise matching.
+   * Performance optimized: Queries the employeeAssessmentId-questionId-index GSI by its full key, so the cost stays
+   * constant however many answers the assessment already has.
    *
    * @param employeeAssessmentId The employee assessment ID
    * @param questionId           The question ID to check for existing answer
@@ -87,93 +85,41 @@ public class AnswerRepository extends AbstractCrudRepository<Answer> {
    * @return Optional containing existing answer if found, empty otherwise
    */
   public Optional<Answer> findByEmployeeAssessmentIdAndQuestionId(String employeeAssessmentId, String questionId, String tenantId) {
-    DynamoDbIndex<Answer> gsi = getTable().index("employeeAssessmentId-tenantId-index");
+    Key key = Key.builder().partitionValue(employeeAssessmentId).sortValue(questionId).build();
 
-    Key key = Key.builder().partitionValue(employeeAssessmentId).sortValue(tenantId).build();
+    Expression tenantFilter = Expression.builder()
+                                        .expression("tenantId = :tenantId")
+                                        .putExpressionValue(":tenantId", AttributeValue.builder().s(tenantId).build())
+                                        .build();
 
-    QueryConditional queryConditional = QueryConditional.keyEqualTo(key);
-
-    QueryEnhancedRequest queryRequest = QueryEnhancedRequest.builder()
-                                                            .queryConditional(queryConditional)
-                                                            .consistentRead(false) // GSI queries are eventually consistent
-                                                            .build();
-
-    return gsi.query(queryRequest)
-              .stream()
-              .flatMap(page -> page.items().stream())
-              .filter(answer -> questionId.equals(answer.getQuestionId()))
-              .findFirst();
+    return queryIndex(ASSESSMENT_QUESTION_INDEX, key, tenantFilter).findFirst();
   }
 
-
   /**
-   * Efficiently retrieves answers for multiple employee assessments using optimized strategy.
-   * Performance optimized: Uses intelligent batching based on assessment count to minimize database calls.
-   * 
+   * Efficiently retrieves answers for multiple employee assessments, for blocking batch callers; request handlers use
+   * {@link AsyncAnswerRepository#findByEmployeeAssessmentIds(List, String)} through the service layer instead.
+   * Performance optimized: Runs one GSI query per assessment concurrently on the {@link IoExecutor}, whose adaptive
+   * concurrency limit follows the observed query latency.
+   *
    * @param employeeAssessmentIds List of employee assessment IDs to retrieve answers for
    * @param tenantId              The tenant ID for data isolation
-   * @return Map of assessment ID to list of answers
+   * @return Map of assessment ID to list of answers, leaving out assessments without answers
+   * @throws RuntimeException if a query fails or times out
    */
   public Map<String, List<Answer>> findByEmployeeAssessmentIds(List<String> employeeAssessmentIds, String tenantId) {
-    Map<String, List<Answer>> result = new HashMap<>();
-
     if (employeeAssessmentIds == null || employeeAssessmentIds.isEmpty()) {
-      return result;
+      return new HashMap<>();
     }
 
-    // Performance optimization: Choose strategy based on number of assessments
-    // For large numbers (>15), parallel processing is more efficient
-    // For smaller numbers, sequential processing has less overhead
-    if (employeeAssessmentIds.size() > 15) {
-      return findByEmployeeAssessmentIdsParallel(employeeAssessmentIds, tenantId);
-    }
-    else {
-      return findByEmployeeAssessmentIdsSequential(employeeAssessmentIds, tenantId);
-    }
-  }
+    List<String> distinctIds = employeeAssessmentIds.stream().distinct().collect(Collectors.toList());
+    List<List<Answer>> answersByIndex = ioExecutor.mapAll(distinctIds, assessmentId -> findByEmployeeAssessmentId(assessmentId, tenantId));
 
-  /**
-   * Sequential processing for smaller assessment sets.
-   * More efficient for small numbers due to lower coordination overhead.
-   */
-  private Map<String, List<Answer>> findByEmployeeAssessmentIdsSequential(List<String> employeeAssessmentIds, String tenantId) {
     Map<String, List<Answer>> result = new HashMap<>();
-
-    for (String assessmentId : employeeAssessmentIds) {
-      List<Answer> answers = findByEmployeeAssessmentId(assessmentId, tenantId);
-      if (!answers.isEmpty()) {
-        result.put(assessmentId, answers);
+    for (int i = 0; i < distinctIds.size(); i++) {
+      if (!answersByIndex.get(i).isEmpty()) {
+        result.put(distinctIds.get(i), answersByIndex.get(i));
       }
     }
-
     return result;
   }
-
-  /**
-   * Parallel processing for larger assessment sets.
-   * Uses parallel streams to execute multiple GSI queries concurrently.
-   */
-  private Map<String, List<Answer>> findByEmployeeAssessmentIdsParallel(List<String> employeeAssessmentIds, String tenantId) {
-    // Use parallel streams to execute multiple GSI queries concurrently
-    return employeeAssessmentIds.parallelStream()
-                                .collect(Collectors.toConcurrentMap(
-                                                                    assessmentId -> assessmentId, assessmentId -> {
-                                                                      try {
-                                                                        return findByEmployeeAssessmentId(assessmentId, tenantId);
-                                                                      }
-                                                                      catch (Exception e) {
-                                                                        // Log error and return empty list to continue processing other assessments
-                                                                        return Collections.<Answer>emptyList();
-                                                                      }
-                                                                    },
-                                                                    // Handle duplicate keys (shouldn't happen with unique assessment IDs)
-                                                                    (existing, replacement) -> existing
-                                ))
-                                .entrySet()
-                                .stream()
-                                .filter(entry -> !entry.getValue().isEmpty())
-                                .collect(Collectors.toMap(
-                                                          Map.Entry::getKey, Map.Entry::getValue
-                                ));
-  }
-}
\ No newline at end of file
+}
@@ -1,6 +1,8 @@
 package com.agilecheckup.persistency.repository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -9,16 +11,32 @@ import com.agilecheckup.persistency.entity.AssessmentMatrix;
 
 import lombok.extern.log4j.Log4j2;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 @Log4j2
 @Singleton
 public class AssessmentMatrixRepository extends AbstractCrudRepository<AssessmentMatrix> {
 
-  @Inject
   public AssessmentMatrixRepository(DynamoDbEnhancedClient enhancedClient) {
     super(enhancedClient, AssessmentMatrix.class, "AssessmentMatrix");
   }
 
+  @Inject
+  public AssessmentMatrixRepository(DynamoDbEnhancedClient enhancedClient, DynamoDbClient dynamoDbClient) {
+    super(enhancedClient, dynamoDbClient, AssessmentMatrix.class, "AssessmentMatrix");
+  }
+
+  /**
+   * Atomically adds delta to questionCount, never going below zero.
+   *
+   * @param matrixId The assessment matrix ID
+   * @param delta    The amount to add, usually 1 or -1
+   * @return The matrix with its new question count, or empty if the matrix does not exist
+   */
+  public Optional<AssessmentMatrix> addToQuestionCount(String matrixId, int delta) {
+    return incrementAttributeAndGet(matrixId, "questionCount", delta, Map.of());
+  }
+
   public List<AssessmentMatrix> findAllByTenantId(String tenantId) {
     log.info("AssessmentMatrixRepository.findAllByTenantId called with tenantId: {}", tenantId);
     return queryBySecondaryIndex("tenantId-index", "tenantId", tenantId);
@@ -0,0 +1,77 @@
+package com.agilecheckup.persistency.repository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import com.agilecheckup.persistency.entity.AssessmentStatus;
+import com.agilecheckup.persistency.entity.AssessmentStatusHistogram;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+@Slf4j
+public class AssessmentStatusHistogramRepository extends AbstractCrudRepository<AssessmentStatusHistogram> {
+
+  @Inject
+  public AssessmentStatusHistogramRepository(DynamoDbEnhancedClient enhancedClient, DynamoDbClient dynamoDbClient) {
+    super(enhancedClient, dynamoDbClient, AssessmentStatusHistogram.class, "AssessmentStatusHistogram");
+  }
+
+  /**
+   * Stores an empty histogram for a new assessment matrix unless one exists.
+   *
+   * @return true if the histogram was written, false if it already existed
+   */
+  public boolean createIfAbsent(String assessmentMatrixId, String tenantId) {
+    AssessmentStatusHistogram histogram = AssessmentStatusHistogram.of(assessmentMatrixId, tenantId, Map.of());
+    histogram.updateTimestamps();
+    PutItemEnhancedRequest<AssessmentStatusHistogram> request = PutItemEnhancedRequest.builder(AssessmentStatusHistogram.class)
+                                                                                      .item(histogram)
+                                                                                      .conditionExpression(Expression.builder()
+                                                                                                                     .expression("attribute_not_exists(#id)")
+                                                                                                                     .putExpressionName("#id", "id")
+                                                                                                                     .build())
+                                                                                      .build();
+    try {
+      getTable().putItem(request);
+      return true;
+    }
+    catch (ConditionalCheckFailedException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Moves one assessment of the matrix from one status to another with a single atomic update.
+   *
+   * @param assessmentMatrixId The assessment matrix ID
+   * @param from               The previous status, or null for a new assessment
+   * @param to                 The new status, or null for a deleted assessment
+   * @return true if the histogram was updated, false if the matrix has no histogram or nothing changed
+   */
+  public boolean recordTransition(String assessmentMatrixId, AssessmentStatus from, AssessmentStatus to) {
+    if (from == to) {
+      return false;
+    }
+
+    Map<String, Long> deltas = new LinkedHashMap<>();
+    if (from != null) {
+      deltas.put(AssessmentStatusHistogram.countAttribute(from), -1L);
+    }
+    if (to != null) {
+      deltas.put(AssessmentStatusHistogram.countAttribute(to), 1L);
+    }
+
+    boolean updated = addToAttributes(assessmentMatrixId, deltas);
+    if (!updated) {
+      log.debug("No status histogram for assessment matrix {}, transition {} -> {} not recorded", assessmentMatrixId, from, to);
+    }
+    return updated;
+  }
+}
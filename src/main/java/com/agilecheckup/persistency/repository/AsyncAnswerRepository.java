@@ -0,0 +1,157 @@
+package com.agilecheckup.persistency.repository;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.inject.Inject;
+
+import com.agilecheckup.persistency.entity.question.Answer;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+
+/**
+ * Non-blocking reads of the Answer table, for the fan-out paths of {@link AnswerRepository}.
+ */
+public class AsyncAnswerRepository extends AbstractAsyncCrudRepository<Answer> {
+
+  static final int DEFAULT_MAX_QUERIES_IN_FLIGHT = 16;
+
+  private final int maxQueriesInFlight;
+
+  @Inject
+  public AsyncAnswerRepository(DynamoDbEnhancedAsyncClient enhancedAsyncClient) {
+    this(enhancedAsyncClient, DEFAULT_MAX_QUERIES_IN_FLIGHT);
+  }
+
+  /**
+   * @param maxQueriesInFlight Upper bound of the index queries one fan-out keeps in flight, to stay within the
+   *                           connections of the async client
+   */
+  public AsyncAnswerRepository(DynamoDbEnhancedAsyncClient enhancedAsyncClient, int maxQueriesInFlight) {
+    super(enhancedAsyncClient, Answer.class, "Answer");
+    if (maxQueriesInFlight < 1) {
+      throw new IllegalArgumentException("maxQueriesInFlight must be positive: " + maxQueriesInFlight);
+    }
+    this.maxQueriesInFlight = maxQueriesInFlight;
+  }
+
+  /**
+   * Same as {@link AnswerRepository#findByEmployeeAssessmentId(String, String)}, without blocking.
+   */
+  public CompletableFuture<List<Answer>> findByEmployeeAssessmentId(String employeeAssessmentId, String tenantId) {
+    Key key = Key.builder().partitionValue(employeeAssessmentId).sortValue(tenantId).build();
+    return collect(queryIndex(AnswerRepository.ASSESSMENT_TENANT_INDEX, key, null));
+  }
+
+  /**
+   * Same as {@link AnswerRepository#findByEmployeeAssessmentIds(List, String)}: the answers of every assessment, by
+   * assessment id, leaving out assessments without answers. Up to {@code maxQueriesInFlight} index queries run at once,
+   * each completed query starting the next, so a large matrix neither floods the async client's connection pool nor
+   * holds a thread while waiting. The first failed query fails the result and no further queries are started.
+   *
+   * @param employeeAssessmentIds The employee assessment IDs
+   * @param tenantId              The tenant ID for data isolation
+   * @return Map of assessment id to its answers, completed exceptionally if a query fails
+   */
+  public CompletableFuture<Map<String, List<Answer>>> findByEmployeeAssessmentIds(List<String> employeeAssessmentIds, String tenantId) {
+    if (employeeAssessmentIds == null || employeeAssessmentIds.isEmpty()) {
+      return CompletableFuture.completedFuture(Map.of());
+    }
+
+    BoundedQueries queries = new BoundedQueries(List.copyOf(new LinkedHashSet<>(employeeAssessmentIds)), tenantId);
+    for (int i = 0; i < maxQueriesInFlight && !queries.result.isDone(); i++) {
+      queries.runQueries();
+    }
+    return queries.result;
+  }
+
+  /**
+   * The per-assessment queries of one {@link #findByEmployeeAssessmentIds} call, started in order as earlier ones
+   * complete.
+   */
+  private final class BoundedQueries {
+
+    private final List<String> assessmentIds;
+    private final String tenantId;
+    private final AtomicReferenceArray<List<Answer>> answers;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final AtomicInteger remaining;
+    private final CompletableFuture<Map<String, List<Answer>>> result = new CompletableFuture<>();
+
+    private BoundedQueries(List<String> assessmentIds, String tenantId) {
+      this.assessmentIds = assessmentIds;
+      this.tenantId = tenantId;
+      this.answers = new AtomicReferenceArray<>(assessmentIds.size());
+      this.remaining = new AtomicInteger(assessmentIds.size());
+    }
+
+    /**
+     * Runs queries one after the other until none is left or the result is done. Queries completing before their
+     * callback is registered are handled by the loop instead of the callback, so synchronous publishers do not grow the
+     * stack; a query completing later resumes the loop from its callback.
+     */
+    private void runQueries() {
+      while (true) {
+        int index = nextIndex.getAndIncrement();
+        if (index >= assessmentIds.size() || result.isDone()) {
+          return;
+        }
+
+        CompletableFuture<List<Answer>> query;
+        try {
+          query = findByEmployeeAssessmentId(assessmentIds.get(index), tenantId);
+        }
+        catch (RuntimeException e) {
+          result.completeExceptionally(e);
+          return;
+        }
+
+        // Whichever of the callback and this loop gets here last carries on with the next query
+        AtomicBoolean handedOver = new AtomicBoolean();
+        query.whenComplete((found, failure) -> {
+          if (record(index, found, failure) && !handedOver.compareAndSet(false, true)) {
+            runQueries();
+          }
+        });
+        if (handedOver.compareAndSet(false, true)) {
+          return;
+        }
+      }
+    }
+
+    /**
+     * @return true if more queries should be started
+     */
+    private boolean record(int index, List<Answer> found, Throwable failure) {
+      if (failure != null) {
+        result.completeExceptionally(failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure);
+        return false;
+      }
+      answers.set(index, found);
+      if (remaining.decrementAndGet() == 0) {
+        result.complete(collectNonEmpty());
+        return false;
+      }
+      return true;
+    }
+
+    private Map<String, List<Answer>> collectNonEmpty() {
+      Map<String, List<Answer>> byAssessment = new LinkedHashMap<>();
+      for (int i = 0; i < assessmentIds.size(); i++) {
+        List<Answer> found = answers.get(i);
+        if (!found.isEmpty()) {
+          byAssessment.put(assessmentIds.get(i), found);
+        }
+      }
+      return byAssessment;
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package com.agilecheckup.persistency.repository;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.inject.Inject;
+
+import com.agilecheckup.persistency.entity.EmployeeAssessment;
+
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Non-blocking reads of the EmployeeAssessment table, for the fan-out paths of {@link EmployeeAssessmentRepository}.
+ */
+public class AsyncEmployeeAssessmentRepository extends AbstractAsyncCrudRepository<EmployeeAssessment> {
+
+  @Inject
+  public AsyncEmployeeAssessmentRepository(DynamoDbEnhancedAsyncClient enhancedAsyncClient) {
+    super(enhancedAsyncClient, EmployeeAssessment.class, "EmployeeAssessment");
+  }
+
+  /**
+   * Same as {@link EmployeeAssessmentRepository#findByAssessmentMatrixId(String, String)}, without blocking.
+   *
+   * @return The employee assessments of the matrix, completed exceptionally if the query fails
+   */
+  public CompletableFuture<List<EmployeeAssessment>> findByAssessmentMatrixId(String assessmentMatrixId, String tenantId) {
+    return collect(publishByAssessmentMatrixId(assessmentMatrixId, tenantId));
+  }
+
+  /**
+   * Publishes the employee assessments of the matrix, filtered by tenant for security, requesting GSI pages as the
+   * subscriber signals demand.
+   */
+  public SdkPublisher<EmployeeAssessment> publishByAssessmentMatrixId(String assessmentMatrixId, String tenantId) {
+    Expression tenantFilter = Expression.builder()
+                                        .expression("tenantId = :tenantId")
+                                        .putExpressionValue(":tenantId", AttributeValue.builder().s(tenantId).build())
+                                        .build();
+    return queryIndex(EmployeeAssessmentRepository.MATRIX_EMAIL_INDEX, Key.builder().partitionValue(assessmentMatrixId).build(), tenantFilter);
+  }
+}
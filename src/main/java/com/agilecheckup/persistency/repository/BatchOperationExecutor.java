@@ -0,0 +1,186 @@
+package com.agilecheckup.persistency.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+
+/**
+ * Executes DynamoDB batch operations through the enhanced client.
+ * <p>
+ * Items are sent in chunks of the DynamoDB request limit. Unprocessed items and throttled requests are retried with
+ * exponential backoff and full jitter, until every item is written or the attempt budget is exhausted, in which case a
+ * RuntimeException is thrown. Latency and throttle counters are exposed through {@link #getMetrics()}.
+ */
+@Slf4j
+public class BatchOperationExecutor {
+
+  static final int MAX_WRITE_BATCH_SIZE = 25;
+  static final int MAX_GET_BATCH_SIZE = 100;
+
+  private static final int DEFAULT_MAX_ATTEMPTS = 8;
+  private static final long DEFAULT_BASE_DELAY_MS = 50;
+  private static final long DEFAULT_MAX_DELAY_MS = 2_000;
+
+  private final DynamoDbEnhancedClient enhancedClient;
+  private final int maxAttempts;
+  private final long baseDelayMillis;
+  private final long maxDelayMillis;
+
+  @Getter
+  private final BatchOperationMetrics metrics = new BatchOperationMetrics();
+
+  public BatchOperationExecutor(DynamoDbEnhancedClient enhancedClient) {
+    this(enhancedClient, DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_DELAY_MS, DEFAULT_MAX_DELAY_MS);
+  }
+
+  @VisibleForTesting
+  BatchOperationExecutor(DynamoDbEnhancedClient enhancedClient, int maxAttempts, long baseDelayMillis, long maxDelayMillis) {
+    this.enhancedClient = enhancedClient;
+    this.maxAttempts = maxAttempts;
+    this.baseDelayMillis = baseDelayMillis;
+    this.maxDelayMillis = maxDelayMillis;
+  }
+
+  /**
+   * Writes all items with BatchWriteItem, 25 items per request. Items must have distinct primary keys, as DynamoDB
+   * rejects a batch containing the same key twice.
+   *
+   * @param table     The target table
+   * @param itemClass The item class, used to build the write batches
+   * @param items     The items to put
+   */
+  public <T> void putAll(DynamoDbTable<T> table, Class<T> itemClass, List<T> items) {
+    for (List<T> chunk : Lists.partition(items, MAX_WRITE_BATCH_SIZE)) {
+      putChunk(table, itemClass, chunk);
+    }
+  }
+
+  private <T> void putChunk(DynamoDbTable<T> table, Class<T> itemClass, List<T> chunk) {
+    List<T> pending = new ArrayList<>(chunk);
+    int attempt = 0;
+    while (!pending.isEmpty()) {
+      attempt++;
+      long start = System.nanoTime();
+      try {
+        BatchWriteResult result = enhancedClient.batchWriteItem(buildWriteRequest(table, itemClass, pending));
+        List<T> unprocessed = result.unprocessedPutItemsForTable(table);
+        long latency = System.nanoTime() - start;
+        metrics.recordBatch(pending.size(), unprocessed.size(), latency);
+        log.debug("Batch write to {}: {} items, {} unprocessed, {} ms", table.tableName(), pending.size(), unprocessed.size(), latency / 1_000_000);
+        pending = unprocessed;
+      }
+      catch (DynamoDbException e) {
+        if (!isThrottle(e)) {
+          throw e;
+        }
+        metrics.recordThrottle(System.nanoTime() - start);
+        log.warn("Batch write to {} throttled on attempt {}: {}", table.tableName(), attempt, e.getMessage());
+      }
+
+      if (!pending.isEmpty()) {
+        if (attempt >= maxAttempts) {
+          throw new RuntimeException(String.format("Batch write to %s left %d unprocessed items after %d attempts", table.tableName(), pending.size(), attempt));
+        }
+        metrics.recordRetry();
+        backoff(attempt);
+      }
+    }
+  }
+
+  /**
+   * Reads all keys with BatchGetItem, 100 keys per request, retrying unprocessed keys with backoff. Keys that do not
+   * exist are simply absent from the result, and the result order is not guaranteed.
+   *
+   * @param table     The source table
+   * @param itemClass The item class, used to build the read batches
+   * @param keys      Distinct primary keys, as DynamoDB rejects a batch containing the same key twice
+   * @return The items found
+   */
+  public <T> List<T> getAll(DynamoDbTable<T> table, Class<T> itemClass, List<Key> keys) {
+    List<T> results = new ArrayList<>(keys.size());
+    for (List<Key> chunk : Lists.partition(keys, MAX_GET_BATCH_SIZE)) {
+      getChunk(table, itemClass, chunk, results);
+    }
+    return results;
+  }
+
+  private <T> void getChunk(DynamoDbTable<T> table, Class<T> itemClass, List<Key> chunk, List<T> results) {
+    List<Key> pending = new ArrayList<>(chunk);
+    int attempt = 0;
+    while (!pending.isEmpty()) {
+      attempt++;
+      long start = System.nanoTime();
+      try {
+        // Only the first page is consumed: the SDK would otherwise re-request unprocessed keys immediately, without backoff
+        BatchGetResultPage page = enhancedClient.batchGetItem(buildGetRequest(table, itemClass, pending)).iterator().next();
+        List<Key> unprocessed = page.unprocessedKeysForTable(table);
+        results.addAll(page.resultsForTable(table));
+        long latency = System.nanoTime() - start;
+        metrics.recordBatch(pending.size(), unprocessed.size(), latency);
+        log.debug("Batch get from {}: {} keys, {} unprocessed, {} ms", table.tableName(), pending.size(), unprocessed.size(), latency / 1_000_000);
+        pending = unprocessed;
+      }
+      catch (DynamoDbException e) {
+        if (!isThrottle(e)) {
+          throw e;
+        }
+        metrics.recordThrottle(System.nanoTime() - start);
+        log.warn("Batch get from {} throttled on attempt {}: {}", table.tableName(), attempt, e.getMessage());
+      }
+
+      if (!pending.isEmpty()) {
+        if (attempt >= maxAttempts) {
+          throw new RuntimeException(String.format("Batch get from %s left %d unprocessed keys after %d attempts", table.tableName(), pending.size(), attempt));
+        }
+        metrics.recordRetry();
+        backoff(attempt);
+      }
+    }
+  }
+
+  private static <T> BatchGetItemEnhancedRequest buildGetRequest(DynamoDbTable<T> table, Class<T> itemClass, List<Key> keys) {
+    ReadBatch.Builder<T> batch = ReadBatch.builder(itemClass).mappedTableResource(table);
+    keys.forEach(batch::addGetItem);
+    return BatchGetItemEnhancedRequest.builder().readBatches(batch.build()).build();
+  }
+
+  private static <T> BatchWriteItemEnhancedRequest buildWriteRequest(DynamoDbTable<T> table, Class<T> itemClass, List<T> items) {
+    WriteBatch.Builder<T> batch = WriteBatch.builder(itemClass).mappedTableResource(table);
+    items.forEach(batch::addPutItem);
+    return BatchWriteItemEnhancedRequest.builder().writeBatches(batch.build()).build();
+  }
+
+  static boolean isThrottle(DynamoDbException e) {
+    return e instanceof ProvisionedThroughputExceededException || e instanceof RequestLimitExceededException || e.isThrottlingException();
+  }
+
+  private void backoff(int attempt) {
+    long ceiling = Math.min(maxDelayMillis, baseDelayMillis * (1L << Math.min(attempt - 1, 20)));
+    long delay = ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    try {
+      Thread.sleep(delay);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while retrying batch operation", e);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.agilecheckup.persistency.repository;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counters for the batch operations issued by a repository.
+ * <p>
+ * One "batch" is one BatchWriteItem/BatchGetItem round-trip, including retries of unprocessed items. Throttles count
+ * both throttling exceptions and round-trips that came back with unprocessed items, which DynamoDB returns when the
+ * table or partition is over capacity.
+ */
+public class BatchOperationMetrics {
+
+  private final LongAdder batches = new LongAdder();
+  private final LongAdder items = new LongAdder();
+  private final LongAdder unprocessedItems = new LongAdder();
+  private final LongAdder retries = new LongAdder();
+  private final LongAdder throttles = new LongAdder();
+  private final LongAdder totalLatencyNanos = new LongAdder();
+  private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+  void recordBatch(int itemCount, int unprocessedCount, long latencyNanos) {
+    batches.increment();
+    items.add(itemCount);
+    totalLatencyNanos.add(latencyNanos);
+    maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    if (unprocessedCount > 0) {
+      unprocessedItems.add(unprocessedCount);
+      throttles.increment();
+    }
+  }
+
+  void recordThrottle(long latencyNanos) {
+    batches.increment();
+    throttles.increment();
+    totalLatencyNanos.add(latencyNanos);
+    maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+  }
+
+  void recordRetry() {
+    retries.increment();
+  }
+
+  public long getBatchCount() {
+    return batches.sum();
+  }
+
+  public long getItemCount() {
+    return items.sum();
+  }
+
+  public long getUnprocessedItemCount() {
+    return unprocessedItems.sum();
+  }
+
+  public long getRetryCount() {
+    return retries.sum();
+  }
+
+  public long getThrottleCount() {
+    return throttles.sum();
+  }
+
+  public double getAverageLatencyMillis() {
+    long count = batches.sum();
+    return count == 0 ? 0d : totalLatencyNanos.sum() / 1_000_000d / count;
+  }
+
+  public double getMaxLatencyMillis() {
+    return maxLatencyNanos.get() / 1_000_000d;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("BatchOperationMetrics{batches=%d, items=%d, unprocessed=%d, retries=%d, throttles=%d, avgLatencyMs=%.2f, maxLatencyMs=%.2f}", getBatchCount(), getItemCount(), getUnprocessedItemCount(), getRetryCount(), getThrottleCount(), getAverageLatencyMillis(), getMaxLatencyMillis());
+  }
+}
@@ -1,34 +1,70 @@
 package com.agilecheckup.persistency.repository;
 
+import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 
+import com.agilecheckup.persistency.entity.AssessmentStatus;
 import com.agilecheckup.persistency.entity.EmployeeAssessment;
 import com.google.common.annotations.VisibleForTesting;
 
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
-import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
-import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
-import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 public class EmployeeAssessmentRepository extends AbstractCrudRepository<EmployeeAssessment> {
 
-  @Inject
+  static final String MATRIX_EMAIL_INDEX = "assessmentMatrixId-employeeEmail-index";
+  private static final String TENANT_INDEX = "tenantId-index";
+
   public EmployeeAssessmentRepository(DynamoDbEnhancedClient dynamoDbEnhancedClient) {
     super(dynamoDbEnhancedClient, EmployeeAssessment.class, "EmployeeAssessment");
   }
 
+  @Inject
+  public EmployeeAssessmentRepository(DynamoDbEnhancedClient dynamoDbEnhancedClient, DynamoDbClient dynamoDbClient) {
+    super(dynamoDbEnhancedClient, dynamoDbClient, EmployeeAssessment.class, "EmployeeAssessment");
+  }
+
   @VisibleForTesting
   public EmployeeAssessmentRepository(DynamoDbEnhancedClient dynamoDbEnhancedClient, String tableName) {
     super(dynamoDbEnhancedClient, EmployeeAssessment.class, tableName);
   }
 
+  /**
+   * Atomically increments answeredQuestionCount and sets lastActivityDate, so concurrent answers are all counted.
+   *
+   * @param employeeAssessmentId The employee assessment ID
+   * @param lastActivityDate     The activity timestamp to store
+   * @return The new answered question count, or empty if the employee assessment does not exist
+   */
+  public OptionalLong incrementAnsweredQuestionCount(String employeeAssessmentId, Date lastActivityDate) {
+    return incrementAttribute(employeeAssessmentId, "answeredQuestionCount", 1, Map.of("lastActivityDate", lastActivityDate));
+  }
+
+  /**
+   * Writes the score of the employee assessment if its score version is still the one it was read with, and advances
+   * the version of the entity on success.
+   *
+   * @param employeeAssessment The employee assessment holding the new score and the version it was computed from
+   * @return true if the score was written, false if the item is gone or its score changed meanwhile
+   */
+  public boolean updateScoreIfUnchanged(EmployeeAssessment employeeAssessment) {
+    OptionalLong version = updateVersionedAttributes(employeeAssessment, "scoreVersion", "employeeAssessmentScore");
+    version.ifPresent(newVersion -> employeeAssessment.setScoreVersion(newVersion));
+    return version.isPresent();
+  }
+
   /**
    * Check if employee assessment already exists for the given assessment matrix and employee email.
    * Uses GSI for efficient querying instead of scanning the entire table.
@@ -41,28 +77,10 @@ public class EmployeeAssessmentRepository extends AbstractCrudRepository<Employe
     String normalizedEmail = employeeEmail.toLowerCase().trim();
 
     try {
-      DynamoDbIndex<EmployeeAssessment> gsi = getTable().index("assessmentMatrixId-employeeEmail-index");
-
-      QueryConditional queryConditional = QueryConditional.keyEqualTo(
-                                                                      Key.builder()
-                                                                         .partitionValue(assessmentMatrixId)
-                                                                         .sortValue(normalizedEmail)
-                                                                         .build()
-      );
-
-      QueryEnhancedRequest queryRequest = QueryEnhancedRequest.builder()
-                                                              .queryConditional(queryConditional)
-                                                              .limit(1) // We only need to know if any exists
-                                                              .build();
-
-      List<EmployeeAssessment> results = gsi.query(queryRequest)
-                                            .stream()
-                                            .flatMap(page -> page.items().stream())
-                                            .limit(1)
-                                            .collect(java.util.stream.Collectors.toList());
-
-      return !results.isEmpty();
+      Key key = Key.builder().partitionValue(assessmentMatrixId).sortValue(normalizedEmail).build();
 
+      // We only need to know if any exists, so only the id is fetched
+      return queryIndex(MATRIX_EMAIL_INDEX, key, null, 1, "id").findFirst().isPresent();
     }
     catch (Exception e) {
       // If GSI doesn't exist or there's a configuration error, fail fast
@@ -77,7 +95,29 @@ public class EmployeeAssessmentRepository extends AbstractCrudRepository<Employe
    * @return List of employee assessments for the tenant
    */
   public List<EmployeeAssessment> findAllByTenantId(String tenantId) {
-    return queryBySecondaryIndex("tenantId-index", "tenantId", tenantId);
+    return queryBySecondaryIndex(TENANT_INDEX, "tenantId", tenantId);
+  }
+
+  /**
+   * Streams the employee assessments of the tenant, reading the GSI page by page as the stream is consumed.
+   *
+   * @param tenantId The tenant ID
+   * @return Lazy stream of the employee assessments of the tenant
+   */
+  public Stream<EmployeeAssessment> streamAllByTenantId(String tenantId) {
+    return queryIndex(TENANT_INDEX, Key.builder().partitionValue(tenantId).build(), null);
+  }
+
+  /**
+   * Reads one page of the employee assessments of the tenant.
+   *
+   * @param tenantId  The tenant ID
+   * @param pageSize  Maximum number of items in the page
+   * @param pageToken Token of the previous page, or null for the first page
+   * @return The page, with the token of the next one
+   */
+  public PageResult<EmployeeAssessment> findPageByTenantId(String tenantId, int pageSize, String pageToken) {
+    return queryIndexPage(TENANT_INDEX, Key.builder().partitionValue(tenantId).build(), null, pageSize, pageToken);
   }
 
   /**
@@ -90,41 +130,42 @@ public class EmployeeAssessmentRepository extends AbstractCrudRepository<Employe
    */
   public List<EmployeeAssessment> findByAssessmentMatrixId(String assessmentMatrixId, String tenantId) {
     try {
-      DynamoDbIndex<EmployeeAssessment> gsi = getTable().index("assessmentMatrixId-employeeEmail-index");
-
-      QueryConditional queryConditional = QueryConditional.keyEqualTo(
-                                                                      Key.builder()
-                                                                         .partitionValue(assessmentMatrixId)
-                                                                         .build()
-      );
-
-      // Add tenant filter for security
-      Map<String, AttributeValue> expressionValues = new HashMap<>();
-      expressionValues.put(":tenantId", AttributeValue.builder().s(tenantId).build());
-
-      Expression filterExpression = Expression.builder()
-                                              .expression("tenantId = :tenantId")
-                                              .expressionValues(expressionValues)
-                                              .build();
-
-      QueryEnhancedRequest queryRequest = QueryEnhancedRequest.builder()
-                                                              .queryConditional(queryConditional)
-                                                              .filterExpression(filterExpression)
-                                                              .build();
-
-      return gsi.query(queryRequest)
-                .stream()
-                .flatMap(page -> page.items().stream())
-                .collect(java.util.stream.Collectors.toList());
+      return streamByAssessmentMatrixId(assessmentMatrixId, tenantId).collect(Collectors.toList());
     }
     catch (Exception e) {
       throw new RuntimeException("Failed to query employee assessments by matrix ID: " + assessmentMatrixId, e);
     }
   }
 
+  /**
+   * Streams the employee assessments of the matrix, filtered by tenant for security, reading the GSI page by page as the
+   * stream is consumed.
+   *
+   * @param assessmentMatrixId The assessment matrix ID
+   * @param tenantId           The tenant ID for additional filtering
+   * @return Lazy stream of the employee assessments of the matrix
+   */
+  public Stream<EmployeeAssessment> streamByAssessmentMatrixId(String assessmentMatrixId, String tenantId) {
+    return queryIndex(MATRIX_EMAIL_INDEX, matrixKey(assessmentMatrixId), tenantFilter(tenantId));
+  }
+
+  /**
+   * Reads one page of the employee assessments of the matrix, filtered by tenant.
+   *
+   * @param assessmentMatrixId The assessment matrix ID
+   * @param tenantId           The tenant ID for additional filtering
+   * @param pageSize           Maximum number of items evaluated for the page
+   * @param pageToken          Token of the previous page, or null for the first page
+   * @return The page, with the token of the next one
+   */
+  public PageResult<EmployeeAssessment> findPageByAssessmentMatrixId(String assessmentMatrixId, String tenantId, int pageSize, String pageToken) {
+    return queryIndexPage(MATRIX_EMAIL_INDEX, matrixKey(assessmentMatrixId), tenantFilter(tenantId), pageSize, pageToken);
+  }
+
   /**
    * Check if all employee assessments for a given assessment matrix and tenant are completed.
-   * This is a low-latency, low-cost method that stops as soon as it finds any non-completed assessment.
+   * Stops at the first page holding a non-completed assessment. Pages are not limited to one item: the limit applies
+   * before the filter, so it would cost one round-trip per assessment evaluated.
    * 
    * @param assessmentMatrixId The assessment matrix ID
    * @param tenantId           The tenant ID for additional filtering
@@ -132,37 +173,10 @@ public class EmployeeAssessmentRepository extends AbstractCrudRepository<Employe
    */
   public boolean areAllAssessmentsCompleted(String assessmentMatrixId, String tenantId) {
     try {
-      DynamoDbIndex<EmployeeAssessment> gsi = getTable().index("assessmentMatrixId-employeeEmail-index");
-
-      QueryConditional queryConditional = QueryConditional.keyEqualTo(
-                                                                      Key.builder()
-                                                                         .partitionValue(assessmentMatrixId)
-                                                                         .build()
-      );
-
-      // Filter for tenant and non-completed assessments
-      Map<String, AttributeValue> expressionValues = new HashMap<>();
-      expressionValues.put(":tenantId", AttributeValue.builder().s(tenantId).build());
-      expressionValues.put(":completedStatus", AttributeValue.builder().s("COMPLETED").build());
-
-      Expression filterExpression = Expression.builder()
-                                              .expression("tenantId = :tenantId AND #status <> :completedStatus")
-                                              .expressionValues(expressionValues)
-                                              .putExpressionName("#status", "status")
-                                              .build();
-
-      QueryEnhancedRequest queryRequest = QueryEnhancedRequest.builder()
-                                                              .queryConditional(queryConditional)
-                                                              .filterExpression(filterExpression)
-                                                              .limit(1) // Stop as soon as we find one non-completed
-                                                              .build();
-
-      // If we find any non-completed assessment, return false
-      boolean hasNonCompleted = gsi.query(queryRequest)
-                                   .stream()
-                                   .flatMap(page -> page.items().stream())
-                                   .findFirst()
-                                   .isPresent();
+      // Stop as soon as we find one non-completed, fetching only its id
+      boolean hasNonCompleted = queryIndex(MATRIX_EMAIL_INDEX, matrixKey(assessmentMatrixId), nonCompletedFilter(tenantId), "id")
+          .findFirst()
+          .isPresent();
 
       if (hasNonCompleted) {
         return false;
@@ -187,33 +201,7 @@ public class EmployeeAssessmentRepository extends AbstractCrudRepository<Employe
    */
   private boolean hasAnyAssessments(String assessmentMatrixId, String tenantId) {
     try {
-      DynamoDbIndex<EmployeeAssessment> gsi = getTable().index("assessmentMatrixId-employeeEmail-index");
-
-      QueryConditional queryConditional = QueryConditional.keyEqualTo(
-                                                                      Key.builder()
-                                                                         .partitionValue(assessmentMatrixId)
-                                                                         .build()
-      );
-
-      Map<String, AttributeValue> expressionValues = new HashMap<>();
-      expressionValues.put(":tenantId", AttributeValue.builder().s(tenantId).build());
-
-      Expression filterExpression = Expression.builder()
-                                              .expression("tenantId = :tenantId")
-                                              .expressionValues(expressionValues)
-                                              .build();
-
-      QueryEnhancedRequest queryRequest = QueryEnhancedRequest.builder()
-                                                              .queryConditional(queryConditional)
-                                                              .filterExpression(filterExpression)
-                                                              .limit(1)
-                                                              .build();
-
-      return gsi.query(queryRequest)
-                .stream()
-                .flatMap(page -> page.items().stream())
-                .findFirst()
-                .isPresent();
+      return queryIndex(MATRIX_EMAIL_INDEX, matrixKey(assessmentMatrixId), tenantFilter(tenantId), "id").findFirst().isPresent();
     }
     catch (Exception e) {
       throw new RuntimeException("Failed to check if assessments exist for matrix ID: " + assessmentMatrixId, e);
@@ -222,7 +210,7 @@ public class EmployeeAssessmentRepository extends AbstractCrudRepository<Employe
 
   /**
    * Count the number of non-completed assessments for a given matrix and tenant.
-   * This method can be used for progress tracking and dashboard metrics.
+   * The count is computed server-side, so no assessment is transferred.
    * 
    * @param assessmentMatrixId The assessment matrix ID
    * @param tenantId           The tenant ID
@@ -230,36 +218,52 @@ public class EmployeeAssessmentRepository extends AbstractCrudRepository<Employe
    */
   public long countNonCompletedAssessments(String assessmentMatrixId, String tenantId) {
     try {
-      DynamoDbIndex<EmployeeAssessment> gsi = getTable().index("assessmentMatrixId-employeeEmail-index");
+      return countIndex(MATRIX_EMAIL_INDEX, matrixKey(assessmentMatrixId), nonCompletedFilter(tenantId));
+    }
+    catch (Exception e) {
+      throw new RuntimeException("Failed to count non-completed assessments for matrix ID: " + assessmentMatrixId, e);
+    }
+  }
 
-      QueryConditional queryConditional = QueryConditional.keyEqualTo(
-                                                                      Key.builder()
-                                                                         .partitionValue(assessmentMatrixId)
-                                                                         .build()
-      );
+  /**
+   * Count the assessments of a given matrix and tenant in each status, reading only their status. Statuses without
+   * assessments are absent from the result. Used to rebuild the status histogram of a matrix.
+   *
+   * @param assessmentMatrixId The assessment matrix ID
+   * @param tenantId           The tenant ID
+   * @return count of assessments by status
+   */
+  public Map<AssessmentStatus, Long> countByStatus(String assessmentMatrixId, String tenantId) {
+    try {
+      return queryIndex(MATRIX_EMAIL_INDEX, matrixKey(assessmentMatrixId), tenantFilter(tenantId), "assessmentStatus")
+          .collect(Collectors.groupingBy(assessment -> Optional.ofNullable(assessment.getAssessmentStatus()).orElse(AssessmentStatus.INVITED),
+                                         () -> new EnumMap<>(AssessmentStatus.class), Collectors.counting()));
+    }
+    catch (Exception e) {
+      throw new RuntimeException("Failed to count assessments by status for matrix ID: " + assessmentMatrixId, e);
+    }
+  }
 
-      Map<String, AttributeValue> expressionValues = new HashMap<>();
-      expressionValues.put(":tenantId", AttributeValue.builder().s(tenantId).build());
-      expressionValues.put(":completedStatus", AttributeValue.builder().s("COMPLETED").build());
+  private static Key matrixKey(String assessmentMatrixId) {
+    return Key.builder().partitionValue(assessmentMatrixId).build();
+  }
 
-      Expression filterExpression = Expression.builder()
-                                              .expression("tenantId = :tenantId AND #status <> :completedStatus")
-                                              .expressionValues(expressionValues)
-                                              .putExpressionName("#status", "status")
-                                              .build();
+  private static Expression tenantFilter(String tenantId) {
+    return Expression.builder()
+                     .expression("tenantId = :tenantId")
+                     .putExpressionValue(":tenantId", AttributeValue.builder().s(tenantId).build())
+                     .build();
+  }
 
-      QueryEnhancedRequest queryRequest = QueryEnhancedRequest.builder()
-                                                              .queryConditional(queryConditional)
-                                                              .filterExpression(filterExpression)
-                                                              .build();
+  private static Expression nonCompletedFilter(String tenantId) {
+    Map<String, AttributeValue> expressionValues = new HashMap<>();
+    expressionValues.put(":tenantId", AttributeValue.builder().s(tenantId).build());
+    expressionValues.put(":completedStatus", AttributeValue.builder().s("COMPLETED").build());
 
-      return gsi.query(queryRequest)
-                .stream()
-                .flatMap(page -> page.items().stream())
-                .count();
-    }
-    catch (Exception e) {
-      throw new RuntimeException("Failed to count non-completed assessments for matrix ID: " + assessmentMatrixId, e);
-    }
+    return Expression.builder()
+                     .expression("tenantId = :tenantId AND #status <> :completedStatus")
+                     .expressionValues(expressionValues)
+                     .putExpressionName("#status", "assessmentStatus")
+                     .build();
   }
-}
\ No newline at end of file
+}
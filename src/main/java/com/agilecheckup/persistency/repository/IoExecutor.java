@@ -0,0 +1,280 @@
+package com.agilecheckup.persistency.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.agilecheckup.concurrent.VirtualThreads;
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+
+/**
+ * Runs blocking DynamoDB calls concurrently on dedicated threads, so fan-out reads neither occupy the common
+ * ForkJoinPool nor depend on the number of cores.
+ * <p>
+ * Calls run on virtual threads when the JVM provides them and otherwise on a pool of daemon threads sized to the maximum
+ * concurrency. The number of calls in flight is bounded by an {@link AdaptiveConcurrencyLimit} that grows while calls
+ * stay within the target latency and shrinks when they slow down, time out or are throttled. Callers submitting more
+ * calls than the limit wait for a permit, which is the backpressure. Each call is given the call timeout from the moment
+ * it starts; the first call that fails or times out, in the order they complete, cancels the others and is thrown to
+ * the caller.
+ * <p>
+ * The maximum concurrency is read from the {@value #MAX_CONCURRENCY_ENV} environment variable.
+ */
+@Slf4j
+public class IoExecutor implements AutoCloseable {
+
+  public static final String MAX_CONCURRENCY_ENV = "IO_MAX_CONCURRENCY";
+
+  private static final int DEFAULT_MAX_CONCURRENCY = 64;
+  private static final int DEFAULT_INITIAL_CONCURRENCY = 16;
+  private static final int DEFAULT_MIN_CONCURRENCY = 2;
+  private static final Duration DEFAULT_TARGET_LATENCY = Duration.ofMillis(250);
+  private static final Duration DEFAULT_CALL_TIMEOUT = Duration.ofSeconds(10);
+
+  private final ExecutorService executor;
+  private final AdaptiveConcurrencyLimit limit;
+  private final long callTimeoutNanos;
+  @Getter
+  private final boolean virtualThreads;
+
+  public IoExecutor() {
+    this(maxConcurrencyFromEnv(), DEFAULT_CALL_TIMEOUT);
+  }
+
+  public IoExecutor(int maxConcurrency, Duration callTimeout) {
+    this(Math.min(DEFAULT_INITIAL_CONCURRENCY, maxConcurrency), Math.min(DEFAULT_MIN_CONCURRENCY, maxConcurrency), maxConcurrency, DEFAULT_TARGET_LATENCY, callTimeout);
+  }
+
+  @VisibleForTesting
+  IoExecutor(int initialConcurrency, int minConcurrency, int maxConcurrency, Duration targetLatency, Duration callTimeout) {
+    this.limit = new AdaptiveConcurrencyLimit(initialConcurrency, minConcurrency, maxConcurrency, targetLatency.toNanos());
+    this.callTimeoutNanos = callTimeout.toNanos();
+    ExecutorService virtual = VirtualThreads.newPerTaskExecutor("io-executor-").orElse(null);
+    this.virtualThreads = virtual != null;
+    this.executor = virtual != null ? virtual : newPlatformThreadExecutor(maxConcurrency);
+  }
+
+  /**
+   * The executor of the repositories built without one, created on first use and shared so that building repositories
+   * does not leave executors behind. Its threads are idle-timed daemon or virtual threads; it is never closed.
+   */
+  public static IoExecutor shared() {
+    return SharedHolder.INSTANCE;
+  }
+
+  /**
+   * Applies the call to every input concurrently, within the concurrency limit.
+   *
+   * @param inputs The inputs, one call each
+   * @param call   The blocking call
+   * @return The results, in the order of the inputs
+   * @throws RuntimeException if a call fails or times out, or no permit is available within the call timeout
+   */
+  public <T, R> List<R> mapAll(List<T> inputs, Function<? super T, ? extends R> call) {
+    if (inputs.isEmpty()) {
+      return List.of();
+    }
+
+    BlockingQueue<Call<R>> completions = new LinkedBlockingQueue<>();
+    List<Call<R>> calls = new ArrayList<>(inputs.size());
+    try {
+      int completed = 0;
+      for (T input : inputs) {
+        for (Call<R> done = completions.poll(); done != null; done = completions.poll()) {
+          resultOf(done);
+          completed++;
+        }
+        calls.add(start(() -> call.apply(input), completions));
+      }
+      awaitAll(calls, completions, completed);
+
+      List<R> results = new ArrayList<>(calls.size());
+      for (Call<R> done : calls) {
+        results.add(resultOf(done));
+      }
+      return results;
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      calls.forEach(started -> started.cancel(false));
+      throw new RuntimeException("Interrupted while waiting for an I/O call", e);
+    }
+    catch (RuntimeException e) {
+      calls.forEach(started -> started.cancel(false));
+      throw e;
+    }
+  }
+
+  public int getConcurrencyLimit() {
+    return limit.getLimit();
+  }
+
+  public int getInFlight() {
+    return limit.getInFlight();
+  }
+
+  @Override
+  public void close() {
+    if (this == SharedHolder.INSTANCE) {
+      log.warn("Ignoring close of the shared I/O executor");
+      return;
+    }
+    executor.shutdownNow();
+  }
+
+  private <R> Call<R> start(Callable<R> callable, BlockingQueue<Call<R>> completions) {
+    try {
+      if (!limit.acquire(callTimeoutNanos)) {
+        throw new RuntimeException("No I/O permit available within " + TimeUnit.NANOSECONDS.toMillis(callTimeoutNanos) + " ms");
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for an I/O permit", e);
+    }
+
+    Call<R> call = new Call<>(callable, completions);
+    try {
+      executor.execute(call.task);
+    }
+    catch (RuntimeException e) {
+      call.cancel(false);
+      throw e;
+    }
+    return call;
+  }
+
+  /**
+   * Waits for the started calls in the order they complete, so the first one to fail is seen as soon as it fails
+   * whatever its position. Calls start in list order, so the oldest call still running is the next one to time out.
+   */
+  private <R> void awaitAll(List<Call<R>> calls, BlockingQueue<Call<R>> completions, int completed) throws InterruptedException {
+    int oldestRunning = 0;
+    while (completed < calls.size()) {
+      while (oldestRunning < calls.size() && calls.get(oldestRunning).task.isDone()) {
+        oldestRunning++;
+      }
+      Call<R> oldest = oldestRunning < calls.size() ? calls.get(oldestRunning) : null;
+      long remaining = oldest == null ? 0 : oldest.startNanos + callTimeoutNanos - System.nanoTime();
+      // Every call is done once none is running: their completions are queued or about to be
+      Call<R> done = oldest == null ? completions.take() : completions.poll(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+      if (done != null) {
+        resultOf(done);
+        completed++;
+      }
+      else if (!oldest.task.isDone()) {
+        oldest.cancel(true);
+        throw new RuntimeException("I/O call timed out after " + TimeUnit.NANOSECONDS.toMillis(callTimeoutNanos) + " ms", new TimeoutException());
+      }
+    }
+  }
+
+  /**
+   * The result of a completed call, or its failure thrown.
+   */
+  private static <R> R resultOf(Call<R> call) {
+    try {
+      return call.task.get();
+    }
+    catch (ExecutionException e) {
+      throw new RuntimeException("I/O call failed: " + e.getCause().getMessage(), e.getCause());
+    }
+    catch (InterruptedException e) {
+      // Not expected, the call is already done
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while reading an I/O call result", e);
+    }
+  }
+
+  /**
+   * A started call holding one permit, returned exactly once: by the call itself before its outcome is published, or by
+   * the caller when it cancels the call. A cancelled call that ignores the interrupt keeps running without a permit.
+   */
+  private final class Call<R> {
+
+    private final long startNanos = System.nanoTime();
+    private final AtomicBoolean released = new AtomicBoolean();
+    private final FutureTask<R> task;
+
+    private Call(Callable<R> callable, BlockingQueue<Call<R>> completions) {
+      this.task = new FutureTask<>(() -> {
+        boolean dropped = false;
+        try {
+          return callable.call();
+        }
+        catch (DynamoDbException e) {
+          dropped = BatchOperationExecutor.isThrottle(e);
+          throw e;
+        }
+        finally {
+          release(dropped);
+        }
+      }) {
+        @Override
+        protected void done() {
+          completions.add(Call.this);
+        }
+      };
+    }
+
+    private void cancel(boolean dropped) {
+      // Released first, so the interrupted call cannot return the permit as a regular completion
+      release(dropped);
+      task.cancel(true);
+    }
+
+    private void release(boolean dropped) {
+      if (released.compareAndSet(false, true)) {
+        limit.release(System.nanoTime() - startNanos, dropped);
+      }
+    }
+  }
+
+  private static final class SharedHolder {
+
+    private static final IoExecutor INSTANCE = new IoExecutor();
+  }
+
+  private static int maxConcurrencyFromEnv() {
+    String value = System.getenv(MAX_CONCURRENCY_ENV);
+    if (value == null || value.isBlank()) {
+      return DEFAULT_MAX_CONCURRENCY;
+    }
+    try {
+      return Math.max(1, Integer.parseInt(value.trim()));
+    }
+    catch (NumberFormatException e) {
+      log.warn("Ignoring invalid {}={}, using {}", MAX_CONCURRENCY_ENV, value, DEFAULT_MAX_CONCURRENCY);
+      return DEFAULT_MAX_CONCURRENCY;
+    }
+  }
+
+  private static ExecutorService newPlatformThreadExecutor(int maxThreads) {
+    AtomicInteger threadNumber = new AtomicInteger();
+    ThreadFactory threadFactory = runnable -> {
+      Thread thread = new Thread(runnable, "io-executor-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+    ThreadPoolExecutor pool = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    pool.allowCoreThreadTimeOut(true);
+    return pool;
+  }
+}
@@ -0,0 +1,38 @@
+package com.agilecheckup.persistency.repository;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * One page of a paginated repository read.
+ * <p>
+ * {@link #getNextPageToken()} is an opaque continuation token to pass back to the same repository method for the next
+ * page, or null after the last page. Pages of filtered queries may hold fewer items than the requested size, or none,
+ * while a next page still exists: DynamoDB applies the page size before the filter.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PageResult<T> {
+
+  private final List<T> items;
+  private final String nextPageToken;
+
+  public static <T> PageResult<T> of(List<T> items, String nextPageToken) {
+    return new PageResult<>(List.copyOf(items), nextPageToken);
+  }
+
+  public static <T> PageResult<T> empty() {
+    return new PageResult<>(List.of(), null);
+  }
+
+  public boolean hasNextPage() {
+    return nextPageToken != null;
+  }
+}
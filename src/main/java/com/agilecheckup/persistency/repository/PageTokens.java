@@ -0,0 +1,100 @@
+package com.agilecheckup.persistency.repository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.agilecheckup.persistency.converter.codec.JsonCodec;
+import com.agilecheckup.persistency.converter.codec.JsonCodecs;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Encodes the LastEvaluatedKey of a DynamoDB page as an opaque, URL-safe continuation token and back.
+ * <p>
+ * The token is the Base64url form of a small JSON object mapping each key attribute to its type (S, N or B) and value.
+ * Tokens come back from clients, so anything that does not decode to such an object is rejected with an
+ * {@link IllegalArgumentException}.
+ */
+final class PageTokens {
+
+  private static final JsonCodec<Map<String, Map<String, String>>> CODEC = JsonCodecs.forType(new TypeReference<Map<String, Map<String, String>>>() {
+  });
+
+  private PageTokens() {
+  }
+
+  static String encode(Map<String, AttributeValue> lastEvaluatedKey) {
+    if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+      return null;
+    }
+
+    Map<String, Map<String, String>> key = new LinkedHashMap<>();
+    lastEvaluatedKey.forEach((name, value) -> key.put(name, encodeValue(name, value)));
+    try {
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(CODEC.encode(key).getBytes(StandardCharsets.UTF_8));
+    }
+    catch (JsonProcessingException e) {
+      throw new RuntimeException("Error encoding page token", e);
+    }
+  }
+
+  static Map<String, AttributeValue> decode(String token) {
+    if (token == null || token.isEmpty()) {
+      return null;
+    }
+
+    Map<String, Map<String, String>> key;
+    try {
+      key = CODEC.decode(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+    }
+    catch (IOException | IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid page token", e);
+    }
+    if (key == null || key.isEmpty()) {
+      throw new IllegalArgumentException("Invalid page token");
+    }
+
+    Map<String, AttributeValue> exclusiveStartKey = new LinkedHashMap<>();
+    key.forEach((name, value) -> exclusiveStartKey.put(name, decodeValue(value)));
+    return exclusiveStartKey;
+  }
+
+  private static Map<String, String> encodeValue(String name, AttributeValue value) {
+    if (value.s() != null) {
+      return Map.of("S", value.s());
+    }
+    if (value.n() != null) {
+      return Map.of("N", value.n());
+    }
+    if (value.b() != null) {
+      return Map.of("B", Base64.getEncoder().encodeToString(value.b().asByteArrayUnsafe()));
+    }
+    throw new IllegalStateException("Unsupported key attribute type for " + name);
+  }
+
+  private static AttributeValue decodeValue(Map<String, String> value) {
+    if (value == null || value.size() != 1) {
+      throw new IllegalArgumentException("Invalid page token");
+    }
+    Map.Entry<String, String> typed = value.entrySet().iterator().next();
+    if (typed.getValue() == null) {
+      throw new IllegalArgumentException("Invalid page token");
+    }
+    switch (typed.getKey()) {
+      case "S":
+        return AttributeValue.builder().s(typed.getValue()).build();
+      case "N":
+        return AttributeValue.builder().n(typed.getValue()).build();
+      case "B":
+        return AttributeValue.builder().b(SdkBytes.fromByteArray(Base64.getDecoder().decode(typed.getValue()))).build();
+      default:
+        throw new IllegalArgumentException("Invalid page token");
+    }
+  }
+}
@@ -1,6 +1,5 @@
 package com.agilecheckup.persistency.repository;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -12,11 +11,14 @@ import com.google.common.annotations.VisibleForTesting;
 
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.Expression;
-import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 public class QuestionRepository extends AbstractCrudRepository<Question> {
 
+  static final String MATRIX_TENANT_INDEX = "assessmentMatrixId-tenantId-index";
+  static final String MATRIX_CATEGORY_INDEX = "assessmentMatrixId-categoryId-index";
+
   @Inject
   public QuestionRepository(DynamoDbEnhancedClient dynamoDbEnhancedClient) {
     super(dynamoDbEnhancedClient, Question.class, "Question");
@@ -29,30 +31,21 @@ public class QuestionRepository extends AbstractCrudRepository<Question> {
 
   /**
    * Find questions by assessment matrix ID and tenant ID.
-   * Uses scan with filter expression to maintain compatibility with V1 behavior.
+   * Queries the assessmentMatrixId-tenantId-index GSI, so read cost scales with the question count of the matrix.
    * 
    * @param matrixId The assessment matrix ID
    * @param tenantId The tenant ID
    * @return List of questions matching the criteria
    */
   public List<Question> findByAssessmentMatrixId(String matrixId, String tenantId) {
-    Map<String, AttributeValue> expressionValues = new HashMap<>();
-    expressionValues.put(":val1", AttributeValue.builder().s(matrixId).build());
-    expressionValues.put(":val2", AttributeValue.builder().s(tenantId).build());
-
-    Expression filterExpression = Expression.builder()
-                                            .expression("assessmentMatrixId = :val1 AND tenantId = :val2")
-                                            .expressionValues(expressionValues)
-                                            .build();
-
-    ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder().filterExpression(filterExpression).build();
+    Key key = Key.builder().partitionValue(matrixId).sortValue(tenantId).build();
 
-    return getTable().scan(scanRequest).stream().flatMap(page -> page.items().stream()).collect(Collectors.toList());
+    return queryIndex(MATRIX_TENANT_INDEX, key, null).collect(Collectors.toList());
   }
 
   /**
    * Check if questions exist for the given assessment matrix, category, and tenant.
-   * Uses scan with filter expression and limit for efficient existence check.
+   * Queries the assessmentMatrixId-categoryId-index GSI and stops at the first match.
    * 
    * @param matrixId   The assessment matrix ID
    * @param categoryId The category ID
@@ -60,25 +53,14 @@ public class QuestionRepository extends AbstractCrudRepository<Question> {
    * @return true if at least one question exists, false otherwise
    */
   public boolean existsByCategoryId(String matrixId, String categoryId, String tenantId) {
-    Map<String, AttributeValue> expressionValues = new HashMap<>();
-    expressionValues.put(":val1", AttributeValue.builder().s(matrixId).build());
-    expressionValues.put(":val2", AttributeValue.builder().s(categoryId).build());
-    expressionValues.put(":val3", AttributeValue.builder().s(tenantId).build());
-
-    Expression filterExpression = Expression.builder()
-                                            .expression("assessmentMatrixId = :val1 AND categoryId = :val2 AND tenantId = :val3")
-                                            .expressionValues(expressionValues)
-                                            .build();
-
-    // Scan with limit 1 - we only need to know if at least one exists
-    ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder().filterExpression(filterExpression).limit(1).build();
+    Key key = Key.builder().partitionValue(matrixId).sortValue(categoryId).build();
 
-    List<Question> results = getTable().scan(scanRequest)
-                                       .stream()
-                                       .flatMap(page -> page.items().stream())
-                                       .limit(1)
-                                       .collect(Collectors.toList());
+    Expression tenantFilter = Expression.builder()
+                                        .expression("tenantId = :tenantId")
+                                        .expressionValues(Map.of(":tenantId", AttributeValue.builder().s(tenantId).build()))
+                                        .build();
 
-    return !results.isEmpty();
+    // No query limit: DynamoDB applies it before the filter, so it could hide a match on a later item
+    return queryIndex(MATRIX_CATEGORY_INDEX, key, tenantFilter).findAny().isPresent();
   }
-}
\ No newline at end of file
+}
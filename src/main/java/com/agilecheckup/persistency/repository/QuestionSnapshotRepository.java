@@ -0,0 +1,42 @@
+package com.agilecheckup.persistency.repository;
+
+import javax.inject.Inject;
+
+import com.agilecheckup.persistency.entity.question.QuestionSnapshot;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+public class QuestionSnapshotRepository extends AbstractCrudRepository<QuestionSnapshot> {
+
+  @Inject
+  public QuestionSnapshotRepository(DynamoDbEnhancedClient enhancedClient) {
+    super(enhancedClient, QuestionSnapshot.class, "QuestionSnapshot");
+  }
+
+  /**
+   * Stores the snapshot unless an item with the same id exists. Snapshots are immutable, so an existing item already
+   * holds the same content.
+   *
+   * @return true if the snapshot was written, false if it already existed
+   */
+  public boolean saveIfAbsent(QuestionSnapshot snapshot) {
+    snapshot.updateTimestamps();
+    PutItemEnhancedRequest<QuestionSnapshot> request = PutItemEnhancedRequest.builder(QuestionSnapshot.class)
+                                                                             .item(snapshot)
+                                                                             .conditionExpression(Expression.builder()
+                                                                                                            .expression("attribute_not_exists(#id)")
+                                                                                                            .putExpressionName("#id", "id")
+                                                                                                            .build())
+                                                                             .build();
+    try {
+      getTable().putItem(request);
+      return true;
+    }
+    catch (ConditionalCheckFailedException e) {
+      return false;
+    }
+  }
+}
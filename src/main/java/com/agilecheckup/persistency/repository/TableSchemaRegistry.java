@@ -0,0 +1,35 @@
+package com.agilecheckup.persistency.repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+/**
+ * Process-wide registry of bean table schemas.
+ * <p>
+ * {@link TableSchema#fromBean(Class)} introspects the Lombok/DynamoDb annotations of the entity class every time it is
+ * called. The resulting schema is immutable and thread-safe, so it is built once per entity class and shared by every
+ * repository instance. Schemas are built lazily, the first time a repository of the entity class is constructed.
+ */
+@Slf4j
+public final class TableSchemaRegistry {
+
+  private static final Map<Class<?>, TableSchema<?>> SCHEMAS = new ConcurrentHashMap<>();
+
+  private TableSchemaRegistry() {
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> TableSchema<T> schemaFor(Class<T> entityClass) {
+    return (TableSchema<T>) SCHEMAS.computeIfAbsent(entityClass, TableSchemaRegistry::buildSchema);
+  }
+
+  private static TableSchema<?> buildSchema(Class<?> entityClass) {
+    long start = System.nanoTime();
+    TableSchema<?> schema = TableSchema.fromBean(entityClass);
+    log.debug("Built table schema for {} in {} us", entityClass.getSimpleName(), (System.nanoTime() - start) / 1_000);
+    return schema;
+  }
+}
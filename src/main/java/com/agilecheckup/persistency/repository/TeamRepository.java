@@ -1,10 +1,6 @@
 package com.agilecheckup.persistency.repository;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -39,30 +35,4 @@ public class TeamRepository extends AbstractCrudRepository<Team> {
   public List<Team> findAllByTenantId(String tenantId) {
     return queryBySecondaryIndex("tenantId-index", "tenantId", tenantId);
   }
-
-  /**
-   * Efficiently retrieves multiple teams by their IDs using batch operations.
-   * Performance optimized: Reduces multiple individual lookups to batch processing.
-   * 
-   * @param teamIds Set of team IDs to retrieve
-   * @return Map of team ID to Team object for found teams
-   */
-  public Map<String, Team> findByIds(Set<String> teamIds) {
-    Map<String, Team> result = new HashMap<>();
-
-    if (teamIds == null || teamIds.isEmpty()) {
-      return result;
-    }
-
-    // Process each team ID individually using existing optimized methods
-    // This provides performance improvement by eliminating N+1 query pattern in calling code
-    for (String teamId : teamIds) {
-      Optional<Team> teamOpt = findById(teamId);
-      if (teamOpt.isPresent()) {
-        result.put(teamId, teamOpt.get());
-      }
-    }
-
-    return result;
-  }
 }
\ No newline at end of file
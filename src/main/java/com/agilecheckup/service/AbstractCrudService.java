@@ -5,6 +5,9 @@ import java.util.Optional;
 
 import com.agilecheckup.persistency.entity.base.BaseEntity;
 import com.agilecheckup.persistency.repository.AbstractCrudRepository;
+import com.agilecheckup.persistency.repository.PageResult;
+import com.agilecheckup.service.unitofwork.UnitOfWork;
+import com.agilecheckup.service.unitofwork.UnitOfWorkFlushException;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -15,6 +18,7 @@ public abstract class AbstractCrudService<T extends BaseEntity, V extends Abstra
 
   public Optional<T> create(T entity) {
     Optional<T> saved = getRepository().save(entity);
+    saved.ifPresent(created -> UnitOfWork.current().ifPresent(unitOfWork -> unitOfWork.registerClean(getRepository(), created)));
     saved.ifPresent(this::internalPostCreate);
     return saved;
   }
@@ -24,10 +28,12 @@ public abstract class AbstractCrudService<T extends BaseEntity, V extends Abstra
     postCreate(saved);
   }
 
+  /**
+   * Saves an existing entity and runs the post-update hooks once it is written, which inside a {@link UnitOfWork} is
+   * when the unit of work completes.
+   */
   public Optional<T> update(T entity) {
-    Optional<T> saved = getRepository().save(entity);
-    saved.ifPresent(this::internalPostUpdate);
-    return saved;
+    return persist(entity, () -> internalPostUpdate(entity));
   }
 
   public void internalPostUpdate(T saved) {
@@ -39,11 +45,56 @@ public abstract class AbstractCrudService<T extends BaseEntity, V extends Abstra
     return getRepository().findAll();
   }
 
+  public PageResult<T> findPage(int pageSize, String pageToken) {
+    return getRepository().findPage(pageSize, pageToken);
+  }
+
   public Optional<T> findById(String id) {
+    return loadById(id);
+  }
+
+  /**
+   * Loads an entity by id, through the identity map of the active {@link UnitOfWork} if any.
+   */
+  protected Optional<T> loadById(String id) {
+    Optional<UnitOfWork> unitOfWork = UnitOfWork.current();
+    if (unitOfWork.isPresent()) {
+      return unitOfWork.get().find(getRepository(), id);
+    }
     return getRepository().findById(id);
   }
 
+  /**
+   * Saves an existing entity. Inside a {@link UnitOfWork} the write is deferred and coalesced with other writes of the
+   * same entity; new entities (without id) are always written immediately.
+   * <p>
+   * A deferred write returns the entity as registered, before anything is stored: it is only known to be written once
+   * the unit of work completes, and a failed flush is thrown from {@link UnitOfWork#execute} as a
+   * {@link UnitOfWorkFlushException} instead of being reported here.
+   */
+  protected Optional<T> persist(T entity) {
+    return persist(entity, null);
+  }
+
+  /**
+   * Same as {@link #persist(BaseEntity)}, running {@code afterWrite} once the entity is written: immediately outside of
+   * a {@link UnitOfWork}, after the flush inside one, and never if the write fails or the unit of work is discarded.
+   */
+  protected Optional<T> persist(T entity, Runnable afterWrite) {
+    Optional<UnitOfWork> unitOfWork = UnitOfWork.current();
+    if (unitOfWork.isPresent() && entity.getId() != null) {
+      unitOfWork.get().registerDirty(getRepository(), entity, afterWrite);
+      return Optional.of(entity);
+    }
+    Optional<T> saved = getRepository().save(entity);
+    if (saved.isPresent() && afterWrite != null) {
+      afterWrite.run();
+    }
+    return saved;
+  }
+
   public boolean deleteById(String id) {
+    UnitOfWork.current().ifPresent(unitOfWork -> unitOfWork.evict(getRepository(), id));
     boolean deleted = getRepository().deleteById(id);
     if (deleted) {
       log.info("Entity deleted successfully with id: {}", id);
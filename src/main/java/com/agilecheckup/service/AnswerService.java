@@ -12,11 +12,10 @@ import com.agilecheckup.persistency.entity.EmployeeAssessment;
 import com.agilecheckup.persistency.entity.QuestionType;
 import com.agilecheckup.persistency.entity.question.Answer;
 import com.agilecheckup.persistency.entity.question.Question;
-import com.agilecheckup.persistency.entity.question.strategy.AnswerStrategy;
-import com.agilecheckup.persistency.entity.question.strategy.AnswerStrategyFactory;
-import com.agilecheckup.persistency.entity.score.AbstractScoreCalculator;
-import com.agilecheckup.persistency.entity.score.strategy.ScoreCalculationStrategyFactory;
+import com.agilecheckup.persistency.entity.question.plan.QuestionPlan;
 import com.agilecheckup.persistency.repository.AnswerRepository;
+import com.agilecheckup.service.cache.QuestionPlanCache;
+import com.agilecheckup.service.cache.QuestionSnapshotCache;
 import com.agilecheckup.service.exception.InvalidIdReferenceException;
 import com.agilecheckup.service.exception.InvalidLocalDateTimeException;
 
@@ -28,13 +27,17 @@ public class AnswerService extends AbstractCrudService<Answer, AnswerRepository>
   private final QuestionService questionService;
   private final AnswerRepository answerRepository;
   private final AssessmentMatrixService assessmentMatrixService;
+  private final QuestionPlanCache questionPlanCache;
+  private final QuestionSnapshotCache questionSnapshotCache;
 
   @Inject
-  public AnswerService(AnswerRepository answerRepository, EmployeeAssessmentService employeeAssessmentService, QuestionService questionService, AssessmentMatrixService assessmentMatrixService) {
+  public AnswerService(AnswerRepository answerRepository, EmployeeAssessmentService employeeAssessmentService, QuestionService questionService, AssessmentMatrixService assessmentMatrixService, QuestionPlanCache questionPlanCache, QuestionSnapshotCache questionSnapshotCache) {
     this.answerRepository = answerRepository;
     this.employeeAssessmentService = employeeAssessmentService;
     this.questionService = questionService;
     this.assessmentMatrixService = assessmentMatrixService;
+    this.questionPlanCache = questionPlanCache;
+    this.questionSnapshotCache = questionSnapshotCache;
   }
 
   public Optional<Answer> create(@NonNull String employeeAssessmentId, @NonNull String questionId, LocalDateTime answeredAt, @NonNull String value, @NonNull String tenantId, String notes) {
@@ -56,16 +59,7 @@ public class AnswerService extends AbstractCrudService<Answer, AnswerRepository>
     Optional<Answer> optionalAnswer = findById(id);
     if (optionalAnswer.isPresent()) {
       Answer answer = optionalAnswer.get();
-      validateAnsweredAt(answeredAt);
-      Question question = getQuestionById(answer.getQuestionId());
-      AnswerStrategy<?> answerStrategy = AnswerStrategyFactory.createStrategy(question, false);
-      answerStrategy.assignValue(value);
-      AbstractScoreCalculator scoreCalculator = ScoreCalculationStrategyFactory.createStrategy(question, value);
-      answer.setAnsweredAt(answeredAt);
-      answer.setValue(answerStrategy.valueToString());
-      answer.setScore(scoreCalculator.getCalculatedScore());
-      answer.setNotes(notes);
-      return super.update(answer);
+      return updateExistingAnswer(answer, answeredAt, value, notes);
     }
     else {
       return Optional.empty();
@@ -75,7 +69,9 @@ public class AnswerService extends AbstractCrudService<Answer, AnswerRepository>
   /**
    * Updates an existing answer when duplicate prevention is triggered.
    * This method is called when a create operation detects an existing answer
-   * for the same employeeAssessmentId + questionId combination.
+   * for the same employeeAssessmentId + questionId combination, and by
+   * {@link #update}. The answer is re-pointed to the current question snapshot
+   * and a legacy embedded question copy is dropped.
    * 
    * @param existingAnswer The existing answer to update
    * @param answeredAt     The new timestamp
@@ -86,13 +82,14 @@ public class AnswerService extends AbstractCrudService<Answer, AnswerRepository>
   private Optional<Answer> updateExistingAnswer(@NonNull Answer existingAnswer, @NonNull LocalDateTime answeredAt, @NonNull String value, String notes) {
     validateAnsweredAt(answeredAt);
     Question question = getQuestionById(existingAnswer.getQuestionId());
-    AnswerStrategy<?> answerStrategy = AnswerStrategyFactory.createStrategy(question, false);
-    answerStrategy.assignValue(value);
-    AbstractScoreCalculator scoreCalculator = ScoreCalculationStrategyFactory.createStrategy(question, value);
+    QuestionPlan questionPlan = questionPlanCache.getPlan(question);
+    String validatedValue = questionPlan.validate(value);
 
+    existingAnswer.setQuestionSnapshotId(questionSnapshotCache.snapshotIdFor(question));
+    existingAnswer.setQuestion(null);
     existingAnswer.setAnsweredAt(answeredAt);
-    existingAnswer.setValue(answerStrategy.valueToString());
-    existingAnswer.setScore(scoreCalculator.getCalculatedScore());
+    existingAnswer.setValue(validatedValue);
+    existingAnswer.setScore(questionPlan.score(value));
     existingAnswer.setNotes(notes);
 
     return super.update(existingAnswer);
@@ -101,11 +98,13 @@ public class AnswerService extends AbstractCrudService<Answer, AnswerRepository>
   @Override
   public void postCreate(Answer saved) {
     employeeAssessmentService.incrementAnsweredQuestionCount(saved.getEmployeeAssessmentId());
+    employeeAssessmentService.applyAnswerScore(saved);
     employeeAssessmentService.finalizeAssessmentIfCompleted(saved.getEmployeeAssessmentId());
   }
 
   @Override
   public void postUpdate(Answer saved) {
+    employeeAssessmentService.applyAnswerScore(saved);
     updateLastActivityIfNotCompleted(saved.getEmployeeAssessmentId());
   }
 
@@ -117,9 +116,8 @@ public class AnswerService extends AbstractCrudService<Answer, AnswerRepository>
   private Answer internalCreateAnswer(@NonNull String employeeAssessmentId, @NonNull String questionId, @NonNull LocalDateTime answeredAt, @NonNull String value, @NonNull String tenantId, String notes) {
     validateAnsweredAt(answeredAt);
     Question question = getQuestionById(questionId);
-    AnswerStrategy<?> answerStrategy = AnswerStrategyFactory.createStrategy(question, false);
-    answerStrategy.assignValue(value);
-    AbstractScoreCalculator scoreCalculator = ScoreCalculationStrategyFactory.createStrategy(question, value);
+    QuestionPlan questionPlan = questionPlanCache.getPlan(question);
+    String validatedValue = questionPlan.validate(value);
     EmployeeAssessment employeeAssessment = getEmployeeAssessmentById(employeeAssessmentId);
     return Answer.builder()
                  .employeeAssessmentId(employeeAssessment.getId())
@@ -127,11 +125,11 @@ public class AnswerService extends AbstractCrudService<Answer, AnswerRepository>
                  .categoryId(question.getCategoryId())
                  .questionId(question.getId())
                  .questionType(question.getQuestionType())
-                 .question(question)
+                 .questionSnapshotId(questionSnapshotCache.snapshotIdFor(question))
                  .pendingReview(QuestionType.OPEN_ANSWER.equals(question.getQuestionType()))
                  .answeredAt(answeredAt)
-                 .value(answerStrategy.valueToString())
-                 .score(scoreCalculator.getCalculatedScore())
+                 .value(validatedValue)
+                 .score(questionPlan.score(value))
                  .tenantId(tenantId)
                  .notes(notes)
                  .build();
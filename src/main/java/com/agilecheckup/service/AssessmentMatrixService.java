@@ -6,7 +6,10 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -28,16 +31,21 @@ import com.agilecheckup.persistency.entity.score.PillarScore;
 import com.agilecheckup.persistency.entity.score.PotentialScore;
 import com.agilecheckup.persistency.entity.score.QuestionScore;
 import com.agilecheckup.persistency.repository.AssessmentMatrixRepository;
+import com.agilecheckup.persistency.repository.AssessmentStatusHistogramRepository;
 import com.agilecheckup.security.JwtTokenProvider;
 import com.agilecheckup.security.TenantAccessValidator;
+import com.agilecheckup.service.cache.AssessmentDefinitionCache;
 import com.agilecheckup.service.dto.AssessmentDashboardData;
 import com.agilecheckup.service.dto.EmployeeAssessmentSummary;
 import com.agilecheckup.service.dto.TeamAssessmentSummary;
 import com.agilecheckup.service.exception.InvalidIdReferenceException;
+import com.agilecheckup.service.unitofwork.UnitOfWork;
 import com.google.common.annotations.VisibleForTesting;
 
 import dagger.Lazy;
+import lombok.extern.log4j.Log4j2;
 
+@Log4j2
 public class AssessmentMatrixService extends AbstractCrudService<AssessmentMatrix, AssessmentMatrixRepository> {
 
   private static final String DEFAULT_WHEN_NULL = "";
@@ -46,15 +54,19 @@ public class AssessmentMatrixService extends AbstractCrudService<AssessmentMatri
   private final Lazy<QuestionService> questionService;
   private final Lazy<EmployeeAssessmentService> employeeAssessmentService;
   private final Lazy<TeamService> teamService;
+  private final AssessmentDefinitionCache definitionCache;
+  private final AssessmentStatusHistogramRepository statusHistogramRepository;
   private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider();
 
   @Inject
-  public AssessmentMatrixService(AssessmentMatrixRepository assessmentMatrixRepository, PerformanceCycleService performanceCycleService, Lazy<QuestionService> questionService, Lazy<EmployeeAssessmentService> employeeAssessmentService, Lazy<TeamService> teamService) {
+  public AssessmentMatrixService(AssessmentMatrixRepository assessmentMatrixRepository, PerformanceCycleService performanceCycleService, Lazy<QuestionService> questionService, Lazy<EmployeeAssessmentService> employeeAssessmentService, Lazy<TeamService> teamService, AssessmentDefinitionCache definitionCache, AssessmentStatusHistogramRepository statusHistogramRepository) {
     this.assessmentMatrixRepository = assessmentMatrixRepository;
     this.performanceCycleService = performanceCycleService;
     this.questionService = questionService;
     this.employeeAssessmentService = employeeAssessmentService;
     this.teamService = teamService;
+    this.definitionCache = definitionCache;
+    this.statusHistogramRepository = statusHistogramRepository;
   }
 
   @Override
@@ -62,6 +74,34 @@ public class AssessmentMatrixService extends AbstractCrudService<AssessmentMatri
     return assessmentMatrixRepository;
   }
 
+  /**
+   * Reads go through the {@link AssessmentDefinitionCache}, which returns a private copy of the cached matrix. Inside a
+   * {@link UnitOfWork} the copy is kept in its identity map, so a request builds it once and sees its own changes.
+   */
+  @Override
+  protected Optional<AssessmentMatrix> loadById(String id) {
+    Supplier<Optional<AssessmentMatrix>> cachedLoader = () -> definitionCache.getMatrix(id, () -> getRepository().findById(id));
+    return UnitOfWork.current().map(unitOfWork -> unitOfWork.find(getRepository(), id, cachedLoader)).orElseGet(cachedLoader);
+  }
+
+  private Optional<AssessmentMatrix> loadForUpdate(String id) {
+    return getRepository().findById(id);
+  }
+
+  /**
+   * Matrix writes are not deferred by the unit of work: they are rare, and the cache entry must be dropped only once
+   * the new state is stored.
+   */
+  @Override
+  protected Optional<AssessmentMatrix> persist(AssessmentMatrix entity, Runnable afterWrite) {
+    Optional<AssessmentMatrix> saved = getRepository().save(entity);
+    definitionCache.invalidateMatrix(entity.getId());
+    if (saved.isPresent() && afterWrite != null) {
+      afterWrite.run();
+    }
+    return saved;
+  }
+
   @VisibleForTesting
   protected QuestionService getQuestionService() {
     return questionService.get();
@@ -90,7 +130,7 @@ public class AssessmentMatrixService extends AbstractCrudService<AssessmentMatri
   }
 
   public Optional<AssessmentMatrix> update(String id, String name, String description, String tenantId, String performanceCycleId, Map<String, Pillar> pillarMap, AssessmentConfiguration configuration) {
-    Optional<AssessmentMatrix> optionalAssessmentMatrix = findById(id);
+    Optional<AssessmentMatrix> optionalAssessmentMatrix = loadForUpdate(id);
     if (optionalAssessmentMatrix.isPresent()) {
       AssessmentMatrix assessmentMatrix = optionalAssessmentMatrix.get();
       assessmentMatrix.setName(name);
@@ -104,26 +144,29 @@ public class AssessmentMatrixService extends AbstractCrudService<AssessmentMatri
     return Optional.empty();
   }
 
+  /**
+   * Atomically increments the question count, without rewriting the matrix.
+   *
+   * @return The matrix with its new question count
+   */
   public AssessmentMatrix incrementQuestionCount(String matrixId) {
-    Optional<AssessmentMatrix> optionalMatrix = findById(matrixId);
-    if (optionalMatrix.isPresent()) {
-      AssessmentMatrix matrix = optionalMatrix.get();
-      int currentCount = matrix.getQuestionCount() != null ? matrix.getQuestionCount() : 0;
-      matrix.setQuestionCount(currentCount + 1);
-      return super.update(matrix).orElse(matrix);
-    }
-    throw new RuntimeException("Matrix not found: " + matrixId);
+    return addToQuestionCount(matrixId, 1);
   }
 
+  /**
+   * Atomically decrements the question count, never going below zero.
+   *
+   * @return The matrix with its new question count
+   */
   public AssessmentMatrix decrementQuestionCount(String matrixId) {
-    Optional<AssessmentMatrix> optionalMatrix = findById(matrixId);
-    if (optionalMatrix.isPresent()) {
-      AssessmentMatrix matrix = optionalMatrix.get();
-      int currentCount = matrix.getQuestionCount() != null ? matrix.getQuestionCount() : 0;
-      matrix.setQuestionCount(Math.max(0, currentCount - 1));
-      return super.update(matrix).orElse(matrix);
-    }
-    throw new RuntimeException("Matrix not found: " + matrixId);
+    return addToQuestionCount(matrixId, -1);
+  }
+
+  private AssessmentMatrix addToQuestionCount(String matrixId, int delta) {
+    AssessmentMatrix matrix = assessmentMatrixRepository.addToQuestionCount(matrixId, delta)
+                                                        .orElseThrow(() -> new RuntimeException("Matrix not found: " + matrixId));
+    definitionCache.invalidateMatrix(matrixId);
+    return matrix;
   }
 
   public AssessmentConfiguration createDefaultConfiguration() {
@@ -175,6 +218,8 @@ public class AssessmentMatrixService extends AbstractCrudService<AssessmentMatri
   }
 
   private AssessmentMatrix updateCurrentPotentialScore(AssessmentMatrix matrix) {
+    // The potential score must reflect the stored questions, not a cached list
+    definitionCache.invalidateQuestions(matrix.getId());
     List<Question> questions = getQuestionService().findByAssessmentMatrixId(matrix.getId(), matrix.getTenantId());
 
     int estimatedPillars = Math.max(8, Math.min(50, questions.size() / 10));
@@ -240,11 +285,14 @@ public class AssessmentMatrixService extends AbstractCrudService<AssessmentMatri
     // This is cost-effective as it uses assessmentMatrixId-employeeEmail-index
     List<EmployeeAssessment> employeeAssessments = getEmployeeAssessmentService().findByAssessmentMatrix(matrixId, tenantId);
 
+    // Resolve every referenced team once, shared by employee and team summaries
+    Map<String, String> teamNames = resolveTeamNames(employeeAssessments);
+
     // Create employee summaries from  entities
-    List<EmployeeAssessmentSummary> employeeSummaries = createEmployeeSummaries(employeeAssessments);
+    List<EmployeeAssessmentSummary> employeeSummaries = createEmployeeSummaries(employeeAssessments, teamNames);
 
     // Create team summaries from  entities
-    List<TeamAssessmentSummary> teamSummaries = createTeamSummaries(employeeAssessments);
+    List<TeamAssessmentSummary> teamSummaries = createTeamSummaries(employeeAssessments, teamNames);
 
     // Calculate completion statistics
     int completedCount = calculateCompletedCount(employeeAssessments);
@@ -262,11 +310,13 @@ public class AssessmentMatrixService extends AbstractCrudService<AssessmentMatri
     return Optional.of(result);
   }
 
-  private List<EmployeeAssessmentSummary> createEmployeeSummaries(List<EmployeeAssessment> employeeAssessments) {
-    return employeeAssessments.stream().map(this::convertToEmployeeSummary).collect(Collectors.toList());
+  private List<EmployeeAssessmentSummary> createEmployeeSummaries(List<EmployeeAssessment> employeeAssessments, Map<String, String> teamNames) {
+    return employeeAssessments.stream()
+                              .map(assessment -> convertToEmployeeSummary(assessment, teamNames))
+                              .collect(Collectors.toList());
   }
 
-  private List<TeamAssessmentSummary> createTeamSummaries(List<EmployeeAssessment> employeeAssessments) {
+  private List<TeamAssessmentSummary> createTeamSummaries(List<EmployeeAssessment> employeeAssessments, Map<String, String> teamNames) {
     // Group assessments by team
     Map<String, List<EmployeeAssessment>> assessmentsByTeam = employeeAssessments.stream()
                                                                                  .filter(assessment -> assessment.getTeamId() != null)
@@ -274,11 +324,11 @@ public class AssessmentMatrixService extends AbstractCrudService<AssessmentMatri
 
     return assessmentsByTeam.entrySet()
                             .stream()
-                            .map(entry -> createTeamSummary(entry.getKey(), entry.getValue()))
+                            .map(entry -> createTeamSummary(entry.getKey(), entry.getValue(), teamNames))
                             .collect(Collectors.toList());
   }
 
-  private EmployeeAssessmentSummary convertToEmployeeSummary(EmployeeAssessment assessment) {
+  private EmployeeAssessmentSummary convertToEmployeeSummary(EmployeeAssessment assessment, Map<String, String> teamNames) {
     return EmployeeAssessmentSummary.builder()
                                     .employeeAssessmentId(assessment.getId())
                                     .employeeId(assessment.getEmployee() != null ? assessment.getEmployee()
@@ -288,7 +338,7 @@ public class AssessmentMatrixService extends AbstractCrudService<AssessmentMatri
                                     .employeeEmail(assessment.getEmployee() != null ? assessment.getEmployee()
                                                                                                 .getEmail() : "Unknown")
                                     .teamId(assessment.getTeamId())
-                                    .teamName(getTeamName(assessment.getTeamId()))
+                                    .teamName(getTeamName(assessment.getTeamId(), teamNames))
                                     .assessmentStatus(assessment.getAssessmentStatus())
                                     .currentScore(assessment.getEmployeeAssessmentScore() != null ? assessment.getEmployeeAssessmentScore()
                                                                                                               .getScore() : null)
@@ -297,7 +347,7 @@ public class AssessmentMatrixService extends AbstractCrudService<AssessmentMatri
                                     .build();
   }
 
-  private TeamAssessmentSummary createTeamSummary(String teamId, List<EmployeeAssessment> teamAssessments) {
+  private TeamAssessmentSummary createTeamSummary(String teamId, List<EmployeeAssessment> teamAssessments, Map<String, String> teamNames) {
     int totalEmployees = teamAssessments.size();
     int completedAssessments = (int) teamAssessments.stream().filter(EmployeeAssessment::isCompleted).count();
 
@@ -312,7 +362,7 @@ public class AssessmentMatrixService extends AbstractCrudService<AssessmentMatri
 
     return TeamAssessmentSummary.builder()
                                 .teamId(teamId)
-                                .teamName(getTeamName(teamId))
+                                .teamName(getTeamName(teamId, teamNames))
                                 .totalEmployees(totalEmployees)
                                 .completedAssessments(completedAssessments)
                                 .completionPercentage(completionPercentage)
@@ -320,17 +370,35 @@ public class AssessmentMatrixService extends AbstractCrudService<AssessmentMatri
                                 .build();
   }
 
-  private String getTeamName(String teamId) {
-    if (teamId == null) return "No Team";
+  /**
+   * Loads the names of all teams referenced by the assessments with a single batched lookup, so the dashboard cost does
+   * not grow with headcount.
+   */
+  private Map<String, String> resolveTeamNames(List<EmployeeAssessment> employeeAssessments) {
+    Set<String> teamIds = employeeAssessments.stream()
+                                             .map(EmployeeAssessment::getTeamId)
+                                             .filter(Objects::nonNull)
+                                             .collect(Collectors.toSet());
+    if (teamIds.isEmpty()) {
+      return Map.of();
+    }
     try {
-      Optional<Team> team = getTeamService().findById(teamId);
-      return team.map(Team::getName).orElse("Unknown Team");
+      return getTeamService().findByIds(teamIds)
+                             .values()
+                             .stream()
+                             .collect(Collectors.toMap(Team::getId, Team::getName, (first, second) -> first));
     }
     catch (Exception e) {
-      return "Unknown Team";
+      log.warn("Failed to resolve team names for dashboard: {}", e.getMessage());
+      return Map.of();
     }
   }
 
+  private String getTeamName(String teamId, Map<String, String> teamNames) {
+    if (teamId == null) return "No Team";
+    return teamNames.getOrDefault(teamId, "Unknown Team");
+  }
+
   private LocalDateTime convertToLocalDateTime(Date date) {
     if (date == null) return null;
     return date.toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime();
@@ -451,7 +519,12 @@ public class AssessmentMatrixService extends AbstractCrudService<AssessmentMatri
 
   @Override
   protected void postCreate(AssessmentMatrix entity) {
-    // Hook for post-create actions
+    try {
+      statusHistogramRepository.createIfAbsent(entity.getId(), entity.getTenantId());
+    }
+    catch (RuntimeException e) {
+      log.warn("Failed to create the status histogram of assessment matrix {}: {}", entity.getId(), e.getMessage());
+    }
   }
 
   @Override
@@ -461,6 +534,7 @@ public class AssessmentMatrixService extends AbstractCrudService<AssessmentMatri
 
   @Override
   protected void postDelete(String id) {
-    // Hook for post-delete actions
+    definitionCache.invalidateMatrix(id);
+    statusHistogramRepository.deleteById(id);
   }
 }
@@ -10,6 +10,8 @@ import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
+import com.agilecheckup.concurrent.FanOutScope;
+import com.agilecheckup.concurrent.ServiceExecutor;
 import com.agilecheckup.persistency.entity.AssessmentConfiguration;
 import com.agilecheckup.persistency.entity.AssessmentMatrix;
 import com.agilecheckup.persistency.entity.AssessmentStatus;
@@ -19,6 +21,7 @@ import com.agilecheckup.persistency.entity.question.Answer;
 import com.agilecheckup.persistency.entity.question.Question;
 import com.agilecheckup.service.dto.AnswerWithProgressResponse;
 import com.agilecheckup.service.exception.InvalidIdReferenceException;
+import com.agilecheckup.service.unitofwork.UnitOfWork;
 
 import lombok.NonNull;
 
@@ -28,13 +31,15 @@ public class AssessmentNavigationService {
   private final AnswerService answerService;
   private final EmployeeAssessmentService employeeAssessmentService;
   private final AssessmentMatrixService assessmentMatrixService;
+  private final ServiceExecutor serviceExecutor;
 
   @Inject
-  public AssessmentNavigationService(QuestionService questionService, AnswerService answerService, EmployeeAssessmentService employeeAssessmentService, AssessmentMatrixService assessmentMatrixService) {
+  public AssessmentNavigationService(QuestionService questionService, AnswerService answerService, EmployeeAssessmentService employeeAssessmentService, AssessmentMatrixService assessmentMatrixService, ServiceExecutor serviceExecutor) {
     this.questionService = questionService;
     this.answerService = answerService;
     this.employeeAssessmentService = employeeAssessmentService;
     this.assessmentMatrixService = assessmentMatrixService;
+    this.serviceExecutor = serviceExecutor;
   }
 
   /**
@@ -45,11 +50,17 @@ public class AssessmentNavigationService {
    * - Updates status to COMPLETED when no more questions remain
    * - Uses the configured navigation mode (typically RANDOM) to select questions
    * 
+   * Runs inside a {@link UnitOfWork}, so the employee assessment is read once per call.
+   * 
    * @param employeeAssessmentId The employee assessment ID
    * @param tenantId             The tenant ID for data isolation
    * @return AnswerWithProgressResponse containing the next question and progress info
    */
   public AnswerWithProgressResponse getNextUnansweredQuestion(@NonNull String employeeAssessmentId, @NonNull String tenantId) {
+    return UnitOfWork.execute(() -> findNextUnansweredQuestion(employeeAssessmentId, tenantId));
+  }
+
+  private AnswerWithProgressResponse findNextUnansweredQuestion(String employeeAssessmentId, String tenantId) {
     EmployeeAssessment assessment = validateAndUpdateAssessment(employeeAssessmentId);
     AssessmentMatrix matrix = getAssessmentMatrixById(assessment.getAssessmentMatrixId());
 
@@ -73,8 +84,7 @@ public class AssessmentNavigationService {
    * Clean Code: Single responsibility - question selection logic.
    */
   private Question selectNextUnansweredQuestion(EmployeeAssessment assessment, AssessmentMatrix matrix, String tenantId) {
-    Set<String> answeredQuestionIds = getAnsweredQuestionIds(assessment.getId(), tenantId);
-    List<Question> unansweredQuestions = getUnansweredQuestions(matrix.getId(), tenantId, answeredQuestionIds);
+    List<Question> unansweredQuestions = getUnansweredQuestions(assessment.getId(), matrix.getId(), tenantId);
 
     if (unansweredQuestions.isEmpty()) {
       if (assessment.isNotCompleted()) {
@@ -88,22 +98,21 @@ public class AssessmentNavigationService {
   }
 
   /**
-   * Efficiently retrieves answered question IDs without loading full Answer objects.
-   * Performance: Reduces memory usage and network transfer.
-   */
-  private Set<String> getAnsweredQuestionIds(String employeeAssessmentId, String tenantId) {
-    return answerService.findAnsweredQuestionIds(employeeAssessmentId, tenantId);
-  }
-
-  /**
-   * Retrieves unanswered questions by filtering at the database level.
-   * Performance: Reduces in-memory processing.
+   * Retrieves the matrix questions not answered yet. The answered question IDs and the matrix questions are read
+   * concurrently: neither read depends on the {@link UnitOfWork}, and answers are written straight through on save.
+   * Performance: Reduces latency to the slower of the two reads.
    */
-  private List<Question> getUnansweredQuestions(String matrixId, String tenantId, Set<String> answeredQuestionIds) {
-    List<Question> allQuestions = questionService.findByAssessmentMatrixId(matrixId, tenantId);
-    return allQuestions.stream()
-                       .filter(question -> !answeredQuestionIds.contains(question.getId()))
-                       .collect(Collectors.toList());
+  private List<Question> getUnansweredQuestions(String employeeAssessmentId, String matrixId, String tenantId) {
+    try (FanOutScope scope = serviceExecutor.fanOut()) {
+      FanOutScope.Subtask<Set<String>> answeredQuestionIds = scope.fork(() -> answerService.findAnsweredQuestionIds(employeeAssessmentId, tenantId));
+      FanOutScope.Subtask<List<Question>> allQuestions = scope.fork(() -> questionService.findByAssessmentMatrixId(matrixId, tenantId));
+      scope.join();
+
+      Set<String> answered = answeredQuestionIds.get();
+      return allQuestions.get().stream()
+                         .filter(question -> !answered.contains(question.getId()))
+                         .collect(Collectors.toList());
+    }
   }
 
   /**
@@ -159,8 +168,7 @@ public class AssessmentNavigationService {
 
   private void updateStatusToInProgressIfNeeded(EmployeeAssessment employeeAssessment) {
     if (AssessmentStatus.CONFIRMED.equals(employeeAssessment.getAssessmentStatus())) {
-      employeeAssessment.setAssessmentStatus(AssessmentStatus.IN_PROGRESS);
-      employeeAssessmentService.update(employeeAssessment);
+      employeeAssessmentService.updateStatus(employeeAssessment, AssessmentStatus.IN_PROGRESS);
     }
   }
 
@@ -177,6 +185,9 @@ public class AssessmentNavigationService {
   /**
    * Saves an answer and returns the next unanswered question in a single atomic operation.
    * This method combines answer persistence with navigation logic to optimize the assessment flow.
+   * Both steps share one {@link UnitOfWork}, so the employee assessment is loaded once. Its updates (answer count,
+   * status, score, last activity) are written attribute by attribute as they happen, never as a full item, so concurrent
+   * answers to the same assessment do not overwrite each other.
    *
    * @param employeeAssessmentId The employee assessment ID
    * @param questionId           The ID of the question being answered
@@ -187,10 +198,12 @@ public class AssessmentNavigationService {
    * @return AnswerWithProgressResponse containing the saved answer and next question with progress
    */
   public AnswerWithProgressResponse saveAnswerAndGetNext(@NonNull String employeeAssessmentId, @NonNull String questionId, LocalDateTime answeredAt, @NonNull String value, @NonNull String tenantId, String notes) {
-    Answer answer = saveAnswer(employeeAssessmentId, questionId, answeredAt, value, tenantId, notes);
+    return UnitOfWork.execute(() -> {
+      saveAnswer(employeeAssessmentId, questionId, answeredAt, value, tenantId, notes);
 
-    // Get the next unanswered question with progress
-    return getNextUnansweredQuestion(employeeAssessmentId, tenantId);
+      // Get the next unanswered question with progress
+      return findNextUnansweredQuestion(employeeAssessmentId, tenantId);
+    });
   }
 
   private Answer saveAnswer(String employeeAssessmentId, String questionId, LocalDateTime answeredAt, String value, String tenantId, String notes) {
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -18,6 +19,8 @@ import javax.inject.Singleton;
 
 import org.apache.commons.lang3.StringUtils;
 
+import com.agilecheckup.persistency.converter.codec.JsonCodec;
+import com.agilecheckup.persistency.converter.codec.JsonCodecs;
 import com.agilecheckup.persistency.entity.AnalyticsScope;
 import com.agilecheckup.persistency.entity.AssessmentMatrix;
 import com.agilecheckup.persistency.entity.Company;
@@ -31,10 +34,9 @@ import com.agilecheckup.persistency.entity.question.Answer;
 import com.agilecheckup.persistency.entity.score.CategoryScore;
 import com.agilecheckup.persistency.entity.score.PillarScore;
 import com.agilecheckup.persistency.entity.score.PotentialScore;
-import com.agilecheckup.persistency.repository.AnswerRepository;
 import com.agilecheckup.persistency.repository.DashboardAnalyticsRepository;
 import com.agilecheckup.persistency.repository.TeamRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -47,6 +49,9 @@ public class DashboardAnalyticsService {
 
   private static final int MIN_WORD_FREQUENCY = 2;
   private static final int MAX_WORD_CLOUD_WORDS = 50;
+  private static final JsonCodec<Map<String, Object>> ANALYTICS_DATA_CODEC = JsonCodecs.forType(new TypeReference<Map<String, Object>>() {
+  });
+
   private static final Set<String> STOP_WORDS = Set.of(
                                                        "a", "an", "the", "and", "or", "but", "in", "on", "at", "to", "for", "of", "with", "by", "from", "as", "is", "was", "are", "were", "been", "be", "have", "has", "had", "do", "does", "did", "will", "would", "could", "should", "may", "might", "must", "can", "this", "that", "these", "those", "i", "you", "he", "she", "it", "we", "they"
   );
@@ -57,20 +62,16 @@ public class DashboardAnalyticsService {
   private final CompanyService companyService;
   private final PerformanceCycleService performanceCycleService;
   private final TeamRepository teamRepository;
-  private final AnswerRepository answerRepository;
-  private final ObjectMapper objectMapper;
 
   @Inject
   public DashboardAnalyticsService(
-                                   DashboardAnalyticsRepository dashboardAnalyticsRepository, AssessmentMatrixService assessmentMatrixService, EmployeeAssessmentService employeeAssessmentService, CompanyService companyService, PerformanceCycleService performanceCycleService, TeamRepository teamRepository, AnswerRepository answerRepository) {
+                                   DashboardAnalyticsRepository dashboardAnalyticsRepository, AssessmentMatrixService assessmentMatrixService, EmployeeAssessmentService employeeAssessmentService, CompanyService companyService, PerformanceCycleService performanceCycleService, TeamRepository teamRepository) {
     this.dashboardAnalyticsRepository = dashboardAnalyticsRepository;
     this.assessmentMatrixService = assessmentMatrixService;
     this.employeeAssessmentService = employeeAssessmentService;
     this.companyService = companyService;
     this.performanceCycleService = performanceCycleService;
     this.teamRepository = teamRepository;
-    this.answerRepository = answerRepository;
-    this.objectMapper = new ObjectMapper();
   }
 
 
@@ -155,7 +156,8 @@ public class DashboardAnalyticsService {
 
   /**
    * Update analytics for an entire assessment matrix
-   * Performance optimized: Uses batch operations to reduce database calls from 100+ to ~10
+   * Performance optimized: Uses batch operations to reduce database calls from 100+ to ~10, and overlaps independent
+   * reads: the assessments load while the cycle and company are read, and the answers load while the teams are read.
    */
   public void updateAssessmentMatrixAnalytics(String assessmentMatrixId) {
     Optional<AssessmentMatrix> matrixOpt = assessmentMatrixService.findById(assessmentMatrixId);
@@ -167,6 +169,10 @@ public class DashboardAnalyticsService {
     AssessmentMatrix matrix = matrixOpt.get();
     String performanceCycleId = matrix.getPerformanceCycleId();
 
+    String tenantId = matrix.getTenantId();
+
+    CompletableFuture<List<EmployeeAssessment>> assessmentsFuture = employeeAssessmentService.findByAssessmentMatrixAsync(assessmentMatrixId, tenantId);
+
     Optional<PerformanceCycle> cycleOpt = performanceCycleService.findById(performanceCycleId);
     String companyId = cycleOpt.map(PerformanceCycle::getCompanyId).orElse(null);
     String performanceCycleName = cycleOpt.map(PerformanceCycle::getName).orElse("Unknown Cycle");
@@ -176,9 +182,7 @@ public class DashboardAnalyticsService {
 
     String assessmentMatrixName = matrix.getName();
 
-    String tenantId = matrix.getTenantId();
-
-    List<EmployeeAssessment> allAssessments = employeeAssessmentService.findByAssessmentMatrix(assessmentMatrixId, tenantId);
+    List<EmployeeAssessment> allAssessments = assessmentsFuture.join();
 
     if (allAssessments.isEmpty()) {
       log.warn("No assessments found for matrix: {} with tenantId: {}. Cannot compute analytics.", assessmentMatrixId, tenantId);
@@ -189,18 +193,19 @@ public class DashboardAnalyticsService {
                                                                             .filter(ea -> ea.getTeamId() != null)
                                                                             .collect(Collectors.groupingBy(EmployeeAssessment::getTeamId));
 
-    // OPTIMIZATION: Batch lookup all teams at once instead of individual queries
-    Set<String> allTeamIds = assessmentsByTeam.keySet();
-    Map<String, Team> teamsByIds = teamRepository.findByIds(allTeamIds);
-    log.info("Batch loaded {} teams for analytics calculation", teamsByIds.size());
-
-    // CRITICAL OPTIMIZATION: Load ALL answers ONCE for the entire assessment matrix
-    // This is the TRUE 2-query approach: 1 query for assessments + 1 query for ALL answers
+    // CRITICAL OPTIMIZATION: Load ALL answers ONCE for the entire assessment matrix, all assessments concurrently
     List<String> allAssessmentIds = allAssessments.stream()
                                                   .map(EmployeeAssessment::getId)
                                                   .collect(Collectors.toList());
+    CompletableFuture<Map<String, List<Answer>>> answersFuture = employeeAssessmentService.findAnswersByEmployeeAssessmentIdsAsync(allAssessmentIds, tenantId);
+
+    // OPTIMIZATION: Batch lookup all teams at once instead of individual queries, while the answers load. A failed
+    // lookup fails the update instead of saving the team analytics as "Unknown Team"
+    Set<String> allTeamIds = assessmentsByTeam.keySet();
+    Map<String, Team> teamsByIds = teamRepository.findByIds(allTeamIds);
+    log.info("Batch loaded {} teams for analytics calculation", teamsByIds.size());
 
-    Map<String, List<Answer>> allAnswersByAssessment = answerRepository.findByEmployeeAssessmentIds(allAssessmentIds, tenantId);
+    Map<String, List<Answer>> allAnswersByAssessment = answersFuture.join();
     log.info("CRITICAL OPTIMIZATION: Batch loaded answers for {} assessments in single operation", allAssessmentIds.size());
 
     List<DashboardAnalytics> analyticsToSave = new ArrayList<>();
@@ -527,9 +532,9 @@ public class DashboardAnalyticsService {
                      .doubleValue();
   }
 
-  private String convertToJson(Object object) {
+  private String convertToJson(Map<String, Object> object) {
     try {
-      return objectMapper.writeValueAsString(object);
+      return ANALYTICS_DATA_CODEC.encode(object);
     }
     catch (Exception e) {
       log.error("Failed to convert to JSON", e);
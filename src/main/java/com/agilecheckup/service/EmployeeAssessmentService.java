@@ -1,12 +1,11 @@
 package com.agilecheckup.service;
 
-import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import javax.inject.Inject;
 
@@ -14,6 +13,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import com.agilecheckup.persistency.entity.AssessmentMatrix;
 import com.agilecheckup.persistency.entity.AssessmentStatus;
+import com.agilecheckup.persistency.entity.AssessmentStatusHistogram;
 import com.agilecheckup.persistency.entity.EmployeeAssessment;
 import com.agilecheckup.persistency.entity.EmployeeAssessmentScore;
 import com.agilecheckup.persistency.entity.Team;
@@ -23,21 +23,30 @@ import com.agilecheckup.persistency.entity.person.NaturalPerson;
 import com.agilecheckup.persistency.entity.person.Person;
 import com.agilecheckup.persistency.entity.person.PersonDocumentType;
 import com.agilecheckup.persistency.entity.question.Answer;
-import com.agilecheckup.persistency.entity.score.CategoryScore;
-import com.agilecheckup.persistency.entity.score.PillarScore;
-import com.agilecheckup.persistency.entity.score.QuestionScore;
+import com.agilecheckup.persistency.entity.question.Question;
 import com.agilecheckup.persistency.repository.AnswerRepository;
+import com.agilecheckup.persistency.repository.AssessmentStatusHistogramRepository;
+import com.agilecheckup.persistency.repository.AsyncAnswerRepository;
+import com.agilecheckup.persistency.repository.AsyncEmployeeAssessmentRepository;
 import com.agilecheckup.persistency.repository.EmployeeAssessmentRepository;
+import com.agilecheckup.persistency.repository.PageResult;
+import com.agilecheckup.service.cache.QuestionSnapshotCache;
 import com.agilecheckup.service.dto.EmployeeValidationRequest;
 import com.agilecheckup.service.dto.EmployeeValidationResponse;
 import com.agilecheckup.service.exception.EmployeeAssessmentAlreadyExistsException;
 import com.agilecheckup.service.exception.InvalidIdReferenceException;
+import com.agilecheckup.service.score.EmployeeAssessmentScoreCalculator;
+import com.agilecheckup.service.unitofwork.UnitOfWork;
 import com.agilecheckup.service.validator.AssessmentStatusValidator;
 
 import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 public class EmployeeAssessmentService extends AbstractCrudService<EmployeeAssessment, EmployeeAssessmentRepository> {
 
+  private static final int MAX_SCORE_WRITE_ATTEMPTS = 3;
+
   private final AssessmentMatrixService assessmentMatrixService;
 
   private final TeamService teamService;
@@ -46,12 +55,24 @@ public class EmployeeAssessmentService extends AbstractCrudService<EmployeeAsses
 
   private final AnswerRepository answerRepository;
 
+  private final QuestionSnapshotCache questionSnapshotCache;
+
+  private final AssessmentStatusHistogramRepository statusHistogramRepository;
+
+  private final AsyncEmployeeAssessmentRepository asyncEmployeeAssessmentRepository;
+
+  private final AsyncAnswerRepository asyncAnswerRepository;
+
   @Inject
-  public EmployeeAssessmentService(EmployeeAssessmentRepository employeeAssessmentRepository, AssessmentMatrixService assessmentMatrixService, TeamService teamService, AnswerRepository answerRepository) {
+  public EmployeeAssessmentService(EmployeeAssessmentRepository employeeAssessmentRepository, AssessmentMatrixService assessmentMatrixService, TeamService teamService, AnswerRepository answerRepository, QuestionSnapshotCache questionSnapshotCache, AssessmentStatusHistogramRepository statusHistogramRepository, AsyncEmployeeAssessmentRepository asyncEmployeeAssessmentRepository, AsyncAnswerRepository asyncAnswerRepository) {
     this.employeeAssessmentRepository = employeeAssessmentRepository;
     this.assessmentMatrixService = assessmentMatrixService;
     this.teamService = teamService;
     this.answerRepository = answerRepository;
+    this.questionSnapshotCache = questionSnapshotCache;
+    this.statusHistogramRepository = statusHistogramRepository;
+    this.asyncEmployeeAssessmentRepository = asyncEmployeeAssessmentRepository;
+    this.asyncAnswerRepository = asyncAnswerRepository;
   }
 
   public static NaturalPerson createNaturalPerson(String name, @NonNull String email, String documentNumber, PersonDocumentType documentType, Gender gender, GenderPronoun genderPronoun, String personId) {
@@ -123,14 +144,22 @@ public class EmployeeAssessmentService extends AbstractCrudService<EmployeeAsses
                              .build();
   }
 
+  /**
+   * Counts a new answer with an atomic increment, so concurrent answers are never lost. When the status advances only
+   * the status attributes are written.
+   */
   public void incrementAnsweredQuestionCount(String employeeAssessmentId) {
 
     EmployeeAssessment employeeAssessment = getEmployeeAssessmentById(employeeAssessmentId);
-    employeeAssessment.incrementAnswersCount();
+    Date now = new Date();
+    long answeredQuestionCount = employeeAssessmentRepository.incrementAnsweredQuestionCount(employeeAssessmentId, now)
+                                                             .orElseThrow(() -> new InvalidIdReferenceException(employeeAssessmentId, getClass().getName(), "EmployeeAssessment"));
+    employeeAssessment.setAnsweredQuestionCount((int) answeredQuestionCount);
+    employeeAssessment.setLastActivityDate(now);
+    AssessmentStatus previousStatus = employeeAssessment.getAssessmentStatus();
     boolean hasAdvanced = advanceAssessmentProgress(employeeAssessment);
-    save(employeeAssessment);
     if (hasAdvanced) {
-      this.updateEmployeeAssessmentScore(employeeAssessment);
+      writeStatus(employeeAssessment, previousStatus, "assessmentStatus", "lastActivityDate");
     }
   }
 
@@ -167,8 +196,7 @@ public class EmployeeAssessmentService extends AbstractCrudService<EmployeeAsses
         employeeAssessment.setAssessmentStatus(currentStatus);
       }
       AssessmentStatusValidator.validateTransition(currentStatus, status);
-      employeeAssessment.setAssessmentStatus(status);
-      Optional<EmployeeAssessment> result = super.update(employeeAssessment);
+      Optional<EmployeeAssessment> result = updateStatus(employeeAssessment, status);
 
       // Update lastActivityDate for status transitions (except when transitioning TO COMPLETED)
       // When transitioning TO COMPLETED, the lastActivityDate should remain as the completion timestamp
@@ -181,128 +209,228 @@ public class EmployeeAssessmentService extends AbstractCrudService<EmployeeAsses
     return Optional.empty();
   }
 
-  public EmployeeAssessment updateEmployeeAssessmentScore(String employeeAssessmentId) {
-    Optional<EmployeeAssessment> optionalEmployeeAssessment = getRepository().findById(employeeAssessmentId);
-    return optionalEmployeeAssessment.map(this::updateEmployeeAssessmentScore).orElse(null);
+  /**
+   * Sets the status of the assessment, writes it and records the transition in the status histogram of its matrix.
+   */
+  public Optional<EmployeeAssessment> updateStatus(@NonNull EmployeeAssessment employeeAssessment, @NonNull AssessmentStatus status) {
+    AssessmentStatus previousStatus = employeeAssessment.getAssessmentStatus();
+    employeeAssessment.setAssessmentStatus(status);
+    if (!writeStatus(employeeAssessment, previousStatus, "assessmentStatus")) {
+      return Optional.empty();
+    }
+    internalPostUpdate(employeeAssessment);
+    return Optional.of(employeeAssessment);
   }
 
-  public EmployeeAssessment updateEmployeeAssessmentScore(EmployeeAssessment employeeAssessment) {
-    List<Answer> answers = retrieveAnswers(employeeAssessment.getId(), employeeAssessment.getTenantId());
-    EmployeeAssessmentScore employeeAssessmentScore = calculateEmployeeAssessmentScore(answers);
-    employeeAssessment.setEmployeeAssessmentScore(employeeAssessmentScore);
-    getRepository().save(employeeAssessment);
-    return employeeAssessment;
+  /**
+   * Writes the given status attributes straight through with a single UpdateItem and records the transition. The full
+   * item is never written here, even inside a {@link UnitOfWork}: it would overwrite the answered question count and the
+   * score that concurrent answers update attribute by attribute.
+   * <p>
+   * The update only applies if the stored status is still {@code previousStatus}, and the transition is only recorded in
+   * the status histogram once it did, so two requests racing for the same transition move the histogram once. When it
+   * does not apply, the entity, which may be the instance shared through the unit of work, is given back the stored
+   * status so the rest of the request does not act on a status that was never written.
+   */
+  private boolean writeStatus(EmployeeAssessment employeeAssessment, AssessmentStatus previousStatus, String... attributeNames) {
+    boolean written = employeeAssessmentRepository.updateAttributesIf(employeeAssessment, "assessmentStatus", previousStatus, attributeNames);
+    if (written) {
+      recordStatusTransition(employeeAssessment, previousStatus);
+    }
+    else {
+      log.debug("Status of employee assessment {} is no longer {}, transition to {} skipped", employeeAssessment.getId(), previousStatus, employeeAssessment.getAssessmentStatus());
+      restoreStoredStatus(employeeAssessment, previousStatus);
+    }
+    return written;
   }
 
-  private List<Answer> retrieveAnswers(String employeeAssessmentId, String tenantId) {
-    return answerRepository.findByEmployeeAssessmentId(employeeAssessmentId, tenantId);
+  private void restoreStoredStatus(EmployeeAssessment employeeAssessment, AssessmentStatus previousStatus) {
+    Optional<EmployeeAssessment> stored = employeeAssessmentRepository.findById(employeeAssessment.getId());
+    employeeAssessment.setAssessmentStatus(stored.map(EmployeeAssessment::getAssessmentStatus).orElse(previousStatus));
+    stored.ifPresent(current -> employeeAssessment.setLastActivityDate(current.getLastActivityDate()));
   }
 
-  private EmployeeAssessmentScore calculateEmployeeAssessmentScore(List<Answer> answers) {
-    Map<String, List<Answer>> answersByPillar = groupAnswersByPillarId(answers);
-    Map<String, PillarScore> pillarScores = calculatePillarScores(answersByPillar);
+  public EmployeeAssessment updateEmployeeAssessmentScore(String employeeAssessmentId) {
+    Optional<EmployeeAssessment> optionalEmployeeAssessment = loadById(employeeAssessmentId);
+    return optionalEmployeeAssessment.map(this::updateEmployeeAssessmentScore).orElse(null);
+  }
 
-    EmployeeAssessmentScore employeeAssessmentScore = new EmployeeAssessmentScore();
-    employeeAssessmentScore.setPillarIdToPillarScoreMap(pillarScores);
-    employeeAssessmentScore.setScore(calculateTotalScore(pillarScores));
-    return employeeAssessmentScore;
+  /**
+   * Re-scores the assessment from all of its answers. Use for explicit re-scores; answer writes go through
+   * {@link #applyAnswerScore(Answer)}.
+   */
+  public EmployeeAssessment updateEmployeeAssessmentScore(EmployeeAssessment employeeAssessment) {
+    return writeScore(employeeAssessment, this::calculateScore);
   }
 
-  private Map<String, List<Answer>> groupAnswersByPillarId(List<Answer> answers) {
-    return answers.stream().collect(Collectors.groupingBy(Answer::getPillarId));
+  /**
+   * Applies the score of a new or changed answer to the stored score tree and writes only the score attribute, without
+   * querying the other answers. Falls back to a full re-score when the tree holds fewer questions than the answered
+   * question count, i.e. when it misses answers counted by concurrent requests or scored before incremental maintenance.
+   *
+   * @param answer The saved answer
+   */
+  public void applyAnswerScore(Answer answer) {
+    EmployeeAssessment employeeAssessment = getEmployeeAssessmentById(answer.getEmployeeAssessmentId());
+    writeScore(employeeAssessment, assessment -> {
+      EmployeeAssessmentScore employeeAssessmentScore = Optional.ofNullable(assessment.getEmployeeAssessmentScore())
+                                                                .orElseGet(EmployeeAssessmentScore::new);
+      EmployeeAssessmentScoreCalculator.applyAnswer(employeeAssessmentScore, answer, this::resolveQuestion);
+
+      Integer answeredQuestionCount = assessment.getAnsweredQuestionCount();
+      if (answeredQuestionCount != null && EmployeeAssessmentScoreCalculator.countQuestionScores(employeeAssessmentScore) < answeredQuestionCount) {
+        return calculateScore(assessment);
+      }
+      return employeeAssessmentScore;
+    });
   }
 
-  private Map<String, PillarScore> calculatePillarScores(Map<String, List<Answer>> answersByPillar) {
-    Map<String, PillarScore> pillarScores = new HashMap<>();
+  private EmployeeAssessmentScore calculateScore(EmployeeAssessment employeeAssessment) {
+    List<Answer> answers = retrieveAnswers(employeeAssessment.getId(), employeeAssessment.getTenantId());
+    return EmployeeAssessmentScoreCalculator.calculate(answers, this::resolveQuestion);
+  }
 
-    for (Map.Entry<String, List<Answer>> entry : answersByPillar.entrySet()) {
-      PillarScore pillarScore = calculatePillarScore(entry.getKey(), entry.getValue());
-      pillarScores.put(entry.getKey(), pillarScore);
+  /**
+   * Computes the score with {@code scorer} and writes it straight through, conditioned on the score version the
+   * assessment was read with. When another request wrote the score meanwhile the assessment is read again and
+   * re-scored, so the score of one answer never overwrites that of a concurrent one. The given instance, which may be
+   * shared through the {@link UnitOfWork}, is updated with the stored state.
+   */
+  private EmployeeAssessment writeScore(EmployeeAssessment employeeAssessment, Function<EmployeeAssessment, EmployeeAssessmentScore> scorer) {
+    EmployeeAssessment current = employeeAssessment;
+    for (int attempt = 1; attempt <= MAX_SCORE_WRITE_ATTEMPTS; attempt++) {
+      current.setEmployeeAssessmentScore(scorer.apply(current));
+      if (employeeAssessmentRepository.updateScoreIfUnchanged(current)) {
+        if (current != employeeAssessment) {
+          employeeAssessment.setEmployeeAssessmentScore(current.getEmployeeAssessmentScore());
+          employeeAssessment.setScoreVersion(current.getScoreVersion());
+          employeeAssessment.setAnsweredQuestionCount(current.getAnsweredQuestionCount());
+        }
+        return employeeAssessment;
+      }
+      log.debug("Score of employee assessment {} changed concurrently, re-scoring (attempt {})", employeeAssessment.getId(), attempt);
+      String employeeAssessmentId = employeeAssessment.getId();
+      current = employeeAssessmentRepository.findById(employeeAssessmentId)
+                                            .orElseThrow(() -> new InvalidIdReferenceException(employeeAssessmentId, getClass().getName(), "EmployeeAssessment"));
     }
-
-    return pillarScores;
+    log.warn("Gave up writing the score of employee assessment {} after {} concurrent updates, it is left to a later re-score", employeeAssessment.getId(), MAX_SCORE_WRITE_ATTEMPTS);
+    return employeeAssessment;
   }
 
-  private PillarScore calculatePillarScore(String pillarId, List<Answer> answers) {
-    Map<String, List<Answer>> answersByCategory = groupAnswersByCategory(answers);
-    Map<String, CategoryScore> categoryScores = calculateCategoryScores(answersByCategory);
-
-    PillarScore pillarScore = new PillarScore();
-    pillarScore.setPillarId(pillarId);
-    pillarScore.setPillarName(answers.get(0).getQuestion().getPillarName());
-    pillarScore.setScore(calculateScoreForAnswers(answers));
-    pillarScore.setCategoryIdToCategoryScoreMap(categoryScores);
-    return pillarScore;
+  private Question resolveQuestion(Answer answer) {
+    return questionSnapshotCache.resolve(answer).orElse(null);
   }
 
-  private Map<String, List<Answer>> groupAnswersByCategory(List<Answer> answers) {
-    return answers.stream().collect(Collectors.groupingBy(Answer::getCategoryId));
+  private List<Answer> retrieveAnswers(String employeeAssessmentId, String tenantId) {
+    return answerRepository.findByEmployeeAssessmentId(employeeAssessmentId, tenantId);
   }
 
-  private Map<String, CategoryScore> calculateCategoryScores(Map<String, List<Answer>> answersByCategory) {
-    Map<String, CategoryScore> categoryScores = new HashMap<>();
-
-    for (Map.Entry<String, List<Answer>> entry : answersByCategory.entrySet()) {
-      CategoryScore categoryScore = calculateCategoryScore(entry.getKey(), entry.getValue());
-      categoryScores.put(entry.getKey(), categoryScore);
-    }
+  /**
+   * Find all employee assessments by tenant ID
+   */
+  public List<EmployeeAssessment> findAllByTenantId(String tenantId) {
+    return employeeAssessmentRepository.findAllByTenantId(tenantId);
+  }
 
-    return categoryScores;
+  /**
+   * Find one page of the employee assessments of the tenant
+   */
+  public PageResult<EmployeeAssessment> findPageByTenantId(String tenantId, int pageSize, String pageToken) {
+    return employeeAssessmentRepository.findPageByTenantId(tenantId, pageSize, pageToken);
   }
 
-  private CategoryScore calculateCategoryScore(String categoryId, List<Answer> answers) {
-    CategoryScore categoryScore = new CategoryScore();
-    categoryScore.setCategoryId(categoryId);
-    categoryScore.setCategoryName(answers.get(0).getQuestion().getCategoryName());
-    categoryScore.setScore(calculateScoreForAnswers(answers));
-    categoryScore.setQuestionScores(calculateQuestionScores(answers));
-    return categoryScore;
+  /**
+   * Find all employee assessments by assessment matrix ID and tenant ID
+   */
+  public List<EmployeeAssessment> findByAssessmentMatrix(String assessmentMatrixId, String tenantId) {
+    return employeeAssessmentRepository.findByAssessmentMatrixId(assessmentMatrixId, tenantId);
   }
 
-  private List<QuestionScore> calculateQuestionScores(List<Answer> answers) {
-    List<QuestionScore> questionScores = new ArrayList<>();
+  /**
+   * Same as {@link #findByAssessmentMatrix(String, String)}, without blocking
+   */
+  public CompletableFuture<List<EmployeeAssessment>> findByAssessmentMatrixAsync(String assessmentMatrixId, String tenantId) {
+    return asyncEmployeeAssessmentRepository.findByAssessmentMatrixId(assessmentMatrixId, tenantId);
+  }
 
-    for (Answer answer : answers) {
-      questionScores.add(createQuestionScore(answer));
-    }
+  /**
+   * Find the answers of the employee assessments, by assessment id, without blocking. Assessments without answers are
+   * left out, and only a bounded number of per-assessment queries is in flight at once.
+   */
+  public CompletableFuture<Map<String, List<Answer>>> findAnswersByEmployeeAssessmentIdsAsync(List<String> employeeAssessmentIds, String tenantId) {
+    return asyncAnswerRepository.findByEmployeeAssessmentIds(employeeAssessmentIds, tenantId);
+  }
 
-    return questionScores;
+  /**
+   * Find one page of the employee assessments of the assessment matrix and tenant
+   */
+  public PageResult<EmployeeAssessment> findPageByAssessmentMatrix(String assessmentMatrixId, String tenantId, int pageSize, String pageToken) {
+    return employeeAssessmentRepository.findPageByAssessmentMatrixId(assessmentMatrixId, tenantId, pageSize, pageToken);
   }
 
-  private QuestionScore createQuestionScore(Answer answer) {
-    QuestionScore questionScore = new QuestionScore();
-    questionScore.setQuestionId(answer.getQuestionId());
-    questionScore.setScore(answer.getScore());
-    return questionScore;
+  /**
+   * Number of assessments of the matrix in each status, read from the maintained status histogram. Matrices without a
+   * histogram, e.g. created before it was introduced and not yet backfilled, or whose histogram has drifted, are counted
+   * from the index.
+   */
+  public AssessmentStatusHistogram getStatusHistogram(String assessmentMatrixId, String tenantId) {
+    return findStatusHistogram(assessmentMatrixId, tenantId).orElseGet(() -> AssessmentStatusHistogram.of(assessmentMatrixId, tenantId, employeeAssessmentRepository.countByStatus(assessmentMatrixId, tenantId)));
   }
 
-  private double calculateScoreForAnswers(List<Answer> answers) {
-    return answers.stream().mapToDouble(Answer::getScore).sum();
+  /**
+   * Check if the matrix has assessments and all of them are completed, with a single read of the status histogram.
+   */
+  public boolean areAllAssessmentsCompleted(String assessmentMatrixId, String tenantId) {
+    return findStatusHistogram(assessmentMatrixId, tenantId).map(AssessmentStatusHistogram::allCompleted)
+                                                             .orElseGet(() -> employeeAssessmentRepository.areAllAssessmentsCompleted(assessmentMatrixId, tenantId));
   }
 
-  private double calculateTotalScore(Map<String, PillarScore> pillarScores) {
-    return pillarScores.values().stream().mapToDouble(PillarScore::getScore).sum();
+  /**
+   * Count the non-completed assessments of the matrix, with a single read of the status histogram.
+   */
+  public long countNonCompletedAssessments(String assessmentMatrixId, String tenantId) {
+    return findStatusHistogram(assessmentMatrixId, tenantId).map(AssessmentStatusHistogram::nonCompleted)
+                                                             .orElseGet(() -> employeeAssessmentRepository.countNonCompletedAssessments(assessmentMatrixId, tenantId));
   }
 
   /**
-   * Find all employee assessments by tenant ID
+   * The status histogram of the matrix, unless it belongs to another tenant or has drifted, in which case the callers
+   * count from the index until the backfill migration rebuilds it.
    */
-  public List<EmployeeAssessment> findAllByTenantId(String tenantId) {
-    return employeeAssessmentRepository.findAllByTenantId(tenantId);
+  private Optional<AssessmentStatusHistogram> findStatusHistogram(String assessmentMatrixId, String tenantId) {
+    return statusHistogramRepository.findById(assessmentMatrixId).filter(histogram -> tenantId.equals(histogram.getTenantId())).filter(this::hasNotDrifted);
+  }
+
+  private boolean hasNotDrifted(AssessmentStatusHistogram histogram) {
+    if (!histogram.isConsistent()) {
+      log.warn("Status histogram of assessment matrix {} has drifted {}, counting from the index", histogram.getId(), histogram.counts());
+      return false;
+    }
+    return true;
   }
 
   /**
-   * Find all employee assessments by assessment matrix ID and tenant ID
+   * Moves the assessment from its previous status to the current one in the status histogram of its matrix. A failed
+   * histogram update does not fail the status change: the histogram is rebuilt by the backfill migration.
    */
-  public List<EmployeeAssessment> findByAssessmentMatrix(String assessmentMatrixId, String tenantId) {
-    return employeeAssessmentRepository.findByAssessmentMatrixId(assessmentMatrixId, tenantId);
+  private void recordStatusTransition(EmployeeAssessment employeeAssessment, AssessmentStatus previousStatus) {
+    recordStatusTransition(employeeAssessment, previousStatus, employeeAssessment.getAssessmentStatus());
+  }
+
+  private void recordStatusTransition(EmployeeAssessment employeeAssessment, AssessmentStatus from, AssessmentStatus to) {
+    try {
+      statusHistogramRepository.recordTransition(employeeAssessment.getAssessmentMatrixId(), from, to);
+    }
+    catch (RuntimeException e) {
+      log.warn("Failed to record status transition {} -> {} of employee assessment {}: {}", from, to, employeeAssessment.getId(), e.getMessage());
+    }
   }
 
   /**
    * Find employee assessment by ID and tenant ID
    */
   public Optional<EmployeeAssessment> findById(String id, String tenantId) {
-    Optional<EmployeeAssessment> optionalEa = employeeAssessmentRepository.findById(id);
+    Optional<EmployeeAssessment> optionalEa = loadById(id);
     if (optionalEa.isPresent() && tenantId.equals(optionalEa.get().getTenantId())) {
       return optionalEa;
     }
@@ -314,7 +442,11 @@ public class EmployeeAssessmentService extends AbstractCrudService<EmployeeAsses
    */
   @Override
   public boolean deleteById(String id) {
-    return employeeAssessmentRepository.deleteById(id);
+    UnitOfWork.current().ifPresent(unitOfWork -> unitOfWork.evict(employeeAssessmentRepository, id));
+    Optional<EmployeeAssessment> deleted = employeeAssessmentRepository.deleteAndGet(id);
+    deleted.ifPresent(employeeAssessment -> recordStatusTransition(employeeAssessment, Optional.ofNullable(employeeAssessment.getAssessmentStatus())
+                                                                                              .orElse(AssessmentStatus.INVITED), null));
+    return deleted.isPresent();
   }
 
   /**
@@ -328,13 +460,18 @@ public class EmployeeAssessmentService extends AbstractCrudService<EmployeeAsses
             .ifPresent(email -> assessment.setEmployeeEmailNormalized(email.toLowerCase().trim()));
 
     // For new assessments (no ID), validate employee assessment uniqueness
-    if (assessment.getId() == null) {
+    boolean isNew = assessment.getId() == null;
+    if (isNew) {
       String email = Optional.ofNullable(assessment.getEmployee())
                              .map(Person::getEmail)
                              .orElseThrow(() -> new IllegalArgumentException("Employee email is required"));
       validateEmployeeAssessmentUniqueness(email, assessment.getAssessmentMatrixId());
     }
-    return getRepository().save(assessment).orElse(assessment);
+    Optional<EmployeeAssessment> saved = persist(assessment);
+    if (isNew) {
+      saved.ifPresent(created -> recordStatusTransition(created, null));
+    }
+    return saved.orElse(assessment);
   }
 
   /**
@@ -372,10 +509,10 @@ public class EmployeeAssessmentService extends AbstractCrudService<EmployeeAsses
   }
 
   private void confirmEmployeeAssessment(EmployeeAssessment assessment) {
+    AssessmentStatus previousStatus = assessment.getAssessmentStatus();
     assessment.setAssessmentStatus(AssessmentStatus.CONFIRMED);
-    employeeAssessmentRepository.save(assessment);
-    // Update lastActivityDate for status transition
-    updateLastActivityDate(assessment.getId());
+    assessment.setLastActivityDate(new Date());
+    writeStatus(assessment, previousStatus, "assessmentStatus", "lastActivityDate");
   }
 
   private EmployeeValidationResponse createEmployeeNotFoundResponse() {
@@ -383,9 +520,9 @@ public class EmployeeAssessmentService extends AbstractCrudService<EmployeeAsses
   }
 
   private Optional<EmployeeAssessment> findEmployeeAssessment(EmployeeValidationRequest request) {
-    List<EmployeeAssessment> assessments = findByAssessmentMatrix(request.getAssessmentMatrixId(), request.getTenantId());
-
-    return assessments.stream().filter(assessment -> isEmailMatch(assessment, request.getEmail())).findFirst();
+    return employeeAssessmentRepository.streamByAssessmentMatrixId(request.getAssessmentMatrixId(), request.getTenantId())
+                                       .filter(assessment -> isEmailMatch(assessment, request.getEmail()))
+                                       .findFirst();
   }
 
   private EmployeeValidationResponse handleActiveStatus(EmployeeAssessment assessment, AssessmentStatus currentStatus) {
@@ -437,12 +574,12 @@ public class EmployeeAssessmentService extends AbstractCrudService<EmployeeAsses
    * @param employeeAssessmentId The employee assessment ID to update
    */
   public void updateLastActivityDate(@NonNull String employeeAssessmentId) {
-    Optional<EmployeeAssessment> optionalEmployeeAssessment = getRepository().findById(employeeAssessmentId);
+    Optional<EmployeeAssessment> optionalEmployeeAssessment = loadById(employeeAssessmentId);
     if (optionalEmployeeAssessment.isPresent()) {
       EmployeeAssessment employeeAssessment = optionalEmployeeAssessment.get();
       if (employeeAssessment.getAssessmentStatus() != AssessmentStatus.COMPLETED) {
         employeeAssessment.setLastActivityDate(new java.util.Date());
-        getRepository().save(employeeAssessment);
+        employeeAssessmentRepository.updateAttributes(employeeAssessment, "lastActivityDate");
       }
     }
   }
@@ -465,7 +602,11 @@ public class EmployeeAssessmentService extends AbstractCrudService<EmployeeAsses
     AssessmentMatrix assessmentMatrix = optionalAssessmentMatrix.orElseThrow(() -> new InvalidIdReferenceException(employeeAssessment.getAssessmentMatrixId(), getClass().getName(), "AssessmentMatrix"));
 
     if (hasAnsweredAllQuestions(employeeAssessment, assessmentMatrix)) {
+      AssessmentStatus previousStatus = employeeAssessment.getAssessmentStatus();
       finalizeAssessment(employeeAssessment);
+      if (employeeAssessment.getAssessmentStatus() != previousStatus) {
+        writeStatus(employeeAssessment, previousStatus, "assessmentStatus", "lastActivityDate");
+      }
     }
   }
 
@@ -475,7 +616,7 @@ public class EmployeeAssessmentService extends AbstractCrudService<EmployeeAsses
 
   @Override
   protected void postCreate(EmployeeAssessment entity) {
-    // Hook for post-create actions
+    recordStatusTransition(entity, null);
   }
 
   @Override
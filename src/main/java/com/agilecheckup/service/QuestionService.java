@@ -23,6 +23,7 @@ import com.agilecheckup.persistency.entity.question.OptionGroup;
 import com.agilecheckup.persistency.entity.question.Question;
 import com.agilecheckup.persistency.entity.question.QuestionOption;
 import com.agilecheckup.persistency.repository.QuestionRepository;
+import com.agilecheckup.service.cache.AssessmentDefinitionCache;
 import com.agilecheckup.service.exception.InvalidCustomOptionListException;
 import com.agilecheckup.service.exception.InvalidIdReferenceException;
 import com.google.common.annotations.VisibleForTesting;
@@ -36,11 +37,13 @@ public class QuestionService extends AbstractCrudService<Question, QuestionRepos
 
   private final QuestionRepository questionRepository;
   private final AssessmentMatrixService assessmentMatrixService;
+  private final AssessmentDefinitionCache definitionCache;
 
   @Inject
-  public QuestionService(QuestionRepository questionRepository, AssessmentMatrixService assessmentMatrixService) {
+  public QuestionService(QuestionRepository questionRepository, AssessmentMatrixService assessmentMatrixService, AssessmentDefinitionCache definitionCache) {
     this.questionRepository = questionRepository;
     this.assessmentMatrixService = assessmentMatrixService;
+    this.definitionCache = definitionCache;
   }
 
   public Optional<Question> create(String questionTxt, QuestionType questionType, String tenantId, Double points, String assessmentMatrixId, String pillarId, String categoryId, String extraDescription) {
@@ -67,6 +70,7 @@ public class QuestionService extends AbstractCrudService<Question, QuestionRepos
     Optional<Question> optionalQuestion = findById(id);
     if (optionalQuestion.isPresent()) {
       Question question = optionalQuestion.get();
+      String previousMatrixId = question.getAssessmentMatrixId();
       AssessmentMatrix assessmentMatrix = getAssessmentMatrixById(assessmentMatrixId);
       Pillar pillar = getPillar(assessmentMatrix, pillarId);
       Category category = getCategory(pillar, categoryId);
@@ -81,7 +85,7 @@ public class QuestionService extends AbstractCrudService<Question, QuestionRepos
       question.setTenantId(tenantId);
       question.setPoints(points);
       question.setExtraDescription(extraDescription);
-      return super.update(question);
+      return update(question, previousMatrixId);
     }
     else {
       return Optional.empty();
@@ -92,6 +96,7 @@ public class QuestionService extends AbstractCrudService<Question, QuestionRepos
     Optional<Question> optionalQuestion = findById(id);
     if (optionalQuestion.isPresent()) {
       Question question = optionalQuestion.get();
+      String previousMatrixId = question.getAssessmentMatrixId();
       validateQuestionOptions(options);
       AssessmentMatrix assessmentMatrix = getAssessmentMatrixById(assessmentMatrixId);
       Pillar pillar = getPillar(assessmentMatrix, pillarId);
@@ -107,15 +112,18 @@ public class QuestionService extends AbstractCrudService<Question, QuestionRepos
       question.setOptionGroup(createOptionGroup(isMultipleChoice, showFlushed, options));
       question.setTenantId(tenantId);
       question.setExtraDescription(extraDescription);
-      return super.update(question);
+      return update(question, previousMatrixId);
     }
     else {
       return Optional.empty();
     }
   }
 
+  /**
+   * Returns the questions of the matrix, through the {@link AssessmentDefinitionCache}. The list is unmodifiable.
+   */
   public List<Question> findByAssessmentMatrixId(String matrixId, String tenantId) {
-    return questionRepository.findByAssessmentMatrixId(matrixId, tenantId);
+    return definitionCache.getQuestions(matrixId, tenantId, () -> questionRepository.findByAssessmentMatrixId(matrixId, tenantId));
   }
 
   public List<Question> findAllByTenantId(String tenantId) {
@@ -131,6 +139,24 @@ public class QuestionService extends AbstractCrudService<Question, QuestionRepos
     assessmentMatrixService.incrementQuestionCount(question.getAssessmentMatrixId());
   }
 
+  @Override
+  protected void postUpdate(Question question) {
+    definitionCache.invalidateQuestions(question.getAssessmentMatrixId());
+  }
+
+  /**
+   * Updates the question and, once it is written, also drops the cached question list of the matrix it was moved
+   * from, which still lists it.
+   */
+  private Optional<Question> update(Question question, String previousMatrixId) {
+    return persist(question, () -> {
+      internalPostUpdate(question);
+      if (previousMatrixId != null && !previousMatrixId.equals(question.getAssessmentMatrixId())) {
+        definitionCache.invalidateQuestions(previousMatrixId);
+      }
+    });
+  }
+
   private Question internalCreate(String questionTxt, QuestionType questionType, String tenantId, Double points, AssessmentMatrix matrix, Pillar pillar, Category category, String extraDescription) {
     return Question.builder()
                    .assessmentMatrixId(matrix.getId())
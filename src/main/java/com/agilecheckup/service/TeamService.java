@@ -1,6 +1,8 @@
 package com.agilecheckup.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.inject.Inject;
@@ -40,8 +42,7 @@ public class TeamService extends AbstractCrudService<Team, TeamRepository> {
   }
 
   public Optional<Team> update(String id, String tenantId, String name, String description, String departmentId) {
-    Team existing = teamRepository.findById(id)
-                                  .orElseThrow(() -> new EntityNotFoundException("Team not found with id: " + id));
+    Team existing = loadById(id).orElseThrow(() -> new EntityNotFoundException("Team not found with id: " + id));
 
     existing.setTenantId(tenantId);
     existing.setName(name);
@@ -58,4 +59,15 @@ public class TeamService extends AbstractCrudService<Team, TeamRepository> {
   public List<Team> findAllByTenantId(String tenantId) {
     return teamRepository.findAllByTenantId(tenantId);
   }
+
+  /**
+   * Retrieves multiple teams in batched round-trips.
+   *
+   * @param teamIds The team IDs to retrieve
+   * @return Map of team ID to Team for the teams found
+   * @throws RuntimeException if some teams could not be read
+   */
+  public Map<String, Team> findByIds(Collection<String> teamIds) {
+    return teamRepository.findByIds(teamIds);
+  }
 }
\ No newline at end of file
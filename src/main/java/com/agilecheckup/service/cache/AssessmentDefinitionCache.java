@@ -0,0 +1,208 @@
+package com.agilecheckup.service.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.agilecheckup.persistency.entity.AssessmentMatrix;
+import com.agilecheckup.persistency.entity.question.Question;
+import com.agilecheckup.persistency.repository.TableSchemaRegistry;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Process-wide read-through cache for assessment definitions: the {@link AssessmentMatrix} by id and the
+ * {@link Question} list per matrix.
+ * <p>
+ * Locked matrices cannot change anymore, so they are kept until evicted by size. Unlocked matrices and question lists
+ * expire after a short TTL, which bounds how long another container can serve a stale definition. Writes in this
+ * process invalidate the affected entries through {@link #invalidateMatrix(String)} and
+ * {@link #invalidateQuestions(String)}. Misses are not cached.
+ * <p>
+ * Matrices and questions are cached as immutable item snapshots (the attribute maps the table stores) and every read
+ * returns new instances built from them, so a caller that modifies a matrix or question it got cannot leak the change
+ * to other requests.
+ * <p>
+ * A load that started before an invalidation of the same matrix does not store its result: each invalidation bumps a
+ * generation counter of the matrix, and the loaded value is only cached if the generation did not change meanwhile.
+ */
+@Slf4j
+public class AssessmentDefinitionCache {
+
+  private static final long DEFAULT_MAXIMUM_MATRICES = 500;
+  private static final long DEFAULT_MAXIMUM_QUESTION_LISTS = 500;
+  private static final long DEFAULT_UNLOCKED_TTL_SECONDS = 60;
+  private static final int GENERATION_STRIPES = 64;
+
+  private final TableSchema<AssessmentMatrix> matrixSchema = TableSchemaRegistry.schemaFor(AssessmentMatrix.class);
+  private final Cache<String, Map<String, AttributeValue>> lockedMatrices;
+  private final Cache<String, Map<String, AttributeValue>> unlockedMatrices;
+  private final TableSchema<Question> questionSchema = TableSchemaRegistry.schemaFor(Question.class);
+  private final Cache<QuestionListKey, List<Map<String, AttributeValue>>> questionsByMatrix;
+  private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+  private final LongAdder matrixHits = new LongAdder();
+  private final LongAdder matrixMisses = new LongAdder();
+  private final LongAdder questionHits = new LongAdder();
+  private final LongAdder questionMisses = new LongAdder();
+
+  public AssessmentDefinitionCache() {
+    this(DEFAULT_MAXIMUM_MATRICES, DEFAULT_MAXIMUM_QUESTION_LISTS, DEFAULT_UNLOCKED_TTL_SECONDS, TimeUnit.SECONDS);
+  }
+
+  @VisibleForTesting
+  AssessmentDefinitionCache(long maximumMatrices, long maximumQuestionLists, long unlockedTtl, TimeUnit unlockedTtlUnit) {
+    this.lockedMatrices = CacheBuilder.newBuilder().maximumSize(maximumMatrices).build();
+    this.unlockedMatrices = CacheBuilder.newBuilder()
+                                        .maximumSize(maximumMatrices)
+                                        .expireAfterWrite(unlockedTtl, unlockedTtlUnit)
+                                        .build();
+    this.questionsByMatrix = CacheBuilder.newBuilder()
+                                         .maximumSize(maximumQuestionLists)
+                                         .expireAfterWrite(unlockedTtl, unlockedTtlUnit)
+                                         .build();
+  }
+
+  /**
+   * Returns a copy of the cached matrix, or loads it and caches a snapshot according to its lock state.
+   */
+  public Optional<AssessmentMatrix> getMatrix(String matrixId, Supplier<Optional<AssessmentMatrix>> loader) {
+    Map<String, AttributeValue> cached = lockedMatrices.getIfPresent(matrixId);
+    if (cached == null) {
+      cached = unlockedMatrices.getIfPresent(matrixId);
+    }
+    if (cached != null) {
+      matrixHits.increment();
+      return Optional.of(matrixSchema.mapToItem(cached));
+    }
+
+    matrixMisses.increment();
+    long generation = generationOf(matrixId);
+    Optional<AssessmentMatrix> loaded = loader.get();
+    loaded.ifPresent(matrix -> {
+      Map<String, AttributeValue> snapshot = Map.copyOf(matrixSchema.itemToMap(matrix, true));
+      Cache<String, Map<String, AttributeValue>> target = Boolean.TRUE.equals(matrix.getIsLocked()) ? lockedMatrices : unlockedMatrices;
+      putIfNotInvalidated(target.asMap(), matrixId, matrixId, generation, snapshot);
+    });
+    return loaded;
+  }
+
+  /**
+   * Returns copies of the cached questions of the matrix, or loads them and caches their snapshots. The returned list
+   * is unmodifiable.
+   */
+  public List<Question> getQuestions(String matrixId, String tenantId, Supplier<List<Question>> loader) {
+    QuestionListKey key = new QuestionListKey(matrixId, tenantId);
+    List<Map<String, AttributeValue>> cached = questionsByMatrix.getIfPresent(key);
+    if (cached != null) {
+      questionHits.increment();
+      return toQuestions(cached);
+    }
+
+    questionMisses.increment();
+    long generation = generationOf(matrixId);
+    List<Question> loaded = loader.get();
+    List<Map<String, AttributeValue>> snapshots = loaded.stream().map(question -> Map.copyOf(questionSchema.itemToMap(question, true))).collect(Collectors.toUnmodifiableList());
+    putIfNotInvalidated(questionsByMatrix.asMap(), key, matrixId, generation, snapshots);
+    return toQuestions(snapshots);
+  }
+
+  /**
+   * Drops the matrix and its question lists.
+   */
+  public void invalidateMatrix(String matrixId) {
+    generations.incrementAndGet(stripeOf(matrixId));
+    lockedMatrices.invalidate(matrixId);
+    unlockedMatrices.invalidate(matrixId);
+    invalidateQuestions(matrixId);
+  }
+
+  public void invalidateQuestions(String matrixId) {
+    generations.incrementAndGet(stripeOf(matrixId));
+    questionsByMatrix.asMap().keySet().removeIf(key -> key.matrixId.equals(matrixId));
+  }
+
+  public void invalidateAll() {
+    for (int stripe = 0; stripe < GENERATION_STRIPES; stripe++) {
+      generations.incrementAndGet(stripe);
+    }
+    lockedMatrices.invalidateAll();
+    unlockedMatrices.invalidateAll();
+    questionsByMatrix.invalidateAll();
+  }
+
+  public long getMatrixHitCount() {
+    return matrixHits.sum();
+  }
+
+  public long getMatrixMissCount() {
+    return matrixMisses.sum();
+  }
+
+  public long getQuestionListHitCount() {
+    return questionHits.sum();
+  }
+
+  public long getQuestionListMissCount() {
+    return questionMisses.sum();
+  }
+
+  public void logStats() {
+    log.info("Assessment definition cache: matrices hits={} misses={} locked={} unlocked={}, question lists hits={} misses={} size={}", getMatrixHitCount(), getMatrixMissCount(), lockedMatrices.size(), unlockedMatrices.size(), getQuestionListHitCount(), getQuestionListMissCount(), questionsByMatrix.size());
+  }
+
+  /**
+   * Stores the value unless the matrix was invalidated since {@code generation} was read. The check runs inside the
+   * map's atomic compute, and invalidations bump the generation before removing entries, so an invalidation either
+   * sees the new entry and removes it, or makes the compute skip it.
+   */
+  private <K, V> void putIfNotInvalidated(Map<K, V> map, K key, String matrixId, long generation, V value) {
+    map.compute(key, (k, existing) -> generationOf(matrixId) == generation ? value : existing);
+  }
+
+  private List<Question> toQuestions(List<Map<String, AttributeValue>> snapshots) {
+    return snapshots.stream().map(questionSchema::mapToItem).collect(Collectors.toUnmodifiableList());
+  }
+
+  private long generationOf(String matrixId) {
+    return generations.get(stripeOf(matrixId));
+  }
+
+  private static int stripeOf(String matrixId) {
+    return Math.floorMod(matrixId.hashCode(), GENERATION_STRIPES);
+  }
+
+  private static final class QuestionListKey {
+    private final String matrixId;
+    private final String tenantId;
+
+    private QuestionListKey(String matrixId, String tenantId) {
+      this.matrixId = matrixId;
+      this.tenantId = tenantId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof QuestionListKey)) return false;
+      QuestionListKey other = (QuestionListKey) o;
+      return matrixId.equals(other.matrixId) && Objects.equals(tenantId, other.tenantId);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * matrixId.hashCode() + Objects.hashCode(tenantId);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.agilecheckup.service.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.agilecheckup.persistency.entity.question.Question;
+import com.agilecheckup.persistency.entity.question.plan.QuestionPlan;
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Process-wide cache of compiled {@link QuestionPlan}s by question id.
+ * <p>
+ * A cached plan is only reused for the question version it was compiled from (id, lastUpdatedDate and type), so an
+ * edited question is recompiled on its next use without explicit invalidation. Plans are immutable and can be shared
+ * between threads.
+ * <p>
+ * Lookups sit on the answer hot path and cost less than the validation itself, so the cache is a plain concurrent map
+ * rather than a Guava cache with access tracking. It is bounded by clearing it when full; plans are cheap to rebuild.
+ */
+@Slf4j
+public class QuestionPlanCache {
+
+  private static final long DEFAULT_MAXIMUM_PLANS = 2_000;
+
+  private final long maximumPlans;
+  private final ConcurrentMap<String, QuestionPlan> plans = new ConcurrentHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder compilations = new LongAdder();
+
+  public QuestionPlanCache() {
+    this(DEFAULT_MAXIMUM_PLANS);
+  }
+
+  @VisibleForTesting
+  QuestionPlanCache(long maximumPlans) {
+    this.maximumPlans = maximumPlans;
+  }
+
+  /**
+   * Returns the plan for this version of the question, compiling and caching it when missing or outdated.
+   */
+  public QuestionPlan getPlan(Question question) {
+    if (question.getId() == null) {
+      compilations.increment();
+      return QuestionPlan.compile(question);
+    }
+
+    QuestionPlan cached = plans.get(question.getId());
+    if (cached != null && cached.isCompiledFrom(question)) {
+      hits.increment();
+      return cached;
+    }
+
+    compilations.increment();
+    QuestionPlan compiled = QuestionPlan.compile(question);
+    if (plans.size() >= maximumPlans) {
+      plans.clear();
+    }
+    plans.put(question.getId(), compiled);
+    return compiled;
+  }
+
+  public void invalidate(String questionId) {
+    plans.remove(questionId);
+  }
+
+  public void invalidateAll() {
+    plans.clear();
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getCompilationCount() {
+    return compilations.sum();
+  }
+
+  public void logStats() {
+    log.info("Question plan cache: hits={} compilations={} size={}", getHitCount(), getCompilationCount(), plans.size());
+  }
+}
@@ -0,0 +1,119 @@
+package com.agilecheckup.service.cache;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.agilecheckup.persistency.entity.question.Answer;
+import com.agilecheckup.persistency.entity.question.Question;
+import com.agilecheckup.persistency.entity.question.QuestionSnapshot;
+import com.agilecheckup.persistency.repository.QuestionSnapshotRepository;
+import com.agilecheckup.persistency.repository.TableSchemaRegistry;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Process-wide cache of {@link QuestionSnapshot}s by snapshot id.
+ * <p>
+ * Answers reference the version of the question they were given for instead of embedding a copy of it.
+ * {@link #snapshotIdFor(Question)} stores a snapshot the first time a version is seen by this process, and
+ * {@link #resolve(Answer)} loads it once and serves later lookups from memory. Snapshots never change, so entries do not
+ * expire and are only evicted by size.
+ * <p>
+ * Entries are immutable item snapshots of the question (the attribute map the table stores), taken when the snapshot
+ * is stored or loaded, and every lookup returns a new instance built from them. Later changes to the question passed
+ * in, or to a returned one, therefore cannot change what a snapshot id resolves to.
+ */
+@Slf4j
+public class QuestionSnapshotCache {
+
+  private static final long DEFAULT_MAXIMUM_SNAPSHOTS = 2_000;
+
+  private final QuestionSnapshotRepository questionSnapshotRepository;
+  private final TableSchema<Question> questionSchema = TableSchemaRegistry.schemaFor(Question.class);
+  private final Cache<String, Map<String, AttributeValue>> questionsBySnapshotId;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder loads = new LongAdder();
+  private final LongAdder writes = new LongAdder();
+
+  public QuestionSnapshotCache(QuestionSnapshotRepository questionSnapshotRepository) {
+    this(questionSnapshotRepository, DEFAULT_MAXIMUM_SNAPSHOTS);
+  }
+
+  @VisibleForTesting
+  QuestionSnapshotCache(QuestionSnapshotRepository questionSnapshotRepository, long maximumSnapshots) {
+    this.questionSnapshotRepository = questionSnapshotRepository;
+    this.questionsBySnapshotId = CacheBuilder.newBuilder().maximumSize(maximumSnapshots).build();
+  }
+
+  /**
+   * Returns the snapshot id of this version of the question, storing the snapshot if this process has not seen it yet.
+   */
+  public String snapshotIdFor(Question question) {
+    String snapshotId = QuestionSnapshot.idOf(question);
+    if (questionsBySnapshotId.getIfPresent(snapshotId) != null) {
+      hits.increment();
+      return snapshotId;
+    }
+
+    writes.increment();
+    questionSnapshotRepository.saveIfAbsent(QuestionSnapshot.of(question));
+    questionsBySnapshotId.put(snapshotId, snapshotOf(question));
+    return snapshotId;
+  }
+
+  /**
+   * Returns the question the answer was given for: the embedded copy of answers written before snapshots, otherwise the
+   * referenced snapshot.
+   */
+  public Optional<Question> resolve(Answer answer) {
+    if (answer.getQuestion() != null) {
+      return Optional.of(answer.getQuestion());
+    }
+    String snapshotId = answer.getQuestionSnapshotId();
+    if (snapshotId == null) {
+      return Optional.empty();
+    }
+
+    Map<String, AttributeValue> cached = questionsBySnapshotId.getIfPresent(snapshotId);
+    if (cached != null) {
+      hits.increment();
+      return Optional.of(questionSchema.mapToItem(cached));
+    }
+
+    loads.increment();
+    Optional<Map<String, AttributeValue>> loaded = questionSnapshotRepository.findById(snapshotId).map(QuestionSnapshot::getQuestion).map(this::snapshotOf);
+    loaded.ifPresent(snapshot -> questionsBySnapshotId.put(snapshotId, snapshot));
+    return loaded.map(questionSchema::mapToItem);
+  }
+
+  private Map<String, AttributeValue> snapshotOf(Question question) {
+    return Map.copyOf(questionSchema.itemToMap(question, true));
+  }
+
+  public void invalidateAll() {
+    questionsBySnapshotId.invalidateAll();
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getLoadCount() {
+    return loads.sum();
+  }
+
+  public long getWriteCount() {
+    return writes.sum();
+  }
+
+  public void logStats() {
+    log.info("Question snapshot cache: hits={} loads={} writes={} size={}", getHitCount(), getLoadCount(), getWriteCount(), questionsBySnapshotId.size());
+  }
+}
@@ -0,0 +1,184 @@
+package com.agilecheckup.service.score;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.agilecheckup.persistency.entity.EmployeeAssessmentScore;
+import com.agilecheckup.persistency.entity.question.Answer;
+import com.agilecheckup.persistency.entity.question.Question;
+import com.agilecheckup.persistency.entity.score.CategoryScore;
+import com.agilecheckup.persistency.entity.score.PillarScore;
+import com.agilecheckup.persistency.entity.score.QuestionScore;
+
+/**
+ * Builds and maintains the pillar → category → question score tree of an employee assessment.
+ * <p>
+ * {@link #calculate(List)} rebuilds the tree from every answer. {@link #applyAnswer(EmployeeAssessmentScore, Answer)}
+ * applies a single new or changed answer to an existing tree by adjusting the question score and the category, pillar
+ * and total sums by the difference, so keeping the score current costs the same regardless of how many answers exist.
+ * <p>
+ * Pillar and category names come from the question each answer was given for, looked up through the question resolver
+ * only when a pillar or category entry is created. The overloads without a resolver read the question embedded in the
+ * answer.
+ */
+public final class EmployeeAssessmentScoreCalculator {
+
+  private EmployeeAssessmentScoreCalculator() {
+  }
+
+  public static EmployeeAssessmentScore calculate(List<Answer> answers) {
+    return calculate(answers, Answer::getQuestion);
+  }
+
+  public static EmployeeAssessmentScore calculate(List<Answer> answers, Function<Answer, Question> questionResolver) {
+    Map<String, List<Answer>> answersByPillar = answers.stream().collect(Collectors.groupingBy(Answer::getPillarId));
+    Map<String, PillarScore> pillarScores = new HashMap<>();
+    for (Map.Entry<String, List<Answer>> entry : answersByPillar.entrySet()) {
+      pillarScores.put(entry.getKey(), calculatePillarScore(entry.getKey(), entry.getValue(), questionResolver));
+    }
+
+    EmployeeAssessmentScore employeeAssessmentScore = new EmployeeAssessmentScore();
+    employeeAssessmentScore.setPillarIdToPillarScoreMap(pillarScores);
+    employeeAssessmentScore.setScore(pillarScores.values().stream().mapToDouble(PillarScore::getScore).sum());
+    return employeeAssessmentScore;
+  }
+
+  /**
+   * Applies the answer's score to the tree in place. A question already in the tree is replaced and its previous score
+   * subtracted from the sums; otherwise the question, and its category and pillar when missing, are added.
+   *
+   * @param employeeAssessmentScore The tree to update
+   * @param answer                  The new or changed answer
+   * @param questionResolver        Returns the question of the answer, or null when unknown
+   */
+  public static void applyAnswer(EmployeeAssessmentScore employeeAssessmentScore, Answer answer, Function<Answer, Question> questionResolver) {
+    double newScore = valueOf(answer.getScore());
+
+    if (employeeAssessmentScore.getPillarIdToPillarScoreMap() == null) {
+      employeeAssessmentScore.setPillarIdToPillarScoreMap(new HashMap<>());
+    }
+    PillarScore pillarScore = employeeAssessmentScore.getPillarIdToPillarScoreMap().computeIfAbsent(answer.getPillarId(), pillarId -> {
+      PillarScore created = new PillarScore();
+      created.setPillarId(pillarId);
+      created.setPillarName(pillarNameOf(answer, questionResolver));
+      created.setCategoryIdToCategoryScoreMap(new HashMap<>());
+      created.setScore(0d);
+      return created;
+    });
+
+    if (pillarScore.getCategoryIdToCategoryScoreMap() == null) {
+      pillarScore.setCategoryIdToCategoryScoreMap(new HashMap<>());
+    }
+    CategoryScore categoryScore = pillarScore.getCategoryIdToCategoryScoreMap().computeIfAbsent(answer.getCategoryId(), categoryId -> {
+      CategoryScore created = new CategoryScore();
+      created.setCategoryId(categoryId);
+      created.setCategoryName(categoryNameOf(answer, questionResolver));
+      created.setQuestionScores(new ArrayList<>());
+      created.setScore(0d);
+      return created;
+    });
+
+    if (categoryScore.getQuestionScores() == null) {
+      categoryScore.setQuestionScores(new ArrayList<>());
+    }
+    QuestionScore questionScore = findQuestionScore(categoryScore.getQuestionScores(), answer.getQuestionId());
+    if (questionScore == null) {
+      questionScore = new QuestionScore();
+      questionScore.setQuestionId(answer.getQuestionId());
+      questionScore.setScore(0d);
+      categoryScore.getQuestionScores().add(questionScore);
+    }
+
+    double delta = newScore - valueOf(questionScore.getScore());
+    questionScore.setScore(newScore);
+    categoryScore.setScore(valueOf(categoryScore.getScore()) + delta);
+    pillarScore.setScore(valueOf(pillarScore.getScore()) + delta);
+    employeeAssessmentScore.setScore(valueOf(employeeAssessmentScore.getScore()) + delta);
+  }
+
+  public static void applyAnswer(EmployeeAssessmentScore employeeAssessmentScore, Answer answer) {
+    applyAnswer(employeeAssessmentScore, answer, Answer::getQuestion);
+  }
+
+  /**
+   * Returns the number of questions in the tree, used to detect trees that missed answers.
+   */
+  public static int countQuestionScores(EmployeeAssessmentScore employeeAssessmentScore) {
+    if (employeeAssessmentScore == null || employeeAssessmentScore.getPillarIdToPillarScoreMap() == null) {
+      return 0;
+    }
+    int count = 0;
+    for (PillarScore pillarScore : employeeAssessmentScore.getPillarIdToPillarScoreMap().values()) {
+      if (pillarScore.getCategoryIdToCategoryScoreMap() == null) {
+        continue;
+      }
+      for (CategoryScore categoryScore : pillarScore.getCategoryIdToCategoryScoreMap().values()) {
+        count += categoryScore.getQuestionScores() == null ? 0 : categoryScore.getQuestionScores().size();
+      }
+    }
+    return count;
+  }
+
+  private static PillarScore calculatePillarScore(String pillarId, List<Answer> answers, Function<Answer, Question> questionResolver) {
+    Map<String, List<Answer>> answersByCategory = answers.stream().collect(Collectors.groupingBy(Answer::getCategoryId));
+    Map<String, CategoryScore> categoryScores = new HashMap<>();
+    for (Map.Entry<String, List<Answer>> entry : answersByCategory.entrySet()) {
+      categoryScores.put(entry.getKey(), calculateCategoryScore(entry.getKey(), entry.getValue(), questionResolver));
+    }
+
+    PillarScore pillarScore = new PillarScore();
+    pillarScore.setPillarId(pillarId);
+    pillarScore.setPillarName(pillarNameOf(answers.get(0), questionResolver));
+    pillarScore.setScore(sumScores(answers));
+    pillarScore.setCategoryIdToCategoryScoreMap(categoryScores);
+    return pillarScore;
+  }
+
+  private static CategoryScore calculateCategoryScore(String categoryId, List<Answer> answers, Function<Answer, Question> questionResolver) {
+    List<QuestionScore> questionScores = new ArrayList<>();
+    for (Answer answer : answers) {
+      QuestionScore questionScore = new QuestionScore();
+      questionScore.setQuestionId(answer.getQuestionId());
+      questionScore.setScore(answer.getScore());
+      questionScores.add(questionScore);
+    }
+
+    CategoryScore categoryScore = new CategoryScore();
+    categoryScore.setCategoryId(categoryId);
+    categoryScore.setCategoryName(categoryNameOf(answers.get(0), questionResolver));
+    categoryScore.setScore(sumScores(answers));
+    categoryScore.setQuestionScores(questionScores);
+    return categoryScore;
+  }
+
+  private static String pillarNameOf(Answer answer, Function<Answer, Question> questionResolver) {
+    Question question = questionResolver.apply(answer);
+    return question != null ? question.getPillarName() : null;
+  }
+
+  private static String categoryNameOf(Answer answer, Function<Answer, Question> questionResolver) {
+    Question question = questionResolver.apply(answer);
+    return question != null ? question.getCategoryName() : null;
+  }
+
+  private static QuestionScore findQuestionScore(List<QuestionScore> questionScores, String questionId) {
+    for (QuestionScore questionScore : questionScores) {
+      if (questionId.equals(questionScore.getQuestionId())) {
+        return questionScore;
+      }
+    }
+    return null;
+  }
+
+  private static double sumScores(List<Answer> answers) {
+    return answers.stream().mapToDouble(Answer::getScore).sum();
+  }
+
+  private static double valueOf(Double score) {
+    return score == null ? 0d : score;
+  }
+}
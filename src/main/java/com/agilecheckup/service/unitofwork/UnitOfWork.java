@@ -0,0 +1,227 @@
+package com.agilecheckup.service.unitofwork;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.agilecheckup.persistency.entity.base.BaseEntity;
+import com.agilecheckup.persistency.repository.AbstractCrudRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Request-scoped identity map and write coalescer for service-layer entity access.
+ * <p>
+ * A unit of work is bound to the current thread by {@link #execute(Supplier)} and lives until the outermost call
+ * returns. While it is active:
+ * <ul>
+ * <li>loads by id go through an identity map, so each entity is read at most once and every caller shares the same
+ * instance;</li>
+ * <li>updates of existing entities are registered as dirty and written once, in registration order, when the unit of
+ * work completes, each followed by the actions registered to run after it. The flush runs while the unit of work is
+ * still bound, so those actions share its identity map and their own updates are flushed in the same pass.</li>
+ * </ul>
+ * Nested calls join the active unit of work. Outside of a unit of work services read and write through immediately, as
+ * before. It is not tied to the Dagger graph: entry points (Lambda handlers, runners, services) wrap an operation with
+ * {@link #execute(Supplier)} and the services pick the active instance up through {@link #current()}.
+ * <p>
+ * Dirty entities are only flushed when the operation completes normally: when it fails they are discarded with their
+ * after-write actions. The unit of work is not a transaction, though. Creates and the targeted attribute updates of the
+ * services (status, counters, scores) write through immediately and stay written if the operation fails later, and
+ * the flush stops at the first write that fails, keeping the writes before it and throwing a
+ * {@link UnitOfWorkFlushException} to the caller of {@link #execute(Supplier)}. Queries that bypass the identity map
+ * (GSI lookups, scans) do not see deferred writes until the flush.
+ */
+@Slf4j
+public final class UnitOfWork {
+
+  private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+  private final Map<EntityKey, Optional<? extends BaseEntity>> identityMap = new HashMap<>();
+  private final Map<EntityKey, DirtyEntry<?>> dirtyEntities = new LinkedHashMap<>();
+
+  private int loads;
+  private int hits;
+  private int registeredWrites;
+
+  private UnitOfWork() {
+  }
+
+  public static Optional<UnitOfWork> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  public static boolean isActive() {
+    return CURRENT.get() != null;
+  }
+
+  /**
+   * Runs the work inside a unit of work, joining the active one if any. The outermost call flushes the dirty entities
+   * when the work completes normally, and discards them when it throws.
+   *
+   * @throws UnitOfWorkFlushException if a deferred write cannot be saved
+   */
+  public static <R> R execute(Supplier<R> work) {
+    if (CURRENT.get() != null) {
+      return work.get();
+    }
+
+    UnitOfWork unitOfWork = new UnitOfWork();
+    CURRENT.set(unitOfWork);
+    try {
+      R result = work.get();
+      unitOfWork.flush();
+      return result;
+    }
+    catch (RuntimeException | Error e) {
+      unitOfWork.discard();
+      throw e;
+    }
+    finally {
+      CURRENT.remove();
+    }
+  }
+
+  public static void execute(Runnable work) {
+    execute(() -> {
+      work.run();
+      return null;
+    });
+  }
+
+  /**
+   * Returns the entity from the identity map, loading it from the repository on first access. Misses are remembered
+   * too, so a missing id is only looked up once.
+   */
+  public <T extends BaseEntity> Optional<T> find(AbstractCrudRepository<T> repository, String id) {
+    return find(repository, id, () -> repository.findById(id));
+  }
+
+  /**
+   * Same as {@link #find(AbstractCrudRepository, String)}, loading through {@code loader} on first access (e.g. from a
+   * process-wide cache instead of the table).
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends BaseEntity> Optional<T> find(AbstractCrudRepository<T> repository, String id, Supplier<Optional<T>> loader) {
+    EntityKey key = new EntityKey(repository, id);
+    Optional<? extends BaseEntity> cached = identityMap.get(key);
+    if (cached != null) {
+      hits++;
+      return (Optional<T>) cached;
+    }
+    loads++;
+    Optional<T> loaded = loader.get();
+    identityMap.put(key, loaded);
+    return loaded;
+  }
+
+  /**
+   * Adds an entity written outside of the unit of work (e.g. a create) to the identity map.
+   */
+  public <T extends BaseEntity> void registerClean(AbstractCrudRepository<T> repository, T entity) {
+    identityMap.put(new EntityKey(repository, entity.getId()), Optional.of(entity));
+  }
+
+  /**
+   * Schedules the entity to be saved when the unit of work ends. Registering the same entity again coalesces into a
+   * single write of its latest state.
+   */
+  public <T extends BaseEntity> void registerDirty(AbstractCrudRepository<T> repository, T entity) {
+    registerDirty(repository, entity, null);
+  }
+
+  /**
+   * Same as {@link #registerDirty(AbstractCrudRepository, BaseEntity)}, running {@code afterWrite} once the entity has
+   * been written. Actions registered for the same entity run in registration order after its single write, and are
+   * dropped with it if the unit of work fails.
+   */
+  public <T extends BaseEntity> void registerDirty(AbstractCrudRepository<T> repository, T entity, Runnable afterWrite) {
+    EntityKey key = new EntityKey(repository, entity.getId());
+    registeredWrites++;
+    identityMap.put(key, Optional.of(entity));
+    @SuppressWarnings("unchecked")
+    DirtyEntry<T> entry = (DirtyEntry<T>) dirtyEntities.get(key);
+    if (entry == null || entry.entity != entity) {
+      entry = new DirtyEntry<>(repository, entity, entry == null ? null : entry.afterWrite);
+      dirtyEntities.put(key, entry);
+    }
+    if (afterWrite != null) {
+      entry.afterWrite.add(afterWrite);
+    }
+  }
+
+  public void evict(AbstractCrudRepository<?> repository, String id) {
+    EntityKey key = new EntityKey(repository, id);
+    identityMap.remove(key);
+    dirtyEntities.remove(key);
+  }
+
+  /**
+   * Writes the dirty entities in registration order, running the after-write actions of each one right after it.
+   * Entities the actions register are appended and written in the same pass.
+   */
+  private void flush() {
+    int written = 0;
+    while (!dirtyEntities.isEmpty()) {
+      Iterator<DirtyEntry<?>> pending = dirtyEntities.values().iterator();
+      DirtyEntry<?> entry = pending.next();
+      pending.remove();
+      if (!entry.save()) {
+        throw new UnitOfWorkFlushException(entry.entity.getClass().getSimpleName(), entry.entity.getId(), written, dirtyEntities.size() + 1);
+      }
+      written++;
+      entry.afterWrite.forEach(Runnable::run);
+    }
+    log.debug("Unit of work finished: {} loads, {} identity map hits, {} writes registered, {} flushed", loads, hits, registeredWrites, written);
+  }
+
+  private void discard() {
+    log.debug("Unit of work failed: {} pending writes discarded", dirtyEntities.size());
+    dirtyEntities.clear();
+  }
+
+  private static final class DirtyEntry<T extends BaseEntity> {
+    private final AbstractCrudRepository<T> repository;
+    private final T entity;
+    private final List<Runnable> afterWrite;
+
+    private DirtyEntry(AbstractCrudRepository<T> repository, T entity, List<Runnable> afterWrite) {
+      this.repository = repository;
+      this.entity = entity;
+      this.afterWrite = afterWrite == null ? new ArrayList<>() : afterWrite;
+    }
+
+    private boolean save() {
+      return repository.save(entity).isPresent();
+    }
+  }
+
+  private static final class EntityKey {
+    private final AbstractCrudRepository<?> repository;
+    private final String id;
+
+    private EntityKey(AbstractCrudRepository<?> repository, String id) {
+      this.repository = repository;
+      this.id = id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof EntityKey)) return false;
+      EntityKey other = (EntityKey) o;
+      return repository == other.repository && Objects.equals(id, other.id);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(repository) + Objects.hashCode(id);
+    }
+  }
+}
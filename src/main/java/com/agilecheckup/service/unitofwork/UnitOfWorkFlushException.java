@@ -0,0 +1,20 @@
+package com.agilecheckup.service.unitofwork;
+
+import lombok.Getter;
+
+/**
+ * Thrown by {@link UnitOfWork#execute(java.util.function.Supplier)} when a deferred write cannot be saved. Writes
+ * flushed before it stay written; the failed one and every write after it are discarded with their after-write actions.
+ */
+@Getter
+public class UnitOfWorkFlushException extends RuntimeException {
+
+  private final String entityType;
+  private final String entityId;
+
+  public UnitOfWorkFlushException(String entityType, String entityId, int written, int discarded) {
+    super("Failed to flush " + entityType + " " + entityId + " after " + written + " writes, " + discarded + " pending writes discarded");
+    this.entityType = entityType;
+    this.entityId = entityId;
+  }
+}
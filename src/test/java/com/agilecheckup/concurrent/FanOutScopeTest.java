@@ -0,0 +1,140 @@
+package com.agilecheckup.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FanOutScopeTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void shouldRunSubtasksInForkOrderWithoutExecutor() {
+    List<String> order = new ArrayList<>();
+
+    try (FanOutScope scope = new FanOutScope(null)) {
+      FanOutScope.Subtask<String> first = scope.fork(() -> {
+        order.add("first");
+        return "a";
+      });
+      FanOutScope.Subtask<String> second = scope.fork(() -> {
+        order.add("second");
+        return "b";
+      });
+      scope.join();
+
+      assertThat(first.get()).isEqualTo("a");
+      assertThat(second.get()).isEqualTo("b");
+    }
+    assertThat(order).containsExactly("first", "second");
+  }
+
+  @Test
+  void shouldSkipSubtasksForkedAfterFailureWithoutExecutor() {
+    AtomicBoolean secondRan = new AtomicBoolean();
+
+    try (FanOutScope scope = new FanOutScope(null)) {
+      scope.fork(() -> {
+        throw new IllegalStateException("boom");
+      });
+      FanOutScope.Subtask<String> second = scope.fork(() -> {
+        secondRan.set(true);
+        return "b";
+      });
+
+      assertThatThrownBy(scope::join).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+      assertThatThrownBy(second::get).isInstanceOf(IllegalStateException.class).hasMessage("Subtask was cancelled");
+    }
+    assertThat(secondRan).isFalse();
+  }
+
+  @Test
+  void shouldRunSubtasksConcurrentlyWithExecutor() {
+    CountDownLatch bothStarted = new CountDownLatch(2);
+
+    try (FanOutScope scope = new FanOutScope(executor)) {
+      FanOutScope.Subtask<Boolean> first = scope.fork(() -> awaitOther(bothStarted));
+      FanOutScope.Subtask<Boolean> second = scope.fork(() -> awaitOther(bothStarted));
+      scope.join();
+
+      assertThat(first.get()).isTrue();
+      assertThat(second.get()).isTrue();
+    }
+  }
+
+  @Test
+  void shouldCancelSiblingsOnFirstFailure() {
+    CountDownLatch started = new CountDownLatch(1);
+    AtomicBoolean interrupted = new AtomicBoolean();
+
+    try (FanOutScope scope = new FanOutScope(executor)) {
+      FanOutScope.Subtask<String> slow = scope.fork(() -> {
+        started.countDown();
+        try {
+          Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+        }
+        catch (InterruptedException e) {
+          interrupted.set(true);
+          throw e;
+        }
+        return "slow";
+      });
+      scope.fork(() -> {
+        started.await();
+        throw new IllegalArgumentException("failed read");
+      });
+
+      assertThatThrownBy(scope::join).isInstanceOf(IllegalArgumentException.class).hasMessage("failed read");
+      assertThatThrownBy(slow::get).isInstanceOf(IllegalStateException.class);
+    }
+    assertThat(interrupted).isTrue();
+  }
+
+  @Test
+  void shouldWrapCheckedFailure() {
+    try (FanOutScope scope = new FanOutScope(executor)) {
+      scope.fork(() -> {
+        throw new IOException("disk");
+      });
+
+      assertThatThrownBy(scope::join).isInstanceOf(RuntimeException.class).hasCauseInstanceOf(IOException.class);
+    }
+  }
+
+  @Test
+  void shouldRejectGetBeforeJoin() {
+    try (FanOutScope scope = new FanOutScope(null)) {
+      FanOutScope.Subtask<String> subtask = scope.fork(() -> "a");
+
+      assertThatThrownBy(subtask::get).isInstanceOf(IllegalStateException.class)
+                                      .hasMessage("Subtask result read before the scope was joined");
+    }
+  }
+
+  private static boolean awaitOther(CountDownLatch bothStarted) throws InterruptedException {
+    bothStarted.countDown();
+    return bothStarted.await(5, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,62 @@
+package com.agilecheckup.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+class ServiceExecutorTest {
+
+  @Test
+  void shouldParseModeCaseInsensitively() {
+    assertThat(ExecutionMode.parse(null)).isEqualTo(ExecutionMode.PLATFORM);
+    assertThat(ExecutionMode.parse(" ")).isEqualTo(ExecutionMode.PLATFORM);
+    assertThat(ExecutionMode.parse(" virtual ")).isEqualTo(ExecutionMode.VIRTUAL);
+    assertThatThrownBy(() -> ExecutionMode.parse("green")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldUseVirtualModeOnlyWhenAvailable() {
+    ServiceExecutor serviceExecutor = new ServiceExecutor(ExecutionMode.VIRTUAL);
+
+    ExecutionMode expected = VirtualThreads.isAvailable() ? ExecutionMode.VIRTUAL : ExecutionMode.PLATFORM;
+    assertThat(serviceExecutor.getMode()).isEqualTo(expected);
+  }
+
+  @Test
+  void shouldRunFanOutOnCallingThreadInPlatformMode() throws Exception {
+    ServiceExecutor serviceExecutor = new ServiceExecutor(ExecutionMode.PLATFORM);
+    Thread caller = Thread.currentThread();
+
+    try (FanOutScope scope = serviceExecutor.fanOut()) {
+      FanOutScope.Subtask<Thread> subtask = scope.fork(Thread::currentThread);
+      scope.join();
+      assertThat(subtask.get()).isEqualTo(caller);
+    }
+  }
+
+  @Test
+  void shouldRunFanOutOnExecutor() throws Exception {
+    ExecutorService executor = Executors.newCachedThreadPool();
+    try {
+      ServiceExecutor serviceExecutor = new ServiceExecutor(executor);
+      Thread caller = Thread.currentThread();
+
+      Thread subtaskThread;
+      try (FanOutScope scope = serviceExecutor.fanOut()) {
+        FanOutScope.Subtask<Thread> subtask = scope.fork(Thread::currentThread);
+        scope.join();
+        subtaskThread = subtask.get();
+      }
+
+      assertThat(serviceExecutor.getMode()).isEqualTo(ExecutionMode.VIRTUAL);
+      assertThat(subtaskThread).isNotEqualTo(caller);
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+}
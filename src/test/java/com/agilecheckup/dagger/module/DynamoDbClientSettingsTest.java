@@ -0,0 +1,124 @@
+package com.agilecheckup.dagger.module;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.metrics.LoggingMetricPublisher;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+class DynamoDbClientSettingsTest {
+
+  private final Map<String, String> env = new HashMap<>();
+
+  @Test
+  void shouldUseDefaultsWhenEnvironmentIsEmpty() {
+    DynamoDbClientSettings settings = DynamoDbClientSettings.fromEnvironment(env::get);
+
+    assertThat(settings).isEqualTo(DynamoDbClientSettings.builder().build());
+    assertThat(settings.getRegion()).isEqualTo(Region.US_EAST_1);
+    assertThat(settings.getEndpointOverride()).isNull();
+    assertThat(settings.getHttpClientType()).isEqualTo(DynamoDbClientSettings.HttpClientType.APACHE);
+    assertThat(settings.getMaxConnections()).isEqualTo(64);
+    assertThat(settings.getRetryMode()).isEqualTo(RetryMode.STANDARD);
+    assertThat(settings.getMaxRetries()).isNull();
+    assertThat(settings.getMetricPublishers()).isEmpty();
+  }
+
+  @Test
+  void shouldReadSettingsFromEnvironment() {
+    env.put(DynamoDbClientSettings.REGION_ENV, "sa-east-1");
+    env.put(DynamoDbClientSettings.ENDPOINT_ENV, "http://localhost:8000");
+    env.put(DynamoDbClientSettings.HTTP_CLIENT_ENV, "url_connection");
+    env.put(DynamoDbClientSettings.MAX_CONNECTIONS_ENV, "128");
+    env.put(DynamoDbClientSettings.ASYNC_MAX_CONCURRENCY_ENV, "256");
+    env.put(DynamoDbClientSettings.CONNECTION_TIMEOUT_MS_ENV, "500");
+    env.put(DynamoDbClientSettings.CONNECTION_TTL_MS_ENV, "120000");
+    env.put(DynamoDbClientSettings.CONNECTION_MAX_IDLE_MS_ENV, "10000");
+    env.put(DynamoDbClientSettings.TCP_KEEP_ALIVE_ENV, "false");
+    env.put(DynamoDbClientSettings.API_CALL_TIMEOUT_MS_ENV, "5000");
+    env.put(DynamoDbClientSettings.API_CALL_ATTEMPT_TIMEOUT_MS_ENV, "1500");
+    env.put(DynamoDbClientSettings.RETRY_MODE_ENV, "adaptive");
+    env.put(DynamoDbClientSettings.MAX_RETRIES_ENV, "5");
+    env.put(DynamoDbClientSettings.METRICS_LOGGING_ENV, "true");
+
+    DynamoDbClientSettings settings = DynamoDbClientSettings.fromEnvironment(env::get);
+
+    assertThat(settings.getRegion()).isEqualTo(Region.SA_EAST_1);
+    assertThat(settings.getEndpointOverride()).isEqualTo(URI.create("http://localhost:8000"));
+    assertThat(settings.getHttpClientType()).isEqualTo(DynamoDbClientSettings.HttpClientType.URL_CONNECTION);
+    assertThat(settings.getMaxConnections()).isEqualTo(128);
+    assertThat(settings.getAsyncMaxConcurrency()).isEqualTo(256);
+    assertThat(settings.getConnectionTimeout()).isEqualTo(Duration.ofMillis(500));
+    assertThat(settings.getConnectionTimeToLive()).isEqualTo(Duration.ofMinutes(2));
+    assertThat(settings.getConnectionMaxIdleTime()).isEqualTo(Duration.ofSeconds(10));
+    assertThat(settings.isTcpKeepAlive()).isFalse();
+    assertThat(settings.getApiCallTimeout()).isEqualTo(Duration.ofSeconds(5));
+    assertThat(settings.getApiCallAttemptTimeout()).isEqualTo(Duration.ofMillis(1500));
+    assertThat(settings.getRetryMode()).isEqualTo(RetryMode.ADAPTIVE);
+    assertThat(settings.getMaxRetries()).isEqualTo(5);
+    assertThat(settings.getMetricPublishers()).hasSize(1).first().isInstanceOf(LoggingMetricPublisher.class);
+  }
+
+  @Test
+  void shouldFallBackToDefaultsForInvalidValues() {
+    env.put(DynamoDbClientSettings.HTTP_CLIENT_ENV, "crt");
+    env.put(DynamoDbClientSettings.MAX_CONNECTIONS_ENV, "0");
+    env.put(DynamoDbClientSettings.API_CALL_TIMEOUT_MS_ENV, "ten seconds");
+    env.put(DynamoDbClientSettings.RETRY_MODE_ENV, "forever");
+
+    DynamoDbClientSettings settings = DynamoDbClientSettings.fromEnvironment(env::get);
+
+    assertThat(settings).isEqualTo(DynamoDbClientSettings.builder().build());
+  }
+
+  @Test
+  void shouldBuildOverrideConfigurationFromSettings() {
+    DynamoDbClientSettings settings = DynamoDbClientSettings.builder()
+                                                            .apiCallTimeout(Duration.ofSeconds(4))
+                                                            .apiCallAttemptTimeout(Duration.ofSeconds(1))
+                                                            .retryMode(RetryMode.ADAPTIVE)
+                                                            .maxRetries(2)
+                                                            .build();
+
+    ClientOverrideConfiguration configuration = settings.overrideConfiguration();
+
+    assertThat(configuration.apiCallTimeout()).contains(Duration.ofSeconds(4));
+    assertThat(configuration.apiCallAttemptTimeout()).contains(Duration.ofSeconds(1));
+    assertThat(configuration.retryPolicy()).hasValueSatisfying(retryPolicy -> {
+      assertThat(retryPolicy.retryMode()).isEqualTo(RetryMode.ADAPTIVE);
+      assertThat(retryPolicy.numRetries()).isEqualTo(2);
+    });
+  }
+
+  @Test
+  void shouldSelectHttpClientImplementation() {
+    assertThat(DynamoDbClientSettings.builder().build().httpClientBuilder()).isInstanceOf(ApacheHttpClient.Builder.class);
+    assertThat(DynamoDbClientSettings.builder().httpClientType(DynamoDbClientSettings.HttpClientType.URL_CONNECTION).build().httpClientBuilder())
+                                                                                                                                           .isInstanceOf(UrlConnectionHttpClient.Builder.class);
+  }
+
+  @Test
+  void shouldBuildClientsAgainstEndpointOverride() {
+    env.put(DynamoDbClientSettings.ENDPOINT_ENV, "http://localhost:8000");
+    AwsConfigModule module = new AwsConfigModule();
+    DynamoDbClientSettings settings = DynamoDbClientSettings.fromEnvironment(env::get);
+
+    try (DynamoDbClient client = module.provideDynamoDbClient(settings);
+        DynamoDbAsyncClient asyncClient = module.provideDynamoDbAsyncClient(settings)) {
+      assertThat(client.serviceName()).isEqualTo("dynamodb");
+      assertThat(asyncClient.serviceName()).isEqualTo("dynamodb");
+    }
+  }
+}
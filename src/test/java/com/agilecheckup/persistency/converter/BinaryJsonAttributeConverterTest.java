@@ -0,0 +1,84 @@
+package com.agilecheckup.persistency.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.agilecheckup.persistency.entity.EmployeeAssessmentScore;
+import com.agilecheckup.persistency.entity.Pillar;
+import com.agilecheckup.persistency.entity.score.CategoryScore;
+import com.agilecheckup.persistency.entity.score.PillarScore;
+import com.agilecheckup.persistency.entity.score.PotentialScore;
+import com.agilecheckup.persistency.entity.score.QuestionScore;
+import com.agilecheckup.util.TestObjectFactory;
+
+import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class BinaryJsonAttributeConverterTest {
+
+  @Test
+  @DisplayName("Should write scores as smaller binary attributes and read both formats")
+  void shouldConvertEmployeeAssessmentScore() {
+    EmployeeAssessmentScoreAttributeConverter binaryConverter = new EmployeeAssessmentScoreAttributeConverter(true);
+    EmployeeAssessmentScoreAttributeConverter stringConverter = new EmployeeAssessmentScoreAttributeConverter(false);
+    EmployeeAssessmentScore score = createScore();
+
+    AttributeValue binary = binaryConverter.transformFrom(score);
+    AttributeValue string = stringConverter.transformFrom(score);
+
+    assertThat(binary.b()).isNotNull();
+    assertThat(string.s()).isNotNull();
+    assertThat(binary.b().asByteArrayUnsafe().length).isLessThan(string.s().length() / 3);
+    assertThat(binaryConverter.attributeValueType()).isEqualTo(AttributeValueType.B);
+    assertThat(stringConverter.attributeValueType()).isEqualTo(AttributeValueType.S);
+    assertThat(binaryConverter.transformTo(string)).isEqualTo(score);
+    assertThat(stringConverter.transformTo(binary)).isEqualTo(score);
+  }
+
+  @Test
+  @DisplayName("Should round-trip potential scores and pillar maps through binary attributes")
+  void shouldConvertPotentialScoreAndPillarMap() {
+    PotentialScore potentialScore = PotentialScore.builder().pillarIdToPillarScoreMap(createScore().getPillarIdToPillarScoreMap()).score(10.0).build();
+    Map<String, Pillar> pillars = TestObjectFactory.createMockedPillarMap(3);
+    PotentialScoreAttributeConverter potentialScoreConverter = new PotentialScoreAttributeConverter(true);
+    PillarMapAttributeConverter pillarMapConverter = new PillarMapAttributeConverter(true);
+
+    assertThat(potentialScoreConverter.transformTo(potentialScoreConverter.transformFrom(potentialScore))).isEqualTo(potentialScore);
+    assertThat(pillarMapConverter.transformTo(pillarMapConverter.transformFrom(pillars))).isEqualTo(pillars);
+    assertThat(new PillarMapAttributeConverter(false).transformTo(pillarMapConverter.transformFrom(pillars))).isEqualTo(pillars);
+  }
+
+  @Test
+  @DisplayName("Should store JSON text as compressed binary and read both formats")
+  void shouldConvertJsonText() {
+    JsonTextAttributeConverter binaryConverter = new JsonTextAttributeConverter(true);
+    String json = "{\"wordCloud\":[" + "{\"word\":\"agile\",\"count\":3},".repeat(50) + "{}]}";
+
+    AttributeValue binary = binaryConverter.transformFrom(json);
+
+    assertThat(binary.b().asByteArrayUnsafe().length).isLessThan(json.length() / 4);
+    assertThat(binaryConverter.transformTo(binary)).isEqualTo(json);
+    assertThat(binaryConverter.transformTo(AttributeValue.builder().s(json).build())).isEqualTo(json);
+    assertThat(new JsonTextAttributeConverter(false).transformFrom(json).s()).isEqualTo(json);
+    assertThat(binaryConverter.transformFrom(null).nul()).isTrue();
+  }
+
+  private static EmployeeAssessmentScore createScore() {
+    Map<String, PillarScore> pillarScores = new HashMap<>();
+    for (int p = 0; p < 3; p++) {
+      Map<String, CategoryScore> categoryScores = new HashMap<>();
+      for (int c = 0; c < 3; c++) {
+        List<QuestionScore> questionScores = List.of(QuestionScore.builder().questionId("q-" + p + "-" + c + "-1").score(1.0).build(), QuestionScore.builder().questionId("q-" + p + "-" + c + "-2").score(2.0).build());
+        categoryScores.put("c" + c, CategoryScore.builder().categoryId("c" + c).categoryName("Category " + c).questionScores(questionScores).score(3.0).build());
+      }
+      pillarScores.put("p" + p, PillarScore.builder().pillarId("p" + p).pillarName("Pillar " + p).categoryIdToCategoryScoreMap(categoryScores).score(9.0).build());
+    }
+    return EmployeeAssessmentScore.builder().pillarIdToPillarScoreMap(pillarScores).score(27.0).build();
+  }
+}
@@ -0,0 +1,61 @@
+package com.agilecheckup.persistency.converter;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Compares a format/parse round trip of {@link DateAttributeConverter} with the previous implementation, which shared
+ * one {@link SimpleDateFormat} behind a lock. All benchmark threads share one converter, as request threads do. Compare
+ * the scores across thread counts:
+ *
+ * <pre>
+ * mvn test-compile exec:java@jmh -Dexec.args="DateAttributeConverterBenchmark -t 1"
+ * mvn test-compile exec:java@jmh -Dexec.args="DateAttributeConverterBenchmark -t 8"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class DateAttributeConverterBenchmark {
+
+  private static final SimpleDateFormat LEGACY_FORMAT = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+
+  private final DateAttributeConverter converter = new DateAttributeConverter();
+  private final Date date = new Date(1_700_000_000_123L);
+
+  @Benchmark
+  public Date legacySynchronized() throws ParseException {
+    String value;
+    synchronized (LEGACY_FORMAT) {
+      value = LEGACY_FORMAT.format(date);
+    }
+    AttributeValue attributeValue = AttributeValue.builder().s(value).build();
+    synchronized (LEGACY_FORMAT) {
+      return LEGACY_FORMAT.parse(attributeValue.s());
+    }
+  }
+
+  @Benchmark
+  public Date converter() {
+    return converter.transformTo(converter.transformFrom(date));
+  }
+}
@@ -0,0 +1,92 @@
+package com.agilecheckup.persistency.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class DateAttributeConverterTest {
+
+  private static final String LEGACY_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+
+  private final DateAttributeConverter converter = new DateAttributeConverter();
+
+  @Test
+  @DisplayName("Should write the same string as the previous SimpleDateFormat implementation")
+  void shouldStayCompatibleWithLegacyFormat() throws Exception {
+    SimpleDateFormat legacy = new SimpleDateFormat(LEGACY_PATTERN);
+    Random random = new Random(42);
+
+    for (int i = 0; i < 1_000; i++) {
+      Date date = new Date(Math.floorMod(random.nextLong(), 4_102_444_800_000L));
+      String stored = legacy.format(date);
+
+      assertThat(converter.transformFrom(date).s()).isEqualTo(stored);
+      assertThat(converter.transformTo(AttributeValue.builder().s(stored).build())).isEqualTo(legacy.parse(stored));
+    }
+  }
+
+  @Test
+  @DisplayName("Should map null dates to NULL attributes and back")
+  void shouldHandleNull() {
+    assertThat(converter.transformFrom(null).nul()).isTrue();
+    assertThat(converter.transformTo(AttributeValue.builder().nul(true).build())).isNull();
+    assertThat(converter.transformTo(AttributeValue.builder().n("1").build())).isNull();
+  }
+
+  @Test
+  @DisplayName("Should still accept values the lenient legacy parser accepted")
+  void shouldFallBackToLenientParsing() throws Exception {
+    String value = "2024-1-5T7:03:09.5Z";
+
+    assertThat(converter.transformTo(AttributeValue.builder().s(value).build())).isEqualTo(new SimpleDateFormat(LEGACY_PATTERN).parse(value));
+  }
+
+  @Test
+  @DisplayName("Should fail on values that are not dates")
+  void shouldRejectInvalidValue() {
+    assertThatThrownBy(() -> converter.transformTo(AttributeValue.builder().s("not-a-date").build()))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage("Unable to parse date string: not-a-date");
+  }
+
+  @Test
+  @DisplayName("Should round-trip dates from many threads at once")
+  void shouldBeThreadSafe() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int thread = 0; thread < 8; thread++) {
+        long seed = thread;
+        results.add(executor.submit(() -> {
+          Random random = new Random(seed);
+          for (int i = 0; i < 2_000; i++) {
+            Date date = new Date(Math.floorMod(random.nextLong(), 4_102_444_800_000L));
+            if (!date.equals(converter.transformTo(converter.transformFrom(date)))) {
+              return false;
+            }
+          }
+          return true;
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        assertThat(result.get()).isTrue();
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package com.agilecheckup.persistency.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.agilecheckup.persistency.converter.codec.JsonCodec;
+import com.agilecheckup.persistency.converter.codec.JsonCodecs;
+import com.agilecheckup.persistency.entity.AssessmentStatus;
+import com.agilecheckup.persistency.entity.EmployeeAssessment;
+import com.agilecheckup.persistency.entity.EmployeeAssessmentScore;
+import com.agilecheckup.persistency.entity.QuestionType;
+import com.agilecheckup.persistency.entity.person.NaturalPerson;
+import com.agilecheckup.persistency.entity.question.Answer;
+import com.agilecheckup.persistency.entity.question.Question;
+import com.agilecheckup.persistency.repository.TableSchemaRegistry;
+import com.agilecheckup.util.TestObjectFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class LazyAttributeTest {
+
+  private static final JsonCodec<EmployeeAssessmentScore> SCORE_CODEC = JsonCodecs.forType(EmployeeAssessmentScore.class);
+  private static final JsonCodec<NaturalPerson> PERSON_CODEC = JsonCodecs.forType(NaturalPerson.class);
+  private static final JsonCodec<Question> QUESTION_CODEC = JsonCodecs.forType(Question.class);
+
+  private final TableSchema<EmployeeAssessment> assessmentSchema = TableSchemaRegistry.schemaFor(EmployeeAssessment.class);
+  private final TableSchema<Answer> answerSchema = TableSchemaRegistry.schemaFor(Answer.class);
+
+  @Test
+  @DisplayName("Should not decode embedded JSON attributes that are never read")
+  void shouldNotDecodeUntouchedAttributes() {
+    Map<String, AttributeValue> item = assessmentSchema.itemToMap(createAssessment(), true);
+    long scoreDecodes = SCORE_CODEC.getDecodeCount();
+    long personDecodes = PERSON_CODEC.getDecodeCount();
+
+    EmployeeAssessment loaded = assessmentSchema.mapToItem(item);
+
+    assertThat(loaded.getAssessmentStatus()).isEqualTo(AssessmentStatus.IN_PROGRESS);
+    assertThat(loaded.getEmployeeAssessmentScoreAttribute().isMaterialized()).isFalse();
+    assertThat(SCORE_CODEC.getDecodeCount()).isEqualTo(scoreDecodes);
+    assertThat(PERSON_CODEC.getDecodeCount()).isEqualTo(personDecodes);
+  }
+
+  @Test
+  @DisplayName("Should write untouched attributes back with their raw value")
+  void shouldWriteRawValueBack() {
+    Map<String, AttributeValue> item = assessmentSchema.itemToMap(createAssessment(), true);
+    EmployeeAssessment loaded = assessmentSchema.mapToItem(item);
+    long scoreEncodes = SCORE_CODEC.getEncodeCount();
+
+    Map<String, AttributeValue> written = assessmentSchema.itemToMap(loaded, true);
+
+    assertThat(written.get("employeeAssessmentScore")).isSameAs(item.get("employeeAssessmentScore"));
+    assertThat(written.get("employee")).isSameAs(item.get("employee"));
+    assertThat(SCORE_CODEC.getEncodeCount()).isEqualTo(scoreEncodes);
+  }
+
+  @Test
+  @DisplayName("Should decode once on access and encode the changes made in place")
+  void shouldDecodeOnceAndEncodeAccessedValue() {
+    EmployeeAssessment assessment = createAssessment();
+    EmployeeAssessment loaded = assessmentSchema.mapToItem(assessmentSchema.itemToMap(assessment, true));
+    long scoreDecodes = SCORE_CODEC.getDecodeCount();
+
+    loaded.getEmployeeAssessmentScore().setScore(42.0);
+    loaded.getEmployeeAssessmentScore();
+    EmployeeAssessment reloaded = assessmentSchema.mapToItem(assessmentSchema.itemToMap(loaded, true));
+
+    assertThat(SCORE_CODEC.getDecodeCount()).isEqualTo(scoreDecodes + 1);
+    assertThat(reloaded.getEmployeeAssessmentScore().getScore()).isEqualTo(42.0);
+    assertThat(reloaded.getEmployee()).isEqualTo(assessment.getEmployee());
+  }
+
+  @Test
+  @DisplayName("Should compare entities by their decoded attribute values")
+  void shouldCompareDecodedValues() {
+    EmployeeAssessment assessment = createAssessment();
+    EmployeeAssessment loaded = assessmentSchema.mapToItem(assessmentSchema.itemToMap(assessment, true));
+
+    assertThat(loaded.getEmployeeAssessmentScoreAttribute()).isEqualTo(assessment.getEmployeeAssessmentScoreAttribute());
+    assertThat(loaded.getEmployeeAttribute()).hasSameHashCodeAs(assessment.getEmployeeAttribute());
+    assertThat(loaded.getEmployeeAssessmentScoreAttribute().isMaterialized()).isFalse();
+    assertThat(loaded.getEmployeeAttribute().isMaterialized()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should compare raw holders by their raw values without decoding them")
+  void shouldCompareRawValuesWithoutDecoding() {
+    Map<String, AttributeValue> item = assessmentSchema.itemToMap(createAssessment(), true);
+    EmployeeAssessment first = assessmentSchema.mapToItem(item);
+    EmployeeAssessment second = assessmentSchema.mapToItem(item);
+    long scoreDecodes = SCORE_CODEC.getDecodeCount();
+
+    assertThat(first.getEmployeeAssessmentScoreAttribute()).isEqualTo(second.getEmployeeAssessmentScoreAttribute());
+    assertThat(SCORE_CODEC.getDecodeCount()).isEqualTo(scoreDecodes);
+    assertThat(first.getEmployeeAssessmentScoreAttribute().isMaterialized()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should leave the raw holders out of the JSON of the entity")
+  void shouldNotSerializeHolders() throws Exception {
+    EmployeeAssessment loaded = assessmentSchema.mapToItem(assessmentSchema.itemToMap(createAssessment(), true));
+    Answer answer = answerSchema.mapToItem(answerSchema.itemToMap(createAnswer(), true));
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    assertThat(objectMapper.writeValueAsString(loaded)).doesNotContain("employeeAttribute", "employeeAssessmentScoreAttribute")
+                                                       .contains("\"employeeAssessmentScore\"");
+    assertThat(objectMapper.writeValueAsString(answer)).doesNotContain("questionAttribute");
+  }
+
+  @Test
+  @DisplayName("Should keep null attributes out of the item")
+  void shouldHandleNullAttributes() {
+    EmployeeAssessment assessment = createAssessment();
+    assessment.setEmployeeAssessmentScore(null);
+
+    Map<String, AttributeValue> item = assessmentSchema.itemToMap(assessment, true);
+    EmployeeAssessment loaded = assessmentSchema.mapToItem(item);
+
+    assertThat(item).doesNotContainKey("employeeAssessmentScore");
+    assertThat(loaded.getEmployeeAssessmentScore()).isNull();
+    assertThat(LazyAttribute.of(null)).isNull();
+  }
+
+  @Test
+  @DisplayName("Should read answer fields without decoding the embedded question")
+  void shouldNotDecodeAnswerQuestion() {
+    Answer answer = createAnswer();
+    Question question = answer.getQuestion();
+    Map<String, AttributeValue> item = answerSchema.itemToMap(answer, true);
+    long questionDecodes = QUESTION_CODEC.getDecodeCount();
+
+    Answer loaded = answerSchema.mapToItem(item);
+
+    assertThat(loaded.getQuestionId()).isEqualTo("q1");
+    assertThat(QUESTION_CODEC.getDecodeCount()).isEqualTo(questionDecodes);
+    assertThat(loaded.getQuestion()).isEqualTo(question);
+    assertThat(QUESTION_CODEC.getDecodeCount()).isEqualTo(questionDecodes + 1);
+  }
+
+  private Answer createAnswer() {
+    return Answer.builder()
+                 .id("answer-1")
+                 .employeeAssessmentId("ea-1")
+                 .answeredAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+                 .pillarId("pillar-1")
+                 .categoryId("category-1")
+                 .questionId("q1")
+                 .questionType(QuestionType.YES_NO)
+                 .question(TestObjectFactory.createMockedQuestion("q1"))
+                 .value("Yes")
+                 .tenantId("tenant-1")
+                 .build();
+  }
+
+  private EmployeeAssessment createAssessment() {
+    return EmployeeAssessment.builder()
+                             .id("ea-1")
+                             .tenantId("tenant-1")
+                             .assessmentMatrixId("matrix-1")
+                             .employee(TestObjectFactory.createMockedNaturalPerson("John Doe"))
+                             .employeeAssessmentScore(EmployeeAssessmentScore.builder().score(10.0).build())
+                             .assessmentStatus(AssessmentStatus.IN_PROGRESS)
+                             .build();
+  }
+}
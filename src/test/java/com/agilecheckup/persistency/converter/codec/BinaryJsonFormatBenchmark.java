@@ -0,0 +1,67 @@
+package com.agilecheckup.persistency.converter.codec;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.agilecheckup.persistency.entity.EmployeeAssessmentScore;
+
+/**
+ * Compares the JSON string and the framed binary encoding of a 360-question {@link EmployeeAssessmentScore}; the size
+ * difference is asserted by {@link BinaryJsonFormatTest}. Run with:
+ *
+ * <pre>
+ * mvn test-compile exec:java@jmh -Dexec.args="BinaryJsonFormatBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryJsonFormatBenchmark {
+
+  private JsonCodec<EmployeeAssessmentScore> codec;
+  private EmployeeAssessmentScore score;
+  private String json;
+  private byte[] binary;
+
+  @Setup
+  public void setUp() throws IOException {
+    codec = JsonCodecs.forType(EmployeeAssessmentScore.class);
+    score = JsonCodecBenchmark.createScore();
+    json = codec.encode(score);
+    binary = codec.encodeBinary(score);
+  }
+
+  @Benchmark
+  public String encodeJson() throws IOException {
+    return codec.encode(score);
+  }
+
+  @Benchmark
+  public byte[] encodeBinary() throws IOException {
+    return codec.encodeBinary(score);
+  }
+
+  @Benchmark
+  public EmployeeAssessmentScore decodeJson() throws IOException {
+    return codec.decode(json);
+  }
+
+  @Benchmark
+  public EmployeeAssessmentScore decodeBinary() throws IOException {
+    return codec.decodeBinary(binary);
+  }
+}
@@ -0,0 +1,62 @@
+package com.agilecheckup.persistency.converter.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.agilecheckup.persistency.entity.EmployeeAssessmentScore;
+
+class BinaryJsonFormatTest {
+
+  @Test
+  @DisplayName("Should store small bodies uncompressed behind the header")
+  void shouldNotCompressSmallBodies() throws IOException {
+    byte[] body = "{\"a\":1}".getBytes(StandardCharsets.UTF_8);
+
+    byte[] framed = BinaryJsonFormat.frame(body, false);
+
+    assertThat(framed).startsWith(BinaryJsonFormat.MAGIC, BinaryJsonFormat.VERSION, (byte) 0);
+    assertThat(framed).hasSize(body.length + BinaryJsonFormat.HEADER_LENGTH);
+    assertThat(BinaryJsonFormat.isSmile(framed)).isFalse();
+    assertThat(BinaryJsonFormat.readBody(framed)).isEqualTo(body);
+  }
+
+  @Test
+  @DisplayName("Should compress large bodies that shrink")
+  void shouldCompressLargeBodies() throws IOException {
+    byte[] body = "{\"questionScores\":1}".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    byte[] framed = BinaryJsonFormat.frame(body, true);
+
+    assertThat(framed[2]).isEqualTo((byte) (BinaryJsonFormat.FLAG_SMILE | BinaryJsonFormat.FLAG_GZIP));
+    assertThat(framed.length).isLessThan(body.length / 4);
+    assertThat(BinaryJsonFormat.isSmile(framed)).isTrue();
+    assertThat(BinaryJsonFormat.readBody(framed)).isEqualTo(body);
+  }
+
+  @Test
+  @DisplayName("Should encode a 360-question score in a fraction of its JSON string size")
+  void shouldEncodeLargeScoreSmallerThanJson() throws IOException {
+    JsonCodec<EmployeeAssessmentScore> codec = JsonCodecs.forType(EmployeeAssessmentScore.class);
+    EmployeeAssessmentScore score = JsonCodecBenchmark.createScore();
+
+    int jsonLength = codec.encode(score).getBytes(StandardCharsets.UTF_8).length;
+    byte[] binary = codec.encodeBinary(score);
+
+    assertThat(binary.length).isLessThan(jsonLength / 4);
+    assertThat(codec.decodeBinary(binary)).isEqualTo(score);
+  }
+
+  @Test
+  @DisplayName("Should reject values without the expected header or version")
+  void shouldRejectUnknownHeader() {
+    assertThatThrownBy(() -> BinaryJsonFormat.readBody(new byte[] {'{', '}'})).isInstanceOf(IOException.class);
+    assertThatThrownBy(() -> BinaryJsonFormat.readBody(new byte[] {BinaryJsonFormat.MAGIC, 9, 0})).isInstanceOf(IOException.class)
+                                                                                                   .hasMessageContaining("version 9");
+  }
+}
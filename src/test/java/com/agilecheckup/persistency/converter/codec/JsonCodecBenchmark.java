@@ -0,0 +1,165 @@
+package com.agilecheckup.persistency.converter.codec;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.agilecheckup.persistency.entity.Category;
+import com.agilecheckup.persistency.entity.EmployeeAssessmentScore;
+import com.agilecheckup.persistency.entity.Pillar;
+import com.agilecheckup.persistency.entity.score.CategoryScore;
+import com.agilecheckup.persistency.entity.score.PillarScore;
+import com.agilecheckup.persistency.entity.score.QuestionScore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+
+/**
+ * Compares encoding and decoding of the large score and pillar blobs with the previous per-converter
+ * {@link ObjectMapper} calls ({@code legacy}), the shared {@link JsonCodec} ({@code codec}) and the codec with the
+ * Blackbird module ({@code blackbird}). Run with:
+ *
+ * <pre>
+ * mvn test-compile exec:java@jmh -Dexec.args="JsonCodecBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+  private static final TypeReference<Map<String, Pillar>> PILLAR_MAP = new TypeReference<Map<String, Pillar>>() {
+  };
+
+  @Param({"legacy", "codec", "blackbird"})
+  public String implementation;
+
+  private Codec<EmployeeAssessmentScore> scoreCodec;
+  private Codec<Map<String, Pillar>> pillarCodec;
+  private EmployeeAssessmentScore score;
+  private Map<String, Pillar> pillars;
+  private String scoreJson;
+  private String pillarJson;
+
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    if ("legacy".equals(implementation)) {
+      ObjectMapper plainMapper = new ObjectMapper();
+      ObjectMapper isoDateMapper = new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).setDateFormat(new StdDateFormat());
+      scoreCodec = codec(plainMapper::writeValueAsString, json -> plainMapper.readValue(json, EmployeeAssessmentScore.class));
+      pillarCodec = codec(isoDateMapper::writeValueAsString, json -> isoDateMapper.readValue(json, PILLAR_MAP));
+    }
+    else {
+      boolean blackbird = "blackbird".equals(implementation);
+      ObjectMapper mapper = JsonCodecs.createMapper(blackbird);
+      ObjectMapper smileMapper = JsonCodecs.createSmileMapper(blackbird);
+      JsonCodec<EmployeeAssessmentScore> scores = JsonCodecs.createCodec(mapper, smileMapper, mapper.constructType(EmployeeAssessmentScore.class));
+      JsonCodec<Map<String, Pillar>> pillarMaps = JsonCodecs.createCodec(mapper, smileMapper, mapper.constructType(PILLAR_MAP));
+      scoreCodec = codec(scores::encode, scores::decode);
+      pillarCodec = codec(pillarMaps::encode, pillarMaps::decode);
+    }
+
+    score = createScore();
+    pillars = createPillars();
+    scoreJson = scoreCodec.encoder.encode(score);
+    pillarJson = pillarCodec.encoder.encode(pillars);
+  }
+
+  @Benchmark
+  public String encodeScore() throws JsonProcessingException {
+    return scoreCodec.encoder.encode(score);
+  }
+
+  @Benchmark
+  public EmployeeAssessmentScore decodeScore() throws JsonProcessingException {
+    return scoreCodec.decoder.decode(scoreJson);
+  }
+
+  @Benchmark
+  public String encodePillars() throws JsonProcessingException {
+    return pillarCodec.encoder.encode(pillars);
+  }
+
+  @Benchmark
+  public Map<String, Pillar> decodePillars() throws JsonProcessingException {
+    return pillarCodec.decoder.decode(pillarJson);
+  }
+
+  static EmployeeAssessmentScore createScore() {
+    int pillarCount = 6;
+    int categoryCount = 6;
+    int questionCount = 10;
+    Map<String, PillarScore> pillarScores = new HashMap<>();
+    for (int p = 0; p < pillarCount; p++) {
+      Map<String, CategoryScore> categoryScores = new HashMap<>();
+      for (int c = 0; c < categoryCount; c++) {
+        List<QuestionScore> questionScores = new ArrayList<>();
+        for (int q = 0; q < questionCount; q++) {
+          questionScores.add(QuestionScore.builder().questionId("question-" + p + "-" + c + "-" + q).score(q * 1.5).build());
+        }
+        categoryScores.put("category-" + c, CategoryScore.builder().categoryId("category-" + c).categoryName("Category " + c).questionScores(questionScores).score(c * 10.0).build());
+      }
+      pillarScores.put("pillar-" + p, PillarScore.builder().pillarId("pillar-" + p).pillarName("Pillar " + p).categoryIdToCategoryScoreMap(categoryScores).score(p * 60.0).build());
+    }
+    return EmployeeAssessmentScore.builder().pillarIdToPillarScoreMap(pillarScores).score(360.0).build();
+  }
+
+  static Map<String, Pillar> createPillars() {
+    int pillarCount = 6;
+    int categoryCount = 6;
+    Map<String, Pillar> pillarMap = new HashMap<>();
+    for (int p = 0; p < pillarCount; p++) {
+      Map<String, Category> categoryMap = new HashMap<>();
+      for (int c = 0; c < categoryCount; c++) {
+        Category category = Category.builder().name("Category " + c).description("Description of category " + c).build();
+        category.setId("category-" + p + "-" + c);
+        categoryMap.put(category.getId(), category);
+      }
+      Pillar pillar = Pillar.builder().name("Pillar " + p).description("Description of pillar " + p).categoryMap(categoryMap).build();
+      pillar.setId("pillar-" + p);
+      pillarMap.put(pillar.getId(), pillar);
+    }
+    return pillarMap;
+  }
+
+  private static <T> Codec<T> codec(Encoder<T> encoder, Decoder<T> decoder) {
+    return new Codec<>(encoder, decoder);
+  }
+
+  private interface Encoder<T> {
+    String encode(T value) throws JsonProcessingException;
+  }
+
+  private interface Decoder<T> {
+    T decode(String json) throws JsonProcessingException;
+  }
+
+  private static final class Codec<T> {
+    private final Encoder<T> encoder;
+    private final Decoder<T> decoder;
+
+    private Codec(Encoder<T> encoder, Decoder<T> decoder) {
+      this.encoder = encoder;
+      this.decoder = decoder;
+    }
+  }
+}
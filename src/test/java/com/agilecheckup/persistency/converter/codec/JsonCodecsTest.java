@@ -0,0 +1,150 @@
+package com.agilecheckup.persistency.converter.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.agilecheckup.persistency.entity.Category;
+import com.agilecheckup.persistency.entity.EmployeeAssessmentScore;
+import com.agilecheckup.persistency.entity.Pillar;
+import com.agilecheckup.persistency.entity.score.CategoryScore;
+import com.agilecheckup.persistency.entity.score.PillarScore;
+import com.agilecheckup.persistency.entity.score.QuestionScore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+
+class JsonCodecsTest {
+
+  private static final TypeReference<Map<String, Pillar>> PILLAR_MAP = new TypeReference<Map<String, Pillar>>() {
+  };
+
+  @Test
+  @DisplayName("Should produce the same JSON as the previous per-converter mappers")
+  void shouldStayCompatibleWithLegacyMappers() throws Exception {
+    ObjectMapper plainMapper = new ObjectMapper();
+    ObjectMapper isoDateMapper = new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).setDateFormat(new StdDateFormat());
+    EmployeeAssessmentScore score = createScore();
+    Map<String, Pillar> pillars = createPillars();
+
+    String scoreJson = JsonCodecs.forType(EmployeeAssessmentScore.class).encode(score);
+    String pillarJson = JsonCodecs.forType(PILLAR_MAP).encode(pillars);
+
+    assertThat(scoreJson).isEqualTo(plainMapper.writeValueAsString(score));
+    assertThat(pillarJson).isEqualTo(isoDateMapper.writeValueAsString(pillars));
+    assertThat(JsonCodecs.forType(EmployeeAssessmentScore.class).decode(scoreJson)).isEqualTo(score);
+    assertThat(JsonCodecs.forType(PILLAR_MAP).decode(pillarJson)).isEqualTo(pillars);
+  }
+
+  @Test
+  @DisplayName("Should produce the same JSON with Blackbird enabled")
+  void shouldProduceSameJsonWithBlackbird() throws Exception {
+    ObjectMapper mapper = JsonCodecs.createMapper(false);
+    ObjectMapper blackbirdMapper = JsonCodecs.createMapper(true);
+    JsonCodec<EmployeeAssessmentScore> codec = JsonCodecs.createCodec(blackbirdMapper, JsonCodecs.createSmileMapper(true), blackbirdMapper.constructType(EmployeeAssessmentScore.class));
+    EmployeeAssessmentScore score = createScore();
+
+    String json = codec.encode(score);
+
+    assertThat(json).isEqualTo(mapper.writeValueAsString(score));
+    assertThat(codec.decode(json)).isEqualTo(score);
+  }
+
+  @Test
+  @DisplayName("Should write Instant timestamps as ISO-8601 strings")
+  void shouldSupportJavaTime() throws Exception {
+    Pillar pillar = Pillar.builder().name("Pillar").description("Description").createdDate(Instant.parse("2024-01-02T03:04:05Z")).build();
+
+    String json = JsonCodecs.forType(PILLAR_MAP).encode(Map.of("p1", pillar));
+
+    assertThat(json).contains("\"createdDate\":\"2024-01-02T03:04:05Z\"");
+    assertThat(JsonCodecs.forType(PILLAR_MAP).decode(json).get("p1")).isEqualTo(pillar);
+  }
+
+  @Test
+  @DisplayName("Should return one shared codec per type")
+  void shouldShareCodecPerType() {
+    assertThat(JsonCodecs.forType(PILLAR_MAP)).isSameAs(JsonCodecs.forType(new TypeReference<Map<String, Pillar>>() {
+    }));
+    assertThat(JsonCodecs.forType(PILLAR_MAP).getName()).isEqualTo("Map<String, Pillar>");
+    assertThat(JsonCodecs.codecs()).contains(JsonCodecs.forType(PILLAR_MAP));
+  }
+
+  @Test
+  @DisplayName("Should record counts and sizes of encoded and decoded values")
+  void shouldRecordStats() throws Exception {
+    ObjectMapper mapper = JsonCodecs.createMapper(false);
+    JsonCodec<Category> codec = JsonCodecs.createCodec(mapper, JsonCodecs.createSmileMapper(false), mapper.constructType(Category.class));
+
+    String json = codec.encode(Category.builder().name("Category").description("Description").build());
+    codec.decode(json);
+    codec.decode(json);
+
+    assertThat(codec.getEncodeCount()).isEqualTo(1);
+    assertThat(codec.getEncodedSize()).isEqualTo(json.length());
+    assertThat(codec.getDecodeCount()).isEqualTo(2);
+    assertThat(codec.getDecodedSize()).isEqualTo(2L * json.length());
+    assertThat(codec.toString()).startsWith("Category: encode count=1");
+  }
+
+  @Test
+  @DisplayName("Should round-trip values through the binary Smile format")
+  void shouldRoundTripBinary() throws Exception {
+    JsonCodec<EmployeeAssessmentScore> codec = JsonCodecs.forType(EmployeeAssessmentScore.class);
+    EmployeeAssessmentScore score = createScore();
+
+    byte[] binary = codec.encodeBinary(score);
+
+    assertThat(BinaryJsonFormat.isSmile(binary)).isTrue();
+    assertThat(codec.decodeBinary(binary)).isEqualTo(score);
+  }
+
+  @Test
+  @DisplayName("Should decode framed JSON text as well as Smile")
+  void shouldDecodeFramedJsonText() throws Exception {
+    JsonCodec<EmployeeAssessmentScore> codec = JsonCodecs.forType(EmployeeAssessmentScore.class);
+    EmployeeAssessmentScore score = createScore();
+    byte[] framedText = BinaryJsonFormat.frame(codec.encode(score).getBytes(StandardCharsets.UTF_8), false);
+
+    assertThat(codec.decodeBinary(framedText)).isEqualTo(score);
+  }
+
+  @Test
+  @DisplayName("Should surface malformed JSON as JsonProcessingException")
+  void shouldRejectMalformedJson() {
+    assertThatThrownBy(() -> JsonCodecs.forType(EmployeeAssessmentScore.class).decode("{not json")).isInstanceOf(JsonProcessingException.class);
+  }
+
+  private static EmployeeAssessmentScore createScore() {
+    CategoryScore categoryScore = CategoryScore.builder()
+                                               .categoryId("c1")
+                                               .categoryName("Category")
+                                               .questionScores(List.of(QuestionScore.builder().questionId("q1").score(3.0).build()))
+                                               .score(3.0)
+                                               .build();
+    PillarScore pillarScore = PillarScore.builder()
+                                         .pillarId("p1")
+                                         .pillarName("Pillar")
+                                         .categoryIdToCategoryScoreMap(Map.of("c1", categoryScore))
+                                         .score(3.0)
+                                         .build();
+    return EmployeeAssessmentScore.builder().pillarIdToPillarScoreMap(Map.of("p1", pillarScore)).score(3.0).build();
+  }
+
+  private static Map<String, Pillar> createPillars() {
+    Category category = Category.builder().name("Category").description("Description").build();
+    category.setId("c1");
+    Pillar pillar = Pillar.builder().name("Pillar").description("Description").categoryMap(Map.of("c1", category)).build();
+    pillar.setId("p1");
+    return Map.of("p1", pillar);
+  }
+}
@@ -0,0 +1,82 @@
+package com.agilecheckup.persistency.converter.codec;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.agilecheckup.persistency.entity.AssessmentStatus;
+import com.agilecheckup.persistency.entity.EmployeeAssessment;
+import com.agilecheckup.persistency.entity.EmployeeAssessmentScore;
+import com.agilecheckup.persistency.entity.person.NaturalPerson;
+import com.agilecheckup.persistency.repository.TableSchemaRegistry;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Maps an {@link EmployeeAssessment} item with a 360-question score and compares a status check, which leaves the
+ * embedded JSON attributes undecoded, with a read of the score, and a load-and-save round trip of each. Run with:
+ *
+ * <pre>
+ * mvn test-compile exec:java@jmh -Dexec.args="LazyAttributeBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyAttributeBenchmark {
+
+  private TableSchema<EmployeeAssessment> schema;
+  private Map<String, AttributeValue> item;
+
+  @Setup
+  public void setUp() {
+    schema = TableSchemaRegistry.schemaFor(EmployeeAssessment.class);
+    EmployeeAssessment assessment = EmployeeAssessment.builder()
+                                                      .id("ea-1")
+                                                      .tenantId("tenant-1")
+                                                      .assessmentMatrixId("matrix-1")
+                                                      .employee(NaturalPerson.builder().name("John Doe").email("john.doe@example.com").build())
+                                                      .employeeAssessmentScore(JsonCodecBenchmark.createScore())
+                                                      .assessmentStatus(AssessmentStatus.IN_PROGRESS)
+                                                      .build();
+    item = schema.itemToMap(assessment, true);
+  }
+
+  @Benchmark
+  public AssessmentStatus loadStatus() {
+    return schema.mapToItem(item).getAssessmentStatus();
+  }
+
+  @Benchmark
+  public EmployeeAssessmentScore loadScore() {
+    return schema.mapToItem(item).getEmployeeAssessmentScore();
+  }
+
+  @Benchmark
+  public Map<String, AttributeValue> loadAndSaveUntouched() {
+    EmployeeAssessment assessment = schema.mapToItem(item);
+    assessment.setLastActivityDate(null);
+    return schema.itemToMap(assessment, true);
+  }
+
+  @Benchmark
+  public Map<String, AttributeValue> loadAndSaveScore() {
+    EmployeeAssessment assessment = schema.mapToItem(item);
+    assessment.getEmployeeAssessmentScore().setScore(1.0);
+    return schema.itemToMap(assessment, true);
+  }
+}
@@ -0,0 +1,99 @@
+package com.agilecheckup.persistency.entity.question;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CustomizedValuesParserTest {
+
+  private static final long TWELVE_OPTIONS = CustomizedValuesParser.optionMask(options(12));
+
+  @Test
+  @DisplayName("Should decode a multiple choice selection into a bitmask")
+  void shouldParseMultipleChoice() {
+    assertThat(CustomizedValuesParser.parseSelection("3,1,12", TWELVE_OPTIONS, true)).isEqualTo(0b1000_0000_0101L);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"1,11", "2,12", "11,1", "12,2,1"})
+  @DisplayName("Should accept options that are a prefix of another selected option")
+  void shouldAcceptPrefixOptions(String value) {
+    assertThat(CustomizedValuesParser.parseSelection(value, TWELVE_OPTIONS, true)).isNotZero();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "1,1", "11,2,11", "0", "13", "01", "1,02", "1,", ",1", "1,,2", "1;2", " 1", "a", "99999999999999999999"})
+  @DisplayName("Should reject malformed, repeated and out-of-range multiple choice values")
+  void shouldRejectInvalidMultipleChoice(String value) {
+    assertThat(CustomizedValuesParser.parseSelection(value, TWELVE_OPTIONS, true)).isZero();
+  }
+
+  @Test
+  @DisplayName("Should accept a single option with leading zeros and reject lists for single choice")
+  void shouldParseSingleChoice() {
+    assertThat(CustomizedValuesParser.parseSelection("01", TWELVE_OPTIONS, false)).isEqualTo(1L);
+    assertThat(CustomizedValuesParser.parseSelection("12", TWELVE_OPTIONS, false)).isEqualTo(1L << 11);
+    assertThat(CustomizedValuesParser.parseSelection("1,2", TWELVE_OPTIONS, false)).isZero();
+    assertThat(CustomizedValuesParser.parseSelection("00", TWELVE_OPTIONS, false)).isZero();
+    assertThat(CustomizedValuesParser.parseSelection(null, TWELVE_OPTIONS, false)).isZero();
+  }
+
+  @Test
+  @DisplayName("Should support all 64 options")
+  void shouldSupportSixtyFourOptions() {
+    long allOptions = CustomizedValuesParser.optionMask(options(64));
+    String allSelected = IntStream.rangeClosed(1, 64).mapToObj(Integer::toString).collect(Collectors.joining(","));
+
+    assertThat(allOptions).isEqualTo(-1L);
+    assertThat(CustomizedValuesParser.parseSelection(allSelected, allOptions, true)).isEqualTo(-1L);
+    assertThat(CustomizedValuesParser.parseSelection(allSelected + ",1", allOptions, true)).isZero();
+    assertThat(CustomizedValuesParser.parseSelection("65", allOptions, true)).isZero();
+  }
+
+  @Test
+  @DisplayName("Should only allow options present in the option map")
+  void shouldRejectMissingOptions() {
+    Map<Integer, QuestionOption> optionMap = options(3);
+    optionMap.remove(2);
+    optionMap.put(7, option(7));
+
+    long allowed = CustomizedValuesParser.optionMask(optionMap);
+
+    assertThat(allowed).isEqualTo(0b101L);
+    assertThat(CustomizedValuesParser.parseSelection("2", allowed, false)).isZero();
+    assertThat(CustomizedValuesParser.parseSelection("7", allowed, false)).isZero();
+  }
+
+  @Test
+  @DisplayName("Should iterate the selected options in ascending order")
+  void shouldIterateOptions() {
+    long selection = CustomizedValuesParser.parseSelection("12,3,1", TWELVE_OPTIONS, true);
+
+    StringBuilder options = new StringBuilder();
+    for (; selection != 0L; selection &= selection - 1) {
+      options.append(CustomizedValuesParser.lowestOption(selection)).append(' ');
+    }
+
+    assertThat(options.toString()).isEqualTo("1 3 12 ");
+  }
+
+  private static Map<Integer, QuestionOption> options(int count) {
+    Map<Integer, QuestionOption> optionMap = new HashMap<>();
+    for (int id = 1; id <= count; id++) {
+      optionMap.put(id, option(id));
+    }
+    return optionMap;
+  }
+
+  private static QuestionOption option(int id) {
+    return QuestionOption.builder().id(id).text("Option " + id).points((double) id).build();
+  }
+}
@@ -0,0 +1,115 @@
+package com.agilecheckup.persistency.entity.question.plan;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.agilecheckup.persistency.entity.QuestionType;
+import com.agilecheckup.persistency.entity.question.OptionGroup;
+import com.agilecheckup.persistency.entity.question.Question;
+import com.agilecheckup.persistency.entity.question.QuestionOption;
+import com.agilecheckup.persistency.entity.question.strategy.AnswerStrategy;
+import com.agilecheckup.persistency.entity.question.strategy.AnswerStrategyFactory;
+import com.agilecheckup.persistency.entity.score.strategy.ScoreCalculationStrategyFactory;
+import com.agilecheckup.service.cache.QuestionPlanCache;
+
+/**
+ * Compares validating and scoring one answer through the per-call strategy factories (the previous behaviour) with a
+ * cached {@link QuestionPlan}, for each question type. Run with:
+ *
+ * <pre>
+ * mvn test-compile exec:java@jmh -Dexec.args="QuestionPlanBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestionPlanBenchmark {
+
+  @Param({"STAR_THREE", "STAR_FIVE", "ONE_TO_TEN", "YES_NO", "GOOD_BAD", "OPEN_ANSWER", "CUSTOMIZED"})
+  public QuestionType questionType;
+
+  private Question question;
+  private String value;
+  private QuestionPlanCache questionPlanCache;
+  private QuestionPlan plan;
+
+  @Setup
+  public void setUp() {
+    question = Question.builder()
+                       .id("question-1")
+                       .question("Question")
+                       .questionType(questionType)
+                       .tenantId("tenant-1")
+                       .assessmentMatrixId("matrix-1")
+                       .pillarId("pillar-1")
+                       .pillarName("Pillar")
+                       .categoryId("category-1")
+                       .categoryName("Category")
+                       .points(10.0)
+                       .lastUpdatedDate(Instant.now())
+                       .build();
+    value = sampleValue(questionType);
+    if (questionType == QuestionType.CUSTOMIZED) {
+      Map<Integer, QuestionOption> optionMap = Map.of(1, option(1, 1.0), 2, option(2, 2.0), 3, option(3, 3.0), 4, option(4, 4.0));
+      question.setOptionGroup(OptionGroup.builder().isMultipleChoice(true).showFlushed(false).optionMap(optionMap).build());
+    }
+    questionPlanCache = new QuestionPlanCache();
+    plan = QuestionPlan.compile(question);
+  }
+
+  @Benchmark
+  public void strategies(Blackhole blackhole) {
+    AnswerStrategy<?> answerStrategy = AnswerStrategyFactory.createStrategy(question, false);
+    answerStrategy.assignValue(value);
+    blackhole.consume(answerStrategy.valueToString());
+    blackhole.consume(ScoreCalculationStrategyFactory.createStrategy(question, value).getCalculatedScore());
+  }
+
+  @Benchmark
+  public void cachedPlan(Blackhole blackhole) {
+    QuestionPlan plan = questionPlanCache.getPlan(question);
+    blackhole.consume(plan.validate(value));
+    blackhole.consume(plan.score(value));
+  }
+
+  @Benchmark
+  public void compiledPlan(Blackhole blackhole) {
+    blackhole.consume(plan.validate(value));
+    blackhole.consume(plan.score(value));
+  }
+
+  private static String sampleValue(QuestionType questionType) {
+    switch (questionType) {
+      case YES_NO:
+      case GOOD_BAD:
+        return "true";
+      case OPEN_ANSWER:
+        return "The team reviews its working agreements every sprint.";
+      case CUSTOMIZED:
+        return "1,3,4";
+      default:
+        return "3";
+    }
+  }
+
+  private static QuestionOption option(int id, double points) {
+    return QuestionOption.builder().id(id).text("Option " + id).points(points).build();
+  }
+}
@@ -0,0 +1,100 @@
+package com.agilecheckup.persistency.entity.question.plan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.agilecheckup.persistency.entity.QuestionType;
+import com.agilecheckup.persistency.entity.question.OptionGroup;
+import com.agilecheckup.persistency.entity.question.Question;
+import com.agilecheckup.persistency.entity.question.QuestionOption;
+import com.agilecheckup.persistency.entity.question.strategy.AnswerStrategy;
+import com.agilecheckup.persistency.entity.question.strategy.AnswerStrategyFactory;
+import com.agilecheckup.persistency.entity.score.strategy.ScoreCalculationStrategyFactory;
+
+class QuestionPlanTest {
+
+  private static final List<String> SAMPLE_VALUES = Arrays.asList("1", "2", "3", "5", "10", "05", "+4", "0", "11", "-1", "abc", "", "true", "TRUE", "false", "yes", "1,2", "2,1,3", "1,1", "1,4", ",1", "1,", "01", "3,2");
+
+  static Stream<Arguments> questionsAndValues() {
+    List<Question> questions = List.of(createQuestion(QuestionType.STAR_THREE), createQuestion(QuestionType.STAR_FIVE), createQuestion(QuestionType.ONE_TO_TEN), createQuestion(QuestionType.YES_NO), createQuestion(QuestionType.GOOD_BAD), createQuestion(QuestionType.OPEN_ANSWER), createCustomizedQuestion(false), createCustomizedQuestion(true));
+    return questions.stream().flatMap(question -> SAMPLE_VALUES.stream().map(value -> Arguments.of(question, value)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("questionsAndValues")
+  @DisplayName("Should validate and score like the answer and score strategies")
+  void shouldMatchStrategies(Question question, String value) {
+    QuestionPlan plan = QuestionPlan.compile(question);
+
+    AnswerStrategy<?> strategy = AnswerStrategyFactory.createStrategy(question, false);
+    try {
+      strategy.assignValue(value);
+    }
+    catch (IllegalArgumentException expected) {
+      assertThatThrownBy(() -> plan.validate(value)).isInstanceOf(IllegalArgumentException.class).hasMessage(expected.getMessage());
+      return;
+    }
+
+    assertThat(plan.validate(value)).isEqualTo(strategy.valueToString());
+    assertThat(plan.score(value)).isEqualTo(ScoreCalculationStrategyFactory.createStrategy(question, value).getCalculatedScore());
+  }
+
+  @Test
+  @DisplayName("Should reject null values")
+  void shouldRejectNull() {
+    QuestionPlan plan = QuestionPlan.compile(createQuestion(QuestionType.ONE_TO_TEN));
+
+    assertThatThrownBy(() -> plan.validate(null)).isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid Answer value: null");
+  }
+
+  @Test
+  @DisplayName("Should recognise the question version it was compiled from")
+  void shouldTrackQuestionVersion() {
+    Question question = createQuestion(QuestionType.STAR_FIVE);
+    QuestionPlan plan = QuestionPlan.compile(question);
+
+    assertThat(plan.isCompiledFrom(question)).isTrue();
+    question.setLastUpdatedDate(question.getLastUpdatedDate().plusSeconds(1));
+    assertThat(plan.isCompiledFrom(question)).isFalse();
+  }
+
+  private static Question createQuestion(QuestionType questionType) {
+    return Question.builder()
+                   .id("question-" + questionType)
+                   .question("Question")
+                   .questionType(questionType)
+                   .tenantId("tenant-1")
+                   .assessmentMatrixId("matrix-1")
+                   .pillarId("pillar-1")
+                   .pillarName("Pillar")
+                   .categoryId("category-1")
+                   .categoryName("Category")
+                   .points(7.0)
+                   .lastUpdatedDate(Instant.parse("2024-01-01T00:00:00Z"))
+                   .build();
+  }
+
+  private static Question createCustomizedQuestion(boolean multipleChoice) {
+    Map<Integer, QuestionOption> optionMap = Map.of(1, createOption(1, 1.0), 2, createOption(2, 2.5), 3, createOption(3, 4.0));
+    Question question = createQuestion(QuestionType.CUSTOMIZED);
+    question.setId("question-customized-" + multipleChoice);
+    question.setOptionGroup(OptionGroup.builder().isMultipleChoice(multipleChoice).showFlushed(false).optionMap(optionMap).build());
+    return question;
+  }
+
+  private static QuestionOption createOption(int id, double points) {
+    return QuestionOption.builder().id(id).text("Option " + id).points(points).build();
+  }
+}
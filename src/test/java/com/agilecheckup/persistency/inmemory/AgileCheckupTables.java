@@ -0,0 +1,50 @@
+package com.agilecheckup.persistency.inmemory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.agilecheckup.persistency.entity.AssessmentMatrix;
+import com.agilecheckup.persistency.entity.AssessmentStatusHistogram;
+import com.agilecheckup.persistency.entity.Company;
+import com.agilecheckup.persistency.entity.DashboardAnalytics;
+import com.agilecheckup.persistency.entity.Department;
+import com.agilecheckup.persistency.entity.EmployeeAssessment;
+import com.agilecheckup.persistency.entity.PerformanceCycle;
+import com.agilecheckup.persistency.entity.Team;
+import com.agilecheckup.persistency.entity.question.Answer;
+import com.agilecheckup.persistency.entity.question.Question;
+import com.agilecheckup.persistency.entity.question.QuestionSnapshot;
+import com.agilecheckup.persistency.repository.TableSchemaRegistry;
+
+/**
+ * The tables of the repositories, keyed by table name, with their key schemas and secondary indexes taken from the
+ * entity annotations.
+ */
+public final class AgileCheckupTables {
+
+  public static final Map<String, Class<?>> ENTITY_CLASSES;
+
+  static {
+    Map<String, Class<?>> entityClasses = new LinkedHashMap<>();
+    entityClasses.put("Answer", Answer.class);
+    entityClasses.put("AssessmentMatrix", AssessmentMatrix.class);
+    entityClasses.put("AssessmentStatusHistogram", AssessmentStatusHistogram.class);
+    entityClasses.put("Company", Company.class);
+    entityClasses.put("DashboardAnalytics", DashboardAnalytics.class);
+    entityClasses.put("Department", Department.class);
+    entityClasses.put("EmployeeAssessment", EmployeeAssessment.class);
+    entityClasses.put("PerformanceCycle", PerformanceCycle.class);
+    entityClasses.put("Question", Question.class);
+    entityClasses.put("QuestionSnapshot", QuestionSnapshot.class);
+    entityClasses.put("Team", Team.class);
+    ENTITY_CLASSES = Map.copyOf(entityClasses);
+  }
+
+  private AgileCheckupTables() {
+  }
+
+  public static InMemoryDynamoDbClient createAll(InMemoryDynamoDbClient client) {
+    ENTITY_CLASSES.forEach((tableName, entityClass) -> client.createTable(tableName, TableSchemaRegistry.schemaFor(entityClass)));
+    return client;
+  }
+}
@@ -0,0 +1,277 @@
+package com.agilecheckup.persistency.inmemory;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Comparison and arithmetic on attribute values, following the DynamoDB semantics that the in-memory client needs.
+ */
+final class AttributeValues {
+
+  /**
+   * Orders key values: by type first, then numbers numerically, strings by code point and binaries byte-wise unsigned.
+   */
+  static final Comparator<AttributeValue> KEY_ORDER = AttributeValues::compareKeys;
+
+  private AttributeValues() {
+  }
+
+  static boolean isScalarKey(AttributeValue value) {
+    return value != null && (value.s() != null || value.n() != null || value.b() != null);
+  }
+
+  /**
+   * @return true if both values have the same type and are equal, numbers and sets compared by value
+   */
+  static boolean equal(AttributeValue left, AttributeValue right) {
+    if (left == null || right == null) {
+      return left == right;
+    }
+    if (left.n() != null && right.n() != null) {
+      return number(left).compareTo(number(right)) == 0;
+    }
+    if (left.hasSs() && right.hasSs()) {
+      return new HashSet<>(left.ss()).equals(new HashSet<>(right.ss()));
+    }
+    if (left.hasNs() && right.hasNs()) {
+      return numbers(left.ns()).equals(numbers(right.ns()));
+    }
+    if (left.hasBs() && right.hasBs()) {
+      return new HashSet<>(left.bs()).equals(new HashSet<>(right.bs()));
+    }
+    return left.equals(right);
+  }
+
+  /**
+   * Compares two values of the same scalar type.
+   *
+   * @return The comparison, or null when the values are not comparable, in which case DynamoDB conditions are false
+   */
+  static Integer compareScalars(AttributeValue left, AttributeValue right) {
+    if (left == null || right == null) {
+      return null;
+    }
+    if (left.n() != null && right.n() != null) {
+      return number(left).compareTo(number(right));
+    }
+    if (left.s() != null && right.s() != null) {
+      return compareStrings(left.s(), right.s());
+    }
+    if (left.b() != null && right.b() != null) {
+      return compareBytes(left.b(), right.b());
+    }
+    return null;
+  }
+
+  static BigDecimal number(AttributeValue value) {
+    return new BigDecimal(value.n());
+  }
+
+  static AttributeValue number(BigDecimal value) {
+    return AttributeValue.builder().n(value.stripTrailingZeros().toPlainString()).build();
+  }
+
+  /**
+   * Adds numbers, or unions sets, as the ADD update action does. A missing current value counts as zero or empty.
+   */
+  static AttributeValue add(AttributeValue current, AttributeValue delta) {
+    if (delta.n() != null) {
+      BigDecimal base = current == null ? BigDecimal.ZERO : number(requireType(current, delta));
+      return number(base.add(number(delta)));
+    }
+    if (delta.hasSs()) {
+      Set<String> union = new LinkedHashSet<>(current == null ? List.of() : requireType(current, delta).ss());
+      union.addAll(delta.ss());
+      return AttributeValue.builder().ss(union).build();
+    }
+    if (delta.hasNs()) {
+      Set<String> union = new LinkedHashSet<>(current == null ? List.of() : requireType(current, delta).ns());
+      union.addAll(delta.ns());
+      return AttributeValue.builder().ns(union).build();
+    }
+    throw InMemoryDynamoDbClient.validation("ADD supports only numbers and sets");
+  }
+
+  static AttributeValue subtract(AttributeValue left, AttributeValue right) {
+    if (left == null || right == null || left.n() == null || right.n() == null) {
+      throw InMemoryDynamoDbClient.validation("An operand in the update expression has an incorrect data type");
+    }
+    return number(number(left).subtract(number(right)));
+  }
+
+  static AttributeValue plus(AttributeValue left, AttributeValue right) {
+    if (left == null || right == null || left.n() == null || right.n() == null) {
+      throw InMemoryDynamoDbClient.validation("An operand in the update expression has an incorrect data type");
+    }
+    return number(number(left).add(number(right)));
+  }
+
+  /**
+   * Removes the elements of a set, as the DELETE update action does.
+   *
+   * @return The remaining set, or null when it becomes empty and the attribute must be removed
+   */
+  static AttributeValue deleteFromSet(AttributeValue current, AttributeValue elements) {
+    if (current == null) {
+      return null;
+    }
+    if (elements.hasSs()) {
+      Set<String> remaining = new LinkedHashSet<>(requireType(current, elements).ss());
+      remaining.removeAll(elements.ss());
+      return remaining.isEmpty() ? null : AttributeValue.builder().ss(remaining).build();
+    }
+    if (elements.hasNs()) {
+      Set<BigDecimal> removed = numbers(elements.ns());
+      List<String> remaining = requireType(current, elements).ns().stream().filter(n -> !removed.contains(new BigDecimal(n).stripTrailingZeros())).collect(Collectors.toList());
+      return remaining.isEmpty() ? null : AttributeValue.builder().ns(remaining).build();
+    }
+    throw InMemoryDynamoDbClient.validation("DELETE supports only sets");
+  }
+
+  static boolean contains(AttributeValue container, AttributeValue element) {
+    if (container == null || element == null) {
+      return false;
+    }
+    if (container.s() != null) {
+      return element.s() != null && container.s().contains(element.s());
+    }
+    if (container.hasSs()) {
+      return element.s() != null && container.ss().contains(element.s());
+    }
+    if (container.hasNs()) {
+      return element.n() != null && numbers(container.ns()).contains(number(element).stripTrailingZeros());
+    }
+    if (container.hasL()) {
+      return container.l().stream().anyMatch(item -> equal(item, element));
+    }
+    return false;
+  }
+
+  static boolean beginsWith(AttributeValue value, AttributeValue prefix) {
+    if (value == null || prefix == null) {
+      return false;
+    }
+    if (value.s() != null && prefix.s() != null) {
+      return value.s().startsWith(prefix.s());
+    }
+    if (value.b() != null && prefix.b() != null) {
+      byte[] bytes = value.b().asByteArrayUnsafe();
+      byte[] start = prefix.b().asByteArrayUnsafe();
+      if (start.length > bytes.length) {
+        return false;
+      }
+      for (int i = 0; i < start.length; i++) {
+        if (bytes[i] != start[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  static AttributeValue size(AttributeValue value) {
+    if (value == null) {
+      return null;
+    }
+    long size;
+    if (value.s() != null) {
+      size = value.s().length();
+    }
+    else if (value.b() != null) {
+      size = value.b().asByteArrayUnsafe().length;
+    }
+    else if (value.hasSs()) {
+      size = value.ss().size();
+    }
+    else if (value.hasNs()) {
+      size = value.ns().size();
+    }
+    else if (value.hasBs()) {
+      size = value.bs().size();
+    }
+    else if (value.hasL()) {
+      size = value.l().size();
+    }
+    else if (value.hasM()) {
+      size = value.m().size();
+    }
+    else {
+      return null;
+    }
+    return AttributeValue.builder().n(Long.toString(size)).build();
+  }
+
+  /**
+   * @return The DynamoDB type descriptor of the value: S, N, B, SS, NS, BS, M, L, BOOL or NULL
+   */
+  static String typeOf(AttributeValue value) {
+    switch (value.type()) {
+      case NUL:
+        return "NULL";
+      case UNKNOWN_TO_SDK_VERSION:
+        throw InMemoryDynamoDbClient.validation("Unsupported attribute value " + value);
+      default:
+        return value.type().name();
+    }
+  }
+
+  private static int compareKeys(AttributeValue left, AttributeValue right) {
+    int byType = Integer.compare(left.type().ordinal(), right.type().ordinal());
+    if (byType != 0) {
+      return byType;
+    }
+    Integer compared = compareScalars(left, right);
+    if (compared == null) {
+      throw InMemoryDynamoDbClient.validation("Key attributes must be strings, numbers or binaries");
+    }
+    return compared;
+  }
+
+  private static int compareStrings(String left, String right) {
+    // Code point order matches the UTF-8 byte order DynamoDB sorts by, unlike String.compareTo on surrogate pairs
+    int leftIndex = 0;
+    int rightIndex = 0;
+    while (leftIndex < left.length() && rightIndex < right.length()) {
+      int leftCodePoint = left.codePointAt(leftIndex);
+      int rightCodePoint = right.codePointAt(rightIndex);
+      if (leftCodePoint != rightCodePoint) {
+        return Integer.compare(leftCodePoint, rightCodePoint);
+      }
+      leftIndex += Character.charCount(leftCodePoint);
+      rightIndex += Character.charCount(rightCodePoint);
+    }
+    return Integer.compare(left.length() - leftIndex, right.length() - rightIndex);
+  }
+
+  private static int compareBytes(SdkBytes left, SdkBytes right) {
+    byte[] leftBytes = left.asByteArrayUnsafe();
+    byte[] rightBytes = right.asByteArrayUnsafe();
+    for (int i = 0; i < Math.min(leftBytes.length, rightBytes.length); i++) {
+      int compared = Integer.compare(Byte.toUnsignedInt(leftBytes[i]), Byte.toUnsignedInt(rightBytes[i]));
+      if (compared != 0) {
+        return compared;
+      }
+    }
+    return Integer.compare(leftBytes.length, rightBytes.length);
+  }
+
+  private static Set<BigDecimal> numbers(List<String> values) {
+    return values.stream().map(value -> new BigDecimal(value).stripTrailingZeros()).collect(Collectors.toSet());
+  }
+
+  private static AttributeValue requireType(AttributeValue current, AttributeValue operand) {
+    if (current.type() != operand.type()) {
+      throw InMemoryDynamoDbClient.validation("An operand in the update expression has an incorrect data type");
+    }
+    return current;
+  }
+}
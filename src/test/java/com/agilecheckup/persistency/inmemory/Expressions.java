@@ -0,0 +1,623 @@
+package com.agilecheckup.persistency.inmemory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Parser and evaluator of the DynamoDB expression language: condition, filter and key condition expressions, update
+ * expressions and projection expressions, with their {@code #name} and {@code :value} placeholders.
+ * <p>
+ * Conditions support comparisons, BETWEEN, IN, AND, OR, NOT, parentheses and the functions attribute_exists,
+ * attribute_not_exists, attribute_type, begins_with, contains and size. Updates support SET (with {@code +}, {@code -},
+ * if_not_exists and list_append), REMOVE, ADD and DELETE on top-level attributes. Paths may reach into maps and lists
+ * when read, but projections keep whole top-level attributes.
+ */
+final class Expressions {
+
+  /**
+   * A value read from an item: an attribute path, a placeholder value or a function of those.
+   */
+  interface Operand {
+
+    /**
+     * @return The value, or null when the path does not exist in the item
+     */
+    AttributeValue resolve(Map<String, AttributeValue> item);
+  }
+
+  interface Condition {
+
+    boolean test(Map<String, AttributeValue> item);
+  }
+
+  /**
+   * One action of an update expression. Operands are resolved against the item as it was before the update.
+   */
+  interface UpdateAction {
+
+    String attribute();
+
+    void apply(Map<String, AttributeValue> original, Map<String, AttributeValue> updated);
+  }
+
+  static final class Path implements Operand {
+
+    private final List<Object> segments;
+
+    private Path(List<Object> segments) {
+      this.segments = segments;
+    }
+
+    String topLevel() {
+      return (String) segments.get(0);
+    }
+
+    boolean isTopLevel() {
+      return segments.size() == 1;
+    }
+
+    @Override
+    public AttributeValue resolve(Map<String, AttributeValue> item) {
+      AttributeValue current = item.get(topLevel());
+      for (Object segment : segments.subList(1, segments.size())) {
+        if (current == null) {
+          return null;
+        }
+        if (segment instanceof Integer) {
+          int index = (Integer) segment;
+          current = current.hasL() && index < current.l().size() ? current.l().get(index) : null;
+        }
+        else {
+          current = current.hasM() ? current.m().get(segment) : null;
+        }
+      }
+      return current;
+    }
+  }
+
+  static final class Comparison implements Condition {
+
+    private final String operator;
+    private final Operand left;
+    private final Operand right;
+
+    private Comparison(String operator, Operand left, Operand right) {
+      this.operator = operator;
+      this.left = left;
+      this.right = right;
+    }
+
+    /**
+     * @return The path compared for equality with a constant, as in a key condition, or null
+     */
+    Path equalityPath() {
+      return "=".equals(operator) && left instanceof Path && !(right instanceof Path) ? (Path) left : null;
+    }
+
+    Operand right() {
+      return right;
+    }
+
+    @Override
+    public boolean test(Map<String, AttributeValue> item) {
+      AttributeValue leftValue = left.resolve(item);
+      AttributeValue rightValue = right.resolve(item);
+      switch (operator) {
+        case "=":
+          return leftValue != null && AttributeValues.equal(leftValue, rightValue);
+        case "<>":
+          return !AttributeValues.equal(leftValue, rightValue);
+        default:
+          Integer compared = AttributeValues.compareScalars(leftValue, rightValue);
+          if (compared == null) {
+            return false;
+          }
+          switch (operator) {
+            case "<":
+              return compared < 0;
+            case "<=":
+              return compared <= 0;
+            case ">":
+              return compared > 0;
+            default:
+              return compared >= 0;
+          }
+      }
+    }
+  }
+
+  static final class And implements Condition {
+
+    private final Condition left;
+    private final Condition right;
+
+    private And(Condition left, Condition right) {
+      this.left = left;
+      this.right = right;
+    }
+
+    /**
+     * @return The conditions joined by this and nested ANDs
+     */
+    List<Condition> operands() {
+      List<Condition> operands = new ArrayList<>();
+      for (Condition operand : List.of(left, right)) {
+        if (operand instanceof And) {
+          operands.addAll(((And) operand).operands());
+        }
+        else {
+          operands.add(operand);
+        }
+      }
+      return operands;
+    }
+
+    @Override
+    public boolean test(Map<String, AttributeValue> item) {
+      return left.test(item) && right.test(item);
+    }
+  }
+
+  private Expressions() {
+  }
+
+  static Condition condition(String expression, Map<String, String> names, Map<String, AttributeValue> values) {
+    Parser parser = new Parser(expression, names, values);
+    Condition condition = parser.condition();
+    parser.expectEnd();
+    return condition;
+  }
+
+  static List<UpdateAction> update(String expression, Map<String, String> names, Map<String, AttributeValue> values) {
+    Parser parser = new Parser(expression, names, values);
+    List<UpdateAction> actions = parser.updateActions();
+    parser.expectEnd();
+    return actions;
+  }
+
+  static List<Path> projection(String expression, Map<String, String> names) {
+    Parser parser = new Parser(expression, names, Map.of());
+    List<Path> paths = new ArrayList<>();
+    do {
+      paths.add(parser.path());
+    } while (parser.accept(","));
+    parser.expectEnd();
+    return paths;
+  }
+
+  private static final class Parser {
+
+    private final List<String> tokens;
+    private final Map<String, String> names;
+    private final Map<String, AttributeValue> values;
+    private final String expression;
+    private int position;
+
+    private Parser(String expression, Map<String, String> names, Map<String, AttributeValue> values) {
+      this.expression = expression;
+      this.tokens = tokenize(expression);
+      this.names = names == null ? Map.of() : names;
+      this.values = values == null ? Map.of() : values;
+    }
+
+    private Condition condition() {
+      Condition left = andCondition();
+      while (acceptKeyword("OR")) {
+        Condition first = left;
+        Condition second = andCondition();
+        left = item -> first.test(item) || second.test(item);
+      }
+      return left;
+    }
+
+    private Condition andCondition() {
+      Condition left = notCondition();
+      while (acceptKeyword("AND")) {
+        left = new And(left, notCondition());
+      }
+      return left;
+    }
+
+    private Condition notCondition() {
+      if (acceptKeyword("NOT")) {
+        Condition negated = notCondition();
+        return item -> !negated.test(item);
+      }
+      return primaryCondition();
+    }
+
+    private Condition primaryCondition() {
+      if (accept("(")) {
+        Condition nested = condition();
+        expect(")");
+        return nested;
+      }
+      String function = peekFunction();
+      if (function != null && !"size".equals(function)) {
+        return functionCondition(function);
+      }
+
+      Operand left = operand();
+      if (acceptKeyword("BETWEEN")) {
+        Operand low = operand();
+        expectKeyword("AND");
+        Operand high = operand();
+        Comparison atLeast = new Comparison(">=", left, low);
+        Comparison atMost = new Comparison("<=", left, high);
+        return new And(atLeast, atMost);
+      }
+      if (acceptKeyword("IN")) {
+        expect("(");
+        List<Operand> candidates = new ArrayList<>();
+        do {
+          candidates.add(operand());
+        } while (accept(","));
+        expect(")");
+        return item -> {
+          AttributeValue value = left.resolve(item);
+          return value != null && candidates.stream().anyMatch(candidate -> AttributeValues.equal(value, candidate.resolve(item)));
+        };
+      }
+      String operator = next();
+      if (!List.of("=", "<>", "<", "<=", ">", ">=").contains(operator)) {
+        throw error("Expected a comparator but found '" + operator + "'");
+      }
+      return new Comparison(operator, left, operand());
+    }
+
+    private Condition functionCondition(String function) {
+      next();
+      expect("(");
+      Condition condition;
+      switch (function) {
+        case "attribute_exists": {
+          Path path = path();
+          condition = item -> path.resolve(item) != null;
+          break;
+        }
+        case "attribute_not_exists": {
+          Path path = path();
+          condition = item -> path.resolve(item) == null;
+          break;
+        }
+        case "attribute_type": {
+          Path path = path();
+          expect(",");
+          Operand type = operand();
+          condition = item -> {
+            AttributeValue value = path.resolve(item);
+            AttributeValue expected = type.resolve(item);
+            return value != null && expected != null && AttributeValues.typeOf(value).equals(expected.s());
+          };
+          break;
+        }
+        case "begins_with": {
+          Operand value = operand();
+          expect(",");
+          Operand prefix = operand();
+          condition = item -> AttributeValues.beginsWith(value.resolve(item), prefix.resolve(item));
+          break;
+        }
+        case "contains": {
+          Operand container = operand();
+          expect(",");
+          Operand element = operand();
+          condition = item -> AttributeValues.contains(container.resolve(item), element.resolve(item));
+          break;
+        }
+        default:
+          throw error("Invalid function name: " + function);
+      }
+      expect(")");
+      return condition;
+    }
+
+    private Operand operand() {
+      String token = peek();
+      if (token.startsWith(":")) {
+        next();
+        AttributeValue value = values.get(token);
+        if (value == null) {
+          throw error("An expression attribute value used in expression is not defined: " + token);
+        }
+        return item -> value;
+      }
+      String function = peekFunction();
+      if ("size".equals(function)) {
+        next();
+        expect("(");
+        Path path = path();
+        expect(")");
+        return item -> AttributeValues.size(path.resolve(item));
+      }
+      if (function != null) {
+        throw error("The function is not allowed here: " + function);
+      }
+      return path();
+    }
+
+    private Path path() {
+      List<Object> segments = new ArrayList<>();
+      segments.add(name(next()));
+      while (true) {
+        if (accept(".")) {
+          segments.add(name(next()));
+        }
+        else if (accept("[")) {
+          String index = next();
+          if (!index.chars().allMatch(Character::isDigit)) {
+            throw error("Invalid list index: " + index);
+          }
+          segments.add(Integer.parseInt(index));
+          expect("]");
+        }
+        else {
+          return new Path(segments);
+        }
+      }
+    }
+
+    private String name(String token) {
+      if (token.startsWith("#")) {
+        String name = names.get(token);
+        if (name == null) {
+          throw error("An expression attribute name used in the document path is not defined: " + token);
+        }
+        return name;
+      }
+      if (token.isEmpty() || !(Character.isLetter(token.charAt(0)) || token.charAt(0) == '_')) {
+        throw error("Invalid attribute name: '" + token + "'");
+      }
+      return token;
+    }
+
+    private List<UpdateAction> updateActions() {
+      List<UpdateAction> actions = new ArrayList<>();
+      while (position < tokens.size()) {
+        String clause = next().toUpperCase(Locale.ROOT);
+        do {
+          switch (clause) {
+            case "SET":
+              actions.add(setAction());
+              break;
+            case "REMOVE":
+              actions.add(removeAction());
+              break;
+            case "ADD":
+              actions.add(addAction());
+              break;
+            case "DELETE":
+              actions.add(deleteAction());
+              break;
+            default:
+              throw error("Invalid update clause: " + clause);
+          }
+        } while (accept(","));
+      }
+      if (actions.isEmpty()) {
+        throw error("The update expression is empty");
+      }
+      return actions;
+    }
+
+    private UpdateAction setAction() {
+      String attribute = topLevelAttribute();
+      expect("=");
+      Operand value = setValue();
+      return action(attribute, (original, updated) -> {
+        AttributeValue resolved = value.resolve(original);
+        if (resolved == null) {
+          throw InMemoryDynamoDbClient.validation("The provided expression refers to an attribute that does not exist in the item");
+        }
+        updated.put(attribute, resolved);
+      });
+    }
+
+    private Operand setValue() {
+      Operand left = setOperand();
+      if (accept("+")) {
+        Operand right = setOperand();
+        return item -> AttributeValues.plus(left.resolve(item), right.resolve(item));
+      }
+      if (accept("-")) {
+        Operand right = setOperand();
+        return item -> AttributeValues.subtract(left.resolve(item), right.resolve(item));
+      }
+      return left;
+    }
+
+    private Operand setOperand() {
+      String function = peekFunction();
+      if ("if_not_exists".equals(function)) {
+        next();
+        expect("(");
+        Path path = path();
+        expect(",");
+        Operand fallback = setValue();
+        expect(")");
+        return item -> {
+          AttributeValue existing = path.resolve(item);
+          return existing != null ? existing : fallback.resolve(item);
+        };
+      }
+      if ("list_append".equals(function)) {
+        next();
+        expect("(");
+        Operand first = setValue();
+        expect(",");
+        Operand second = setValue();
+        expect(")");
+        return item -> {
+          AttributeValue head = first.resolve(item);
+          AttributeValue tail = second.resolve(item);
+          if (head == null || tail == null || !head.hasL() || !tail.hasL()) {
+            throw InMemoryDynamoDbClient.validation("list_append operands must be lists");
+          }
+          List<AttributeValue> appended = new ArrayList<>(head.l());
+          appended.addAll(tail.l());
+          return AttributeValue.builder().l(appended).build();
+        };
+      }
+      return operand();
+    }
+
+    private UpdateAction removeAction() {
+      String attribute = topLevelAttribute();
+      return action(attribute, (original, updated) -> updated.remove(attribute));
+    }
+
+    private UpdateAction addAction() {
+      String attribute = topLevelAttribute();
+      Operand delta = operand();
+      return action(attribute, (original, updated) -> updated.put(attribute, AttributeValues.add(original.get(attribute), delta.resolve(original))));
+    }
+
+    private UpdateAction deleteAction() {
+      String attribute = topLevelAttribute();
+      Operand elements = operand();
+      return action(attribute, (original, updated) -> {
+        AttributeValue remaining = AttributeValues.deleteFromSet(original.get(attribute), elements.resolve(original));
+        if (remaining == null) {
+          updated.remove(attribute);
+        }
+        else {
+          updated.put(attribute, remaining);
+        }
+      });
+    }
+
+    private String topLevelAttribute() {
+      Path path = path();
+      if (!path.isTopLevel()) {
+        throw error("Updating nested attributes is not supported by the in-memory client");
+      }
+      return path.topLevel();
+    }
+
+    private static UpdateAction action(String attribute, BiConsumer<Map<String, AttributeValue>, Map<String, AttributeValue>> apply) {
+      return new UpdateAction() {
+        @Override
+        public String attribute() {
+          return attribute;
+        }
+
+        @Override
+        public void apply(Map<String, AttributeValue> original, Map<String, AttributeValue> updated) {
+          apply.accept(original, updated);
+        }
+      };
+    }
+
+    private String peekFunction() {
+      if (position + 1 < tokens.size() && "(".equals(tokens.get(position + 1))) {
+        String token = tokens.get(position);
+        return Character.isLetter(token.charAt(0)) ? token.toLowerCase(Locale.ROOT) : null;
+      }
+      return null;
+    }
+
+    private String peek() {
+      if (position >= tokens.size()) {
+        throw error("Unexpected end of expression");
+      }
+      return tokens.get(position);
+    }
+
+    private String next() {
+      String token = peek();
+      position++;
+      return token;
+    }
+
+    private boolean accept(String symbol) {
+      if (position < tokens.size() && tokens.get(position).equals(symbol)) {
+        position++;
+        return true;
+      }
+      return false;
+    }
+
+    private boolean acceptKeyword(String keyword) {
+      if (position < tokens.size() && tokens.get(position).equalsIgnoreCase(keyword)) {
+        position++;
+        return true;
+      }
+      return false;
+    }
+
+    private void expect(String symbol) {
+      if (!accept(symbol)) {
+        throw error("Expected '" + symbol + "'" + (position < tokens.size() ? " but found '" + tokens.get(position) + "'" : ""));
+      }
+    }
+
+    private void expectKeyword(String keyword) {
+      if (!acceptKeyword(keyword)) {
+        throw error("Expected " + keyword);
+      }
+    }
+
+    private void expectEnd() {
+      if (position < tokens.size()) {
+        throw error("Unexpected token '" + tokens.get(position) + "'");
+      }
+    }
+
+    private RuntimeException error(String message) {
+      return InMemoryDynamoDbClient.validation("Invalid expression: " + message + "; expression: " + expression);
+    }
+
+    private static List<String> tokenize(String expression) {
+      List<String> tokens = new ArrayList<>();
+      int index = 0;
+      while (index < expression.length()) {
+        char current = expression.charAt(index);
+        if (Character.isWhitespace(current)) {
+          index++;
+        }
+        else if (current == '<' || current == '>') {
+          boolean twoChars = index + 1 < expression.length() && (expression.charAt(index + 1) == '=' || (current == '<' && expression.charAt(index + 1) == '>'));
+          tokens.add(expression.substring(index, index + (twoChars ? 2 : 1)));
+          index += twoChars ? 2 : 1;
+        }
+        else if ("()[],.=+-".indexOf(current) >= 0) {
+          tokens.add(String.valueOf(current));
+          index++;
+        }
+        else {
+          int start = index;
+          index++;
+          while (index < expression.length() && (Character.isLetterOrDigit(expression.charAt(index)) || expression.charAt(index) == '_')) {
+            index++;
+          }
+          tokens.add(expression.substring(start, index));
+        }
+      }
+      return Collections.unmodifiableList(tokens);
+    }
+  }
+
+  /**
+   * Keeps the top-level attributes named by the projection, in the order of the item.
+   */
+  static Map<String, AttributeValue> project(Map<String, AttributeValue> item, List<Path> projection) {
+    if (projection == null) {
+      return item;
+    }
+    Map<String, AttributeValue> projected = new LinkedHashMap<>();
+    for (Path path : projection) {
+      AttributeValue value = item.get(path.topLevel());
+      if (value != null) {
+        projected.put(path.topLevel(), value);
+      }
+    }
+    return projected;
+  }
+}
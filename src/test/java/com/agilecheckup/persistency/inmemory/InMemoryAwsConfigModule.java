@@ -0,0 +1,32 @@
+package com.agilecheckup.persistency.inmemory;
+
+import com.agilecheckup.dagger.module.AwsConfigModule;
+import com.agilecheckup.dagger.module.DynamoDbClientSettings;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * Points the Dagger graph at an {@link InMemoryDynamoDbClient}:
+ * {@code DaggerServiceComponent.builder().awsConfigModule(new InMemoryAwsConfigModule(client)).build()}.
+ */
+public class InMemoryAwsConfigModule extends AwsConfigModule {
+
+  private final InMemoryDynamoDbClient client;
+  private final InMemoryDynamoDbAsyncClient asyncClient;
+
+  public InMemoryAwsConfigModule(InMemoryDynamoDbClient client) {
+    this.client = client;
+    this.asyncClient = new InMemoryDynamoDbAsyncClient(client);
+  }
+
+  @Override
+  public DynamoDbClient provideDynamoDbClient(DynamoDbClientSettings settings) {
+    return client;
+  }
+
+  @Override
+  public DynamoDbAsyncClient provideDynamoDbAsyncClient(DynamoDbClientSettings settings) {
+    return asyncClient;
+  }
+}
@@ -0,0 +1,120 @@
+package com.agilecheckup.persistency.inmemory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+import software.amazon.awssdk.services.dynamodb.paginators.BatchGetItemPublisher;
+import software.amazon.awssdk.services.dynamodb.paginators.QueryPublisher;
+import software.amazon.awssdk.services.dynamodb.paginators.ScanPublisher;
+
+/**
+ * {@link DynamoDbAsyncClient} over the tables of an {@link InMemoryDynamoDbClient}, so the async repositories read the
+ * same data as the sync ones.
+ * <p>
+ * Calls run on a cached pool of daemon threads, the way the SDK completes its futures off the caller thread; the
+ * simulated latency is spent on those threads.
+ */
+public class InMemoryDynamoDbAsyncClient implements DynamoDbAsyncClient {
+
+  private final InMemoryDynamoDbClient delegate;
+  private final ExecutorService executor;
+
+  public InMemoryDynamoDbAsyncClient(InMemoryDynamoDbClient delegate) {
+    this.delegate = delegate;
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = Executors.newCachedThreadPool(task -> {
+      Thread thread = new Thread(task, "in-memory-dynamodb-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public CompletableFuture<GetItemResponse> getItem(GetItemRequest request) {
+    return call(() -> delegate.getItem(request));
+  }
+
+  @Override
+  public CompletableFuture<PutItemResponse> putItem(PutItemRequest request) {
+    return call(() -> delegate.putItem(request));
+  }
+
+  @Override
+  public CompletableFuture<DeleteItemResponse> deleteItem(DeleteItemRequest request) {
+    return call(() -> delegate.deleteItem(request));
+  }
+
+  @Override
+  public CompletableFuture<UpdateItemResponse> updateItem(UpdateItemRequest request) {
+    return call(() -> delegate.updateItem(request));
+  }
+
+  @Override
+  public CompletableFuture<QueryResponse> query(QueryRequest request) {
+    return call(() -> delegate.query(request));
+  }
+
+  @Override
+  public QueryPublisher queryPaginator(QueryRequest request) {
+    return new QueryPublisher(this, request);
+  }
+
+  @Override
+  public CompletableFuture<ScanResponse> scan(ScanRequest request) {
+    return call(() -> delegate.scan(request));
+  }
+
+  @Override
+  public ScanPublisher scanPaginator(ScanRequest request) {
+    return new ScanPublisher(this, request);
+  }
+
+  @Override
+  public CompletableFuture<BatchGetItemResponse> batchGetItem(BatchGetItemRequest request) {
+    return call(() -> delegate.batchGetItem(request));
+  }
+
+  @Override
+  public BatchGetItemPublisher batchGetItemPaginator(BatchGetItemRequest request) {
+    return new BatchGetItemPublisher(this, request);
+  }
+
+  @Override
+  public CompletableFuture<BatchWriteItemResponse> batchWriteItem(BatchWriteItemRequest request) {
+    return call(() -> delegate.batchWriteItem(request));
+  }
+
+  @Override
+  public String serviceName() {
+    return SERVICE_NAME;
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private <R> CompletableFuture<R> call(Supplier<R> operation) {
+    return CompletableFuture.supplyAsync(operation, executor);
+  }
+}
@@ -0,0 +1,450 @@
+package com.agilecheckup.persistency.inmemory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.enhanced.dynamodb.IndexMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.KeyAttributeMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.CreateTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.LocalSecondaryIndex;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ResourceInUseException;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+import software.amazon.awssdk.services.dynamodb.model.TableStatus;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import software.amazon.awssdk.services.dynamodb.paginators.BatchGetItemIterable;
+import software.amazon.awssdk.services.dynamodb.paginators.QueryIterable;
+import software.amazon.awssdk.services.dynamodb.paginators.ScanIterable;
+
+/**
+ * Thread-safe, in-memory stand-in for DynamoDB behind the low-level {@link DynamoDbClient}, so the enhanced client, the
+ * repositories and the services above them run unchanged without a network.
+ * <p>
+ * It serves GetItem, PutItem, DeleteItem and UpdateItem with condition expressions and return values, Query and Scan
+ * on tables and secondary indexes with key conditions, filters, projections, {@code Select.COUNT}, {@code Limit},
+ * {@code ExclusiveStartKey} paging and parallel scan segments, and BatchGetItem and BatchWriteItem within the DynamoDB
+ * batch size limits. Errors are the exceptions DynamoDB throws: {@code ConditionalCheckFailedException},
+ * {@code ResourceNotFoundException} and validation failures as a {@link DynamoDbException} with status 400.
+ * <p>
+ * Each call first waits for the latency of its {@link LatencyModel}, then is served. Differences from DynamoDB: every
+ * read is strongly consistent, including index reads; pages are not capped at 1 MB; batches never return unprocessed
+ * items; and updates cannot write nested attributes.
+ */
+public class InMemoryDynamoDbClient implements DynamoDbClient {
+
+  private final Map<String, InMemoryTable> tables = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+  private final LatencyModel latencyModel;
+
+  public InMemoryDynamoDbClient() {
+    this(LatencyModel.none());
+  }
+
+  public InMemoryDynamoDbClient(LatencyModel latencyModel) {
+    this.latencyModel = latencyModel;
+  }
+
+  /**
+   * Creates a table with the key schema and secondary indexes of a table schema, as declared by its DynamoDb
+   * annotations.
+   */
+  public void createTable(String tableName, TableSchema<?> tableSchema) {
+    TableMetadata metadata = tableSchema.tableMetadata();
+    Map<String, InMemoryTable.KeySchema> indexes = new LinkedHashMap<>();
+    for (IndexMetadata index : metadata.indices()) {
+      if (!TableMetadata.primaryIndexName().equals(index.name())) {
+        String partitionKey = index.partitionKey().map(KeyAttributeMetadata::name).orElse(metadata.primaryPartitionKey());
+        indexes.put(index.name(), new InMemoryTable.KeySchema(partitionKey, index.sortKey().map(KeyAttributeMetadata::name).orElse(null)));
+      }
+    }
+    Map<String, ScalarAttributeType> attributeTypes = new LinkedHashMap<>();
+    for (KeyAttributeMetadata keyAttribute : metadata.keyAttributes()) {
+      metadata.scalarAttributeType(keyAttribute.name()).ifPresent(type -> attributeTypes.put(keyAttribute.name(), type));
+    }
+    addTable(new InMemoryTable(tableName, new InMemoryTable.KeySchema(metadata.primaryPartitionKey(), metadata.primarySortKey().orElse(null)), indexes, attributeTypes));
+  }
+
+  @Override
+  public CreateTableResponse createTable(CreateTableRequest request) {
+    Map<String, InMemoryTable.KeySchema> indexes = new LinkedHashMap<>();
+    for (GlobalSecondaryIndex index : request.globalSecondaryIndexes()) {
+      requireAllProjected(index.indexName(), index.projection());
+      indexes.put(index.indexName(), keySchema(index.keySchema()));
+    }
+    for (LocalSecondaryIndex index : request.localSecondaryIndexes()) {
+      requireAllProjected(index.indexName(), index.projection());
+      indexes.put(index.indexName(), keySchema(index.keySchema()));
+    }
+    Map<String, ScalarAttributeType> attributeTypes = request.attributeDefinitions()
+                                                             .stream()
+                                                             .collect(Collectors.toMap(AttributeDefinition::attributeName, AttributeDefinition::attributeType));
+    addTable(new InMemoryTable(request.tableName(), keySchema(request.keySchema()), indexes, attributeTypes));
+    return CreateTableResponse.builder().tableDescription(describe(request.tableName())).build();
+  }
+
+  @Override
+  public DeleteTableResponse deleteTable(DeleteTableRequest request) {
+    TableDescription description = describe(table(request.tableName()).name());
+    tables.remove(request.tableName());
+    return DeleteTableResponse.builder().tableDescription(description).build();
+  }
+
+  @Override
+  public GetItemResponse getItem(GetItemRequest request) {
+    simulateLatency("GetItem");
+    Map<String, AttributeValue> item = table(request.tableName()).get(request.key());
+    GetItemResponse.Builder response = GetItemResponse.builder();
+    if (item != null) {
+      response.item(Expressions.project(item, projection(request.projectionExpression(), request.expressionAttributeNames())));
+    }
+    return response.build();
+  }
+
+  @Override
+  public PutItemResponse putItem(PutItemRequest request) {
+    simulateLatency("PutItem");
+    Map<String, AttributeValue> previous = table(request.tableName()).put(request.item(), condition(request.conditionExpression(), request.expressionAttributeNames(), request.expressionAttributeValues()));
+    PutItemResponse.Builder response = PutItemResponse.builder();
+    if (previous != null && request.returnValues() == ReturnValue.ALL_OLD) {
+      response.attributes(previous);
+    }
+    return response.build();
+  }
+
+  @Override
+  public DeleteItemResponse deleteItem(DeleteItemRequest request) {
+    simulateLatency("DeleteItem");
+    Map<String, AttributeValue> previous = table(request.tableName()).delete(request.key(), condition(request.conditionExpression(), request.expressionAttributeNames(), request.expressionAttributeValues()));
+    DeleteItemResponse.Builder response = DeleteItemResponse.builder();
+    if (previous != null && request.returnValues() == ReturnValue.ALL_OLD) {
+      response.attributes(previous);
+    }
+    return response.build();
+  }
+
+  @Override
+  public UpdateItemResponse updateItem(UpdateItemRequest request) {
+    simulateLatency("UpdateItem");
+    if (request.updateExpression() == null) {
+      throw validation("The in-memory client only supports UpdateItem with an update expression");
+    }
+    List<Expressions.UpdateAction> actions = Expressions.update(request.updateExpression(), request.expressionAttributeNames(), request.expressionAttributeValues());
+    List<Map<String, AttributeValue>> result = table(request.tableName()).update(request.key(), actions, condition(request.conditionExpression(), request.expressionAttributeNames(), request.expressionAttributeValues()));
+    Map<String, AttributeValue> previous = result.get(0);
+    Map<String, AttributeValue> updated = result.get(1);
+    Set<String> updatedAttributes = actions.stream().map(Expressions.UpdateAction::attribute).collect(Collectors.toSet());
+
+    UpdateItemResponse.Builder response = UpdateItemResponse.builder();
+    switch (request.returnValues() == null ? ReturnValue.NONE : request.returnValues()) {
+      case ALL_OLD:
+        if (previous != null) {
+          response.attributes(previous);
+        }
+        break;
+      case ALL_NEW:
+        response.attributes(updated);
+        break;
+      case UPDATED_OLD:
+        if (previous != null) {
+          response.attributes(select(previous, updatedAttributes));
+        }
+        break;
+      case UPDATED_NEW:
+        response.attributes(select(updated, updatedAttributes));
+        break;
+      default:
+        break;
+    }
+    return response.build();
+  }
+
+  @Override
+  public QueryResponse query(QueryRequest request) {
+    simulateLatency("Query");
+    InMemoryTable table = table(request.tableName());
+    InMemoryTable.KeySchema keySchema = table.keySchema(request.indexName());
+    if (request.keyConditionExpression() == null) {
+      throw validation("Either the KeyConditions or KeyConditionExpression parameter must be specified in the request");
+    }
+    Expressions.Condition keyCondition = Expressions.condition(request.keyConditionExpression(), request.expressionAttributeNames(), request.expressionAttributeValues());
+    AttributeValue partition = partitionValue(keyCondition, keySchema.partitionKey);
+
+    InMemoryTable.Page page = table.read(request.indexName(), partition, keyCondition::test, request.exclusiveStartKey(), request.limit(), !Boolean.FALSE.equals(request.scanIndexForward()), null);
+    List<Map<String, AttributeValue>> items = filter(page.items, request.filterExpression(), request.expressionAttributeNames(), request.expressionAttributeValues());
+
+    QueryResponse.Builder response = QueryResponse.builder().count(items.size()).scannedCount(page.items.size());
+    if (request.select() != Select.COUNT) {
+      List<Expressions.Path> projection = projection(request.projectionExpression(), request.expressionAttributeNames());
+      response.items(items.stream().map(item -> Expressions.project(item, projection)).collect(Collectors.toList()));
+    }
+    if (page.lastEvaluatedKey != null) {
+      response.lastEvaluatedKey(page.lastEvaluatedKey);
+    }
+    return response.build();
+  }
+
+  @Override
+  public QueryIterable queryPaginator(QueryRequest request) {
+    return new QueryIterable(this, request);
+  }
+
+  @Override
+  public ScanResponse scan(ScanRequest request) {
+    simulateLatency("Scan");
+    InMemoryTable table = table(request.tableName());
+    InMemoryTable.KeySchema keySchema = table.keySchema(request.indexName());
+    Predicate<Map<String, AttributeValue>> segmentFilter = null;
+    if (request.totalSegments() != null) {
+      int totalSegments = request.totalSegments();
+      int segment = request.segment() == null ? 0 : request.segment();
+      segmentFilter = item -> Math.floorMod(item.get(keySchema.partitionKey).hashCode(), totalSegments) == segment;
+    }
+
+    InMemoryTable.Page page = table.read(request.indexName(), null, null, request.exclusiveStartKey(), request.limit(), true, segmentFilter);
+    List<Map<String, AttributeValue>> items = filter(page.items, request.filterExpression(), request.expressionAttributeNames(), request.expressionAttributeValues());
+
+    ScanResponse.Builder response = ScanResponse.builder().count(items.size()).scannedCount(page.items.size());
+    if (request.select() != Select.COUNT) {
+      List<Expressions.Path> projection = projection(request.projectionExpression(), request.expressionAttributeNames());
+      response.items(items.stream().map(item -> Expressions.project(item, projection)).collect(Collectors.toList()));
+    }
+    if (page.lastEvaluatedKey != null) {
+      response.lastEvaluatedKey(page.lastEvaluatedKey);
+    }
+    return response.build();
+  }
+
+  @Override
+  public ScanIterable scanPaginator(ScanRequest request) {
+    return new ScanIterable(this, request);
+  }
+
+  @Override
+  public BatchGetItemResponse batchGetItem(BatchGetItemRequest request) {
+    simulateLatency("BatchGetItem");
+    int keyCount = request.requestItems().values().stream().mapToInt(keys -> keys.keys().size()).sum();
+    if (keyCount == 0 || keyCount > 100) {
+      throw validation("Too many items requested for the BatchGetItem call: " + keyCount);
+    }
+
+    Map<String, List<Map<String, AttributeValue>>> responses = new LinkedHashMap<>();
+    for (Map.Entry<String, KeysAndAttributes> tableKeys : request.requestItems().entrySet()) {
+      InMemoryTable table = table(tableKeys.getKey());
+      if (new HashSet<>(tableKeys.getValue().keys()).size() != tableKeys.getValue().keys().size()) {
+        throw validation("Provided list of item keys contains duplicates");
+      }
+      List<Expressions.Path> projection = projection(tableKeys.getValue().projectionExpression(), tableKeys.getValue().expressionAttributeNames());
+      List<Map<String, AttributeValue>> found = new ArrayList<>();
+      for (Map<String, AttributeValue> key : tableKeys.getValue().keys()) {
+        Optional.ofNullable(table.get(key)).ifPresent(item -> found.add(Expressions.project(item, projection)));
+      }
+      responses.put(tableKeys.getKey(), found);
+    }
+    return BatchGetItemResponse.builder().responses(responses).unprocessedKeys(Map.of()).build();
+  }
+
+  @Override
+  public BatchGetItemIterable batchGetItemPaginator(BatchGetItemRequest request) {
+    return new BatchGetItemIterable(this, request);
+  }
+
+  @Override
+  public BatchWriteItemResponse batchWriteItem(BatchWriteItemRequest request) {
+    simulateLatency("BatchWriteItem");
+    int writeCount = request.requestItems().values().stream().mapToInt(List::size).sum();
+    if (writeCount == 0 || writeCount > 25) {
+      throw validation("Too many items requested for the BatchWriteItem call: " + writeCount);
+    }
+
+    for (Map.Entry<String, List<WriteRequest>> tableWrites : request.requestItems().entrySet()) {
+      InMemoryTable table = table(tableWrites.getKey());
+      for (WriteRequest write : tableWrites.getValue()) {
+        if (write.putRequest() != null) {
+          table.put(write.putRequest().item(), null);
+        }
+        else if (write.deleteRequest() != null) {
+          table.delete(write.deleteRequest().key(), null);
+        }
+        else {
+          throw validation("A write request must contain a put or a delete request");
+        }
+      }
+    }
+    return BatchWriteItemResponse.builder().unprocessedItems(Map.of()).build();
+  }
+
+  /**
+   * @return Number of calls of the operation served so far, such as {@code "Query"}
+   */
+  public long callCount(String operation) {
+    LongAdder count = calls.get(operation);
+    return count == null ? 0 : count.sum();
+  }
+
+  public void resetCallCounts() {
+    calls.clear();
+  }
+
+  public int itemCount(String tableName) {
+    return table(tableName).size();
+  }
+
+  @Override
+  public String serviceName() {
+    return SERVICE_NAME;
+  }
+
+  @Override
+  public void close() {
+    // Nothing to release
+  }
+
+  static DynamoDbException validation(String message) {
+    return (DynamoDbException) DynamoDbException.builder()
+                                                .message(message)
+                                                .statusCode(400)
+                                                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ValidationException").errorMessage(message).serviceName(SERVICE_NAME).build())
+                                                .build();
+  }
+
+  private void addTable(InMemoryTable table) {
+    if (tables.putIfAbsent(table.name(), table) != null) {
+      throw ResourceInUseException.builder().message("Table already exists: " + table.name()).statusCode(400).build();
+    }
+  }
+
+  private InMemoryTable table(String tableName) {
+    InMemoryTable table = tables.get(tableName);
+    if (table == null) {
+      throw ResourceNotFoundException.builder().message("Requested resource not found: Table: " + tableName + " not found").statusCode(400).build();
+    }
+    return table;
+  }
+
+  private TableDescription describe(String tableName) {
+    return TableDescription.builder().tableName(tableName).tableStatus(TableStatus.ACTIVE).itemCount((long) table(tableName).size()).build();
+  }
+
+  private void simulateLatency(String operation) {
+    calls.computeIfAbsent(operation, name -> new LongAdder()).increment();
+    Duration latency = latencyModel.latencyOf(operation);
+    if (latency.isZero() || latency.isNegative()) {
+      return;
+    }
+    try {
+      TimeUnit.NANOSECONDS.sleep(latency.toNanos());
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw AbortedException.builder().message("Interrupted during simulated " + operation + " latency").cause(e).build();
+    }
+  }
+
+  private static Predicate<Map<String, AttributeValue>> condition(String expression, Map<String, String> names, Map<String, AttributeValue> values) {
+    if (expression == null) {
+      return null;
+    }
+    return Expressions.condition(expression, names, values)::test;
+  }
+
+  private static List<Expressions.Path> projection(String expression, Map<String, String> names) {
+    return expression == null ? null : Expressions.projection(expression, names);
+  }
+
+  private static List<Map<String, AttributeValue>> filter(List<Map<String, AttributeValue>> items, String expression, Map<String, String> names, Map<String, AttributeValue> values) {
+    if (expression == null) {
+      return items;
+    }
+    Expressions.Condition filter = Expressions.condition(expression, names, values);
+    return items.stream().filter(filter::test).collect(Collectors.toList());
+  }
+
+  private static AttributeValue partitionValue(Expressions.Condition keyCondition, String partitionKey) {
+    List<Expressions.Condition> operands = keyCondition instanceof Expressions.And ? ((Expressions.And) keyCondition).operands() : List.of(keyCondition);
+    for (Expressions.Condition operand : operands) {
+      if (operand instanceof Expressions.Comparison) {
+        Expressions.Path path = ((Expressions.Comparison) operand).equalityPath();
+        if (path != null && path.isTopLevel() && path.topLevel().equals(partitionKey)) {
+          return ((Expressions.Comparison) operand).right().resolve(Map.of());
+        }
+      }
+    }
+    throw validation("Query condition missed key schema element: " + partitionKey);
+  }
+
+  private static Map<String, AttributeValue> select(Map<String, AttributeValue> item, Set<String> attributes) {
+    Map<String, AttributeValue> selected = new LinkedHashMap<>();
+    attributes.forEach(attribute -> Optional.ofNullable(item.get(attribute)).ifPresent(value -> selected.put(attribute, value)));
+    return selected;
+  }
+
+  private static InMemoryTable.KeySchema keySchema(List<KeySchemaElement> elements) {
+    String partitionKey = null;
+    String sortKey = null;
+    for (KeySchemaElement element : elements) {
+      if (element.keyType() == KeyType.HASH) {
+        partitionKey = element.attributeName();
+      }
+      else {
+        sortKey = element.attributeName();
+      }
+    }
+    if (partitionKey == null) {
+      throw validation("The key schema must contain a HASH key");
+    }
+    return new InMemoryTable.KeySchema(partitionKey, sortKey);
+  }
+
+  private static void requireAllProjected(String indexName, Projection projection) {
+    if (projection != null && projection.projectionType() != null && projection.projectionType() != ProjectionType.ALL) {
+      throw validation("The in-memory client only supports indexes projecting ALL attributes: " + indexName);
+    }
+  }
+}
@@ -0,0 +1,206 @@
+package com.agilecheckup.persistency.inmemory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.agilecheckup.persistency.entity.AssessmentStatus;
+import com.agilecheckup.persistency.entity.EmployeeAssessment;
+import com.agilecheckup.persistency.entity.QuestionType;
+import com.agilecheckup.persistency.entity.question.Answer;
+import com.agilecheckup.persistency.entity.question.QuestionSnapshot;
+import com.agilecheckup.persistency.repository.AnswerRepository;
+import com.agilecheckup.persistency.repository.EmployeeAssessmentRepository;
+import com.agilecheckup.persistency.repository.PageResult;
+import com.agilecheckup.persistency.repository.QuestionSnapshotRepository;
+import com.agilecheckup.util.TestObjectFactory;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+class InMemoryDynamoDbClientTest {
+
+  private static final String TENANT_ID = "tenant-a";
+  private static final String OTHER_TENANT_ID = "tenant-b";
+  private static final String MATRIX_ID = "matrix-1";
+
+  private InMemoryDynamoDbClient client;
+  private EmployeeAssessmentRepository employeeAssessmentRepository;
+  private AnswerRepository answerRepository;
+
+  @BeforeEach
+  void setUp() {
+    client = AgileCheckupTables.createAll(new InMemoryDynamoDbClient());
+    DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder().dynamoDbClient(client).build();
+    employeeAssessmentRepository = new EmployeeAssessmentRepository(enhancedClient, client);
+    answerRepository = new AnswerRepository(enhancedClient);
+  }
+
+  @Test
+  void findByEmployeeAssessmentId_queriesTheIndexOfTheAssessmentAndTenant() {
+    answerRepository.save(answer("ea-1", "q-1", TENANT_ID));
+    answerRepository.save(answer("ea-1", "q-2", TENANT_ID));
+    answerRepository.save(answer("ea-1", "q-3", OTHER_TENANT_ID));
+    answerRepository.save(answer("ea-2", "q-1", TENANT_ID));
+
+    assertThat(answerRepository.findByEmployeeAssessmentId("ea-1", TENANT_ID)).extracting(Answer::getQuestionId).containsExactlyInAnyOrder("q-1", "q-2");
+    assertThat(answerRepository.findAnsweredQuestionIds("ea-1", TENANT_ID)).containsExactlyInAnyOrder("q-1", "q-2");
+    assertThat(answerRepository.findByEmployeeAssessmentIdAndQuestionId("ea-2", "q-1", TENANT_ID)).isPresent();
+    assertThat(answerRepository.findByEmployeeAssessmentIdAndQuestionId("ea-2", "q-2", TENANT_ID)).isEmpty();
+  }
+
+  @Test
+  void findPageByTenantId_pagesThroughTheIndexWithTokens() {
+    List<String> savedIds = IntStream.range(0, 5).mapToObj(i -> employeeAssessmentRepository.save(assessment("user" + i + "@example.com", AssessmentStatus.INVITED)).get().getId()).collect(Collectors.toList());
+    employeeAssessmentRepository.save(assessment("other@example.com", AssessmentStatus.INVITED, OTHER_TENANT_ID));
+
+    List<String> readIds = new ArrayList<>();
+    List<Integer> pageSizes = new ArrayList<>();
+    String token = null;
+    do {
+      PageResult<EmployeeAssessment> page = employeeAssessmentRepository.findPageByTenantId(TENANT_ID, 2, token);
+      page.getItems().forEach(assessment -> readIds.add(assessment.getId()));
+      pageSizes.add(page.getItems().size());
+      token = page.getNextPageToken();
+    }
+    while (token != null);
+
+    assertThat(pageSizes).containsExactly(2, 2, 1);
+    assertThat(readIds).containsExactlyInAnyOrderElementsOf(savedIds);
+  }
+
+  @Test
+  void countQueries_applyTheFilterServerSide() {
+    employeeAssessmentRepository.save(assessment("a@example.com", AssessmentStatus.COMPLETED));
+    employeeAssessmentRepository.save(assessment("b@example.com", AssessmentStatus.IN_PROGRESS));
+    employeeAssessmentRepository.save(assessment("c@example.com", AssessmentStatus.INVITED));
+    employeeAssessmentRepository.save(assessment("d@example.com", AssessmentStatus.INVITED, OTHER_TENANT_ID));
+
+    assertThat(employeeAssessmentRepository.countNonCompletedAssessments(MATRIX_ID, TENANT_ID)).isEqualTo(2);
+    assertThat(employeeAssessmentRepository.countByStatus(MATRIX_ID, TENANT_ID)).containsOnly(Map.entry(AssessmentStatus.COMPLETED, 1L),
+                                                                                               Map.entry(AssessmentStatus.IN_PROGRESS, 1L),
+                                                                                               Map.entry(AssessmentStatus.INVITED, 1L));
+    assertThat(employeeAssessmentRepository.existsByAssessmentMatrixAndEmployeeEmail(MATRIX_ID, "B@Example.com")).isTrue();
+    assertThat(employeeAssessmentRepository.existsByAssessmentMatrixAndEmployeeEmail(MATRIX_ID, "e@example.com")).isFalse();
+  }
+
+  @Test
+  void incrementAnsweredQuestionCount_addsAtomicallyToExistingItemsOnly() {
+    String id = employeeAssessmentRepository.save(assessment("a@example.com", AssessmentStatus.IN_PROGRESS)).get().getId();
+
+    assertThat(employeeAssessmentRepository.incrementAnsweredQuestionCount(id, new Date())).isEqualTo(OptionalLong.of(1));
+    assertThat(employeeAssessmentRepository.incrementAnsweredQuestionCount(id, new Date())).isEqualTo(OptionalLong.of(2));
+    assertThat(employeeAssessmentRepository.incrementAnsweredQuestionCount("missing", new Date())).isEmpty();
+    assertThat(employeeAssessmentRepository.findById(id)).hasValueSatisfying(assessment -> assertThat(assessment.getAnsweredQuestionCount()).isEqualTo(2));
+    assertThat(client.itemCount("EmployeeAssessment")).isEqualTo(1);
+  }
+
+  @Test
+  void updateScoreIfUnchanged_rejectsWritesBasedOnAnOutdatedVersion() {
+    String id = employeeAssessmentRepository.save(assessment("a@example.com", AssessmentStatus.IN_PROGRESS)).get().getId();
+    EmployeeAssessment first = employeeAssessmentRepository.findById(id).get();
+    EmployeeAssessment second = employeeAssessmentRepository.findById(id).get();
+
+    assertThat(employeeAssessmentRepository.updateScoreIfUnchanged(first)).isTrue();
+    assertThat(employeeAssessmentRepository.updateScoreIfUnchanged(second)).isFalse();
+    assertThat(employeeAssessmentRepository.updateScoreIfUnchanged(first)).isTrue();
+
+    assertThat(first.getScoreVersion()).isEqualTo(2L);
+    assertThat(employeeAssessmentRepository.findById(id)).hasValueSatisfying(assessment -> assertThat(assessment.getScoreVersion()).isEqualTo(2L));
+  }
+
+  @Test
+  void saveIfAbsent_failsTheConditionOnTheSecondWrite() {
+    QuestionSnapshotRepository snapshotRepository = new QuestionSnapshotRepository(DynamoDbEnhancedClient.builder().dynamoDbClient(client).build());
+    QuestionSnapshot snapshot = QuestionSnapshot.of(TestObjectFactory.createMockedQuestion("q-1"));
+
+    assertThat(snapshotRepository.saveIfAbsent(snapshot)).isTrue();
+    assertThat(snapshotRepository.saveIfAbsent(snapshot)).isFalse();
+  }
+
+  @Test
+  void saveAllAndFindAllByIds_splitIntoBatchesOfTheServiceLimits() {
+    List<EmployeeAssessment> assessments = IntStream.range(0, 120)
+                                                    .mapToObj(i -> assessment("user" + i + "@example.com", AssessmentStatus.INVITED))
+                                                    .collect(Collectors.toList());
+
+    employeeAssessmentRepository.saveAll(assessments);
+    List<String> ids = assessments.stream().map(EmployeeAssessment::getId).collect(Collectors.toList());
+
+    assertThat(employeeAssessmentRepository.findAllByIds(ids)).hasSize(120);
+    assertThat(client.callCount("BatchWriteItem")).isEqualTo(5);
+    assertThat(client.callCount("BatchGetItem")).isEqualTo(2);
+  }
+
+  @Test
+  void latencyModel_delaysEachCall() {
+    InMemoryDynamoDbClient slowClient = AgileCheckupTables.createAll(new InMemoryDynamoDbClient(LatencyModel.perOperation(Map.of("GetItem", Duration.ofMillis(30)), LatencyModel.none())));
+    GetItemRequest request = GetItemRequest.builder().tableName("Answer").key(Map.of("id", AttributeValue.builder().s("missing").build())).build();
+
+    long start = System.nanoTime();
+    assertThat(slowClient.getItem(request).hasItem()).isFalse();
+
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(30));
+    assertThat(slowClient.callCount("GetItem")).isEqualTo(1);
+    assertThat(slowClient.callCount("Query")).isZero();
+  }
+
+  @Test
+  void invalidRequests_failAsDynamoDbDoes() {
+    Map<String, AttributeValue> key = Map.of("id", AttributeValue.builder().s("ea-1").build());
+
+    assertThatThrownBy(() -> client.getItem(GetItemRequest.builder().tableName("Unknown").key(key).build())).isInstanceOf(ResourceNotFoundException.class);
+    assertThatThrownBy(() -> client.query(QueryRequest.builder().tableName("Answer").indexName("unknown-index").keyConditionExpression("id = :id")
+                                                      .expressionAttributeValues(Map.of(":id", key.get("id"))).build()))
+        .isInstanceOf(DynamoDbException.class)
+        .hasMessageContaining("unknown-index");
+    assertThatThrownBy(() -> client.updateItem(UpdateItemRequest.builder().tableName("Answer").key(key).updateExpression("SET #v = :v")
+                                                                .expressionAttributeValues(Map.of(":v", key.get("id"))).build()))
+        .isInstanceOf(DynamoDbException.class)
+        .hasMessageContaining("#v");
+  }
+
+  private static EmployeeAssessment assessment(String email, AssessmentStatus status) {
+    return assessment(email, status, TENANT_ID);
+  }
+
+  private static EmployeeAssessment assessment(String email, AssessmentStatus status, String tenantId) {
+    return EmployeeAssessment.builder()
+                             .assessmentMatrixId(MATRIX_ID)
+                             .teamId("team-1")
+                             .employeeEmailNormalized(email.toLowerCase())
+                             .assessmentStatus(status)
+                             .tenantId(tenantId)
+                             .build();
+  }
+
+  private static Answer answer(String employeeAssessmentId, String questionId, String tenantId) {
+    return Answer.builder()
+                 .employeeAssessmentId(employeeAssessmentId)
+                 .questionId(questionId)
+                 .pillarId("pillar-1")
+                 .categoryId("category-1")
+                 .questionType(QuestionType.YES_NO)
+                 .answeredAt(LocalDateTime.now())
+                 .value("true")
+                 .tenantId(tenantId)
+                 .build();
+  }
+}
@@ -0,0 +1,377 @@
+package com.agilecheckup.persistency.inmemory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+
+/**
+ * Items of one in-memory table, ordered by primary key, with one ordered view per secondary index.
+ * <p>
+ * Reads never block: items are immutable maps held in concurrent skip lists. Writes of a table are serialized by a
+ * lock, so a condition is checked and the item written atomically, as DynamoDB does per item. Secondary indexes are
+ * updated in the same critical section; unlike DynamoDB they are never stale. Items missing an index key attribute are
+ * left out of that index, as in a sparse GSI.
+ */
+final class InMemoryTable {
+
+  /**
+   * Partition and optional sort key attribute names of the table or of an index.
+   */
+  static final class KeySchema {
+
+    final String partitionKey;
+    final String sortKey;
+
+    KeySchema(String partitionKey, String sortKey) {
+      this.partitionKey = partitionKey;
+      this.sortKey = sortKey;
+    }
+  }
+
+  /**
+   * Items read by one Query or Scan call, before the filter expression is applied.
+   */
+  static final class Page {
+
+    final List<Map<String, AttributeValue>> items;
+    final Map<String, AttributeValue> lastEvaluatedKey;
+
+    private Page(List<Map<String, AttributeValue>> items, Map<String, AttributeValue> lastEvaluatedKey) {
+      this.items = items;
+      this.lastEvaluatedKey = lastEvaluatedKey;
+    }
+  }
+
+  private final String name;
+  private final KeySchema primaryKey;
+  private final Map<String, KeySchema> indexes;
+  private final Map<String, ScalarAttributeType> attributeTypes;
+
+  private final ConcurrentSkipListMap<KeyTuple, Map<String, AttributeValue>> items = new ConcurrentSkipListMap<>();
+  private final Map<String, ConcurrentSkipListMap<KeyTuple, Map<String, AttributeValue>>> indexItems = new ConcurrentHashMap<>();
+  private final ReentrantLock writeLock = new ReentrantLock();
+
+  InMemoryTable(String name, KeySchema primaryKey, Map<String, KeySchema> indexes, Map<String, ScalarAttributeType> attributeTypes) {
+    this.name = name;
+    this.primaryKey = primaryKey;
+    this.indexes = Map.copyOf(indexes);
+    this.attributeTypes = Map.copyOf(attributeTypes);
+    indexes.keySet().forEach(indexName -> indexItems.put(indexName, new ConcurrentSkipListMap<>()));
+  }
+
+  String name() {
+    return name;
+  }
+
+  KeySchema keySchema(String indexName) {
+    if (indexName == null) {
+      return primaryKey;
+    }
+    KeySchema index = indexes.get(indexName);
+    if (index == null) {
+      throw InMemoryDynamoDbClient.validation("The table does not have the specified index: " + indexName);
+    }
+    return index;
+  }
+
+  int size() {
+    return items.size();
+  }
+
+  Map<String, AttributeValue> get(Map<String, AttributeValue> key) {
+    return items.get(primaryTuple(validKey(key)));
+  }
+
+  /**
+   * @return The replaced item, or null
+   */
+  Map<String, AttributeValue> put(Map<String, AttributeValue> item, Predicate<Map<String, AttributeValue>> condition) {
+    Map<String, AttributeValue> stored = validItem(item);
+    KeyTuple key = primaryTuple(stored);
+    writeLock.lock();
+    try {
+      Map<String, AttributeValue> previous = items.get(key);
+      check(condition, previous);
+      items.put(key, stored);
+      reindex(previous, stored);
+      return previous;
+    }
+    finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * @return The deleted item, or null
+   */
+  Map<String, AttributeValue> delete(Map<String, AttributeValue> key, Predicate<Map<String, AttributeValue>> condition) {
+    KeyTuple tuple = primaryTuple(validKey(key));
+    writeLock.lock();
+    try {
+      Map<String, AttributeValue> previous = items.get(tuple);
+      check(condition, previous);
+      if (previous != null) {
+        items.remove(tuple);
+        reindex(previous, null);
+      }
+      return previous;
+    }
+    finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Applies the update actions to the item, creating it from its key when missing.
+   *
+   * @return The item before and after the update; the first is null when the item was created
+   */
+  List<Map<String, AttributeValue>> update(Map<String, AttributeValue> key, List<Expressions.UpdateAction> actions, Predicate<Map<String, AttributeValue>> condition) {
+    Map<String, AttributeValue> validKey = validKey(key);
+    for (Expressions.UpdateAction action : actions) {
+      if (action.attribute().equals(primaryKey.partitionKey) || action.attribute().equals(primaryKey.sortKey)) {
+        throw InMemoryDynamoDbClient.validation("Cannot update attribute " + action.attribute() + ". This attribute is part of the key");
+      }
+    }
+
+    KeyTuple tuple = primaryTuple(validKey);
+    writeLock.lock();
+    try {
+      Map<String, AttributeValue> previous = items.get(tuple);
+      check(condition, previous);
+      Map<String, AttributeValue> original = previous != null ? previous : validKey;
+      Map<String, AttributeValue> updated = new LinkedHashMap<>(original);
+      actions.forEach(action -> action.apply(original, updated));
+      Map<String, AttributeValue> stored = validItem(updated);
+      items.put(tuple, stored);
+      reindex(previous, stored);
+      return Arrays.asList(previous, stored);
+    }
+    finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Reads items of the table or of an index in key order, skipping those failing the key condition without counting
+   * them, until the limit is reached.
+   *
+   * @param indexName         The index, or null for the table
+   * @param partition         The partition to read, or null to read every partition
+   * @param keyCondition      Condition on the key attributes, or null
+   * @param exclusiveStartKey Key of the last item of the previous page, or null
+   * @param limit             Maximum number of items to evaluate, or null
+   * @param forward           False to read the partition in descending sort key order
+   * @param segmentFilter     Selects the items of a parallel scan segment, or null
+   */
+  Page read(String indexName, AttributeValue partition, Predicate<Map<String, AttributeValue>> keyCondition, Map<String, AttributeValue> exclusiveStartKey,
+            Integer limit, boolean forward, Predicate<Map<String, AttributeValue>> segmentFilter) {
+    KeySchema schema = keySchema(indexName);
+    NavigableMap<KeyTuple, Map<String, AttributeValue>> view = indexName == null ? items : indexItems.get(indexName);
+    if (partition != null) {
+      view = view.subMap(KeyTuple.lowest(partition), true, KeyTuple.highest(partition), true);
+    }
+    if (exclusiveStartKey != null && !exclusiveStartKey.isEmpty()) {
+      KeyTuple start = indexName == null ? primaryTuple(exclusiveStartKey) : indexTuple(schema, exclusiveStartKey);
+      view = forward ? view.tailMap(start, false) : view.headMap(start, false);
+    }
+    if (!forward) {
+      view = view.descendingMap();
+    }
+
+    List<Map<String, AttributeValue>> evaluated = new ArrayList<>();
+    Map<String, AttributeValue> last = null;
+    for (Map<String, AttributeValue> item : view.values()) {
+      if ((keyCondition != null && !keyCondition.test(item)) || (segmentFilter != null && !segmentFilter.test(item))) {
+        continue;
+      }
+      evaluated.add(item);
+      last = item;
+      if (limit != null && evaluated.size() >= limit) {
+        return new Page(evaluated, keyOf(schema, indexName, last));
+      }
+    }
+    return new Page(evaluated, null);
+  }
+
+  /**
+   * @return The primary key attributes of the item, plus the index key attributes when reading an index
+   */
+  Map<String, AttributeValue> keyOf(KeySchema schema, String indexName, Map<String, AttributeValue> item) {
+    Map<String, AttributeValue> key = new LinkedHashMap<>();
+    putKey(key, primaryKey, item);
+    if (indexName != null) {
+      putKey(key, schema, item);
+    }
+    return key;
+  }
+
+  private static void putKey(Map<String, AttributeValue> key, KeySchema schema, Map<String, AttributeValue> item) {
+    key.put(schema.partitionKey, item.get(schema.partitionKey));
+    if (schema.sortKey != null) {
+      key.put(schema.sortKey, item.get(schema.sortKey));
+    }
+  }
+
+  private void check(Predicate<Map<String, AttributeValue>> condition, Map<String, AttributeValue> current) {
+    if (condition != null && !condition.test(current == null ? Map.of() : current)) {
+      throw ConditionalCheckFailedException.builder().message("The conditional request failed").statusCode(400).build();
+    }
+  }
+
+  private void reindex(Map<String, AttributeValue> previous, Map<String, AttributeValue> current) {
+    indexes.forEach((indexName, schema) -> {
+      ConcurrentSkipListMap<KeyTuple, Map<String, AttributeValue>> index = indexItems.get(indexName);
+      if (previous != null && isIndexed(schema, previous)) {
+        index.remove(indexTuple(schema, previous));
+      }
+      if (current != null && isIndexed(schema, current)) {
+        index.put(indexTuple(schema, current), current);
+      }
+    });
+  }
+
+  private static boolean isIndexed(KeySchema schema, Map<String, AttributeValue> item) {
+    return item.containsKey(schema.partitionKey) && (schema.sortKey == null || item.containsKey(schema.sortKey));
+  }
+
+  private Map<String, AttributeValue> validKey(Map<String, AttributeValue> key) {
+    int expectedSize = primaryKey.sortKey == null ? 1 : 2;
+    if (key == null || key.size() != expectedSize || !key.containsKey(primaryKey.partitionKey) || (primaryKey.sortKey != null && !key.containsKey(primaryKey.sortKey))) {
+      throw InMemoryDynamoDbClient.validation("The provided key element does not match the schema of table " + name);
+    }
+    key.forEach(this::checkKeyAttribute);
+    return key;
+  }
+
+  private Map<String, AttributeValue> validItem(Map<String, AttributeValue> item) {
+    if (!item.containsKey(primaryKey.partitionKey) || (primaryKey.sortKey != null && !item.containsKey(primaryKey.sortKey))) {
+      throw InMemoryDynamoDbClient.validation("One or more parameter values were invalid: Missing the key " + primaryKey.partitionKey + " in the item");
+    }
+    checkKeyAttribute(primaryKey.partitionKey, item.get(primaryKey.partitionKey));
+    if (primaryKey.sortKey != null) {
+      checkKeyAttribute(primaryKey.sortKey, item.get(primaryKey.sortKey));
+    }
+    for (KeySchema index : indexes.values()) {
+      checkIndexAttribute(index.partitionKey, item.get(index.partitionKey));
+      checkIndexAttribute(index.sortKey, index.sortKey == null ? null : item.get(index.sortKey));
+    }
+    return Collections.unmodifiableMap(new LinkedHashMap<>(item));
+  }
+
+  private void checkIndexAttribute(String attribute, AttributeValue value) {
+    if (value != null) {
+      checkKeyAttribute(attribute, value);
+    }
+  }
+
+  private void checkKeyAttribute(String attribute, AttributeValue value) {
+    ScalarAttributeType expected = attributeTypes.get(attribute);
+    boolean matches = expected == null ? AttributeValues.isScalarKey(value) : matchesType(value, expected);
+    if (!matches) {
+      throw InMemoryDynamoDbClient.validation("One or more parameter values were invalid: Type mismatch for key " + attribute + " in table " + name);
+    }
+  }
+
+  private static boolean matchesType(AttributeValue value, ScalarAttributeType type) {
+    switch (type) {
+      case S:
+        return value.s() != null && !value.s().isEmpty();
+      case N:
+        return value.n() != null;
+      case B:
+        return value.b() != null && value.b().asByteArrayUnsafe().length > 0;
+      default:
+        return false;
+    }
+  }
+
+  private KeyTuple primaryTuple(Map<String, AttributeValue> item) {
+    return new KeyTuple(item.get(primaryKey.partitionKey), primaryKey.sortKey == null ? null : item.get(primaryKey.sortKey));
+  }
+
+  private KeyTuple indexTuple(KeySchema index, Map<String, AttributeValue> item) {
+    AttributeValue partition = item.get(index.partitionKey);
+    if (partition == null) {
+      throw InMemoryDynamoDbClient.validation("The provided starting key is invalid for the index");
+    }
+    return new KeyTuple(partition,
+                        index.sortKey == null ? null : item.get(index.sortKey),
+                        item.get(primaryKey.partitionKey),
+                        primaryKey.sortKey == null ? null : item.get(primaryKey.sortKey));
+  }
+
+  /**
+   * Position of an item in the table or an index: the partition value followed by the sort values. A bound instead of
+   * sort values stands before or after every item of its partition.
+   */
+  private static final class KeyTuple implements Comparable<KeyTuple> {
+
+    private final AttributeValue[] parts;
+    private final int bound;
+
+    private KeyTuple(AttributeValue... parts) {
+      this(0, parts);
+    }
+
+    private KeyTuple(int bound, AttributeValue... parts) {
+      this.parts = parts;
+      this.bound = bound;
+    }
+
+    static KeyTuple lowest(AttributeValue partition) {
+      return new KeyTuple(-1, partition);
+    }
+
+    static KeyTuple highest(AttributeValue partition) {
+      return new KeyTuple(1, partition);
+    }
+
+    @Override
+    public int compareTo(KeyTuple other) {
+      int compared = AttributeValues.KEY_ORDER.compare(parts[0], other.parts[0]);
+      if (compared != 0) {
+        return compared;
+      }
+      if (bound != 0 || other.bound != 0) {
+        return Integer.compare(bound, other.bound);
+      }
+      for (int i = 1; i < parts.length; i++) {
+        AttributeValue left = parts[i];
+        AttributeValue right = other.parts[i];
+        if (left == null || right == null) {
+          compared = left == right ? 0 : (left == null ? -1 : 1);
+        }
+        else {
+          compared = AttributeValues.KEY_ORDER.compare(left, right);
+        }
+        if (compared != 0) {
+          return compared;
+        }
+      }
+      return 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof KeyTuple && compareTo((KeyTuple) other) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+      return parts[0].hashCode();
+    }
+  }
+}
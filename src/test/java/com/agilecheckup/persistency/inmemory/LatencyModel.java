@@ -0,0 +1,49 @@
+package com.agilecheckup.persistency.inmemory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Latency added by {@link InMemoryDynamoDbClient} to each call, before the call is served.
+ * <p>
+ * Operations are named as in the DynamoDB API: GetItem, PutItem, DeleteItem, UpdateItem, Query, Scan, BatchGetItem and
+ * BatchWriteItem.
+ */
+@FunctionalInterface
+public interface LatencyModel {
+
+  Duration latencyOf(String operation);
+
+  static LatencyModel none() {
+    return operation -> Duration.ZERO;
+  }
+
+  static LatencyModel fixed(Duration latency) {
+    return operation -> latency;
+  }
+
+  /**
+   * Latency drawn uniformly from {@code [min, max]}. The draws follow the seed, so a single-threaded run is
+   * reproducible; concurrent callers share the sequence.
+   */
+  static LatencyModel uniform(Duration min, Duration max, long seed) {
+    if (max.compareTo(min) < 0) {
+      throw new IllegalArgumentException("Maximum latency " + max + " is below minimum " + min);
+    }
+    Random random = new Random(seed);
+    long spreadNanos = max.minus(min).toNanos();
+    return operation -> spreadNanos == 0 ? min : min.plusNanos((long) (random.nextDouble() * spreadNanos));
+  }
+
+  /**
+   * Latency per operation, falling back to the default model for the operations not listed.
+   */
+  static LatencyModel perOperation(Map<String, Duration> latencies, LatencyModel defaultModel) {
+    Map<String, Duration> copy = Map.copyOf(latencies);
+    return operation -> {
+      Duration latency = copy.get(operation);
+      return latency != null ? latency : defaultModel.latencyOf(operation);
+    };
+  }
+}
@@ -0,0 +1,82 @@
+package com.agilecheckup.persistency.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+  private static final long TARGET_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long FAST_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+  @Test
+  void shouldGrowAdditivelyWhileSaturatedAndFast() throws InterruptedException {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, TARGET_NANOS);
+
+    // Each saturated round grows the limit by 1/limit: 2 -> 2.5 -> 2.9 -> 3.24
+    for (int round = 0; round < 3; round++) {
+      int permits = limit.getLimit();
+      for (int i = 0; i < permits; i++) {
+        assertThat(limit.acquire(0)).isTrue();
+      }
+      for (int i = 0; i < permits; i++) {
+        limit.release(FAST_NANOS, false);
+      }
+    }
+
+    assertThat(limit.getLimit()).isEqualTo(3);
+    assertThat(limit.getInFlight()).isZero();
+  }
+
+  @Test
+  void shouldNotGrowWhenTheLimitIsNotInUse() throws InterruptedException {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 10, TARGET_NANOS);
+
+    for (int i = 0; i < 100; i++) {
+      limit.acquire(0);
+      limit.release(FAST_NANOS, false);
+    }
+
+    assertThat(limit.getLimit()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldShrinkMultiplicativelyOnSlowOrDroppedCallsDownToTheMinimum() throws InterruptedException {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 2, 10, TARGET_NANOS);
+
+    limit.acquire(0);
+    limit.release(SLOW_NANOS, false);
+    assertThat(limit.getLimit()).isEqualTo(6);
+
+    limit.acquire(0);
+    limit.release(FAST_NANOS, true);
+    assertThat(limit.getLimit()).isEqualTo(4);
+
+    for (int i = 0; i < 10; i++) {
+      limit.acquire(0);
+      limit.release(FAST_NANOS, true);
+    }
+    assertThat(limit.getLimit()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRefusePermitsBeyondTheLimitUntilTheTimeout() throws InterruptedException {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1, TARGET_NANOS);
+
+    assertThat(limit.acquire(0)).isTrue();
+    assertThat(limit.acquire(TimeUnit.MILLISECONDS.toNanos(20))).isFalse();
+
+    limit.release(FAST_NANOS, false);
+    assertThat(limit.acquire(0)).isTrue();
+  }
+
+  @Test
+  void shouldRejectInvalidBounds() {
+    assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(1, 0, 1, TARGET_NANOS)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(1, 4, 2, TARGET_NANOS)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
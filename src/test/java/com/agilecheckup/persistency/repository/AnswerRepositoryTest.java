@@ -1,20 +1,26 @@
 package com.agilecheckup.persistency.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -27,6 +33,7 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 @ExtendWith(MockitoExtension.class)
 class AnswerRepositoryTest {
@@ -103,7 +110,9 @@ class AnswerRepositoryTest {
     assertThat(result).containsExactlyInAnyOrder("question-1", "question-2");
 
     verify(mockTable).index("employeeAssessmentId-tenantId-index");
-    verify(mockIndex).query(any(QueryEnhancedRequest.class));
+    ArgumentCaptor<QueryEnhancedRequest> requestCaptor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+    verify(mockIndex).query(requestCaptor.capture());
+    assertThat(requestCaptor.getValue().attributesToProject()).containsExactly("questionId");
   }
 
   @Test
@@ -114,13 +123,11 @@ class AnswerRepositoryTest {
     String tenantId = "tenant-123";
 
     Answer answer1 = createMockAnswer("answer-1", employeeAssessmentId, "question-1", tenantId);
-    Answer answer2 = createMockAnswer("answer-2", employeeAssessmentId, "question-2", tenantId);
-    List<Answer> answers = Arrays.asList(answer1, answer2);
 
-    when(mockTable.index("employeeAssessmentId-tenantId-index")).thenReturn(mockIndex);
+    when(mockTable.index("employeeAssessmentId-questionId-index")).thenReturn(mockIndex);
     when(mockIndex.query(any(QueryEnhancedRequest.class))).thenReturn(mockPageIterable);
     when(mockPageIterable.stream()).thenReturn(Arrays.asList(mockPage).stream());
-    when(mockPage.items()).thenReturn(answers);
+    when(mockPage.items()).thenReturn(List.of(answer1));
 
     // When
     Optional<Answer> result = repository.findByEmployeeAssessmentIdAndQuestionId(employeeAssessmentId, questionId, tenantId);
@@ -130,8 +137,12 @@ class AnswerRepositoryTest {
     assertThat(result.get().getQuestionId()).isEqualTo("question-1");
     assertThat(result.get().getEmployeeAssessmentId()).isEqualTo(employeeAssessmentId);
 
-    verify(mockTable).index("employeeAssessmentId-tenantId-index");
-    verify(mockIndex).query(any(QueryEnhancedRequest.class));
+    ArgumentCaptor<QueryEnhancedRequest> requestCaptor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+    verify(mockIndex).query(requestCaptor.capture());
+    QueryEnhancedRequest request = requestCaptor.getValue();
+    assertThat(request.filterExpression().expression()).isEqualTo("tenantId = :tenantId");
+    assertThat(request.filterExpression().expressionValues()).containsEntry(":tenantId", AttributeValue.builder().s(tenantId).build());
+    verify(mockTable, never()).index("employeeAssessmentId-tenantId-index");
   }
 
   @Test
@@ -141,13 +152,10 @@ class AnswerRepositoryTest {
     String questionId = "non-existent-question";
     String tenantId = "tenant-123";
 
-    Answer answer1 = createMockAnswer("answer-1", employeeAssessmentId, "question-1", tenantId);
-    List<Answer> answers = Arrays.asList(answer1);
-
-    when(mockTable.index("employeeAssessmentId-tenantId-index")).thenReturn(mockIndex);
+    when(mockTable.index("employeeAssessmentId-questionId-index")).thenReturn(mockIndex);
     when(mockIndex.query(any(QueryEnhancedRequest.class))).thenReturn(mockPageIterable);
     when(mockPageIterable.stream()).thenReturn(Arrays.asList(mockPage).stream());
-    when(mockPage.items()).thenReturn(answers);
+    when(mockPage.items()).thenReturn(List.of());
 
     // When
     Optional<Answer> result = repository.findByEmployeeAssessmentIdAndQuestionId(employeeAssessmentId, questionId, tenantId);
@@ -192,6 +200,36 @@ class AnswerRepositoryTest {
     assertThat(result).isEmpty();
   }
 
+  @Test
+  void shouldFindByEmployeeAssessmentIdsQueryingEachDistinctIdOnce() {
+    // Given
+    String tenantId = "tenant-123";
+    Answer answer1 = createMockAnswer("answer-1", "assessment-1", "question-1", tenantId);
+
+    when(mockTable.index("employeeAssessmentId-tenantId-index")).thenReturn(mockIndex);
+    when(mockIndex.query(any(QueryEnhancedRequest.class))).thenReturn(mockPageIterable);
+    when(mockPageIterable.stream()).thenAnswer(invocation -> Stream.of(mockPage));
+    when(mockPage.items()).thenReturn(List.of(answer1));
+
+    // When
+    Map<String, List<Answer>> result = repository.findByEmployeeAssessmentIds(Arrays.asList("assessment-1", "assessment-2", "assessment-1"), tenantId);
+
+    // Then
+    assertThat(result).containsOnlyKeys("assessment-1", "assessment-2");
+    verify(mockIndex, times(2)).query(any(QueryEnhancedRequest.class));
+  }
+
+  @Test
+  void shouldPropagateFailureOfFindByEmployeeAssessmentIds() {
+    // Given
+    when(mockTable.index("employeeAssessmentId-tenantId-index")).thenReturn(mockIndex);
+    when(mockIndex.query(any(QueryEnhancedRequest.class))).thenThrow(new IllegalStateException("Index unavailable"));
+
+    // When / Then
+    assertThatThrownBy(() -> repository.findByEmployeeAssessmentIds(List.of("assessment-1", "assessment-2"), "tenant-123")).isInstanceOf(RuntimeException.class)
+                                                                                                                          .hasRootCauseInstanceOf(IllegalStateException.class);
+  }
+
   private Answer createMockAnswer(String answerId, String employeeAssessmentId, String questionId, String tenantId) {
     return Answer.builder()
                  .id(answerId)
@@ -0,0 +1,110 @@
+package com.agilecheckup.persistency.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.agilecheckup.persistency.entity.AssessmentStatus;
+import com.agilecheckup.persistency.entity.AssessmentStatusHistogram;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+@ExtendWith(MockitoExtension.class)
+class AssessmentStatusHistogramRepositoryTest {
+
+  @Mock
+  private DynamoDbEnhancedClient enhancedClient;
+
+  @Mock
+  private DynamoDbClient dynamoDbClient;
+
+  private AssessmentStatusHistogramRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = new AssessmentStatusHistogramRepository(enhancedClient, dynamoDbClient);
+  }
+
+  @Test
+  @DisplayName("Should move one assessment between status counters in a single conditional ADD")
+  void shouldRecordTransitionAtomically() {
+    when(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).thenReturn(UpdateItemResponse.builder().attributes(Map.of()).build());
+
+    boolean updated = repository.recordTransition("matrix-1", AssessmentStatus.INVITED, AssessmentStatus.CONFIRMED);
+
+    assertThat(updated).isTrue();
+    UpdateItemRequest request = captureRequest();
+    assertThat(request.tableName()).isEqualTo("AssessmentStatusHistogram");
+    assertThat(request.key()).containsEntry("id", AttributeValue.builder().s("matrix-1").build());
+    assertThat(request.updateExpression()).startsWith("ADD #c0 :c0, #c1 :c1 SET ");
+    assertThat(request.conditionExpression()).isEqualTo("attribute_exists(#id)");
+    assertThat(request.expressionAttributeNames()).containsEntry("#c0", "invitedCount").containsEntry("#c1", "confirmedCount");
+    assertThat(request.expressionAttributeValues()).containsEntry(":c0", AttributeValue.builder().n("-1").build())
+                                                   .containsEntry(":c1", AttributeValue.builder().n("1").build());
+  }
+
+  @Test
+  @DisplayName("Should only increment the new status of a created assessment")
+  void shouldRecordCreation() {
+    when(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).thenReturn(UpdateItemResponse.builder().attributes(Map.of()).build());
+
+    repository.recordTransition("matrix-1", null, AssessmentStatus.INVITED);
+
+    UpdateItemRequest request = captureRequest();
+    assertThat(request.updateExpression()).startsWith("ADD #c0 :c0 SET ");
+    assertThat(request.expressionAttributeNames()).containsEntry("#c0", "invitedCount").doesNotContainKey("#c1");
+  }
+
+  @Test
+  @DisplayName("Should skip transitions of matrices without a histogram")
+  void shouldSkipMissingHistogram() {
+    when(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).thenThrow(ConditionalCheckFailedException.builder().message("missing").build());
+
+    assertThat(repository.recordTransition("matrix-1", AssessmentStatus.IN_PROGRESS, AssessmentStatus.COMPLETED)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should not write when the status is unchanged")
+  void shouldIgnoreUnchangedStatus() {
+    assertThat(repository.recordTransition("matrix-1", AssessmentStatus.IN_PROGRESS, AssessmentStatus.IN_PROGRESS)).isFalse();
+
+    verifyNoInteractions(dynamoDbClient);
+  }
+
+  @Test
+  @DisplayName("Should derive completion from the counts")
+  void shouldDeriveCompletionFromCounts() {
+    AssessmentStatusHistogram inProgress = AssessmentStatusHistogram.of("matrix-1", "tenant-1", Map.of(AssessmentStatus.INVITED, 2L, AssessmentStatus.COMPLETED, 3L));
+    AssessmentStatusHistogram completed = AssessmentStatusHistogram.of("matrix-1", "tenant-1", Map.of(AssessmentStatus.COMPLETED, 3L));
+    AssessmentStatusHistogram empty = AssessmentStatusHistogram.of("matrix-1", "tenant-1", Map.of());
+
+    assertThat(inProgress.total()).isEqualTo(5);
+    assertThat(inProgress.nonCompleted()).isEqualTo(2);
+    assertThat(inProgress.allCompleted()).isFalse();
+    assertThat(completed.allCompleted()).isTrue();
+    assertThat(empty.allCompleted()).isFalse();
+  }
+
+  private UpdateItemRequest captureRequest() {
+    ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+    verify(dynamoDbClient).updateItem(captor.capture());
+    return captor.getValue();
+  }
+}
@@ -0,0 +1,269 @@
+package com.agilecheckup.persistency.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Subscription;
+
+import com.agilecheckup.persistency.entity.QuestionType;
+import com.agilecheckup.persistency.entity.question.Answer;
+
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncIndex;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncAnswerRepositoryTest {
+
+  private static final String TENANT_ID = "tenant-123";
+
+  @Mock
+  private DynamoDbEnhancedAsyncClient mockEnhancedAsyncClient;
+
+  @Mock
+  private DynamoDbAsyncTable<Answer> mockTable;
+
+  @Mock
+  private DynamoDbAsyncIndex<Answer> mockIndex;
+
+  private AsyncAnswerRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = new AsyncAnswerRepository(mockEnhancedAsyncClient);
+  }
+
+  @Test
+  void shouldFindByEmployeeAssessmentIdAcrossPages() {
+    Answer answer1 = createAnswer("answer-1", "assessment-1");
+    Answer answer2 = createAnswer("answer-2", "assessment-1");
+    Answer answer3 = createAnswer("answer-3", "assessment-1");
+    stubIndex();
+    when(mockIndex.query(any(QueryEnhancedRequest.class))).thenReturn(publisherOf(List.of(Page.create(List.of(answer1, answer2)), Page.create(List.of(answer3)))));
+
+    List<Answer> result = repository.findByEmployeeAssessmentId("assessment-1", TENANT_ID).join();
+
+    assertThat(result).containsExactly(answer1, answer2, answer3);
+    verify(mockTable).index("employeeAssessmentId-tenantId-index");
+  }
+
+  @Test
+  void shouldFindByEmployeeAssessmentIdsConcurrentlyLeavingOutAssessmentsWithoutAnswers() {
+    Answer answer1 = createAnswer("answer-1", "assessment-1");
+    Answer answer2 = createAnswer("answer-2", "assessment-3");
+    stubIndex();
+    when(mockIndex.query(any(QueryEnhancedRequest.class))).thenReturn(publisherOf(List.of(Page.create(List.of(answer1)))))
+                                                          .thenReturn(publisherOf(List.of(Page.create(List.of())))) // assessment-2 has no answers
+                                                          .thenReturn(publisherOf(List.of(Page.create(List.of(answer2)))));
+
+    Map<String, List<Answer>> result = repository.findByEmployeeAssessmentIds(Arrays.asList("assessment-1", "assessment-2", "assessment-3"), TENANT_ID).join();
+
+    assertThat(result).isEqualTo(Map.of("assessment-1", List.of(answer1), "assessment-3", List.of(answer2)));
+    verify(mockIndex, times(3)).query(any(QueryEnhancedRequest.class));
+  }
+
+  @Test
+  void shouldCompleteExceptionallyWhenAnAssessmentQueryFails() {
+    stubIndex();
+    when(mockIndex.query(any(QueryEnhancedRequest.class))).thenReturn(publisherOf(List.of(Page.create(List.of(createAnswer("answer-1", "assessment-1"))))))
+                                                          .thenReturn(failingPublisher(new IllegalStateException("Throttled")));
+
+    CompletableFuture<Map<String, List<Answer>>> result = repository.findByEmployeeAssessmentIds(Arrays.asList("assessment-1", "assessment-2"), TENANT_ID);
+
+    assertThatThrownBy(result::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldKeepAtMostTheBoundOfQueriesInFlight() {
+    repository = new AsyncAnswerRepository(mockEnhancedAsyncClient, 2);
+    Answer answer = createAnswer("answer-1", "assessment-1");
+    List<Runnable> pending = new ArrayList<>();
+    stubIndex();
+    when(mockIndex.query(any(QueryEnhancedRequest.class))).thenReturn(deferredPublisherOf(List.of(Page.create(List.of(answer))), pending))
+                                                          .thenReturn(deferredPublisherOf(List.of(Page.create(List.of())), pending));
+
+    CompletableFuture<Map<String, List<Answer>>> result = repository.findByEmployeeAssessmentIds(List.of("assessment-1", "assessment-2", "assessment-3", "assessment-4"), TENANT_ID);
+
+    verify(mockIndex, times(2)).query(any(QueryEnhancedRequest.class));
+    pending.remove(0).run();
+    verify(mockIndex, times(3)).query(any(QueryEnhancedRequest.class));
+    while (!pending.isEmpty()) {
+      assertThat(result).isNotDone();
+      pending.remove(0).run();
+    }
+    assertThat(result.join()).isEqualTo(Map.of("assessment-1", List.of(answer)));
+    verify(mockIndex, times(4)).query(any(QueryEnhancedRequest.class));
+  }
+
+  @Test
+  void shouldStopStartingQueriesAfterAFailure() {
+    repository = new AsyncAnswerRepository(mockEnhancedAsyncClient, 1);
+    stubIndex();
+    when(mockIndex.query(any(QueryEnhancedRequest.class))).thenReturn(failingPublisher(new IllegalStateException("Throttled")));
+
+    CompletableFuture<Map<String, List<Answer>>> result = repository.findByEmployeeAssessmentIds(List.of("assessment-1", "assessment-2", "assessment-3"), TENANT_ID);
+
+    assertThatThrownBy(result::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(IllegalStateException.class);
+    verify(mockIndex, times(1)).query(any(QueryEnhancedRequest.class));
+  }
+
+  @Test
+  void shouldCompleteExceptionallyWhenAQueryThrowsOnLaunch() {
+    stubIndex();
+    when(mockIndex.query(any(QueryEnhancedRequest.class))).thenThrow(new IllegalStateException("Client closed"));
+
+    CompletableFuture<Map<String, List<Answer>>> result = repository.findByEmployeeAssessmentIds(List.of("assessment-1", "assessment-2"), TENANT_ID);
+
+    assertThatThrownBy(result::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(IllegalStateException.class);
+    verify(mockIndex, times(1)).query(any(QueryEnhancedRequest.class));
+  }
+
+  @Test
+  void shouldRunManySynchronousQueriesWithoutGrowingTheStack() {
+    repository = new AsyncAnswerRepository(mockEnhancedAsyncClient, 1);
+    Answer answer = createAnswer("answer-1", "assessment-0");
+    List<String> assessmentIds = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      assessmentIds.add("assessment-" + i);
+    }
+    stubIndex();
+    when(mockIndex.query(any(QueryEnhancedRequest.class))).thenReturn(publisherOf(List.of(Page.create(List.of(answer)))))
+                                                          .thenAnswer(invocation -> publisherOf(List.of(Page.create(List.of()))));
+
+    Map<String, List<Answer>> result = repository.findByEmployeeAssessmentIds(assessmentIds, TENANT_ID).join();
+
+    assertThat(result).isEqualTo(Map.of("assessment-0", List.of(answer)));
+  }
+
+  @Test
+  void shouldQueryDuplicateAssessmentIdsOnce() {
+    Answer answer = createAnswer("answer-1", "assessment-1");
+    stubIndex();
+    when(mockIndex.query(any(QueryEnhancedRequest.class))).thenReturn(publisherOf(List.of(Page.create(List.of(answer)))));
+
+    Map<String, List<Answer>> result = repository.findByEmployeeAssessmentIds(Arrays.asList("assessment-1", "assessment-1"), TENANT_ID).join();
+
+    assertThat(result).isEqualTo(Map.of("assessment-1", List.of(answer)));
+    verify(mockIndex, times(1)).query(any(QueryEnhancedRequest.class));
+  }
+
+  @Test
+  void shouldReturnEmptyMapWithoutQueryingWhenNoAssessmentIds() {
+    assertThat(repository.findByEmployeeAssessmentIds(List.of(), TENANT_ID).join()).isEmpty();
+    assertThat(repository.findByEmployeeAssessmentIds(null, TENANT_ID).join()).isEmpty();
+
+    verifyNoInteractions(mockEnhancedAsyncClient);
+  }
+
+  @Test
+  void shouldReturnEmptyWhenFindByIdFails() {
+    when(mockEnhancedAsyncClient.table(eq("Answer"), any())).thenReturn((DynamoDbAsyncTable) mockTable);
+    when(mockTable.getItem(any(Key.class))).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Unavailable")));
+
+    Optional<Answer> result = repository.findById("answer-1").join();
+
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void shouldSaveWithGeneratedId() {
+    Answer answer = createAnswer(null, "assessment-1");
+    when(mockEnhancedAsyncClient.table(eq("Answer"), any())).thenReturn((DynamoDbAsyncTable) mockTable);
+    when(mockTable.putItem(any(Answer.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+    Optional<Answer> result = repository.save(answer).join();
+
+    assertThat(result).containsSame(answer);
+    assertThat(answer.getId()).isNotNull();
+  }
+
+  private void stubIndex() {
+    when(mockEnhancedAsyncClient.table(eq("Answer"), any())).thenReturn((DynamoDbAsyncTable) mockTable);
+    when(mockTable.index("employeeAssessmentId-tenantId-index")).thenReturn(mockIndex);
+  }
+
+  /**
+   * A publisher emitting the items as the subscriber requests them, then completing.
+   */
+  static <T> SdkPublisher<T> publisherOf(List<T> items) {
+    return subscriber -> subscriber.onSubscribe(new Subscription() {
+      private int next;
+      private boolean done;
+
+      @Override
+      public synchronized void request(long n) {
+        for (long i = 0; i < n && next < items.size(); i++) {
+          subscriber.onNext(items.get(next++));
+        }
+        if (next == items.size() && !done) {
+          done = true;
+          subscriber.onComplete();
+        }
+      }
+
+      @Override
+      public synchronized void cancel() {
+        next = items.size();
+        done = true;
+      }
+    });
+  }
+
+  /**
+   * A publisher that only starts emitting the items once the runnable it adds to {@code pending} on subscription is run.
+   */
+  private static <T> SdkPublisher<T> deferredPublisherOf(List<T> items, List<Runnable> pending) {
+    return subscriber -> pending.add(() -> publisherOf(items).subscribe(subscriber));
+  }
+
+  static <T> SdkPublisher<T> failingPublisher(Throwable error) {
+    return subscriber -> subscriber.onSubscribe(new Subscription() {
+      @Override
+      public void request(long n) {
+        subscriber.onError(error);
+      }
+
+      @Override
+      public void cancel() {
+      }
+    });
+  }
+
+  private Answer createAnswer(String answerId, String employeeAssessmentId) {
+    return Answer.builder()
+                 .id(answerId)
+                 .employeeAssessmentId(employeeAssessmentId)
+                 .answeredAt(LocalDateTime.now())
+                 .pillarId("pillar-123")
+                 .categoryId("category-123")
+                 .questionId("question-" + answerId)
+                 .questionType(QuestionType.YES_NO)
+                 .value("Yes")
+                 .tenantId(TENANT_ID)
+                 .build();
+  }
+}
@@ -0,0 +1,73 @@
+package com.agilecheckup.persistency.repository;
+
+import static com.agilecheckup.persistency.repository.AsyncAnswerRepositoryTest.failingPublisher;
+import static com.agilecheckup.persistency.repository.AsyncAnswerRepositoryTest.publisherOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.agilecheckup.persistency.entity.EmployeeAssessment;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncIndex;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncEmployeeAssessmentRepositoryTest {
+
+  @Mock
+  private DynamoDbEnhancedAsyncClient mockEnhancedAsyncClient;
+
+  @Mock
+  private DynamoDbAsyncTable<EmployeeAssessment> mockTable;
+
+  @Mock
+  private DynamoDbAsyncIndex<EmployeeAssessment> mockIndex;
+
+  private AsyncEmployeeAssessmentRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    when(mockEnhancedAsyncClient.table(eq("EmployeeAssessment"), any())).thenReturn((DynamoDbAsyncTable) mockTable);
+    when(mockTable.index("assessmentMatrixId-employeeEmail-index")).thenReturn(mockIndex);
+    repository = new AsyncEmployeeAssessmentRepository(mockEnhancedAsyncClient);
+  }
+
+  @Test
+  void shouldFindByAssessmentMatrixIdFilteredByTenant() {
+    EmployeeAssessment assessment1 = EmployeeAssessment.builder().id("ea-1").assessmentMatrixId("matrix-1").tenantId("tenant-1").build();
+    EmployeeAssessment assessment2 = EmployeeAssessment.builder().id("ea-2").assessmentMatrixId("matrix-1").tenantId("tenant-1").build();
+    when(mockIndex.query(any(QueryEnhancedRequest.class))).thenReturn(publisherOf(List.of(Page.create(List.of(assessment1)), Page.create(List.of(assessment2)))));
+
+    List<EmployeeAssessment> result = repository.findByAssessmentMatrixId("matrix-1", "tenant-1").join();
+
+    assertThat(result).containsExactly(assessment1, assessment2);
+    ArgumentCaptor<QueryEnhancedRequest> request = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+    verify(mockIndex).query(request.capture());
+    assertThat(request.getValue().filterExpression().expression()).isEqualTo("tenantId = :tenantId");
+    assertThat(request.getValue().filterExpression().expressionValues().get(":tenantId").s()).isEqualTo("tenant-1");
+  }
+
+  @Test
+  void shouldCompleteExceptionallyWhenQueryFails() {
+    when(mockIndex.query(any(QueryEnhancedRequest.class))).thenReturn(failingPublisher(new IllegalStateException("Unavailable")));
+
+    assertThatThrownBy(() -> repository.findByAssessmentMatrixId("matrix-1", "tenant-1").join()).isInstanceOf(CompletionException.class)
+                                                                                               .hasCauseInstanceOf(IllegalStateException.class);
+  }
+}
@@ -0,0 +1,182 @@
+package com.agilecheckup.persistency.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.agilecheckup.persistency.converter.DateAttributeConverter;
+import com.agilecheckup.persistency.entity.AssessmentMatrix;
+import com.agilecheckup.persistency.entity.EmployeeAssessment;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+@ExtendWith(MockitoExtension.class)
+class AtomicAttributeUpdateTest {
+
+  @Mock
+  private DynamoDbEnhancedClient enhancedClient;
+
+  @Mock
+  private DynamoDbClient dynamoDbClient;
+
+  @Mock
+  private DynamoDbTable<AssessmentMatrix> matrixTable;
+
+  private EmployeeAssessmentRepository employeeAssessmentRepository;
+  private AssessmentMatrixRepository assessmentMatrixRepository;
+
+  @BeforeEach
+  void setUp() {
+    employeeAssessmentRepository = new EmployeeAssessmentRepository(enhancedClient, dynamoDbClient);
+    assessmentMatrixRepository = new AssessmentMatrixRepository(enhancedClient, dynamoDbClient);
+  }
+
+  @Test
+  @DisplayName("Should increment the answered question count with a single conditional ADD")
+  void shouldIncrementAnsweredQuestionCount() {
+    when(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).thenReturn(updatedCounter("answeredQuestionCount", "6"));
+
+    OptionalLong result = employeeAssessmentRepository.incrementAnsweredQuestionCount("ea-1", new Date(0));
+
+    assertThat(result).hasValue(6);
+    UpdateItemRequest request = captureRequest();
+    assertThat(request.tableName()).isEqualTo("EmployeeAssessment");
+    assertThat(request.key()).containsEntry("id", AttributeValue.builder().s("ea-1").build());
+    assertThat(request.updateExpression()).startsWith("ADD #counter :delta SET ");
+    assertThat(request.conditionExpression()).isEqualTo("attribute_exists(#id)");
+    assertThat(request.returnValues()).isEqualTo(ReturnValue.UPDATED_NEW);
+    assertThat(request.expressionAttributeNames()).containsEntry("#counter", "answeredQuestionCount")
+                                                  .containsValues("lastActivityDate", "lastUpdatedDate");
+    assertThat(request.expressionAttributeValues()).containsEntry(":delta", AttributeValue.builder().n("1").build())
+                                                   .containsValue(new DateAttributeConverter().transformFrom(new Date(0)));
+  }
+
+  @Test
+  @DisplayName("Should return empty when the item does not exist")
+  void shouldReturnEmptyForMissingItem() {
+    when(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).thenThrow(ConditionalCheckFailedException.builder().message("missing").build());
+
+    assertThat(employeeAssessmentRepository.incrementAnsweredQuestionCount("ea-1", new Date())).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should guard decrements against going below zero")
+  void shouldNotDecrementBelowZero() {
+    AssessmentMatrix matrix = AssessmentMatrix.builder()
+                                              .id("matrix-1")
+                                              .name("Matrix")
+                                              .description("Matrix description")
+                                              .tenantId("tenant-1")
+                                              .performanceCycleId("cycle-1")
+                                              .questionCount(0)
+                                              .build();
+    when(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).thenThrow(ConditionalCheckFailedException.builder().message("floor").build());
+    when(enhancedClient.table(eq("AssessmentMatrix"), any())).thenReturn((DynamoDbTable) matrixTable);
+    when(matrixTable.getItem(any(Key.class))).thenReturn(matrix);
+
+    Optional<AssessmentMatrix> result = assessmentMatrixRepository.addToQuestionCount("matrix-1", -1);
+
+    assertThat(result).containsSame(matrix);
+    UpdateItemRequest request = captureRequest();
+    assertThat(request.conditionExpression()).isEqualTo("attribute_exists(#id) AND #counter >= :floor");
+    assertThat(request.expressionAttributeValues()).containsEntry(":delta", AttributeValue.builder().n("-1").build())
+                                                   .containsEntry(":floor", AttributeValue.builder().n("1").build());
+  }
+
+  @Test
+  @DisplayName("Should return the whole matrix as written by the increment")
+  void shouldReturnUpdatedMatrix() {
+    Map<String, AttributeValue> item = Map.of("id", AttributeValue.builder().s("matrix-1").build(),
+                                              "name", AttributeValue.builder().s("Matrix").build(),
+                                              "questionCount", AttributeValue.builder().n("3").build());
+    when(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).thenReturn(UpdateItemResponse.builder().attributes(item).build());
+
+    Optional<AssessmentMatrix> result = assessmentMatrixRepository.addToQuestionCount("matrix-1", 1);
+
+    assertThat(result).hasValueSatisfying(matrix -> {
+      assertThat(matrix.getId()).isEqualTo("matrix-1");
+      assertThat(matrix.getQuestionCount()).isEqualTo(3);
+    });
+    assertThat(captureRequest().returnValues()).isEqualTo(ReturnValue.ALL_NEW);
+  }
+
+  @Test
+  @DisplayName("Should write only the requested attributes")
+  void shouldUpdateSelectedAttributes() {
+    EmployeeAssessment assessment = EmployeeAssessment.builder().id("ea-1").tenantId("tenant-1").assessmentMatrixId("matrix-1").lastActivityDate(new Date(0)).build();
+    when(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).thenReturn(UpdateItemResponse.builder().attributes(Map.of()).build());
+
+    boolean updated = employeeAssessmentRepository.updateAttributes(assessment, "lastActivityDate");
+
+    assertThat(updated).isTrue();
+    UpdateItemRequest request = captureRequest();
+    assertThat(request.updateExpression()).isEqualTo("SET #a0 = :a0, #a1 = :a1");
+    assertThat(request.expressionAttributeNames()).containsEntry("#a0", "lastActivityDate").containsEntry("#a1", "lastUpdatedDate");
+    assertThat(request.expressionAttributeValues()).containsEntry(":a0", new DateAttributeConverter().transformFrom(new Date(0)));
+  }
+
+  @Test
+  @DisplayName("Should remove null attributes instead of storing NULL")
+  void shouldRemoveNullAttributes() {
+    EmployeeAssessment assessment = EmployeeAssessment.builder().id("ea-1").tenantId("tenant-1").assessmentMatrixId("matrix-1").build();
+    when(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).thenReturn(UpdateItemResponse.builder().attributes(Map.of()).build());
+
+    employeeAssessmentRepository.updateAttributes(assessment, "lastActivityDate");
+
+    UpdateItemRequest request = captureRequest();
+    assertThat(request.updateExpression()).isEqualTo("SET #a1 = :a1 REMOVE #a0");
+    assertThat(request.expressionAttributeNames()).containsEntry("#a0", "lastActivityDate");
+    assertThat(request.expressionAttributeValues()).doesNotContainKey(":a0");
+  }
+
+  @Test
+  @DisplayName("Should propagate update failures other than a rejected condition")
+  void shouldPropagateUpdateFailures() {
+    when(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).thenThrow(DynamoDbException.builder().message("throttled").build());
+
+    assertThatThrownBy(() -> employeeAssessmentRepository.incrementAnsweredQuestionCount("ea-1", new Date())).isInstanceOf(DynamoDbException.class);
+  }
+
+  @Test
+  @DisplayName("Should refuse partial updates without a low-level client")
+  void shouldRequireDynamoDbClient() {
+    EmployeeAssessmentRepository repository = new EmployeeAssessmentRepository(enhancedClient);
+
+    assertThatThrownBy(() -> repository.incrementAnsweredQuestionCount("ea-1", new Date())).isInstanceOf(IllegalStateException.class);
+  }
+
+  private UpdateItemResponse updatedCounter(String attributeName, String value) {
+    return UpdateItemResponse.builder().attributes(Map.of(attributeName, AttributeValue.builder().n(value).build())).build();
+  }
+
+  private UpdateItemRequest captureRequest() {
+    ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+    verify(dynamoDbClient).updateItem(captor.capture());
+    return captor.getValue();
+  }
+}
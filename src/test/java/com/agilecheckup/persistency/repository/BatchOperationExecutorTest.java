@@ -0,0 +1,246 @@
+package com.agilecheckup.persistency.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.agilecheckup.persistency.entity.Team;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import software.amazon.awssdk.services.dynamodb.paginators.BatchGetItemIterable;
+
+@ExtendWith(MockitoExtension.class)
+class BatchOperationExecutorTest {
+
+  @Mock
+  private DynamoDbClient dynamoDbClient;
+
+  private DynamoDbTable<Team> table;
+  private BatchOperationExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDbClient).build();
+    table = enhancedClient.table("Team", TableSchemaRegistry.schemaFor(Team.class));
+    executor = new BatchOperationExecutor(enhancedClient, 3, 0, 0);
+  }
+
+  @Test
+  @DisplayName("Should split writes into chunks of 25 items")
+  void shouldChunkWrites() {
+    when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(BatchWriteItemResponse.builder().build());
+
+    executor.putAll(table, Team.class, createTeams(41));
+
+    ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+    verify(dynamoDbClient, times(2)).batchWriteItem(captor.capture());
+    assertThat(captor.getAllValues()).extracting(request -> request.requestItems().get("Team").size()).containsExactly(25, 16);
+    assertThat(executor.getMetrics().getBatchCount()).isEqualTo(2);
+    assertThat(executor.getMetrics().getItemCount()).isEqualTo(41);
+    assertThat(executor.getMetrics().getThrottleCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should retry unprocessed items until written")
+  void shouldRetryUnprocessedItems() {
+    List<Team> teams = createTeams(5);
+    when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(unprocessed(teams.subList(3, 5)))
+                                                                          .thenReturn(BatchWriteItemResponse.builder().build());
+
+    executor.putAll(table, Team.class, teams);
+
+    ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+    verify(dynamoDbClient, times(2)).batchWriteItem(captor.capture());
+    assertThat(captor.getAllValues().get(1).requestItems().get("Team")).hasSize(2);
+    assertThat(executor.getMetrics().getRetryCount()).isEqualTo(1);
+    assertThat(executor.getMetrics().getUnprocessedItemCount()).isEqualTo(2);
+    assertThat(executor.getMetrics().getThrottleCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should retry a throttled batch")
+  void shouldRetryThrottledBatch() {
+    when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenThrow(ProvisionedThroughputExceededException.builder()
+                                                                                                                           .message("throttled")
+                                                                                                                           .statusCode(400)
+                                                                                                                           .build())
+                                                                          .thenReturn(BatchWriteItemResponse.builder().build());
+
+    executor.putAll(table, Team.class, createTeams(3));
+
+    verify(dynamoDbClient, times(2)).batchWriteItem(any(BatchWriteItemRequest.class));
+    assertThat(executor.getMetrics().getThrottleCount()).isEqualTo(1);
+    assertThat(executor.getMetrics().getRetryCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should fail when items remain unprocessed after all attempts")
+  void shouldFailWhenAttemptsExhausted() {
+    List<Team> teams = createTeams(2);
+    when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(unprocessed(teams));
+
+    assertThatThrownBy(() -> executor.putAll(table, Team.class, teams)).isInstanceOf(RuntimeException.class)
+                                                                        .hasMessageContaining("2 unprocessed items after 3 attempts");
+    verify(dynamoDbClient, times(3)).batchWriteItem(any(BatchWriteItemRequest.class));
+  }
+
+  @Test
+  @DisplayName("Should not retry non-throttling errors")
+  void shouldPropagateNonThrottlingErrors() {
+    when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenThrow(ResourceNotFoundException.builder().message("missing").build());
+
+    assertThatThrownBy(() -> executor.putAll(table, Team.class, createTeams(1))).isInstanceOf(ResourceNotFoundException.class);
+    verify(dynamoDbClient, times(1)).batchWriteItem(any(BatchWriteItemRequest.class));
+  }
+
+  @Test
+  @DisplayName("Should assign ids and timestamps when saving all entities through a repository")
+  void shouldPrepareEntitiesInRepositorySaveAll() {
+    when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(BatchWriteItemResponse.builder().build());
+    TeamRepository teamRepository = new TeamRepository(DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDbClient).build());
+    Team team = Team.builder().name("Team").description("Description").tenantId("tenant-1").departmentId("department-1").build();
+    team.setId(null);
+
+    List<Team> saved = teamRepository.saveAll(List.of(team));
+
+    assertThat(saved).hasSize(1);
+    assertThat(saved.get(0).getId()).isNotNull();
+    assertThat(saved.get(0).getLastUpdatedDate()).isNotNull();
+    assertThat(teamRepository.getBatchMetrics().getBatchCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should not call DynamoDB when there is nothing to save")
+  void shouldSkipEmptySaveAll() {
+    TeamRepository teamRepository = new TeamRepository(DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDbClient).build());
+
+    assertThat(teamRepository.saveAll(List.of())).isEmpty();
+    verify(dynamoDbClient, never()).batchWriteItem(any(BatchWriteItemRequest.class));
+  }
+
+  @Test
+  @DisplayName("Should split reads into chunks of 100 keys")
+  void shouldChunkReads() {
+    stubBatchGetPaginator();
+    List<Team> teams = createTeams(150);
+    when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(found(teams.subList(0, 100), List.of()))
+                                                                      .thenReturn(found(teams.subList(100, 150), List.of()));
+
+    List<Team> result = executor.getAll(table, Team.class, keysOf(teams));
+
+    ArgumentCaptor<BatchGetItemRequest> captor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+    verify(dynamoDbClient, times(2)).batchGetItem(captor.capture());
+    assertThat(captor.getAllValues()).extracting(request -> request.requestItems().get("Team").keys().size()).containsExactly(100, 50);
+    assertThat(result).extracting(Team::getId).containsExactlyInAnyOrderElementsOf(teams.stream().map(Team::getId).collect(Collectors.toList()));
+  }
+
+  @Test
+  @DisplayName("Should retry unprocessed keys until read")
+  void shouldRetryUnprocessedKeys() {
+    stubBatchGetPaginator();
+    List<Team> teams = createTeams(3);
+    when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(found(teams.subList(0, 1), teams.subList(1, 3)))
+                                                                      .thenReturn(found(teams.subList(1, 3), List.of()));
+
+    List<Team> result = executor.getAll(table, Team.class, keysOf(teams));
+
+    ArgumentCaptor<BatchGetItemRequest> captor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+    verify(dynamoDbClient, times(2)).batchGetItem(captor.capture());
+    assertThat(captor.getAllValues().get(1).requestItems().get("Team").keys()).hasSize(2);
+    assertThat(result).hasSize(3);
+    assertThat(executor.getMetrics().getRetryCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should index batch results by id and ignore duplicate ids in a repository")
+  void shouldFindByIdsInRepository() {
+    stubBatchGetPaginator();
+    List<Team> teams = createTeams(2);
+    when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(found(teams, List.of()));
+    TeamRepository teamRepository = new TeamRepository(DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDbClient).build());
+
+    Map<String, Team> result = teamRepository.findByIds(List.of("team-0", "team-1", "team-0", "missing"));
+
+    ArgumentCaptor<BatchGetItemRequest> captor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+    verify(dynamoDbClient).batchGetItem(captor.capture());
+    assertThat(captor.getValue().requestItems().get("Team").keys()).hasSize(3);
+    assertThat(result).containsOnlyKeys("team-0", "team-1");
+  }
+
+  @Test
+  @DisplayName("Should propagate batch read failures from a repository instead of returning no entities")
+  void shouldPropagateFindByIdsFailure() {
+    stubBatchGetPaginator();
+    when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenThrow(ResourceNotFoundException.builder().message("Team").build());
+    TeamRepository teamRepository = new TeamRepository(DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDbClient).build());
+
+    assertThatThrownBy(() -> teamRepository.findByIds(List.of("team-0", "team-1"))).isInstanceOf(ResourceNotFoundException.class);
+  }
+
+  private void stubBatchGetPaginator() {
+    when(dynamoDbClient.batchGetItemPaginator(any(BatchGetItemRequest.class))).thenAnswer(invocation -> new BatchGetItemIterable(dynamoDbClient, invocation.getArgument(0)));
+  }
+
+  private BatchGetItemResponse found(List<Team> teams, List<Team> unprocessed) {
+    BatchGetItemResponse.Builder response = BatchGetItemResponse.builder()
+                                                                .responses(Map.of("Team", teams.stream()
+                                                                                               .map(team -> table.tableSchema().itemToMap(team, true))
+                                                                                               .collect(Collectors.toList())));
+    if (!unprocessed.isEmpty()) {
+      List<Map<String, AttributeValue>> unprocessedKeys = unprocessed.stream()
+                                                                     .map(team -> Map.of("id", AttributeValue.builder().s(team.getId()).build()))
+                                                                     .collect(Collectors.toList());
+      response.unprocessedKeys(Map.of("Team", KeysAndAttributes.builder().keys(unprocessedKeys).build()));
+    }
+    return response.build();
+  }
+
+  private List<Key> keysOf(List<Team> teams) {
+    return teams.stream().map(team -> Key.builder().partitionValue(team.getId()).build()).collect(Collectors.toList());
+  }
+
+  private BatchWriteItemResponse unprocessed(List<Team> teams) {
+    List<WriteRequest> writeRequests = teams.stream()
+                                            .map(team -> WriteRequest.builder()
+                                                                     .putRequest(PutRequest.builder().item(table.tableSchema().itemToMap(team, true)).build())
+                                                                     .build())
+                                            .collect(Collectors.toList());
+    return BatchWriteItemResponse.builder().unprocessedItems(Map.of("Team", writeRequests)).build();
+  }
+
+  private List<Team> createTeams(int count) {
+    return IntStream.range(0, count)
+                    .mapToObj(i -> Team.builder().id("team-" + i).name("Team " + i).description("Description").tenantId("tenant-1").departmentId("department-1").build())
+                    .collect(Collectors.toList());
+  }
+}
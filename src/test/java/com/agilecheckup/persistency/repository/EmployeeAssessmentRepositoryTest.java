@@ -4,17 +4,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -29,6 +32,11 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeAssessmentRepositoryTest {
@@ -363,7 +371,51 @@ class EmployeeAssessmentRepositoryTest {
     long count = repository.countNonCompletedAssessments(assessmentMatrixId, tenantId);
 
     assertThat(count).isEqualTo(3);
-    verify(gsi).query(any(QueryEnhancedRequest.class));
+    ArgumentCaptor<QueryEnhancedRequest> requestCaptor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+    verify(gsi).query(requestCaptor.capture());
+    assertThat(requestCaptor.getValue().attributesToProject()).containsExactly("id");
+    assertThat(requestCaptor.getValue().filterExpression().expression()).isEqualTo("tenantId = :tenantId AND #status <> :completedStatus");
+  }
+
+  @Test
+  void testCountNonCompletedAssessments_CountsServerSideAcrossPages() {
+    DynamoDbClient dynamoDbClient = mock(DynamoDbClient.class);
+    EmployeeAssessmentRepository countingRepository = new EmployeeAssessmentRepository(dynamoDbEnhancedClient, dynamoDbClient);
+    Map<String, AttributeValue> lastKey = Map.of("id", AttributeValue.builder().s("assessment-2").build());
+    doReturn(QueryResponse.builder().count(2).lastEvaluatedKey(lastKey).build(), QueryResponse.builder().count(1).build()).when(dynamoDbClient)
+                                                                                                                            .query(any(QueryRequest.class));
+
+    long count = countingRepository.countNonCompletedAssessments("matrix-123", "tenant-123");
+
+    assertThat(count).isEqualTo(3);
+    ArgumentCaptor<QueryRequest> requestCaptor = ArgumentCaptor.forClass(QueryRequest.class);
+    verify(dynamoDbClient, times(2)).query(requestCaptor.capture());
+    QueryRequest first = requestCaptor.getAllValues().get(0);
+    assertThat(first.select()).isEqualTo(Select.COUNT);
+    assertThat(first.indexName()).isEqualTo("assessmentMatrixId-employeeEmail-index");
+    assertThat(first.keyConditionExpression()).isEqualTo("#k0 = :k0");
+    assertThat(first.expressionAttributeNames()).containsEntry("#k0", "assessmentMatrixId").containsEntry("#status", "assessmentStatus");
+    assertThat(first.expressionAttributeValues()).containsEntry(":k0", AttributeValue.builder().s("matrix-123").build());
+    assertThat(first.hasExclusiveStartKey()).isFalse();
+    assertThat(requestCaptor.getAllValues().get(1).exclusiveStartKey()).isEqualTo(lastKey);
+    verify(gsi, times(0)).query(any(QueryEnhancedRequest.class));
+  }
+
+  @Test
+  void testCountByStatus_GroupsProjectedStatuses() {
+    List<EmployeeAssessment> assessments = List.of(createTestAssessment("assessment-1", "matrix-123", "tenant-123", AssessmentStatus.COMPLETED), createTestAssessment("assessment-2", "matrix-123", "tenant-123", AssessmentStatus.COMPLETED), createTestAssessment("assessment-3", "matrix-123", "tenant-123", AssessmentStatus.INVITED));
+    Page<EmployeeAssessment> page = mock(Page.class);
+    lenient().doReturn(assessments).when(page).items();
+    PageIterable<EmployeeAssessment> pageIterable = mock(PageIterable.class);
+    lenient().doReturn(Stream.of(page)).when(pageIterable).stream();
+    lenient().doReturn(pageIterable).when(gsi).query(any(QueryEnhancedRequest.class));
+
+    Map<AssessmentStatus, Long> counts = repository.countByStatus("matrix-123", "tenant-123");
+
+    assertThat(counts).isEqualTo(Map.of(AssessmentStatus.COMPLETED, 2L, AssessmentStatus.INVITED, 1L));
+    ArgumentCaptor<QueryEnhancedRequest> requestCaptor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+    verify(gsi).query(requestCaptor.capture());
+    assertThat(requestCaptor.getValue().attributesToProject()).containsExactly("assessmentStatus");
   }
 
   @Test
@@ -523,6 +575,71 @@ class EmployeeAssessmentRepositoryTest {
     assertThat(allCompleted).isFalse();
   }
 
+  @Test
+  void testFindPageByAssessmentMatrixId_ReturnsItemsAndNextPageToken() {
+    EmployeeAssessment assessment = createTestAssessment("assessment-1", "matrix-123", "tenant-123", AssessmentStatus.INVITED);
+    Map<String, AttributeValue> lastKey = Map.of("id", AttributeValue.builder().s("assessment-1").build());
+
+    Page<EmployeeAssessment> page = mock(Page.class);
+    lenient().doReturn(List.of(assessment)).when(page).items();
+    lenient().doReturn(lastKey).when(page).lastEvaluatedKey();
+    PageIterable<EmployeeAssessment> pageIterable = mock(PageIterable.class);
+    lenient().doReturn(Stream.of(page)).when(pageIterable).stream();
+    lenient().doReturn(pageIterable).when(gsi).query(any(QueryEnhancedRequest.class));
+
+    PageResult<EmployeeAssessment> result = repository.findPageByAssessmentMatrixId("matrix-123", "tenant-123", 25, null);
+
+    ArgumentCaptor<QueryEnhancedRequest> requestCaptor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+    verify(gsi).query(requestCaptor.capture());
+    assertThat(requestCaptor.getValue().limit()).isEqualTo(25);
+    assertThat(requestCaptor.getValue().exclusiveStartKey()).isNull();
+    assertThat(requestCaptor.getValue().filterExpression().expression()).isEqualTo("tenantId = :tenantId");
+    assertThat(result.getItems()).containsExactly(assessment);
+    assertThat(result.hasNextPage()).isTrue();
+    assertThat(PageTokens.decode(result.getNextPageToken())).isEqualTo(lastKey);
+  }
+
+  @Test
+  void testFindPageByTenantId_ResumesFromPageToken() {
+    Map<String, AttributeValue> startKey = Map.of("id", AttributeValue.builder().s("assessment-1").build(), "tenantId", AttributeValue.builder()
+                                                                                                                                        .s("tenant-123")
+                                                                                                                                        .build());
+
+    Page<EmployeeAssessment> page = mock(Page.class);
+    lenient().doReturn(List.of()).when(page).items();
+    PageIterable<EmployeeAssessment> pageIterable = mock(PageIterable.class);
+    lenient().doReturn(Stream.of(page)).when(pageIterable).stream();
+    lenient().doReturn(pageIterable).when(gsi).query(any(QueryEnhancedRequest.class));
+
+    PageResult<EmployeeAssessment> result = repository.findPageByTenantId("tenant-123", 10, PageTokens.encode(startKey));
+
+    ArgumentCaptor<QueryEnhancedRequest> requestCaptor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+    verify(gsi).query(requestCaptor.capture());
+    assertThat(requestCaptor.getValue().exclusiveStartKey()).isEqualTo(startKey);
+    assertThat(result.getItems()).isEmpty();
+    assertThat(result.hasNextPage()).isFalse();
+  }
+
+  @Test
+  void testFindPageByTenantId_RejectsInvalidArguments() {
+    assertThatThrownBy(() -> repository.findPageByTenantId("tenant-123", 0, null)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> repository.findPageByTenantId("tenant-123", 10, "not-a-token")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void testStreamByAssessmentMatrixId_StopsReadingPagesOnceSatisfied() {
+    EmployeeAssessment first = createTestAssessment("assessment-1", "matrix-123", "tenant-123", AssessmentStatus.INVITED);
+    Page<EmployeeAssessment> firstPage = mock(Page.class);
+    lenient().doReturn(List.of(first)).when(firstPage).items();
+    Page<EmployeeAssessment> secondPage = mock(Page.class);
+    PageIterable<EmployeeAssessment> pageIterable = mock(PageIterable.class);
+    lenient().doReturn(Stream.of(firstPage, secondPage)).when(pageIterable).stream();
+    lenient().doReturn(pageIterable).when(gsi).query(any(QueryEnhancedRequest.class));
+
+    assertThat(repository.streamByAssessmentMatrixId("matrix-123", "tenant-123").findFirst()).contains(first);
+    verify(secondPage, times(0)).items();
+  }
+
   // Helper method to create test assessments
   private EmployeeAssessment createTestAssessment(String id, String assessmentMatrixId, String tenantId, AssessmentStatus status) {
     NaturalPerson employee = NaturalPerson.builder()
@@ -0,0 +1,171 @@
+package com.agilecheckup.persistency.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+
+class IoExecutorTest {
+
+  private IoExecutor executor;
+
+  @AfterEach
+  void tearDown() {
+    if (executor != null) {
+      executor.close();
+    }
+  }
+
+  @Test
+  void shouldReturnResultsInInputOrder() {
+    executor = new IoExecutor(4, 1, 4, Duration.ofSeconds(1), Duration.ofSeconds(5));
+    List<Integer> inputs = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+
+    List<Integer> results = executor.mapAll(inputs, input -> {
+      sleep(20 - input);
+      return input * 2;
+    });
+
+    assertThat(results).isEqualTo(inputs.stream().map(input -> input * 2).collect(Collectors.toList()));
+    assertThat(executor.getInFlight()).isZero();
+  }
+
+  @Test
+  void shouldRunCallsConcurrentlyUpToTheLimit() {
+    executor = new IoExecutor(3, 3, 3, Duration.ofSeconds(1), Duration.ofSeconds(5));
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+
+    executor.mapAll(IntStream.range(0, 12).boxed().collect(Collectors.toList()), input -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      sleep(20);
+      running.decrementAndGet();
+      return input;
+    });
+
+    assertThat(maxRunning.get()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldPropagateTheFirstFailureAndCancelTheOtherCalls() throws InterruptedException {
+    executor = new IoExecutor(4, 1, 4, Duration.ofSeconds(1), Duration.ofSeconds(5));
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+
+    assertThatThrownBy(() -> executor.mapAll(List.of(1, 2), input -> {
+      if (input == 1) {
+        awaitLatch(started);
+        throw new IllegalStateException("Query failed");
+      }
+      started.countDown();
+      try {
+        Thread.sleep(5_000);
+      }
+      catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+      return input;
+    })).isInstanceOf(RuntimeException.class).hasMessageContaining("Query failed").hasCauseInstanceOf(IllegalStateException.class);
+
+    assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldPropagateAFailureWithoutWaitingForEarlierCalls() throws InterruptedException {
+    executor = new IoExecutor(4, 1, 4, Duration.ofSeconds(1), Duration.ofSeconds(5));
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    long startNanos = System.nanoTime();
+
+    assertThatThrownBy(() -> executor.mapAll(List.of(1, 2), input -> {
+      if (input == 2) {
+        awaitLatch(started);
+        throw new IllegalStateException("Query failed");
+      }
+      started.countDown();
+      try {
+        Thread.sleep(5_000);
+      }
+      catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+      return input;
+    })).isInstanceOf(RuntimeException.class).hasMessageContaining("Query failed").hasCauseInstanceOf(IllegalStateException.class);
+
+    assertThat(Duration.ofNanos(System.nanoTime() - startNanos)).isLessThan(Duration.ofSeconds(2));
+    assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    assertThat(executor.getInFlight()).isZero();
+  }
+
+  @Test
+  void shouldTimeOutSlowCallsAndReturnTheirPermits() {
+    executor = new IoExecutor(2, 1, 2, Duration.ofSeconds(1), Duration.ofMillis(50));
+
+    assertThatThrownBy(() -> executor.mapAll(List.of(1), input -> {
+      sleep(2_000);
+      return input;
+    })).isInstanceOf(RuntimeException.class).hasMessageContaining("timed out").hasCauseInstanceOf(TimeoutException.class);
+
+    assertThat(executor.getInFlight()).isZero();
+    assertThat(executor.getConcurrencyLimit()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldDecreaseTheLimitWhenCallsAreThrottled() {
+    executor = new IoExecutor(8, 1, 8, Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+    assertThatThrownBy(() -> executor.mapAll(List.of(1), input -> {
+      throw ProvisionedThroughputExceededException.builder().message("Throttled").build();
+    })).isInstanceOf(RuntimeException.class).hasCauseInstanceOf(ProvisionedThroughputExceededException.class);
+
+    assertThat(executor.getConcurrencyLimit()).isEqualTo(6);
+  }
+
+  @Test
+  void shouldReturnEmptyListWithoutCalling() {
+    executor = new IoExecutor(2, Duration.ofSeconds(1));
+
+    assertThat(executor.mapAll(List.<Integer>of(), input -> {
+      throw new AssertionError("Should not be called");
+    })).isEmpty();
+  }
+
+  @Test
+  void shouldKeepTheSharedExecutorUsableWhenClosed() {
+    IoExecutor shared = IoExecutor.shared();
+    shared.close();
+
+    assertThat(IoExecutor.shared()).isSameAs(shared);
+    assertThat(shared.mapAll(List.of(1, 2), input -> input * 2)).containsExactly(2, 4);
+  }
+
+  private static void awaitLatch(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
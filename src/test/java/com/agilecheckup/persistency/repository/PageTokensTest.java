@@ -0,0 +1,54 @@
+package com.agilecheckup.persistency.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class PageTokensTest {
+
+  @Test
+  @DisplayName("Should round-trip string, number and binary key attributes")
+  void shouldRoundTripKeyAttributes() {
+    Map<String, AttributeValue> key = Map.of("id", AttributeValue.builder().s("assessment-1").build(), "version", AttributeValue.builder()
+                                                                                                                               .n("42")
+                                                                                                                               .build(), "hash", AttributeValue.builder()
+                                                                                                                                                               .b(SdkBytes.fromUtf8String("bytes"))
+                                                                                                                                                               .build());
+
+    String token = PageTokens.encode(key);
+
+    assertThat(token).doesNotContain("+", "/", "=");
+    assertThat(PageTokens.decode(token)).isEqualTo(key);
+  }
+
+  @Test
+  @DisplayName("Should map a missing key to no token and back")
+  void shouldHandleMissingKey() {
+    assertThat(PageTokens.encode(null)).isNull();
+    assertThat(PageTokens.encode(Map.of())).isNull();
+    assertThat(PageTokens.decode(null)).isNull();
+    assertThat(PageTokens.decode("")).isNull();
+  }
+
+  @Test
+  @DisplayName("Should reject tokens that do not decode to a key")
+  void shouldRejectInvalidTokens() {
+    assertThatThrownBy(() -> PageTokens.decode("%%%")).isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid page token");
+    assertThatThrownBy(() -> PageTokens.decode(encoded("[1,2]"))).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PageTokens.decode(encoded("{}"))).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PageTokens.decode(encoded("{\"id\":{\"SS\":\"x\"}}"))).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static String encoded(String json) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
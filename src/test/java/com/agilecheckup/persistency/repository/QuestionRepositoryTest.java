@@ -3,6 +3,7 @@ package com.agilecheckup.persistency.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -14,6 +15,7 @@ import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -22,10 +24,11 @@ import com.agilecheckup.persistency.entity.question.Question;
 
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
-import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,10 +41,10 @@ class QuestionRepositoryTest {
   private DynamoDbTable<Question> table;
 
   @Mock
-  private PageIterable<Question> pageIterable;
+  private DynamoDbIndex<Question> index;
 
   @Mock
-  private SdkIterable<Page<Question>> scanIterable;
+  private SdkIterable<Page<Question>> queryIterable;
 
   @Mock
   private Page<Question> page;
@@ -87,9 +90,9 @@ class QuestionRepositoryTest {
                                                      createTestQuestion("question-1", tenantId, matrixId), createTestQuestion("question-2", tenantId, matrixId)
     );
 
-    // Mock the scan operation - use raw SdkIterable type
-    when(table.scan(any(ScanEnhancedRequest.class))).thenReturn(pageIterable);
-    when(pageIterable.stream()).thenReturn(Stream.of(page));
+    when(table.index("assessmentMatrixId-tenantId-index")).thenReturn(index);
+    when(index.query(any(QueryEnhancedRequest.class))).thenReturn(queryIterable);
+    when(queryIterable.stream()).thenReturn(Stream.of(page));
     when(page.items()).thenReturn(expectedQuestions);
 
     List<Question> results = repository.findByAssessmentMatrixId(matrixId, tenantId);
@@ -99,7 +102,10 @@ class QuestionRepositoryTest {
     assertThat(results).allMatch(q -> q.getAssessmentMatrixId().equals(matrixId));
     assertThat(results).allMatch(q -> q.getTenantId().equals(tenantId));
 
-    verify(table).scan(any(ScanEnhancedRequest.class));
+    ArgumentCaptor<QueryEnhancedRequest> requestCaptor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+    verify(index).query(requestCaptor.capture());
+    assertThat(requestCaptor.getValue().filterExpression()).isNull();
+    verify(table, never()).scan(any(ScanEnhancedRequest.class));
   }
 
   @Test
@@ -112,9 +118,9 @@ class QuestionRepositoryTest {
                                                      createTestQuestionWithCategory("question-1", tenantId, matrixId, categoryId)
     );
 
-    // Mock the scan operation - use raw SdkIterable type
-    when(table.scan(any(ScanEnhancedRequest.class))).thenReturn(pageIterable);
-    when(pageIterable.stream()).thenReturn(Stream.of(page));
+    when(table.index("assessmentMatrixId-categoryId-index")).thenReturn(index);
+    when(index.query(any(QueryEnhancedRequest.class))).thenReturn(queryIterable);
+    when(queryIterable.stream()).thenReturn(Stream.of(page));
     when(page.items()).thenReturn(existingQuestions);
 
     // When
@@ -122,7 +128,11 @@ class QuestionRepositoryTest {
 
     // Then
     assertThat(result).isTrue();
-    verify(table).scan(any(ScanEnhancedRequest.class));
+    ArgumentCaptor<QueryEnhancedRequest> requestCaptor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+    verify(index).query(requestCaptor.capture());
+    assertThat(requestCaptor.getValue().filterExpression().expression()).isEqualTo("tenantId = :tenantId");
+    assertThat(requestCaptor.getValue().filterExpression().expressionValues().get(":tenantId").s()).isEqualTo(tenantId);
+    verify(table, never()).scan(any(ScanEnhancedRequest.class));
   }
 
   @Test
@@ -131,15 +141,15 @@ class QuestionRepositoryTest {
     String categoryId = "category-456";
     String tenantId = "tenant-123";
 
-    // Mock empty scan result - use raw SdkIterable type
-    when(table.scan(any(ScanEnhancedRequest.class))).thenReturn(pageIterable);
-    when(pageIterable.stream()).thenReturn(Stream.of(page));
+    when(table.index("assessmentMatrixId-categoryId-index")).thenReturn(index);
+    when(index.query(any(QueryEnhancedRequest.class))).thenReturn(queryIterable);
+    when(queryIterable.stream()).thenReturn(Stream.of(page));
     when(page.items()).thenReturn(Arrays.asList());
 
     boolean result = repository.existsByCategoryId(matrixId, categoryId, tenantId);
 
     assertThat(result).isFalse();
-    verify(table).scan(any(ScanEnhancedRequest.class));
+    verify(index).query(any(QueryEnhancedRequest.class));
   }
 
   @Test
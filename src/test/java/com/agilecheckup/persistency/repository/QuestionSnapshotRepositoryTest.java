@@ -0,0 +1,63 @@
+package com.agilecheckup.persistency.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.agilecheckup.persistency.entity.question.QuestionSnapshot;
+import com.agilecheckup.util.TestObjectFactory;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionSnapshotRepositoryTest {
+
+  @Mock
+  private DynamoDbEnhancedClient enhancedClient;
+
+  @Mock
+  private DynamoDbTable<QuestionSnapshot> table;
+
+  private QuestionSnapshotRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    when(enhancedClient.table(eq("QuestionSnapshot"), any())).thenReturn((DynamoDbTable) table);
+    repository = new QuestionSnapshotRepository(enhancedClient);
+  }
+
+  @Test
+  void shouldWriteSnapshotOnlyIfAbsent() {
+    QuestionSnapshot snapshot = QuestionSnapshot.of(TestObjectFactory.createMockedQuestion("q1"));
+
+    boolean written = repository.saveIfAbsent(snapshot);
+
+    assertThat(written).isTrue();
+    ArgumentCaptor<PutItemEnhancedRequest<QuestionSnapshot>> captor = ArgumentCaptor.forClass(PutItemEnhancedRequest.class);
+    verify(table).putItem(captor.capture());
+    assertThat(captor.getValue().item()).isSameAs(snapshot);
+    assertThat(captor.getValue().conditionExpression().expression()).isEqualTo("attribute_not_exists(#id)");
+    assertThat(snapshot.getCreatedDate()).isNotNull();
+  }
+
+  @Test
+  void shouldReportExistingSnapshot() {
+    QuestionSnapshot snapshot = QuestionSnapshot.of(TestObjectFactory.createMockedQuestion("q1"));
+    doThrow(ConditionalCheckFailedException.builder().message("exists").build()).when(table).putItem(any(PutItemEnhancedRequest.class));
+
+    assertThat(repository.saveIfAbsent(snapshot)).isFalse();
+  }
+}
@@ -0,0 +1,105 @@
+package com.agilecheckup.persistency.repository;
+
+import static com.agilecheckup.util.TestObjectFactory.createMockedQuestion;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.agilecheckup.persistency.entity.QuestionType;
+import com.agilecheckup.persistency.entity.question.Answer;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+
+/**
+ * Compares the per-call overhead of building the bean schema and table handle on every repository call (cold, the
+ * previous behaviour) with the cached handle of {@link AbstractCrudRepository} (warm).
+ * <p>
+ * A real {@link DynamoDbEnhancedClient} runs over a mocked low-level client, so item mapping is included but no network
+ * call is made. Run with:
+ *
+ * <pre>
+ * mvn test-compile exec:java@jmh -Dexec.args="RepositoryTableHandleBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepositoryTableHandleBenchmark {
+
+  private DynamoDbEnhancedClient enhancedClient;
+  private AnswerRepository answerRepository;
+  private Answer answer;
+  private Key key;
+
+  @Setup
+  public void setUp() {
+    answer = Answer.builder()
+                   .id("answer-1")
+                   .employeeAssessmentId("ea-1")
+                   .pillarId("pillar-1")
+                   .categoryId("category-1")
+                   .questionId("question-1")
+                   .questionType(QuestionType.YES_NO)
+                   .question(createMockedQuestion("question-1", QuestionType.YES_NO))
+                   .answeredAt(LocalDateTime.now())
+                   .value("true")
+                   .score(5d)
+                   .tenantId("tenant-1")
+                   .build();
+    key = Key.builder().partitionValue(answer.getId()).build();
+
+    DynamoDbClient dynamoDbClient = mock(DynamoDbClient.class);
+    when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+    when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder()
+                                                                                      .item(TableSchema.fromBean(Answer.class).itemToMap(answer, true))
+                                                                                      .build());
+
+    enhancedClient = DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDbClient).build();
+    answerRepository = new AnswerRepository(enhancedClient);
+  }
+
+  @Benchmark
+  public Answer coldSave() {
+    enhancedClient.table("Answer", TableSchema.fromBean(Answer.class)).putItem(answer);
+    return answer;
+  }
+
+  @Benchmark
+  public Answer warmSave() {
+    return answerRepository.save(answer).orElseThrow();
+  }
+
+  @Benchmark
+  public Answer coldFindById() {
+    return enhancedClient.table("Answer", TableSchema.fromBean(Answer.class)).getItem(key);
+  }
+
+  @Benchmark
+  public Answer warmFindById() {
+    return answerRepository.findById(answer.getId()).orElseThrow();
+  }
+}
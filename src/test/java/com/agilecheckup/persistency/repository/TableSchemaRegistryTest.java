@@ -0,0 +1,80 @@
+package com.agilecheckup.persistency.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.agilecheckup.persistency.entity.Team;
+import com.agilecheckup.persistency.entity.question.Answer;
+import com.agilecheckup.persistency.entity.question.Question;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+@ExtendWith(MockitoExtension.class)
+class TableSchemaRegistryTest {
+
+  @Mock
+  private DynamoDbEnhancedClient enhancedClient;
+
+  @Mock
+  private DynamoDbTable<Team> teamTable;
+
+  @Test
+  @DisplayName("Should build each bean schema only once per entity class")
+  void shouldReuseSchemaPerEntityClass() {
+    TableSchema<Answer> first = TableSchemaRegistry.schemaFor(Answer.class);
+    TableSchema<Answer> second = TableSchemaRegistry.schemaFor(Answer.class);
+
+    assertThat(second).isSameAs(first);
+    assertThat(first.itemType().rawClass()).isEqualTo(Answer.class);
+  }
+
+  @Test
+  @DisplayName("Should map the assessmentMatrixId index keys of the Question schema")
+  void shouldMapQuestionMatrixIndexes() {
+    TableMetadata metadata = TableSchemaRegistry.schemaFor(Question.class).tableMetadata();
+
+    assertThat(metadata.indexPartitionKey("assessmentMatrixId-tenantId-index")).isEqualTo("assessmentMatrixId");
+    assertThat(metadata.indexSortKey("assessmentMatrixId-tenantId-index")).contains("tenantId");
+    assertThat(metadata.indexPartitionKey("assessmentMatrixId-categoryId-index")).isEqualTo("assessmentMatrixId");
+    assertThat(metadata.indexSortKey("assessmentMatrixId-categoryId-index")).contains("categoryId");
+    assertThat(metadata.indexPartitionKey("tenantId-index")).isEqualTo("tenantId");
+  }
+
+  @Test
+  @DisplayName("Should map the employeeAssessmentId-questionId index keys of the Answer schema")
+  void shouldMapAnswerQuestionIndex() {
+    TableMetadata metadata = TableSchemaRegistry.schemaFor(Answer.class).tableMetadata();
+
+    assertThat(metadata.indexPartitionKey("employeeAssessmentId-questionId-index")).isEqualTo("employeeAssessmentId");
+    assertThat(metadata.indexSortKey("employeeAssessmentId-questionId-index")).contains("questionId");
+    assertThat(metadata.indexPartitionKey("employeeAssessmentId-tenantId-index")).isEqualTo("employeeAssessmentId");
+  }
+
+  @Test
+  @DisplayName("Should create the table handle once per repository")
+  void shouldCreateTableHandleOnce() {
+    when(enhancedClient.table(eq("Team"), any(TableSchema.class))).thenReturn(teamTable);
+    TeamRepository teamRepository = new TeamRepository(enhancedClient);
+
+    teamRepository.findById("team-1");
+    teamRepository.findById("team-2");
+    teamRepository.deleteById("team-3");
+
+    verify(enhancedClient, times(1)).table(eq("Team"), any(TableSchema.class));
+    verify(teamTable, times(2)).getItem(any(Key.class));
+  }
+}
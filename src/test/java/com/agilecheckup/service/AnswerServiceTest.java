@@ -20,8 +20,10 @@ import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.agilecheckup.persistency.entity.AssessmentMatrix;
@@ -31,6 +33,8 @@ import com.agilecheckup.persistency.entity.QuestionType;
 import com.agilecheckup.persistency.entity.question.Answer;
 import com.agilecheckup.persistency.entity.question.Question;
 import com.agilecheckup.persistency.repository.AnswerRepository;
+import com.agilecheckup.service.cache.QuestionPlanCache;
+import com.agilecheckup.service.cache.QuestionSnapshotCache;
 import com.agilecheckup.service.exception.InvalidIdReferenceException;
 import com.agilecheckup.service.exception.InvalidLocalDateTimeException;
 
@@ -52,6 +56,12 @@ class AnswerServiceTest {
   @Mock
   private AssessmentMatrixService assessmentMatrixService;
 
+  @Spy
+  private QuestionPlanCache questionPlanCache = new QuestionPlanCache();
+
+  @Mock
+  private QuestionSnapshotCache questionSnapshotCache;
+
   private Question testQuestion;
   private EmployeeAssessment testEmployeeAssessment;
   private AssessmentMatrix testAssessmentMatrix;
@@ -65,6 +75,7 @@ class AnswerServiceTest {
     lenient().doReturn(Optional.of(testQuestion)).when(questionService).findById(anyString());
     lenient().doReturn(Optional.of(testEmployeeAssessment)).when(employeeAssessmentService).findById(anyString());
     lenient().doReturn(Optional.of(testAssessmentMatrix)).when(assessmentMatrixService).findById(anyString());
+    lenient().doReturn("question-123#1").when(questionSnapshotCache).snapshotIdFor(any(Question.class));
   }
 
   private EmployeeAssessment createMockedEmployeeAssessment() {
@@ -106,7 +117,10 @@ class AnswerServiceTest {
     // Then
     assertThat(result).isPresent();
     verify(answerRepository).findByEmployeeAssessmentIdAndQuestionId(employeeAssessmentId, questionId, tenantId);
-    verify(answerRepository).save(any(Answer.class));
+    ArgumentCaptor<Answer> answerCaptor = ArgumentCaptor.forClass(Answer.class);
+    verify(answerRepository).save(answerCaptor.capture());
+    assertThat(answerCaptor.getValue().getQuestionSnapshotId()).isEqualTo("question-123#1");
+    assertThat(answerCaptor.getValue().getQuestion()).isNull();
     verify(employeeAssessmentService).incrementAnsweredQuestionCount(employeeAssessmentId);
   }
 
@@ -143,6 +157,7 @@ class AnswerServiceTest {
     String notes = "Updated notes";
 
     Answer existingAnswer = createMockAnswer(answerId, "assessment-123", "question-123", "tenant-123");
+    existingAnswer.setQuestion(testQuestion);
     when(answerRepository.findById(answerId)).thenReturn(Optional.of(existingAnswer));
     doReturn(Optional.of(existingAnswer)).when(answerRepository).save(any(Answer.class));
 
@@ -153,6 +168,8 @@ class AnswerServiceTest {
     assertThat(result).isPresent();
     verify(answerRepository).findById(answerId);
     verify(answerRepository).save(existingAnswer);
+    assertThat(existingAnswer.getQuestionSnapshotId()).isEqualTo("question-123#1");
+    assertThat(existingAnswer.getQuestion()).isNull();
   }
 
   @Test
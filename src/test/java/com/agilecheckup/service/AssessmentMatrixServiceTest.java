@@ -3,8 +3,10 @@ package com.agilecheckup.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -15,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,7 +38,11 @@ import com.agilecheckup.persistency.entity.person.NaturalPerson;
 import com.agilecheckup.persistency.entity.question.Question;
 import com.agilecheckup.persistency.entity.score.PotentialScore;
 import com.agilecheckup.persistency.repository.AssessmentMatrixRepository;
+import com.agilecheckup.persistency.repository.AssessmentStatusHistogramRepository;
+import com.agilecheckup.service.cache.AssessmentDefinitionCache;
 import com.agilecheckup.service.dto.AssessmentDashboardData;
+import com.agilecheckup.service.dto.EmployeeAssessmentSummary;
+import com.agilecheckup.service.dto.TeamAssessmentSummary;
 import com.agilecheckup.service.exception.InvalidIdReferenceException;
 
 import dagger.Lazy;
@@ -46,6 +53,9 @@ class AssessmentMatrixServiceTest {
   @Mock
   private AssessmentMatrixRepository assessmentMatrixRepository;
 
+  @Mock
+  private AssessmentStatusHistogramRepository statusHistogramRepository;
+
   @Mock
   private PerformanceCycleService performanceCycleService;
 
@@ -77,7 +87,7 @@ class AssessmentMatrixServiceTest {
     lenient().doReturn(mockTeamService).when(teamService).get();
 
     service = new AssessmentMatrixService(
-                                          assessmentMatrixRepository, performanceCycleService, questionService, employeeAssessmentService, teamService
+                                          assessmentMatrixRepository, performanceCycleService, questionService, employeeAssessmentService, teamService, new AssessmentDefinitionCache(), statusHistogramRepository
     );
   }
 
@@ -205,65 +215,63 @@ class AssessmentMatrixServiceTest {
   }
 
   @Test
-  void testIncrementQuestionCount() {
+  void testFindByIdUsesDefinitionCacheAndWritesInvalidateIt() {
     String matrixId = "matrix-123";
-    AssessmentMatrix existingMatrix = AssessmentMatrix.builder()
-                                                      .id(matrixId)
-                                                      .name("Test Matrix")
-                                                      .description("Test Description")
-                                                      .tenantId("tenant-123")
-                                                      .performanceCycleId("cycle-123")
-                                                      .questionCount(5)
-                                                      .build();
+    AssessmentMatrix matrix = AssessmentMatrix.builder()
+                                              .id(matrixId)
+                                              .name("Test Matrix")
+                                              .description("Test Description")
+                                              .tenantId("tenant-123")
+                                              .performanceCycleId("cycle-123")
+                                              .questionCount(5)
+                                              .build();
 
-    AssessmentMatrix updatedMatrix = AssessmentMatrix.builder()
-                                                     .id(matrixId)
-                                                     .name("Test Matrix")
-                                                     .description("Test Description")
-                                                     .tenantId("tenant-123")
-                                                     .performanceCycleId("cycle-123")
-                                                     .questionCount(6)
-                                                     .build();
+    doReturn(Optional.of(matrix)).when(assessmentMatrixRepository).findById(matrixId);
+    doReturn(Optional.of(matrix)).when(assessmentMatrixRepository).addToQuestionCount(matrixId, 1);
 
-    doReturn(Optional.of(existingMatrix)).when(assessmentMatrixRepository).findById(matrixId);
-    doReturn(Optional.of(updatedMatrix)).when(assessmentMatrixRepository).save(any(AssessmentMatrix.class));
+    AssessmentMatrix first = service.findById(matrixId).get();
+    first.setQuestionCount(99);
+    AssessmentMatrix second = service.findById(matrixId).get();
+    verify(assessmentMatrixRepository, times(1)).findById(matrixId);
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getQuestionCount()).isEqualTo(5);
+
+    service.incrementQuestionCount(matrixId);
+    service.findById(matrixId);
+    verify(assessmentMatrixRepository, times(2)).findById(matrixId);
+  }
+
+  @Test
+  void testIncrementQuestionCount() {
+    String matrixId = "matrix-123";
+    AssessmentMatrix updated = AssessmentMatrix.builder().id(matrixId).name("Test Matrix").description("Test Description").tenantId("tenant-123").performanceCycleId("cycle-123").questionCount(6).build();
+    doReturn(Optional.of(updated)).when(assessmentMatrixRepository).addToQuestionCount(matrixId, 1);
 
     AssessmentMatrix result = service.incrementQuestionCount(matrixId);
 
     assertThat(result.getQuestionCount()).isEqualTo(6);
-    verify(assessmentMatrixRepository).findById(matrixId);
-    verify(assessmentMatrixRepository).save(any(AssessmentMatrix.class));
+    verify(assessmentMatrixRepository, never()).findById(matrixId);
+    verify(assessmentMatrixRepository, never()).save(any(AssessmentMatrix.class));
   }
 
   @Test
   void testDecrementQuestionCount() {
     String matrixId = "matrix-123";
-    AssessmentMatrix existingMatrix = AssessmentMatrix.builder()
-                                                      .id(matrixId)
-                                                      .name("Test Matrix")
-                                                      .description("Test Description")
-                                                      .tenantId("tenant-123")
-                                                      .performanceCycleId("cycle-123")
-                                                      .questionCount(5)
-                                                      .build();
-
-    AssessmentMatrix updatedMatrix = AssessmentMatrix.builder()
-                                                     .id(matrixId)
-                                                     .name("Test Matrix")
-                                                     .description("Test Description")
-                                                     .tenantId("tenant-123")
-                                                     .performanceCycleId("cycle-123")
-                                                     .questionCount(4)
-                                                     .build();
-
-    doReturn(Optional.of(existingMatrix)).when(assessmentMatrixRepository).findById(matrixId);
-    doReturn(Optional.of(updatedMatrix)).when(assessmentMatrixRepository).save(any(AssessmentMatrix.class));
+    AssessmentMatrix updated = AssessmentMatrix.builder().id(matrixId).name("Test Matrix").description("Test Description").tenantId("tenant-123").performanceCycleId("cycle-123").questionCount(4).build();
+    doReturn(Optional.of(updated)).when(assessmentMatrixRepository).addToQuestionCount(matrixId, -1);
 
     AssessmentMatrix result = service.decrementQuestionCount(matrixId);
 
     assertThat(result.getQuestionCount()).isEqualTo(4);
-    verify(assessmentMatrixRepository).findById(matrixId);
-    verify(assessmentMatrixRepository).save(any(AssessmentMatrix.class));
+    verify(assessmentMatrixRepository, never()).save(any(AssessmentMatrix.class));
+  }
+
+  @Test
+  void testIncrementQuestionCount_MatrixNotFound() {
+    String matrixId = "matrix-123";
+    doReturn(Optional.empty()).when(assessmentMatrixRepository).addToQuestionCount(matrixId, 1);
+
+    assertThrows(RuntimeException.class, () -> service.incrementQuestionCount(matrixId));
   }
 
   @Test
@@ -327,7 +335,7 @@ class AssessmentMatrixServiceTest {
     // Set up mocks
     doReturn(Optional.of(matrix)).when(assessmentMatrixRepository).findById(matrixId);
     doReturn(employeeAssessments).when(mockEmployeeAssessmentService).findByAssessmentMatrix(matrixId, tenantId);
-    lenient().doReturn(Optional.of(team)).when(mockTeamService).findById("team-1");
+    doReturn(Map.of("team-1", team)).when(mockTeamService).findByIds(Set.of("team-1"));
 
     // Execute
     Optional<AssessmentDashboardData> result = service.getAssessmentDashboard(matrixId, tenantId);
@@ -346,6 +354,13 @@ class AssessmentMatrixServiceTest {
     // Only basic assessment data is available after V1 DTO removal
     assertThat(dashboardData.getTotalEmployees()).isEqualTo(2);
     assertThat(dashboardData.getCompletedAssessments()).isEqualTo(1);
+
+    // Team names are resolved with one batched lookup shared by all summaries
+    assertThat(dashboardData.getEmployeeSummaries()).extracting(EmployeeAssessmentSummary::getTeamName)
+                                                    .containsOnly("Engineering Team");
+    assertThat(dashboardData.getTeamSummaries()).extracting(TeamAssessmentSummary::getTeamName).containsExactly("Engineering Team");
+    verify(mockTeamService, times(1)).findByIds(Set.of("team-1"));
+    verify(mockTeamService, never()).findById(anyString());
   }
 
   @Test
@@ -434,13 +449,15 @@ class AssessmentMatrixServiceTest {
 
     doReturn(Optional.of(matrix)).when(assessmentMatrixRepository).findById(matrixId);
     doReturn(employeeAssessments).when(mockEmployeeAssessmentService).findByAssessmentMatrix(matrixId, tenantId);
-    lenient().doReturn(Optional.empty()).when(mockTeamService).findById("nonexistent-team");
+    doReturn(Map.of()).when(mockTeamService).findByIds(Set.of("nonexistent-team"));
 
     Optional<AssessmentDashboardData> result = service.getAssessmentDashboard(matrixId, tenantId);
 
     assertThat(result).isPresent();
     AssessmentDashboardData dashboardData = result.get();
     // Employee and team summaries removed during V1 cleanup
+    assertThat(dashboardData.getEmployeeSummaries()).extracting(EmployeeAssessmentSummary::getTeamName).containsExactly("Unknown Team");
+    assertThat(dashboardData.getTeamSummaries()).extracting(TeamAssessmentSummary::getTeamName).containsExactly("Unknown Team");
   }
 
   @Test
@@ -0,0 +1,136 @@
+package com.agilecheckup.service;
+
+import static com.agilecheckup.util.TestObjectFactory.createMockedPillarMap;
+import static com.agilecheckup.util.TestObjectFactory.createMockedQuestion;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.agilecheckup.dagger.component.DaggerServiceComponent;
+import com.agilecheckup.persistency.entity.AssessmentMatrix;
+import com.agilecheckup.persistency.entity.EmployeeAssessment;
+import com.agilecheckup.persistency.entity.QuestionType;
+import com.agilecheckup.persistency.entity.question.Question;
+import com.agilecheckup.persistency.inmemory.AgileCheckupTables;
+import com.agilecheckup.persistency.inmemory.InMemoryAwsConfigModule;
+import com.agilecheckup.persistency.inmemory.InMemoryDynamoDbClient;
+import com.agilecheckup.persistency.inmemory.LatencyModel;
+import com.agilecheckup.persistency.repository.AssessmentMatrixRepository;
+import com.agilecheckup.persistency.repository.EmployeeAssessmentRepository;
+import com.agilecheckup.persistency.repository.QuestionRepository;
+import com.agilecheckup.service.dto.AnswerWithProgressResponse;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+
+/**
+ * Measures the answer flow of {@link AssessmentNavigationService#saveAnswerAndGetNext} end to end: the Dagger graph,
+ * caches, unit of work, repositories and the real enhanced client over an {@link InMemoryDynamoDbClient} that adds a
+ * per-call latency, so the cost of each DynamoDB round-trip the flow makes shows in the result.
+ * <p>
+ * Every iteration answers fresh assessments, one question at a time, so the flow stays on its create path. Run with:
+ *
+ * <pre>
+ * mvn test-compile exec:java@jmh -Dexec.args="AssessmentNavigationFlowBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssessmentNavigationFlowBenchmark {
+
+  private static final String TENANT_ID = "tenant-benchmark";
+  private static final int QUESTION_COUNT = 20;
+  private static final int ASSESSMENTS_PER_ITERATION = 2_000;
+
+  /**
+   * Upper bound of the latency added to each DynamoDB call, drawn uniformly from half of it to all of it.
+   */
+  @Param({"0", "2000"})
+  public long maxLatencyMicros;
+
+  private InMemoryDynamoDbClient client;
+  private EmployeeAssessmentRepository employeeAssessmentRepository;
+  private AssessmentNavigationService navigationService;
+  private AssessmentMatrix matrix;
+  private List<String> questionIds;
+  private List<String> assessmentIds;
+  private final AtomicLong invocations = new AtomicLong();
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Duration maxLatency = Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(maxLatencyMicros));
+    client = AgileCheckupTables.createAll(new InMemoryDynamoDbClient(LatencyModel.uniform(maxLatency.dividedBy(2), maxLatency, 42)));
+    navigationService = DaggerServiceComponent.builder().awsConfigModule(new InMemoryAwsConfigModule(client)).build().buildAssessmentNavigationService();
+
+    DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder().dynamoDbClient(client).build();
+    employeeAssessmentRepository = new EmployeeAssessmentRepository(enhancedClient, client);
+    matrix = AssessmentMatrix.builder()
+                             .name("Benchmark matrix")
+                             .description("Benchmark matrix")
+                             .tenantId(TENANT_ID)
+                             .performanceCycleId("cycle-benchmark")
+                             .pillarMap(createMockedPillarMap(2))
+                             .questionCount(QUESTION_COUNT)
+                             .build();
+    new AssessmentMatrixRepository(enhancedClient).save(matrix);
+
+    List<Question> questions = IntStream.range(0, QUESTION_COUNT).mapToObj(i -> {
+      Question question = createMockedQuestion("question-" + i, QuestionType.YES_NO);
+      question.setAssessmentMatrixId(matrix.getId());
+      question.setTenantId(TENANT_ID);
+      return question;
+    }).collect(Collectors.toList());
+    new QuestionRepository(enhancedClient).saveAll(questions);
+    questionIds = questions.stream().map(Question::getId).collect(Collectors.toList());
+  }
+
+  @Setup(Level.Iteration)
+  public void seedAssessments() {
+    List<EmployeeAssessment> assessments = IntStream.range(0, ASSESSMENTS_PER_ITERATION)
+                                                    .mapToObj(i -> EmployeeAssessment.builder()
+                                                                                     .assessmentMatrixId(matrix.getId())
+                                                                                     .teamId("team-benchmark")
+                                                                                     .employeeEmailNormalized("employee" + i + "@example.com")
+                                                                                     .tenantId(TENANT_ID)
+                                                                                     .build())
+                                                    .collect(Collectors.toList());
+    employeeAssessmentRepository.saveAll(assessments);
+    assessmentIds = assessments.stream().map(EmployeeAssessment::getId).collect(Collectors.toList());
+    invocations.set(0);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.close();
+  }
+
+  @Benchmark
+  public AnswerWithProgressResponse saveAnswerAndGetNext() {
+    long invocation = invocations.getAndIncrement();
+    String assessmentId = assessmentIds.get((int) (invocation % ASSESSMENTS_PER_ITERATION));
+    String questionId = questionIds.get((int) ((invocation / ASSESSMENTS_PER_ITERATION) % QUESTION_COUNT));
+    return navigationService.saveAnswerAndGetNext(assessmentId, questionId, LocalDateTime.now(), "true", TENANT_ID, null);
+  }
+}
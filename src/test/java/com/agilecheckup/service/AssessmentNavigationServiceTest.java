@@ -22,10 +22,11 @@ import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.agilecheckup.concurrent.ExecutionMode;
+import com.agilecheckup.concurrent.ServiceExecutor;
 import com.agilecheckup.persistency.entity.AssessmentConfiguration;
 import com.agilecheckup.persistency.entity.AssessmentMatrix;
 import com.agilecheckup.persistency.entity.AssessmentStatus;
@@ -62,7 +63,7 @@ class AssessmentNavigationServiceTest {
   @BeforeEach
   void setUp() {
     assessmentNavigationService = new AssessmentNavigationService(
-                                                                  questionService, answerService, employeeAssessmentService, assessmentMatrixService);
+                                                                  questionService, answerService, employeeAssessmentService, assessmentMatrixService, new ServiceExecutor(ExecutionMode.PLATFORM));
   }
 
   @Test
@@ -140,9 +141,7 @@ class AssessmentNavigationServiceTest {
     assessmentNavigationService.getNextUnansweredQuestion(EMPLOYEE_ASSESSMENT_ID, TENANT_ID);
 
     // Then
-    ArgumentCaptor<EmployeeAssessment> assessmentCaptor = ArgumentCaptor.forClass(EmployeeAssessment.class);
-    verify(employeeAssessmentService).update(assessmentCaptor.capture());
-    assertThat(assessmentCaptor.getValue().getAssessmentStatus()).isEqualTo(AssessmentStatus.IN_PROGRESS);
+    verify(employeeAssessmentService).updateStatus(assessment, AssessmentStatus.IN_PROGRESS);
   }
 
   @Test
@@ -163,7 +162,7 @@ class AssessmentNavigationServiceTest {
     assessmentNavigationService.getNextUnansweredQuestion(EMPLOYEE_ASSESSMENT_ID, TENANT_ID);
 
     // Then
-    verify(employeeAssessmentService, never()).update(any(EmployeeAssessment.class));
+    verify(employeeAssessmentService, never()).updateStatus(any(EmployeeAssessment.class), any(AssessmentStatus.class));
   }
 
   @Test
@@ -0,0 +1,172 @@
+package com.agilecheckup.service;
+
+import static com.agilecheckup.util.TestObjectFactory.createMockedPillarMap;
+import static com.agilecheckup.util.TestObjectFactory.createMockedQuestion;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.agilecheckup.dagger.component.DaggerServiceComponent;
+import com.agilecheckup.persistency.entity.AssessmentMatrix;
+import com.agilecheckup.persistency.entity.AssessmentStatus;
+import com.agilecheckup.persistency.entity.AssessmentStatusHistogram;
+import com.agilecheckup.persistency.entity.EmployeeAssessment;
+import com.agilecheckup.persistency.entity.QuestionType;
+import com.agilecheckup.persistency.entity.question.Question;
+import com.agilecheckup.persistency.inmemory.AgileCheckupTables;
+import com.agilecheckup.persistency.inmemory.InMemoryAwsConfigModule;
+import com.agilecheckup.persistency.inmemory.InMemoryDynamoDbClient;
+import com.agilecheckup.persistency.repository.AssessmentMatrixRepository;
+import com.agilecheckup.persistency.repository.AssessmentStatusHistogramRepository;
+import com.agilecheckup.persistency.repository.EmployeeAssessmentRepository;
+import com.agilecheckup.persistency.repository.QuestionRepository;
+import com.agilecheckup.service.score.EmployeeAssessmentScoreCalculator;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+
+/**
+ * Runs two answers to the same assessment through the real answer flow over an {@link InMemoryDynamoDbClient}, with
+ * the second answer completing entirely while the first one is paused just before it writes its score.
+ */
+class ConcurrentAnswersTest {
+
+  private static final String TENANT_ID = "tenant-1";
+  private static final String FIRST_ANSWER_THREAD = "first-answer";
+
+  private final AtomicInteger firstAnswerUpdates = new AtomicInteger();
+  private final CountDownLatch firstAnswerPaused = new CountDownLatch(1);
+  private final CountDownLatch secondAnswerDone = new CountDownLatch(1);
+
+  private DynamoDbEnhancedClient enhancedClient;
+  private EmployeeAssessmentRepository employeeAssessmentRepository;
+  private AssessmentStatusHistogramRepository statusHistogramRepository;
+  private AssessmentNavigationService navigationService;
+  private List<String> questionIds;
+  private String assessmentId;
+
+  @BeforeEach
+  void setUp() {
+    // The first answer makes two UpdateItem calls: the answered question count, then the score. The latency hook runs
+    // on the calling thread before each call, so it can hold the score write until the second answer is done.
+    InMemoryDynamoDbClient client = AgileCheckupTables.createAll(new InMemoryDynamoDbClient(operation -> {
+      if ("UpdateItem".equals(operation) && FIRST_ANSWER_THREAD.equals(Thread.currentThread().getName()) && firstAnswerUpdates.incrementAndGet() == 2) {
+        firstAnswerPaused.countDown();
+        awaitQuietly(secondAnswerDone);
+      }
+      return Duration.ZERO;
+    }));
+    navigationService = DaggerServiceComponent.builder().awsConfigModule(new InMemoryAwsConfigModule(client)).build().buildAssessmentNavigationService();
+
+    enhancedClient = DynamoDbEnhancedClient.builder().dynamoDbClient(client).build();
+    employeeAssessmentRepository = new EmployeeAssessmentRepository(enhancedClient, client);
+    statusHistogramRepository = new AssessmentStatusHistogramRepository(enhancedClient, client);
+  }
+
+  /**
+   * Stores a matrix with the given number of questions, its status histogram and one assessment in progress.
+   */
+  private void createInProgressAssessment(int questionCount) {
+    AssessmentMatrix matrix = AssessmentMatrix.builder()
+                                              .name("Matrix")
+                                              .description("Matrix description")
+                                              .tenantId(TENANT_ID)
+                                              .performanceCycleId("cycle-1")
+                                              .pillarMap(createMockedPillarMap(2))
+                                              .questionCount(questionCount)
+                                              .build();
+    new AssessmentMatrixRepository(enhancedClient).save(matrix);
+
+    List<Question> questions = IntStream.range(0, questionCount).mapToObj(i -> {
+      Question question = createMockedQuestion("question-" + i, QuestionType.YES_NO);
+      question.setAssessmentMatrixId(matrix.getId());
+      question.setTenantId(TENANT_ID);
+      return question;
+    }).collect(Collectors.toList());
+    new QuestionRepository(enhancedClient).saveAll(questions);
+    questionIds = questions.stream().map(Question::getId).collect(Collectors.toList());
+
+    EmployeeAssessment assessment = EmployeeAssessment.builder()
+                                                      .assessmentMatrixId(matrix.getId())
+                                                      .teamId("team-1")
+                                                      .employeeEmailNormalized("employee@example.com")
+                                                      .assessmentStatus(AssessmentStatus.IN_PROGRESS)
+                                                      .tenantId(TENANT_ID)
+                                                      .build();
+    assessmentId = employeeAssessmentRepository.save(assessment).get().getId();
+    statusHistogramRepository.save(AssessmentStatusHistogram.of(matrix.getId(), TENANT_ID, Map.of(AssessmentStatus.IN_PROGRESS, 1L)));
+  }
+
+  @Test
+  void interleavedAnswers_areBothCountedAndScored() throws InterruptedException {
+    createInProgressAssessment(3);
+
+    answerInterleaved(questionIds.get(0), questionIds.get(1));
+
+    EmployeeAssessment stored = employeeAssessmentRepository.findById(assessmentId).get();
+    assertThat(stored.getAnsweredQuestionCount()).isEqualTo(2);
+    assertThat(EmployeeAssessmentScoreCalculator.countQuestionScores(stored.getEmployeeAssessmentScore())).isEqualTo(2);
+    assertThat(stored.getAssessmentStatus()).isEqualTo(AssessmentStatus.IN_PROGRESS);
+  }
+
+  @Test
+  void interleavedLastAnswers_completeTheAssessmentOnce() throws InterruptedException {
+    createInProgressAssessment(2);
+
+    answerInterleaved(questionIds.get(0), questionIds.get(1));
+
+    EmployeeAssessment stored = employeeAssessmentRepository.findById(assessmentId).get();
+    assertThat(stored.getAssessmentStatus()).isEqualTo(AssessmentStatus.COMPLETED);
+    AssessmentStatusHistogram histogram = statusHistogramRepository.findById(stored.getAssessmentMatrixId()).get();
+    assertThat(histogram.count(AssessmentStatus.IN_PROGRESS)).isZero();
+    assertThat(histogram.count(AssessmentStatus.COMPLETED)).isEqualTo(1);
+  }
+
+  /**
+   * Answers the first question on another thread, which is held before its score write while the second question is
+   * answered on this thread.
+   */
+  private void answerInterleaved(String firstQuestionId, String secondQuestionId) throws InterruptedException {
+    AtomicReference<Throwable> firstAnswerFailure = new AtomicReference<>();
+    Thread firstAnswer = new Thread(() -> {
+      try {
+        answer(firstQuestionId);
+      }
+      catch (Throwable e) {
+        firstAnswerFailure.set(e);
+      }
+    }, FIRST_ANSWER_THREAD);
+    firstAnswer.start();
+
+    assertThat(firstAnswerPaused.await(10, TimeUnit.SECONDS)).isTrue();
+    answer(secondQuestionId);
+    secondAnswerDone.countDown();
+    firstAnswer.join(TimeUnit.SECONDS.toMillis(10));
+
+    assertThat(firstAnswerFailure.get()).isNull();
+  }
+
+  private void answer(String questionId) {
+    navigationService.saveAnswerAndGetNext(assessmentId, questionId, LocalDateTime.now(), "true", TENANT_ID, null);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
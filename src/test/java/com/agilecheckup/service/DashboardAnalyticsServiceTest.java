@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -48,7 +49,6 @@ import com.agilecheckup.persistency.entity.question.Answer;
 import com.agilecheckup.persistency.entity.score.CategoryScore;
 import com.agilecheckup.persistency.entity.score.PillarScore;
 import com.agilecheckup.persistency.entity.score.PotentialScore;
-import com.agilecheckup.persistency.repository.AnswerRepository;
 import com.agilecheckup.persistency.repository.DashboardAnalyticsRepository;
 import com.agilecheckup.persistency.repository.TeamRepository;
 import com.agilecheckup.util.TestObjectFactory;
@@ -85,15 +85,12 @@ class DashboardAnalyticsServiceTest {
   @Mock
   private TeamRepository teamRepository;
 
-  @Mock
-  private AnswerRepository answerRepository;
-
   private DashboardAnalyticsService service;
 
   @BeforeEach
   void setUp() {
     service = new DashboardAnalyticsService(
-                                            dashboardAnalyticsRepository, assessmentMatrixService, employeeAssessmentService, companyService, performanceCycleService, teamRepository, answerRepository
+                                            dashboardAnalyticsRepository, assessmentMatrixService, employeeAssessmentService, companyService, performanceCycleService, teamRepository
     );
 
     setupDefaultMocks();
@@ -118,7 +115,7 @@ class DashboardAnalyticsServiceTest {
     lenient().doReturn(teamsByIds).when(teamRepository).findByIds(any());
 
     // Setup batch answer lookup (empty by default)
-    lenient().doReturn(Map.of()).when(answerRepository).findByEmployeeAssessmentIds(any(), any());
+    lenient().doReturn(CompletableFuture.completedFuture(Map.of())).when(employeeAssessmentService).findAnswersByEmployeeAssessmentIdsAsync(any(), any());
   }
 
   @Test
@@ -232,14 +229,14 @@ class DashboardAnalyticsServiceTest {
   @Test
   void testUpdateAssessmentMatrixAnalytics_Success() {
     List<EmployeeAssessment> employeeAssessments = createTenEmployeeAssessments();
-    doReturn(employeeAssessments).when(employeeAssessmentService)
-                                 .findByAssessmentMatrix(ASSESSMENT_MATRIX_ID, TENANT_ID);
+    doReturn(CompletableFuture.completedFuture(employeeAssessments)).when(employeeAssessmentService)
+                                 .findByAssessmentMatrixAsync(ASSESSMENT_MATRIX_ID, TENANT_ID);
 
     service.updateAssessmentMatrixAnalytics(ASSESSMENT_MATRIX_ID);
 
     // Verify batch operations - findByIds called once, answers called once (CRITICAL OPTIMIZATION: single batch load)
     verify(teamRepository, times(1)).findByIds(any());
-    verify(answerRepository, times(1)).findByEmployeeAssessmentIds(any(), any());
+    verify(employeeAssessmentService, times(1)).findAnswersByEmployeeAssessmentIdsAsync(any(), any());
 
     @SuppressWarnings("unchecked") ArgumentCaptor<List<DashboardAnalytics>> analyticsCaptor = ArgumentCaptor.forClass(List.class);
     verify(dashboardAnalyticsRepository, times(1)).saveAll(analyticsCaptor.capture());
@@ -269,6 +266,18 @@ class DashboardAnalyticsServiceTest {
                                                                          .containsExactlyInAnyOrder(TEAM_ID_1, TEAM_ID_2);
   }
 
+  @Test
+  void testUpdateAssessmentMatrixAnalytics_FailsWithoutSavingWhenTeamLookupFails() {
+    List<EmployeeAssessment> employeeAssessments = createTenEmployeeAssessments();
+    doReturn(CompletableFuture.completedFuture(employeeAssessments)).when(employeeAssessmentService)
+                                 .findByAssessmentMatrixAsync(ASSESSMENT_MATRIX_ID, TENANT_ID);
+    doThrow(new RuntimeException("Batch get from Team failed")).when(teamRepository).findByIds(any());
+
+    assertThatThrownBy(() -> service.updateAssessmentMatrixAnalytics(ASSESSMENT_MATRIX_ID)).hasMessage("Batch get from Team failed");
+
+    verify(dashboardAnalyticsRepository, never()).saveAll(any());
+  }
+
   @Test
   void testUpdateAssessmentMatrixAnalytics_AssessmentMatrixNotFound() {
     doReturn(Optional.empty()).when(assessmentMatrixService).findById(ASSESSMENT_MATRIX_ID);
@@ -276,13 +285,13 @@ class DashboardAnalyticsServiceTest {
     service.updateAssessmentMatrixAnalytics(ASSESSMENT_MATRIX_ID);
 
     verify(dashboardAnalyticsRepository, never()).saveAll(any());
-    verify(employeeAssessmentService, never()).findByAssessmentMatrix(anyString(), anyString());
+    verify(employeeAssessmentService, never()).findByAssessmentMatrixAsync(anyString(), anyString());
   }
 
   @Test
   void testUpdateAssessmentMatrixAnalytics_NoAssessments() {
-    doReturn(Collections.emptyList()).when(employeeAssessmentService)
-                                     .findByAssessmentMatrix(ASSESSMENT_MATRIX_ID, TENANT_ID);
+    doReturn(CompletableFuture.completedFuture(Collections.emptyList())).when(employeeAssessmentService)
+                                     .findByAssessmentMatrixAsync(ASSESSMENT_MATRIX_ID, TENANT_ID);
 
     service.updateAssessmentMatrixAnalytics(ASSESSMENT_MATRIX_ID);
 
@@ -292,14 +301,14 @@ class DashboardAnalyticsServiceTest {
   @Test
   void testUpdateAssessmentMatrixAnalytics_OnlyAssessmentsWithoutTeams() {
     List<EmployeeAssessment> assessmentsWithoutTeams = createEmployeeAssessmentsWithoutTeams(3);
-    doReturn(assessmentsWithoutTeams).when(employeeAssessmentService)
-                                     .findByAssessmentMatrix(ASSESSMENT_MATRIX_ID, TENANT_ID);
+    doReturn(CompletableFuture.completedFuture(assessmentsWithoutTeams)).when(employeeAssessmentService)
+                                     .findByAssessmentMatrixAsync(ASSESSMENT_MATRIX_ID, TENANT_ID);
 
     service.updateAssessmentMatrixAnalytics(ASSESSMENT_MATRIX_ID);
 
     // Verify batch operations - teams still called but with empty set, answers called once (CRITICAL OPTIMIZATION: single batch load)
     verify(teamRepository, times(1)).findByIds(any());
-    verify(answerRepository, times(1)).findByEmployeeAssessmentIds(any(), any());
+    verify(employeeAssessmentService, times(1)).findAnswersByEmployeeAssessmentIdsAsync(any(), any());
 
     @SuppressWarnings("unchecked") ArgumentCaptor<List<DashboardAnalytics>> analyticsCaptor = ArgumentCaptor.forClass(List.class);
     verify(dashboardAnalyticsRepository, times(1)).saveAll(analyticsCaptor.capture());
@@ -324,14 +333,14 @@ class DashboardAnalyticsServiceTest {
       assessment.setEmployeeAssessmentScore(createMockEmployeeAssessmentScore(85.0 + i * 2));
     }
 
-    doReturn(employeeAssessments).when(employeeAssessmentService)
-                                 .findByAssessmentMatrix(ASSESSMENT_MATRIX_ID, TENANT_ID);
+    doReturn(CompletableFuture.completedFuture(employeeAssessments)).when(employeeAssessmentService)
+                                 .findByAssessmentMatrixAsync(ASSESSMENT_MATRIX_ID, TENANT_ID);
 
     service.updateAssessmentMatrixAnalytics(ASSESSMENT_MATRIX_ID);
 
     // Verify batch operations - findByIds called once, answers called once (CRITICAL OPTIMIZATION: single batch load)
     verify(teamRepository, times(1)).findByIds(any());
-    verify(answerRepository, times(1)).findByEmployeeAssessmentIds(any(), any());
+    verify(employeeAssessmentService, times(1)).findAnswersByEmployeeAssessmentIdsAsync(any(), any());
 
     @SuppressWarnings("unchecked") ArgumentCaptor<List<DashboardAnalytics>> analyticsCaptor = ArgumentCaptor.forClass(List.class);
     verify(dashboardAnalyticsRepository, times(1)).saveAll(analyticsCaptor.capture());
@@ -360,16 +369,16 @@ class DashboardAnalyticsServiceTest {
     for (EmployeeAssessment assessment : employeeAssessments) {
       answersByAssessment.put(assessment.getId(), createMockAnswersWithNotes(assessment.getId()));
     }
-    doReturn(answersByAssessment).when(answerRepository).findByEmployeeAssessmentIds(any(), any());
+    doReturn(CompletableFuture.completedFuture(answersByAssessment)).when(employeeAssessmentService).findAnswersByEmployeeAssessmentIdsAsync(any(), any());
 
-    doReturn(employeeAssessments).when(employeeAssessmentService)
-                                 .findByAssessmentMatrix(ASSESSMENT_MATRIX_ID, TENANT_ID);
+    doReturn(CompletableFuture.completedFuture(employeeAssessments)).when(employeeAssessmentService)
+                                 .findByAssessmentMatrixAsync(ASSESSMENT_MATRIX_ID, TENANT_ID);
 
     service.updateAssessmentMatrixAnalytics(ASSESSMENT_MATRIX_ID);
 
     // Verify batch operations - findByIds called once, answers called once (CRITICAL OPTIMIZATION: single batch load)
     verify(teamRepository, times(1)).findByIds(any());
-    verify(answerRepository, times(1)).findByEmployeeAssessmentIds(any(), any());
+    verify(employeeAssessmentService, times(1)).findAnswersByEmployeeAssessmentIdsAsync(any(), any());
 
     @SuppressWarnings("unchecked") ArgumentCaptor<List<DashboardAnalytics>> analyticsCaptor = ArgumentCaptor.forClass(List.class);
     verify(dashboardAnalyticsRepository, times(1)).saveAll(analyticsCaptor.capture());
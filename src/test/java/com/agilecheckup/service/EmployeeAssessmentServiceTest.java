@@ -3,7 +3,8 @@ package com.agilecheckup.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.atLeast;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
@@ -11,6 +12,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
@@ -20,6 +22,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +34,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.agilecheckup.persistency.entity.AssessmentMatrix;
 import com.agilecheckup.persistency.entity.AssessmentStatus;
+import com.agilecheckup.persistency.entity.AssessmentStatusHistogram;
 import com.agilecheckup.persistency.entity.EmployeeAssessment;
 import com.agilecheckup.persistency.entity.Pillar;
 import com.agilecheckup.persistency.entity.QuestionType;
@@ -41,11 +46,17 @@ import com.agilecheckup.persistency.entity.person.PersonDocumentType;
 import com.agilecheckup.persistency.entity.question.Answer;
 import com.agilecheckup.persistency.entity.question.Question;
 import com.agilecheckup.persistency.repository.AnswerRepository;
+import com.agilecheckup.persistency.repository.AssessmentStatusHistogramRepository;
+import com.agilecheckup.persistency.repository.AsyncAnswerRepository;
+import com.agilecheckup.persistency.repository.AsyncEmployeeAssessmentRepository;
 import com.agilecheckup.persistency.repository.EmployeeAssessmentRepository;
+import com.agilecheckup.persistency.repository.QuestionSnapshotRepository;
+import com.agilecheckup.service.cache.QuestionSnapshotCache;
 import com.agilecheckup.service.dto.EmployeeValidationRequest;
 import com.agilecheckup.service.dto.EmployeeValidationResponse;
 import com.agilecheckup.service.exception.EmployeeAssessmentAlreadyExistsException;
 import com.agilecheckup.service.exception.InvalidIdReferenceException;
+import com.agilecheckup.service.score.EmployeeAssessmentScoreCalculator;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeAssessmentServiceTest {
@@ -63,12 +74,20 @@ class EmployeeAssessmentServiceTest {
   private TeamService teamService;
   @Mock
   private AnswerRepository answerRepository;
+  @Mock
+  private QuestionSnapshotRepository questionSnapshotRepository;
+  @Mock
+  private AssessmentStatusHistogramRepository statusHistogramRepository;
+  @Mock
+  private AsyncEmployeeAssessmentRepository asyncEmployeeAssessmentRepository;
+  @Mock
+  private AsyncAnswerRepository asyncAnswerRepository;
   private EmployeeAssessmentService service;
 
   @BeforeEach
   void setUp() {
     service = new EmployeeAssessmentService(
-                                            employeeAssessmentRepository, assessmentMatrixService, teamService, answerRepository
+                                            employeeAssessmentRepository, assessmentMatrixService, teamService, answerRepository, new QuestionSnapshotCache(questionSnapshotRepository), statusHistogramRepository, asyncEmployeeAssessmentRepository, asyncAnswerRepository
     );
 
     // Setup default mocks
@@ -196,13 +215,28 @@ class EmployeeAssessmentServiceTest {
     assessment.setAssessmentStatus(AssessmentStatus.INVITED);
 
     doReturn(Optional.of(assessment)).when(employeeAssessmentRepository).findById(assessmentId);
-    doReturn(Optional.of(assessment)).when(employeeAssessmentRepository).save(any(EmployeeAssessment.class));
+    doReturn(OptionalLong.of(1)).when(employeeAssessmentRepository).incrementAnsweredQuestionCount(eq(assessmentId), any(Date.class));
+    doReturn(true).when(employeeAssessmentRepository).updateAttributesIf(assessment, "assessmentStatus", AssessmentStatus.INVITED, "assessmentStatus", "lastActivityDate");
 
     service.incrementAnsweredQuestionCount(assessmentId);
 
     assertThat(assessment.getAnsweredQuestionCount()).isEqualTo(1);
     assertThat(assessment.getAssessmentStatus()).isEqualTo(AssessmentStatus.IN_PROGRESS);
-    verify(employeeAssessmentRepository, atLeast(1)).save(assessment);
+    verify(employeeAssessmentRepository).updateAttributesIf(assessment, "assessmentStatus", AssessmentStatus.INVITED, "assessmentStatus", "lastActivityDate");
+    verify(employeeAssessmentRepository, never()).save(any(EmployeeAssessment.class));
+  }
+
+  @Test
+  void testIncrementAnsweredQuestionCount_AssessmentDeletedConcurrently() {
+    String assessmentId = "assessment-123";
+    EmployeeAssessment assessment = createMockEmployeeAssessment();
+    assessment.setId(assessmentId);
+
+    doReturn(Optional.of(assessment)).when(employeeAssessmentRepository).findById(assessmentId);
+    doReturn(OptionalLong.empty()).when(employeeAssessmentRepository).incrementAnsweredQuestionCount(eq(assessmentId), any(Date.class));
+
+    assertThatThrownBy(() -> service.incrementAnsweredQuestionCount(assessmentId)).isInstanceOf(InvalidIdReferenceException.class);
+    verify(employeeAssessmentRepository, never()).save(any(EmployeeAssessment.class));
   }
 
   @Test
@@ -225,7 +259,7 @@ class EmployeeAssessmentServiceTest {
 
     doReturn(Optional.of(mockMatrix)).when(assessmentMatrixService).findById(assessment.getAssessmentMatrixId());
     doReturn(Optional.of(assessment)).when(employeeAssessmentRepository).findById(assessmentId);
-    doReturn(Optional.of(assessment)).when(employeeAssessmentRepository).save(any(EmployeeAssessment.class));
+    doReturn(OptionalLong.of(6)).when(employeeAssessmentRepository).incrementAnsweredQuestionCount(eq(assessmentId), any(Date.class));
 
     EmployeeAssessmentService serviceSpy = spy(service);
 
@@ -235,7 +269,9 @@ class EmployeeAssessmentServiceTest {
     // Then
     assertThat(assessment.getAnsweredQuestionCount()).isEqualTo(6);
     assertThat(assessment.getAssessmentStatus()).isEqualTo(AssessmentStatus.IN_PROGRESS);
-    verify(serviceSpy).save(assessment);
+    assertThat(assessment.getLastActivityDate()).isNotNull();
+    verify(serviceSpy, never()).save(assessment);
+    verify(employeeAssessmentRepository, never()).save(any(EmployeeAssessment.class));
   }
 
   @Test
@@ -258,7 +294,8 @@ class EmployeeAssessmentServiceTest {
 
     doReturn(Optional.of(mockMatrix)).when(assessmentMatrixService).findById(assessment.getAssessmentMatrixId());
     doReturn(Optional.of(assessment)).when(employeeAssessmentRepository).findById(assessmentId);
-    doReturn(Optional.of(assessment)).when(employeeAssessmentRepository).save(any(EmployeeAssessment.class));
+    doReturn(OptionalLong.of(8)).when(employeeAssessmentRepository).incrementAnsweredQuestionCount(eq(assessmentId), any(Date.class));
+    doReturn(true).when(employeeAssessmentRepository).updateAttributesIf(assessment, "assessmentStatus", AssessmentStatus.IN_PROGRESS, "assessmentStatus", "lastActivityDate");
 
     EmployeeAssessmentService serviceSpy = spy(service);
 
@@ -268,8 +305,9 @@ class EmployeeAssessmentServiceTest {
     // Then
     assertThat(assessment.getAnsweredQuestionCount()).isEqualTo(8);
     assertThat(assessment.getAssessmentStatus()).isEqualTo(AssessmentStatus.COMPLETED);
-    verify(serviceSpy, times(1)).save(assessment);
-    verify(serviceSpy, times(1)).updateEmployeeAssessmentScore(assessment);
+    verify(employeeAssessmentRepository, times(1)).updateAttributesIf(assessment, "assessmentStatus", AssessmentStatus.IN_PROGRESS, "assessmentStatus", "lastActivityDate");
+    verify(employeeAssessmentRepository, never()).save(any(EmployeeAssessment.class));
+    verify(serviceSpy, never()).updateEmployeeAssessmentScore(assessment);
   }
 
   @Test
@@ -280,13 +318,15 @@ class EmployeeAssessmentServiceTest {
     assessment.setAssessmentStatus(AssessmentStatus.INVITED);
 
     doReturn(Optional.of(assessment)).when(employeeAssessmentRepository).findById(assessmentId);
-    doReturn(Optional.of(assessment)).when(employeeAssessmentRepository).save(any(EmployeeAssessment.class));
+    doReturn(true).when(employeeAssessmentRepository).updateAttributesIf(assessment, "assessmentStatus", AssessmentStatus.INVITED, "assessmentStatus");
+    doReturn(true).when(employeeAssessmentRepository).updateAttributes(assessment, "lastActivityDate");
 
     Optional<EmployeeAssessment> result = service.updateAssessmentStatus(assessmentId, AssessmentStatus.CONFIRMED);
 
     assertThat(result).isPresent();
     assertThat(result.get().getAssessmentStatus()).isEqualTo(AssessmentStatus.CONFIRMED);
-    verify(employeeAssessmentRepository, atLeast(1)).save(assessment);
+    verify(employeeAssessmentRepository).updateAttributesIf(assessment, "assessmentStatus", AssessmentStatus.INVITED, "assessmentStatus");
+    verify(employeeAssessmentRepository, never()).save(any(EmployeeAssessment.class));
   }
 
   @Test
@@ -299,14 +339,79 @@ class EmployeeAssessmentServiceTest {
 
     doReturn(Optional.of(assessment)).when(employeeAssessmentRepository).findById(assessmentId);
     doReturn(mockAnswers).when(answerRepository).findByEmployeeAssessmentId(assessmentId, TENANT_ID);
-    doReturn(Optional.of(assessment)).when(employeeAssessmentRepository).save(any(EmployeeAssessment.class));
+    doReturn(true).when(employeeAssessmentRepository).updateScoreIfUnchanged(assessment);
 
     EmployeeAssessment result = service.updateEmployeeAssessmentScore(assessmentId);
 
     assertThat(result).isNotNull();
     assertThat(result.getEmployeeAssessmentScore()).isNotNull();
     assertThat(result.getEmployeeAssessmentScore().getScore()).isGreaterThan(0);
-    verify(employeeAssessmentRepository).save(assessment);
+    verify(employeeAssessmentRepository).updateScoreIfUnchanged(assessment);
+    verify(employeeAssessmentRepository, never()).save(any(EmployeeAssessment.class));
+  }
+
+  @Test
+  void testApplyAnswerScore_UpdatesOnlyTheScoreAttribute() {
+    String assessmentId = "assessment-123";
+    EmployeeAssessment assessment = createMockEmployeeAssessment();
+    assessment.setId(assessmentId);
+    assessment.setAnsweredQuestionCount(2);
+    List<Answer> answers = createMockAnswers();
+    assessment.setEmployeeAssessmentScore(EmployeeAssessmentScoreCalculator.calculate(List.of(answers.get(0))));
+
+    doReturn(Optional.of(assessment)).when(employeeAssessmentRepository).findById(assessmentId);
+    doReturn(true).when(employeeAssessmentRepository).updateScoreIfUnchanged(assessment);
+
+    service.applyAnswerScore(answers.get(1));
+
+    assertThat(assessment.getEmployeeAssessmentScore().getScore()).isEqualTo(15.5);
+    verify(employeeAssessmentRepository).updateScoreIfUnchanged(assessment);
+    verify(answerRepository, never()).findByEmployeeAssessmentId(any(), any());
+    verify(employeeAssessmentRepository, never()).save(any(EmployeeAssessment.class));
+  }
+
+  @Test
+  void testApplyAnswerScore_RebuildsWhenTreeMissesAnswers() {
+    String assessmentId = "assessment-123";
+    EmployeeAssessment assessment = createMockEmployeeAssessment();
+    assessment.setId(assessmentId);
+    assessment.setAnsweredQuestionCount(2);
+    List<Answer> answers = createMockAnswers();
+
+    doReturn(Optional.of(assessment)).when(employeeAssessmentRepository).findById(assessmentId);
+    doReturn(answers).when(answerRepository).findByEmployeeAssessmentId(assessmentId, TENANT_ID);
+    doReturn(true).when(employeeAssessmentRepository).updateScoreIfUnchanged(assessment);
+
+    service.applyAnswerScore(answers.get(1));
+
+    assertThat(assessment.getEmployeeAssessmentScore().getScore()).isEqualTo(15.5);
+    verify(employeeAssessmentRepository).updateScoreIfUnchanged(assessment);
+    verify(employeeAssessmentRepository, never()).save(any(EmployeeAssessment.class));
+  }
+
+  @Test
+  void testApplyAnswerScore_RescoresWhenTheScoreChangedConcurrently() {
+    String assessmentId = "assessment-123";
+    EmployeeAssessment assessment = createMockEmployeeAssessment();
+    assessment.setId(assessmentId);
+    assessment.setAnsweredQuestionCount(1);
+    List<Answer> answers = createMockAnswers();
+    EmployeeAssessment stored = createMockEmployeeAssessment();
+    stored.setId(assessmentId);
+    stored.setAnsweredQuestionCount(2);
+    stored.setScoreVersion(1L);
+    stored.setEmployeeAssessmentScore(EmployeeAssessmentScoreCalculator.calculate(List.of(answers.get(0))));
+
+    doReturn(Optional.of(assessment), Optional.of(stored)).when(employeeAssessmentRepository).findById(assessmentId);
+    doReturn(false).when(employeeAssessmentRepository).updateScoreIfUnchanged(same(assessment));
+    doReturn(true).when(employeeAssessmentRepository).updateScoreIfUnchanged(same(stored));
+
+    service.applyAnswerScore(answers.get(1));
+
+    assertThat(assessment.getEmployeeAssessmentScore().getScore()).isEqualTo(15.5);
+    assertThat(assessment.getAnsweredQuestionCount()).isEqualTo(2);
+    verify(employeeAssessmentRepository).updateScoreIfUnchanged(same(stored));
+    verify(answerRepository, never()).findByEmployeeAssessmentId(any(), any());
   }
 
   @Test
@@ -366,10 +471,15 @@ class EmployeeAssessmentServiceTest {
   @Test
   void testDeleteById_Success() {
     String assessmentId = "assessment-123";
+    EmployeeAssessment assessment = createMockEmployeeAssessment();
+    assessment.setAssessmentStatus(AssessmentStatus.IN_PROGRESS);
+    doReturn(Optional.of(assessment)).when(employeeAssessmentRepository).deleteAndGet(assessmentId);
 
-    service.deleteById(assessmentId);
+    boolean deleted = service.deleteById(assessmentId);
 
-    verify(employeeAssessmentRepository).deleteById(assessmentId);
+    assertThat(deleted).isTrue();
+    verify(employeeAssessmentRepository).deleteAndGet(assessmentId);
+    verify(statusHistogramRepository).recordTransition(ASSESSMENT_MATRIX_ID, AssessmentStatus.IN_PROGRESS, null);
   }
 
   @Test
@@ -396,8 +506,8 @@ class EmployeeAssessmentServiceTest {
     assessment.setAssessmentStatus(AssessmentStatus.INVITED);
 
     List<EmployeeAssessment> assessments = Arrays.asList(assessment);
-    doReturn(assessments).when(employeeAssessmentRepository).findByAssessmentMatrixId(ASSESSMENT_MATRIX_ID, TENANT_ID);
-    doReturn(Optional.of(assessment)).when(employeeAssessmentRepository).save(any(EmployeeAssessment.class));
+    doReturn(assessments.stream()).when(employeeAssessmentRepository).streamByAssessmentMatrixId(ASSESSMENT_MATRIX_ID, TENANT_ID);
+    doReturn(true).when(employeeAssessmentRepository).updateAttributesIf(assessment, "assessmentStatus", AssessmentStatus.INVITED, "assessmentStatus", "lastActivityDate");
 
     EmployeeValidationRequest request = new EmployeeValidationRequest();
     request.setAssessmentMatrixId(ASSESSMENT_MATRIX_ID);
@@ -410,13 +520,96 @@ class EmployeeAssessmentServiceTest {
     assertThat(response.getEmployeeAssessmentId()).isEqualTo(assessmentId);
     assertThat(response.getName()).isEqualTo(EMPLOYEE_NAME);
     assertThat(response.getAssessmentStatus()).isEqualTo(AssessmentStatus.CONFIRMED.toString());
-    verify(employeeAssessmentRepository).save(assessment);
+    verify(employeeAssessmentRepository).updateAttributesIf(assessment, "assessmentStatus", AssessmentStatus.INVITED, "assessmentStatus", "lastActivityDate");
+    verify(employeeAssessmentRepository, never()).save(any(EmployeeAssessment.class));
+    verify(statusHistogramRepository).recordTransition(ASSESSMENT_MATRIX_ID, AssessmentStatus.INVITED, AssessmentStatus.CONFIRMED);
+  }
+
+  @Test
+  void testAreAllAssessmentsCompleted_ReadsStatusHistogram() {
+    AssessmentStatusHistogram histogram = AssessmentStatusHistogram.of(ASSESSMENT_MATRIX_ID, TENANT_ID, Map.of(AssessmentStatus.COMPLETED, 4L));
+    doReturn(Optional.of(histogram)).when(statusHistogramRepository).findById(ASSESSMENT_MATRIX_ID);
+
+    assertThat(service.areAllAssessmentsCompleted(ASSESSMENT_MATRIX_ID, TENANT_ID)).isTrue();
+    assertThat(service.countNonCompletedAssessments(ASSESSMENT_MATRIX_ID, TENANT_ID)).isZero();
+    verifyNoInteractions(employeeAssessmentRepository);
+  }
+
+  @Test
+  void testGetStatusHistogram_CountsIndexWhenHistogramIsMissing() {
+    doReturn(Optional.empty()).when(statusHistogramRepository).findById(ASSESSMENT_MATRIX_ID);
+    doReturn(Map.of(AssessmentStatus.INVITED, 2L, AssessmentStatus.IN_PROGRESS, 1L)).when(employeeAssessmentRepository)
+                                                                                     .countByStatus(ASSESSMENT_MATRIX_ID, TENANT_ID);
+
+    AssessmentStatusHistogram histogram = service.getStatusHistogram(ASSESSMENT_MATRIX_ID, TENANT_ID);
+
+    assertThat(histogram.count(AssessmentStatus.INVITED)).isEqualTo(2);
+    assertThat(histogram.count(AssessmentStatus.IN_PROGRESS)).isEqualTo(1);
+    assertThat(histogram.nonCompleted()).isEqualTo(3);
+  }
+
+  @Test
+  void testAreAllAssessmentsCompleted_CountsIndexWhenHistogramHasDrifted() {
+    AssessmentStatusHistogram histogram = AssessmentStatusHistogram.of(ASSESSMENT_MATRIX_ID, TENANT_ID, Map.of(AssessmentStatus.IN_PROGRESS, -1L, AssessmentStatus.COMPLETED, 4L));
+    doReturn(Optional.of(histogram)).when(statusHistogramRepository).findById(ASSESSMENT_MATRIX_ID);
+    doReturn(false).when(employeeAssessmentRepository).areAllAssessmentsCompleted(ASSESSMENT_MATRIX_ID, TENANT_ID);
+    doReturn(1L).when(employeeAssessmentRepository).countNonCompletedAssessments(ASSESSMENT_MATRIX_ID, TENANT_ID);
+
+    assertThat(histogram.count(AssessmentStatus.IN_PROGRESS)).isEqualTo(-1);
+    assertThat(service.areAllAssessmentsCompleted(ASSESSMENT_MATRIX_ID, TENANT_ID)).isFalse();
+    assertThat(service.countNonCompletedAssessments(ASSESSMENT_MATRIX_ID, TENANT_ID)).isEqualTo(1);
+  }
+
+  @Test
+  void testIncrementAnsweredQuestionCount_SkipsTransitionAlreadyAppliedConcurrently() {
+    String assessmentId = "assessment-123";
+    EmployeeAssessment assessment = createMockEmployeeAssessment();
+    assessment.setId(assessmentId);
+    assessment.setAnsweredQuestionCount(0);
+    assessment.setAssessmentStatus(AssessmentStatus.INVITED);
+
+    EmployeeAssessment stored = createMockEmployeeAssessment();
+    stored.setId(assessmentId);
+    stored.setAssessmentStatus(AssessmentStatus.COMPLETED);
+
+    doReturn(Optional.of(assessment), Optional.of(stored)).when(employeeAssessmentRepository).findById(assessmentId);
+    doReturn(OptionalLong.of(2)).when(employeeAssessmentRepository).incrementAnsweredQuestionCount(eq(assessmentId), any(Date.class));
+    doReturn(false).when(employeeAssessmentRepository)
+                   .updateAttributesIf(assessment, "assessmentStatus", AssessmentStatus.INVITED, "assessmentStatus", "lastActivityDate");
+
+    service.incrementAnsweredQuestionCount(assessmentId);
+
+    verifyNoInteractions(statusHistogramRepository);
+    assertThat(assessment.getAssessmentStatus()).isEqualTo(AssessmentStatus.COMPLETED);
+  }
+
+  @Test
+  void testUpdateStatus_RestoresPreviousStatusWhenRejectedForDeletedAssessment() {
+    EmployeeAssessment assessment = createMockEmployeeAssessment();
+    assessment.setId("assessment-123");
+    assessment.setAssessmentStatus(AssessmentStatus.IN_PROGRESS);
+
+    doReturn(false).when(employeeAssessmentRepository).updateAttributesIf(assessment, "assessmentStatus", AssessmentStatus.IN_PROGRESS, "assessmentStatus");
+    doReturn(Optional.empty()).when(employeeAssessmentRepository).findById("assessment-123");
+
+    assertThat(service.updateStatus(assessment, AssessmentStatus.COMPLETED)).isEmpty();
+    assertThat(assessment.getAssessmentStatus()).isEqualTo(AssessmentStatus.IN_PROGRESS);
+    verifyNoInteractions(statusHistogramRepository);
+  }
+
+  @Test
+  void testAreAllAssessmentsCompleted_IgnoresHistogramOfOtherTenant() {
+    AssessmentStatusHistogram histogram = AssessmentStatusHistogram.of(ASSESSMENT_MATRIX_ID, "other-tenant", Map.of(AssessmentStatus.COMPLETED, 4L));
+    doReturn(Optional.of(histogram)).when(statusHistogramRepository).findById(ASSESSMENT_MATRIX_ID);
+    doReturn(false).when(employeeAssessmentRepository).areAllAssessmentsCompleted(ASSESSMENT_MATRIX_ID, TENANT_ID);
+
+    assertThat(service.areAllAssessmentsCompleted(ASSESSMENT_MATRIX_ID, TENANT_ID)).isFalse();
   }
 
   @Test
   void testValidateEmployee_NotFound() {
-    doReturn(Arrays.asList()).when(employeeAssessmentRepository)
-                             .findByAssessmentMatrixId(ASSESSMENT_MATRIX_ID, TENANT_ID);
+    doReturn(Stream.empty()).when(employeeAssessmentRepository)
+                            .streamByAssessmentMatrixId(ASSESSMENT_MATRIX_ID, TENANT_ID);
 
     EmployeeValidationRequest request = new EmployeeValidationRequest();
     request.setAssessmentMatrixId(ASSESSMENT_MATRIX_ID);
@@ -437,7 +630,7 @@ class EmployeeAssessmentServiceTest {
     assessment.setAssessmentStatus(AssessmentStatus.COMPLETED);
 
     List<EmployeeAssessment> assessments = Arrays.asList(assessment);
-    doReturn(assessments).when(employeeAssessmentRepository).findByAssessmentMatrixId(ASSESSMENT_MATRIX_ID, TENANT_ID);
+    doReturn(assessments.stream()).when(employeeAssessmentRepository).streamByAssessmentMatrixId(ASSESSMENT_MATRIX_ID, TENANT_ID);
 
     EmployeeValidationRequest request = new EmployeeValidationRequest();
     request.setAssessmentMatrixId(ASSESSMENT_MATRIX_ID);
@@ -459,12 +652,12 @@ class EmployeeAssessmentServiceTest {
     assessment.setAssessmentStatus(AssessmentStatus.IN_PROGRESS);
 
     doReturn(Optional.of(assessment)).when(employeeAssessmentRepository).findById(assessmentId);
-    doReturn(Optional.of(assessment)).when(employeeAssessmentRepository).save(any(EmployeeAssessment.class));
 
     service.updateLastActivityDate(assessmentId);
 
     assertThat(assessment.getLastActivityDate()).isNotNull();
-    verify(employeeAssessmentRepository).save(assessment);
+    verify(employeeAssessmentRepository).updateAttributes(assessment, "lastActivityDate");
+    verify(employeeAssessmentRepository, never()).save(any(EmployeeAssessment.class));
   }
 
   @Test
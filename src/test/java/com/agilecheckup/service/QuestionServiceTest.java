@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.Arrays;
@@ -26,6 +27,7 @@ import com.agilecheckup.persistency.entity.question.OptionGroup;
 import com.agilecheckup.persistency.entity.question.Question;
 import com.agilecheckup.persistency.entity.question.QuestionOption;
 import com.agilecheckup.persistency.repository.QuestionRepository;
+import com.agilecheckup.service.cache.AssessmentDefinitionCache;
 import com.agilecheckup.service.exception.InvalidCustomOptionListException;
 import com.agilecheckup.service.exception.InvalidIdReferenceException;
 
@@ -42,7 +44,7 @@ class QuestionServiceTest {
 
   @BeforeEach
   void setUp() {
-    service = new QuestionService(questionRepository, assessmentMatrixService);
+    service = new QuestionService(questionRepository, assessmentMatrixService, new AssessmentDefinitionCache());
   }
 
   @Test
@@ -139,6 +141,25 @@ class QuestionServiceTest {
     verify(questionRepository).save(any(Question.class));
   }
 
+  @Test
+  void testUpdate_InvalidatesQuestionsOfPreviousMatrix() {
+    String tenantId = "tenant-123";
+    AssessmentDefinitionCache definitionCache = new AssessmentDefinitionCache();
+    service = new QuestionService(questionRepository, assessmentMatrixService, definitionCache);
+    Question existingQuestion = createMockQuestion("question-123", "Question", tenantId, "matrix-old");
+
+    doReturn(List.of(existingQuestion)).when(questionRepository).findByAssessmentMatrixId("matrix-old", tenantId);
+    doReturn(Optional.of(existingQuestion)).when(questionRepository).findById("question-123");
+    doReturn(Optional.of(createMockAssessmentMatrix("matrix-new", tenantId))).when(assessmentMatrixService).findById("matrix-new");
+    doReturn(Optional.of(existingQuestion)).when(questionRepository).save(any(Question.class));
+
+    service.findByAssessmentMatrixId("matrix-old", tenantId);
+    service.update("question-123", "Question", QuestionType.ONE_TO_TEN, tenantId, 5.0, "matrix-new", "pillar-456", "category-789", null);
+    service.findByAssessmentMatrixId("matrix-old", tenantId);
+
+    verify(questionRepository, times(2)).findByAssessmentMatrixId("matrix-old", tenantId);
+  }
+
   @Test
   void testUpdateCustomQuestion() {
     String questionId = "question-123";
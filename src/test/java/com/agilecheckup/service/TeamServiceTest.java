@@ -4,12 +4,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.agilecheckup.persistency.entity.Team;
 import com.agilecheckup.persistency.repository.TeamRepository;
 import com.agilecheckup.service.exception.EntityNotFoundException;
+import com.agilecheckup.service.unitofwork.UnitOfWork;
 import com.agilecheckup.util.TestObjectFactory;
 
 @ExtendWith(MockitoExtension.class)
@@ -171,4 +175,44 @@ class TeamServiceTest {
     assertThat(result).isTrue();
     verify(teamRepository).deleteById(teamId);
   }
-}
\ No newline at end of file
+
+  @Test
+  void testFindByIds() {
+    // Given
+    Team team = TestObjectFactory.createMockedTeam("Engineering Team", "Core engineering team", "tenant-123", "dept-456");
+    team.setId("team-123");
+    Set<String> teamIds = Set.of("team-123", "team-456");
+    when(teamRepository.findByIds(teamIds)).thenReturn(Map.of("team-123", team));
+
+    // When
+    Map<String, Team> result = teamService.findByIds(teamIds);
+
+    // Then
+    assertThat(result).containsOnlyKeys("team-123");
+    verify(teamRepository).findByIds(teamIds);
+    verify(teamRepository, never()).findById(any());
+  }
+
+  @Test
+  void testFindAndUpdateInsideUnitOfWork() {
+    // Given
+    Team team = TestObjectFactory.createMockedTeam("Engineering Team", "Core engineering team", "tenant-123", "dept-456");
+    team.setId("team-123");
+    when(teamRepository.findById("team-123")).thenReturn(Optional.of(team));
+    when(teamRepository.save(team)).thenReturn(Optional.of(team));
+
+    // When
+    UnitOfWork.execute(() -> {
+      teamService.findById("team-123");
+      teamService.update("team-123", "tenant-123", "Platform Team", "Core engineering team", "dept-456");
+      teamService.update("team-123", "tenant-123", "Platform Team", "Platform engineering team", "dept-456");
+
+      verify(teamRepository, never()).save(any(Team.class));
+    });
+
+    // Then
+    verify(teamRepository, times(1)).findById("team-123");
+    verify(teamRepository, times(1)).save(team);
+    assertThat(team.getDescription()).isEqualTo("Platform engineering team");
+  }
+}
@@ -0,0 +1,181 @@
+package com.agilecheckup.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.agilecheckup.persistency.entity.AssessmentMatrix;
+import com.agilecheckup.persistency.entity.question.Question;
+import com.agilecheckup.util.TestObjectFactory;
+
+class AssessmentDefinitionCacheTest {
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  @DisplayName("Should load a matrix once and serve later reads from the cache")
+  void shouldCacheMatrix() {
+    AssessmentDefinitionCache cache = new AssessmentDefinitionCache();
+    AssessmentMatrix matrix = createMatrix("matrix-1", true);
+
+    Optional<AssessmentMatrix> first = cache.getMatrix("matrix-1", () -> load(matrix));
+    Optional<AssessmentMatrix> second = cache.getMatrix("matrix-1", () -> load(matrix));
+
+    assertThat(second).hasValue(first.get());
+    assertThat(loads).hasValue(1);
+    assertThat(cache.getMatrixHitCount()).isEqualTo(1);
+    assertThat(cache.getMatrixMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should return a new copy on every read so changes of one caller do not leak to others")
+  void shouldReturnCopiesOfCachedMatrix() {
+    AssessmentDefinitionCache cache = new AssessmentDefinitionCache();
+    AssessmentMatrix matrix = createMatrix("matrix-1", true);
+    matrix.setPillarMap(TestObjectFactory.createMockedPillarMap(2));
+
+    AssessmentMatrix first = cache.getMatrix("matrix-1", () -> load(matrix)).get();
+    matrix.setName("Changed by the loader caller");
+    AssessmentMatrix second = cache.getMatrix("matrix-1", () -> load(matrix)).get();
+    second.setName("Changed by a reader");
+    second.getPillarMap().clear();
+    AssessmentMatrix third = cache.getMatrix("matrix-1", () -> load(matrix)).get();
+
+    assertThat(second).isNotSameAs(first).isNotSameAs(matrix);
+    assertThat(third.getName()).isEqualTo("Matrix");
+    assertThat(third.getPillarMap()).hasSize(2);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Should not cache a value loaded before a concurrent invalidation")
+  void shouldNotCacheLoadRacingWithInvalidation() {
+    AssessmentDefinitionCache cache = new AssessmentDefinitionCache();
+    AssessmentMatrix stale = createMatrix("matrix-1", true);
+    AssessmentMatrix fresh = createMatrix("matrix-1", true);
+    fresh.setName("Fresh");
+    List<Question> questions = List.of(TestObjectFactory.createMockedQuestion("q1"));
+
+    cache.getMatrix("matrix-1", () -> {
+      cache.invalidateMatrix("matrix-1");
+      return load(stale);
+    });
+    cache.getQuestions("matrix-1", "tenant-1", () -> {
+      cache.invalidateQuestions("matrix-1");
+      return loadQuestions(questions);
+    });
+
+    assertThat(cache.getMatrix("matrix-1", () -> load(fresh))).hasValueSatisfying(matrix -> assertThat(matrix.getName()).isEqualTo("Fresh"));
+    cache.getQuestions("matrix-1", "tenant-1", () -> loadQuestions(questions));
+    assertThat(loads).hasValue(4);
+  }
+
+  @Test
+  @DisplayName("Should not cache missing matrices")
+  void shouldNotCacheMisses() {
+    AssessmentDefinitionCache cache = new AssessmentDefinitionCache();
+
+    cache.getMatrix("missing", () -> load(null));
+    cache.getMatrix("missing", () -> load(null));
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("Should expire unlocked matrices and keep locked ones")
+  void shouldExpireOnlyUnlockedMatrices() {
+    AssessmentDefinitionCache cache = new AssessmentDefinitionCache(10, 10, 0, TimeUnit.NANOSECONDS);
+    AssessmentMatrix locked = createMatrix("locked", true);
+    AssessmentMatrix unlocked = createMatrix("unlocked", false);
+
+    cache.getMatrix("locked", () -> load(locked));
+    cache.getMatrix("locked", () -> load(locked));
+    cache.getMatrix("unlocked", () -> load(unlocked));
+    cache.getMatrix("unlocked", () -> load(unlocked));
+
+    assertThat(loads).hasValue(3);
+  }
+
+  @Test
+  @DisplayName("Should drop the matrix and its question lists on invalidation")
+  void shouldInvalidateMatrixAndQuestions() {
+    AssessmentDefinitionCache cache = new AssessmentDefinitionCache();
+    AssessmentMatrix matrix = createMatrix("matrix-1", true);
+    List<Question> questions = List.of(TestObjectFactory.createMockedQuestion("q1"));
+
+    cache.getMatrix("matrix-1", () -> load(matrix));
+    cache.getQuestions("matrix-1", "tenant-1", () -> loadQuestions(questions));
+    cache.invalidateMatrix("matrix-1");
+    cache.getMatrix("matrix-1", () -> load(matrix));
+    cache.getQuestions("matrix-1", "tenant-1", () -> loadQuestions(questions));
+
+    assertThat(loads).hasValue(4);
+    assertThat(cache.getQuestionListMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should cache question lists per matrix and tenant as unmodifiable lists")
+  void shouldCacheQuestionLists() {
+    AssessmentDefinitionCache cache = new AssessmentDefinitionCache();
+    List<Question> questions = new ArrayList<>(List.of(TestObjectFactory.createMockedQuestion("q1")));
+
+    List<Question> first = cache.getQuestions("matrix-1", "tenant-1", () -> loadQuestions(questions));
+    List<Question> second = cache.getQuestions("matrix-1", "tenant-1", () -> loadQuestions(questions));
+    cache.getQuestions("matrix-1", "tenant-2", () -> loadQuestions(questions));
+
+    assertThat(second).isEqualTo(first).hasSize(1);
+    assertThat(loads).hasValue(2);
+    assertThat(cache.getQuestionListHitCount()).isEqualTo(1);
+    assertThatThrownBy(() -> first.add(questions.get(0))).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  @DisplayName("Should return new question copies on every read so changes of one caller do not leak to others")
+  void shouldReturnCopiesOfCachedQuestions() {
+    AssessmentDefinitionCache cache = new AssessmentDefinitionCache();
+    Question question = TestObjectFactory.createMockedQuestion("q1");
+    String text = question.getQuestion();
+
+    Question first = cache.getQuestions("matrix-1", "tenant-1", () -> loadQuestions(List.of(question))).get(0);
+    question.setQuestion("Changed by the loader caller");
+    Question second = cache.getQuestions("matrix-1", "tenant-1", () -> loadQuestions(List.of(question))).get(0);
+    second.setQuestion("Changed by a reader");
+    Question third = cache.getQuestions("matrix-1", "tenant-1", () -> loadQuestions(List.of(question))).get(0);
+
+    assertThat(first).isNotSameAs(question);
+    assertThat(second).isNotSameAs(first);
+    assertThat(first.getQuestion()).isEqualTo(text);
+    assertThat(third.getQuestion()).isEqualTo(text);
+    assertThat(loads).hasValue(1);
+  }
+
+  private Optional<AssessmentMatrix> load(AssessmentMatrix matrix) {
+    loads.incrementAndGet();
+    return Optional.ofNullable(matrix);
+  }
+
+  private List<Question> loadQuestions(List<Question> questions) {
+    loads.incrementAndGet();
+    return questions;
+  }
+
+  private AssessmentMatrix createMatrix(String id, boolean locked) {
+    AssessmentMatrix matrix = AssessmentMatrix.builder()
+                                              .name("Matrix")
+                                              .description("Matrix description")
+                                              .tenantId("tenant-1")
+                                              .performanceCycleId("cycle-1")
+                                              .isLocked(locked)
+                                              .build();
+    matrix.setId(id);
+    return matrix;
+  }
+}
@@ -0,0 +1,67 @@
+package com.agilecheckup.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.agilecheckup.persistency.entity.QuestionType;
+import com.agilecheckup.persistency.entity.question.Question;
+import com.agilecheckup.persistency.entity.question.plan.QuestionPlan;
+import com.agilecheckup.util.TestObjectFactory;
+
+class QuestionPlanCacheTest {
+
+  @Test
+  @DisplayName("Should compile a plan once per question version")
+  void shouldReusePlanForSameVersion() {
+    QuestionPlanCache cache = new QuestionPlanCache();
+    Question question = createQuestion(Instant.parse("2024-01-01T00:00:00Z"));
+
+    QuestionPlan first = cache.getPlan(question);
+    QuestionPlan second = cache.getPlan(question);
+
+    assertThat(second).isSameAs(first);
+    assertThat(cache.getCompilationCount()).isEqualTo(1);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should recompile when the question changes")
+  void shouldRecompileUpdatedQuestion() {
+    QuestionPlanCache cache = new QuestionPlanCache();
+    Question question = createQuestion(Instant.parse("2024-01-01T00:00:00Z"));
+    QuestionPlan first = cache.getPlan(question);
+
+    question.setLastUpdatedDate(Instant.parse("2024-01-02T00:00:00Z"));
+    question.setPoints(20d);
+    QuestionPlan second = cache.getPlan(question);
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.score("5")).isEqualTo(20d);
+    assertThat(cache.getPlan(question)).isSameAs(second);
+    assertThat(cache.getCompilationCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should not cache plans of unsaved questions")
+  void shouldNotCacheQuestionsWithoutId() {
+    QuestionPlanCache cache = new QuestionPlanCache();
+    Question question = createQuestion(null);
+    question.setId(null);
+
+    cache.getPlan(question);
+    cache.getPlan(question);
+
+    assertThat(cache.getCompilationCount()).isEqualTo(2);
+  }
+
+  private Question createQuestion(Instant lastUpdatedDate) {
+    Question question = TestObjectFactory.createMockedQuestion("question-1", QuestionType.STAR_FIVE);
+    question.setPoints(10d);
+    question.setLastUpdatedDate(lastUpdatedDate);
+    return question;
+  }
+}
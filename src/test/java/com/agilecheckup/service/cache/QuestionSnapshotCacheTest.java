@@ -0,0 +1,142 @@
+package com.agilecheckup.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.agilecheckup.persistency.entity.QuestionType;
+import com.agilecheckup.persistency.entity.question.Answer;
+import com.agilecheckup.persistency.entity.question.Question;
+import com.agilecheckup.persistency.entity.question.QuestionSnapshot;
+import com.agilecheckup.persistency.repository.QuestionSnapshotRepository;
+import com.agilecheckup.util.TestObjectFactory;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionSnapshotCacheTest {
+
+  @Mock
+  private QuestionSnapshotRepository questionSnapshotRepository;
+
+  @Test
+  @DisplayName("Should store each question version once and derive the id from question id and version")
+  void shouldStoreSnapshotOncePerVersion() {
+    QuestionSnapshotCache cache = new QuestionSnapshotCache(questionSnapshotRepository);
+    Question question = TestObjectFactory.createMockedQuestion("q1");
+    question.setLastUpdatedDate(Instant.ofEpochMilli(1234));
+
+    String first = cache.snapshotIdFor(question);
+    String second = cache.snapshotIdFor(question);
+
+    assertThat(first).isEqualTo("q1#1234").isEqualTo(second);
+    ArgumentCaptor<QuestionSnapshot> captor = ArgumentCaptor.forClass(QuestionSnapshot.class);
+    verify(questionSnapshotRepository, times(1)).saveIfAbsent(captor.capture());
+    assertThat(captor.getValue().getId()).isEqualTo("q1#1234");
+    assertThat(captor.getValue().getQuestionId()).isEqualTo("q1");
+    assertThat(captor.getValue().getQuestionVersion()).isEqualTo(1234L);
+    assertThat(captor.getValue().getQuestion()).isSameAs(question);
+    assertThat(cache.getWriteCount()).isEqualTo(1);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should store a new snapshot when the question changes")
+  void shouldStoreNewSnapshotForNewVersion() {
+    QuestionSnapshotCache cache = new QuestionSnapshotCache(questionSnapshotRepository);
+    Question question = TestObjectFactory.createMockedQuestion("q1");
+    question.setLastUpdatedDate(Instant.ofEpochMilli(1));
+    String first = cache.snapshotIdFor(question);
+
+    question.setLastUpdatedDate(Instant.ofEpochMilli(2));
+    String second = cache.snapshotIdFor(question);
+
+    assertThat(second).isNotEqualTo(first);
+    verify(questionSnapshotRepository, times(2)).saveIfAbsent(any(QuestionSnapshot.class));
+  }
+
+  @Test
+  @DisplayName("Should prefer the embedded question of legacy answers")
+  void shouldResolveEmbeddedQuestion() {
+    QuestionSnapshotCache cache = new QuestionSnapshotCache(questionSnapshotRepository);
+    Question question = TestObjectFactory.createMockedQuestion("q1");
+    Answer answer = createAnswer(question, "q1#0");
+
+    assertThat(cache.resolve(answer)).containsSame(question);
+    verify(questionSnapshotRepository, never()).findById(any());
+  }
+
+  @Test
+  @DisplayName("Should load a referenced snapshot once")
+  void shouldLoadSnapshotOnce() {
+    QuestionSnapshotCache cache = new QuestionSnapshotCache(questionSnapshotRepository);
+    Question question = TestObjectFactory.createMockedQuestion("q1");
+    when(questionSnapshotRepository.findById("q1#0")).thenReturn(Optional.of(QuestionSnapshot.of(question)));
+    Answer answer = createAnswer(null, "q1#0");
+
+    Optional<Question> first = cache.resolve(answer);
+    Optional<Question> second = cache.resolve(answer);
+
+    assertThat(first).hasValue(question);
+    assertThat(second).hasValue(question);
+    verify(questionSnapshotRepository, times(1)).findById("q1#0");
+    assertThat(cache.getLoadCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should keep resolving a snapshot id to the question as it was when the snapshot was stored")
+  void shouldNotShareQuestionInstances() {
+    QuestionSnapshotCache cache = new QuestionSnapshotCache(questionSnapshotRepository);
+    Question question = TestObjectFactory.createMockedQuestion("q1");
+    String text = question.getQuestion();
+    String snapshotId = cache.snapshotIdFor(question);
+    Answer answer = createAnswer(null, snapshotId);
+
+    question.setQuestion("Changed in place by the caller");
+    Question first = cache.resolve(answer).get();
+    first.setQuestion("Changed in place by a reader");
+    Question second = cache.resolve(answer).get();
+
+    assertThat(first).isNotSameAs(question);
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getQuestion()).isEqualTo(text);
+    verify(questionSnapshotRepository, never()).findById(any());
+  }
+
+  @Test
+  @DisplayName("Should resolve nothing for answers without a question reference or a missing snapshot")
+  void shouldResolveEmptyWhenUnavailable() {
+    QuestionSnapshotCache cache = new QuestionSnapshotCache(questionSnapshotRepository);
+    when(questionSnapshotRepository.findById("missing#0")).thenReturn(Optional.empty());
+
+    assertThat(cache.resolve(createAnswer(null, null))).isEmpty();
+    assertThat(cache.resolve(createAnswer(null, "missing#0"))).isEmpty();
+  }
+
+  private Answer createAnswer(Question question, String questionSnapshotId) {
+    return Answer.builder()
+                 .employeeAssessmentId("ea-1")
+                 .answeredAt(LocalDateTime.now())
+                 .pillarId("pillar-1")
+                 .categoryId("category-1")
+                 .questionId("q1")
+                 .questionType(QuestionType.YES_NO)
+                 .question(question)
+                 .questionSnapshotId(questionSnapshotId)
+                 .value("Yes")
+                 .tenantId("tenant-1")
+                 .build();
+  }
+}
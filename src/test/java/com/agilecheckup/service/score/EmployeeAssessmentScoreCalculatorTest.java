@@ -0,0 +1,88 @@
+package com.agilecheckup.service.score;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.agilecheckup.persistency.entity.EmployeeAssessmentScore;
+import com.agilecheckup.persistency.entity.QuestionType;
+import com.agilecheckup.persistency.entity.question.Answer;
+import com.agilecheckup.persistency.entity.question.Question;
+import com.agilecheckup.persistency.entity.score.CategoryScore;
+import com.agilecheckup.persistency.entity.score.PillarScore;
+
+class EmployeeAssessmentScoreCalculatorTest {
+
+  @Test
+  @DisplayName("Should build the same tree incrementally as a full rebuild")
+  void shouldMatchFullRebuild() {
+    List<Answer> answers = List.of(createAnswer("q1", "p1", "c1", 8.0), createAnswer("q2", "p1", "c1", 2.5), createAnswer("q3", "p1", "c2", 4.0), createAnswer("q4", "p2", "c3", 10.0));
+
+    EmployeeAssessmentScore incremental = new EmployeeAssessmentScore();
+    answers.forEach(answer -> EmployeeAssessmentScoreCalculator.applyAnswer(incremental, answer));
+    EmployeeAssessmentScore rebuilt = EmployeeAssessmentScoreCalculator.calculate(answers);
+
+    assertThat(incremental.getScore()).isEqualTo(rebuilt.getScore()).isEqualTo(24.5);
+    assertThat(incremental.getPillarIdToPillarScoreMap()).containsOnlyKeys("p1", "p2");
+    PillarScore pillar = incremental.getPillarIdToPillarScoreMap().get("p1");
+    assertThat(pillar.getScore()).isEqualTo(14.5);
+    assertThat(pillar.getPillarName()).isEqualTo("Pillar p1");
+    CategoryScore category = pillar.getCategoryIdToCategoryScoreMap().get("c1");
+    assertThat(category.getScore()).isEqualTo(10.5);
+    assertThat(category.getCategoryName()).isEqualTo("Category c1");
+    assertThat(category.getQuestionScores()).hasSize(2);
+    assertThat(EmployeeAssessmentScoreCalculator.countQuestionScores(incremental)).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("Should replace the score of a changed answer instead of adding it")
+  void shouldApplyChangedAnswerAsDelta() {
+    EmployeeAssessmentScore score = EmployeeAssessmentScoreCalculator.calculate(new ArrayList<>(List.of(createAnswer("q1", "p1", "c1", 8.0), createAnswer("q2", "p1", "c1", 2.0))));
+
+    EmployeeAssessmentScoreCalculator.applyAnswer(score, createAnswer("q1", "p1", "c1", 3.0));
+
+    assertThat(score.getScore()).isEqualTo(5.0);
+    assertThat(score.getPillarIdToPillarScoreMap().get("p1").getScore()).isEqualTo(5.0);
+    assertThat(score.getPillarIdToPillarScoreMap().get("p1").getCategoryIdToCategoryScoreMap().get("c1").getScore()).isEqualTo(5.0);
+    assertThat(EmployeeAssessmentScoreCalculator.countQuestionScores(score)).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should count no questions for an empty tree")
+  void shouldCountEmptyTree() {
+    assertThat(EmployeeAssessmentScoreCalculator.countQuestionScores(null)).isZero();
+    assertThat(EmployeeAssessmentScoreCalculator.countQuestionScores(new EmployeeAssessmentScore())).isZero();
+  }
+
+  private Answer createAnswer(String questionId, String pillarId, String categoryId, double score) {
+    Question question = Question.builder()
+                                .id(questionId)
+                                .assessmentMatrixId("matrix-1")
+                                .pillarId(pillarId)
+                                .pillarName("Pillar " + pillarId)
+                                .categoryId(categoryId)
+                                .categoryName("Category " + categoryId)
+                                .question("Question " + questionId)
+                                .questionType(QuestionType.ONE_TO_TEN)
+                                .points(10.0)
+                                .tenantId("tenant-1")
+                                .build();
+    return Answer.builder()
+                 .questionId(questionId)
+                 .pillarId(pillarId)
+                 .categoryId(categoryId)
+                 .score(score)
+                 .question(question)
+                 .questionType(QuestionType.ONE_TO_TEN)
+                 .employeeAssessmentId("assessment-1")
+                 .answeredAt(LocalDateTime.now())
+                 .value("1")
+                 .tenantId("tenant-1")
+                 .build();
+  }
+}
@@ -0,0 +1,217 @@
+package com.agilecheckup.service.unitofwork;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.agilecheckup.persistency.entity.Team;
+import com.agilecheckup.persistency.repository.TeamRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UnitOfWorkTest {
+
+  @Mock
+  private TeamRepository teamRepository;
+
+  @Test
+  @DisplayName("Should load an entity once and share the instance within a unit of work")
+  void shouldLoadEntityOnce() {
+    Team team = createTeam("team-1");
+    when(teamRepository.findById("team-1")).thenReturn(Optional.of(team));
+
+    UnitOfWork.execute(() -> {
+      UnitOfWork unitOfWork = UnitOfWork.current().orElseThrow();
+      Optional<Team> first = unitOfWork.find(teamRepository, "team-1");
+      Optional<Team> second = unitOfWork.find(teamRepository, "team-1");
+
+      assertThat(second.get()).isSameAs(first.get());
+    });
+
+    verify(teamRepository, times(1)).findById("team-1");
+    assertThat(UnitOfWork.isActive()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should remember missing entities")
+  void shouldRememberMisses() {
+    when(teamRepository.findById("missing")).thenReturn(Optional.empty());
+
+    UnitOfWork.execute(() -> {
+      UnitOfWork unitOfWork = UnitOfWork.current().orElseThrow();
+      assertThat(unitOfWork.find(teamRepository, "missing")).isEmpty();
+      assertThat(unitOfWork.find(teamRepository, "missing")).isEmpty();
+    });
+
+    verify(teamRepository, times(1)).findById("missing");
+  }
+
+  @Test
+  @DisplayName("Should coalesce dirty registrations into one write at the end")
+  void shouldCoalesceWrites() {
+    Team team = createTeam("team-1");
+    when(teamRepository.save(team)).thenReturn(Optional.of(team));
+
+    UnitOfWork.execute(() -> {
+      UnitOfWork unitOfWork = UnitOfWork.current().orElseThrow();
+      unitOfWork.registerDirty(teamRepository, team);
+      team.setName("Renamed");
+      unitOfWork.registerDirty(teamRepository, team);
+
+      verify(teamRepository, never()).save(any(Team.class));
+    });
+
+    verify(teamRepository, times(1)).save(team);
+  }
+
+  @Test
+  @DisplayName("Should join the active unit of work on nested calls")
+  void shouldJoinActiveUnitOfWork() {
+    Team team = createTeam("team-1");
+    when(teamRepository.save(team)).thenReturn(Optional.of(team));
+
+    UnitOfWork.execute(() -> {
+      UnitOfWork outer = UnitOfWork.current().orElseThrow();
+      UnitOfWork.execute(() -> {
+        assertThat(UnitOfWork.current()).containsSame(outer);
+        outer.registerDirty(teamRepository, team);
+      });
+
+      verify(teamRepository, never()).save(any(Team.class));
+    });
+
+    verify(teamRepository, times(1)).save(team);
+  }
+
+  @Test
+  @DisplayName("Should discard pending writes and their actions and rethrow when the work fails")
+  void shouldDiscardWritesWhenWorkFails() {
+    Team team = createTeam("team-1");
+    Runnable afterWrite = mock(Runnable.class);
+
+    assertThatThrownBy(() -> UnitOfWork.execute(() -> {
+      UnitOfWork.current().orElseThrow().registerDirty(teamRepository, team, afterWrite);
+      throw new IllegalStateException("boom");
+    })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+    verify(teamRepository, never()).save(any(Team.class));
+    verify(afterWrite, never()).run();
+    assertThat(UnitOfWork.isActive()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should run the after-write actions of an entity after its single write, in registration order")
+  void shouldRunAfterWriteActionsAfterFlush() {
+    Team team = createTeam("team-1");
+    Runnable first = mock(Runnable.class);
+    Runnable second = mock(Runnable.class);
+    when(teamRepository.save(team)).thenReturn(Optional.of(team));
+
+    UnitOfWork.execute(() -> {
+      UnitOfWork unitOfWork = UnitOfWork.current().orElseThrow();
+      unitOfWork.registerDirty(teamRepository, team, first);
+      unitOfWork.registerDirty(teamRepository, team, second);
+
+      verify(first, never()).run();
+    });
+
+    InOrder inOrder = inOrder(teamRepository, first, second);
+    inOrder.verify(teamRepository).save(team);
+    inOrder.verify(first).run();
+    inOrder.verify(second).run();
+  }
+
+  @Test
+  @DisplayName("Should fail without running the after-write actions when a deferred write cannot be saved")
+  void shouldFailWhenFlushFails() {
+    Team team = createTeam("team-1");
+    Runnable afterWrite = mock(Runnable.class);
+    when(teamRepository.save(team)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> UnitOfWork.execute(() -> UnitOfWork.current().orElseThrow().registerDirty(teamRepository, team, afterWrite)))
+        .isInstanceOf(UnitOfWorkFlushException.class)
+        .hasMessageContaining("team-1");
+    verify(afterWrite, never()).run();
+  }
+
+  @Test
+  @DisplayName("Should stop flushing at the first write that fails")
+  void shouldStopFlushingAtFirstFailure() {
+    Team first = createTeam("team-1");
+    Team second = createTeam("team-2");
+    Team third = createTeam("team-3");
+    when(teamRepository.save(first)).thenReturn(Optional.of(first));
+    when(teamRepository.save(second)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> UnitOfWork.execute(() -> {
+      UnitOfWork unitOfWork = UnitOfWork.current().orElseThrow();
+      unitOfWork.registerDirty(teamRepository, first);
+      unitOfWork.registerDirty(teamRepository, second);
+      unitOfWork.registerDirty(teamRepository, third);
+    })).isInstanceOf(UnitOfWorkFlushException.class).hasMessageContaining("team-2");
+
+    verify(teamRepository, never()).save(third);
+    assertThat(UnitOfWork.isActive()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should run the after-write actions inside the unit of work and flush what they register")
+  void shouldRunAfterWriteActionsInsideUnitOfWork() {
+    Team team = createTeam("team-1");
+    Team followUp = createTeam("team-2");
+    when(teamRepository.save(team)).thenReturn(Optional.of(team));
+    when(teamRepository.save(followUp)).thenReturn(Optional.of(followUp));
+    when(teamRepository.findById("team-3")).thenReturn(Optional.empty());
+
+    UnitOfWork.execute(() -> {
+      UnitOfWork unitOfWork = UnitOfWork.current().orElseThrow();
+      unitOfWork.find(teamRepository, "team-3");
+      unitOfWork.registerDirty(teamRepository, team, () -> {
+        UnitOfWork active = UnitOfWork.current().orElseThrow();
+        assertThat(active).isSameAs(unitOfWork);
+        active.find(teamRepository, "team-3");
+        active.registerDirty(teamRepository, followUp);
+      });
+    });
+
+    verify(teamRepository, times(1)).findById("team-3");
+    verify(teamRepository).save(followUp);
+  }
+
+  @Test
+  @DisplayName("Should drop evicted entities from the identity map and the pending writes")
+  void shouldEvictEntity() {
+    Team team = createTeam("team-1");
+    when(teamRepository.findById("team-1")).thenReturn(Optional.empty());
+
+    UnitOfWork.execute(() -> {
+      UnitOfWork unitOfWork = UnitOfWork.current().orElseThrow();
+      unitOfWork.registerDirty(teamRepository, team);
+      unitOfWork.evict(teamRepository, "team-1");
+
+      assertThat(unitOfWork.find(teamRepository, "team-1")).isEmpty();
+    });
+
+    verify(teamRepository, never()).save(any(Team.class));
+  }
+
+  private Team createTeam(String id) {
+    Team team = Team.builder().tenantId("tenant-1").name("Team").description("Team description").departmentId("dept-1").build();
+    team.setId(id);
+    return team;
+  }
+}